@@ -7,13 +7,21 @@ package org.lfenergy.compas.sct.app;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TBay;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
 import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+import org.lfenergy.compas.sct.commons.scl.icd.IcdHeader;
+import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * A representation of the <em><b>{@link SclAutomationService SclAutomationService}</b></em>.
@@ -22,6 +30,8 @@ import java.util.*;
  * </p>
  * <ul>
  *   <li>{@link SclAutomationService#createSCD(SCL, HeaderDTO, List) Adds all elements under the <b>SCL </b> object from given <b>SSD </b> and <b>STD </b> files}
+ *   <li>{@link SclAutomationService#createSCD(SCL, HeaderDTO, List, ReportSink) Adds all elements under the <b>SCL </b> object from given <b>SSD </b> and <b>STD </b> files, stopping when a <b>ReportSink </b> should abort}
+ *   <li>{@link SclAutomationService#updateSCD(SCL, SCL, HeaderDTO, List) Adds all elements under the <b>SCL </b> object from given <b>SSD </b> and <b>STD </b> files, reusing unchanged IEDs of a previous <b>SCD </b>}
  *  </ul>
  */
 @RequiredArgsConstructor
@@ -41,14 +51,170 @@ public class SclAutomationService {
      * @throws ScdException
      */
     public SCL createSCD(@NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds) throws ScdException {
+        return createSCD(ssd, headerDTO, stds, new ListReportSink());
+    }
+
+    /**
+     * Create an SCD file like {@link #createSCD(SCL, HeaderDTO, List)}, stopping between two steps when the given sink
+     * should abort, for example when another thread cancels the creation. The steps of createSCD update the SCD : they
+     * are not skipped when the sink only stops wanting items.
+     * @param ssd : (mandatory) file contains substation datas
+     * @param headerDTO : (mandatory) object which hold header datas and historys' one
+     * @param stds : list of STD files containing IED datas (IED, Communication and DataTypeTemplate)
+     * @param reportSink : (mandatory) sink telling if the creation must stop
+     * @return an SCD object, partially created when the sink aborted the creation
+     * @throws ScdException
+     */
+    public SCL createSCD(@NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds, @NonNull ReportSink reportSink) throws ScdException {
+        SCL scd = initScdWithSubstation(ssd, headerDTO);
+        if (reportSink.shouldAbort()) {
+            return scd;
+        }
+        sclEditor.importSTDElementsInSCD(scd, stds);
+        if (reportSink.shouldAbort()) {
+            return scd;
+        }
+        controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
+        return scd;
+    }
+
+    /**
+     * Create an SCD file from specified parameters like {@link #createSCD(SCL, HeaderDTO, List)}, but reusing the IEDs of
+     * an SCD file created previously which did not change.
+     * IEDs are compared with their COMPAS-ICDHeader in Substation/../LNode of the previous SCD and of the new SSD :
+     * <ul>
+     *     <li>an IED is changed when it is new or when its COMPAS-ICDHeader changed (any attribute)</li>
+     *     <li>a Bay is affected when it contains a changed IED, or contained a changed or removed IED in the previous SCD</li>
+     *     <li>IEDs of affected Bays are imported from their STD file</li>
+     *     <li>other IEDs are copied from the previous SCD with the DataTypeTemplate types they use and their ConnectedAPs
+     *     (Address and PhysConn only)</li>
+     * </ul>
+     * IEDs are added in the order of the Substation, like createSCD does, then ControlBlocks, DataSets and ExtRef source
+     * bindings are removed from all IEDs, copied ones included : subscribers of an imported IED are rebound by the next
+     * steps, whatever their Bay. Only the import of IEDs is incremental : the next steps (ExtRef binding, DataSets and
+     * ControlBlocks creation, network configuration...) still process the whole SCD, as after createSCD.
+     * <p>
+     * The result is the same as createSCD when the previous SCD was created by createSCD from the same STD files for the
+     * copied IEDs. Otherwise, copied IEDs keep the other changes made in the previous SCD (DAI values, ExtRef iedName...),
+     * and their DataTypeTemplate types keep the ids they had in the previous SCD : when an imported type has the same id
+     * but a different content, the imported one is renamed, whereas createSCD would have renamed the one imported last.
+     * </p>
+     * @param previousScd : (mandatory) SCD file created previously, from previous SSD and STD files
+     * @param ssd : (mandatory) file contains substation datas
+     * @param headerDTO : (mandatory) object which hold header datas and historys' one
+     * @param stds : list of STD files containing IED datas (IED, Communication and DataTypeTemplate)
+     * @return an SCD object
+     * @throws ScdException
+     */
+    public SCL updateSCD(@NonNull SCL previousScd, @NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds) throws ScdException {
+        SCL scd = initScdWithSubstation(ssd, headerDTO);
+        Map<String, IedInSubstation> iedsInSubstation = findIedsInSubstation(scd);
+        Map<String, IedInSubstation> previousIedsInSubstation = findIedsInSubstation(previousScd);
+        Set<String> previousIedNames = previousScd.getIED().stream().map(TIED::getName).collect(Collectors.toSet());
+
+        Set<String> changedIedNames = iedsInSubstation.keySet().stream()
+                .filter(iedName -> !previousIedNames.contains(iedName)
+                        || !previousIedsInSubstation.containsKey(iedName)
+                        || !isSameIcdHeader(previousIedsInSubstation.get(iedName).icdHeader(), iedsInSubstation.get(iedName).icdHeader()))
+                .collect(Collectors.toSet());
+        Set<String> affectedBays = new HashSet<>();
+        changedIedNames.forEach(iedName -> affectedBays.addAll(iedsInSubstation.get(iedName).bays()));
+        previousIedsInSubstation.forEach((iedName, previousIed) -> {
+            if (changedIedNames.contains(iedName) || !iedsInSubstation.containsKey(iedName)) {
+                affectedBays.addAll(previousIed.bays());
+            }
+        });
+
+        Set<String> iedNamesToImport = iedsInSubstation.entrySet().stream()
+                .filter(entry -> changedIedNames.contains(entry.getKey())
+                        || entry.getValue().bays().stream().anyMatch(affectedBays::contains))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        addIedsInSubstationOrder(scd, previousScd, stds, iedsInSubstation.keySet(), iedNamesToImport);
+        controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
+        return scd;
+    }
+
+    /**
+     * Adds IEDs in given order, importing them from their STD file or copying them from the previous SCD.
+     * Consecutive IEDs added the same way are added in one call.
+     */
+    private void addIedsInSubstationOrder(SCL scd, SCL previousScd, List<SCL> stds, Collection<String> iedNames, Set<String> iedNamesToImport) {
+        List<String> sameWayIedNames = new ArrayList<>();
+        boolean importFromStd = false;
+        for (String iedName : iedNames) {
+            if (iedNamesToImport.contains(iedName) != importFromStd && !sameWayIedNames.isEmpty()) {
+                addIeds(scd, previousScd, stds, sameWayIedNames, importFromStd);
+                sameWayIedNames = new ArrayList<>();
+            }
+            importFromStd = iedNamesToImport.contains(iedName);
+            sameWayIedNames.add(iedName);
+        }
+        if (!sameWayIedNames.isEmpty()) {
+            addIeds(scd, previousScd, stds, sameWayIedNames, importFromStd);
+        }
+    }
+
+    private void addIeds(SCL scd, SCL previousScd, List<SCL> stds, List<String> iedNames, boolean importFromStd) {
+        if (importFromStd) {
+            sclEditor.importSTDElementsInSCD(scd, stds, new HashSet<>(iedNames));
+        } else {
+            sclEditor.importIEDsFromPreviousSCD(scd, previousScd, iedNames);
+        }
+    }
+
+    private SCL initScdWithSubstation(SCL ssd, HeaderDTO headerDTO) {
         SCL scd = sclEditor.initScl(headerDTO.getId(), headerDTO.getVersion(), headerDTO.getRevision());
         if (!headerDTO.getHistoryItems().isEmpty()) {
             HeaderDTO.HistoryItem hItem = headerDTO.getHistoryItems().get(0);
             sclEditor.addHistoryItem(scd, hItem.getWho(), hItem.getWhat(), hItem.getWhy());
         }
         substationEditor.addSubstation(scd, ssd);
-        sclEditor.importSTDElementsInSCD(scd, stds);
-        controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
         return scd;
     }
+
+    /**
+     * Finds IEDs declared in Substation/../LNode/Private COMPAS-ICDHeader, in order of appearance.
+     * When an IED is declared several times, the first COMPAS-ICDHeader is kept, and all its Bays are collected.
+     */
+    private static Map<String, IedInSubstation> findIedsInSubstation(SCL scl) {
+        Map<String, IedInSubstation> iedsInSubstation = new LinkedHashMap<>();
+        if (!scl.isSetSubstation()) {
+            return iedsInSubstation;
+        }
+        for (TVoltageLevel tVoltageLevel : scl.getSubstation().get(0).getVoltageLevel()) {
+            for (TBay tBay : tVoltageLevel.getBay()) {
+                String bay = tVoltageLevel.getName() + "/" + tBay.getName();
+                tBay.getFunction().stream()
+                        .flatMap(tFunction -> tFunction.getLNode().stream())
+                        .flatMap(tlNode -> tlNode.getPrivate().stream())
+                        .map(PrivateUtils::extractCompasICDHeader)
+                        .flatMap(Optional::stream)
+                        .map(IcdHeader::new)
+                        .forEach(icdHeader -> iedsInSubstation
+                                .computeIfAbsent(icdHeader.getIedName(), iedName -> new IedInSubstation(icdHeader, new HashSet<>()))
+                                .bays().add(bay));
+            }
+        }
+        return iedsInSubstation;
+    }
+
+    /**
+     * Compares all attributes of two COMPAS-ICDHeader, including the ones ignored by {@link IcdHeader#equals(Object)}
+     */
+    private static boolean isSameIcdHeader(IcdHeader previousIcdHeader, IcdHeader icdHeader) {
+        return previousIcdHeader.equals(icdHeader)
+                && Objects.equals(previousIcdHeader.getIedName(), icdHeader.getIedName())
+                && Objects.equals(previousIcdHeader.getBayLabel(), icdHeader.getBayLabel())
+                && Objects.equals(previousIcdHeader.getIedSubstationinstance(), icdHeader.getIedSubstationinstance())
+                && Objects.equals(previousIcdHeader.getIedSystemVersioninstance(), icdHeader.getIedSystemVersioninstance());
+    }
+
+    /**
+     * IED declared in Substation
+     * @param icdHeader COMPAS-ICDHeader of the IED
+     * @param bays names (VoltageLevel name/Bay name) of the Bays in which the IED is declared
+     */
+    private record IedInSubstation(IcdHeader icdHeader, Set<String> bays) {
+    }
 }
@@ -0,0 +1,106 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app;
+
+import lombok.NonNull;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.app.pipeline.SclContext;
+import org.lfenergy.compas.sct.app.pipeline.SclPipeline;
+import org.lfenergy.compas.sct.app.pipeline.SclPipelineResult;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.api.SubstationEditor;
+import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+
+import java.util.List;
+
+/**
+ * A representation of the <em><b>{@link SclPipelineService SclPipelineService}</b></em>.
+ * <p>
+ * Extends {@link SclAutomationService} by running a {@link SclPipeline} on the created SCD, with one
+ * {@link SclContext} shared by all its steps.
+ * </p>
+ * <ul>
+ *   <li>{@link SclPipelineService#createSCD(SCL, HeaderDTO, List, SclPipeline) Creates an SCD and runs the steps of a pipeline on it}
+ *   <li>{@link SclPipelineService#createSCD(SCL, HeaderDTO, List, SclPipeline, ReportSink) Creates an SCD and runs the steps of a pipeline on it, writing the report items to a sink}
+ *   <li>{@link SclPipelineService#updateSCD(SCL, SCL, HeaderDTO, List, SclPipeline) Updates an SCD from a previous one and runs the steps of a pipeline on it}
+ *   <li>{@link SclPipelineService#runPipeline(SCL, SclPipeline) Runs the steps of a pipeline on an SCD}
+ *   <li>{@link SclPipelineService#runPipeline(SCL, SclPipeline, ReportSink) Runs the steps of a pipeline on an SCD, writing the report items to a sink}
+ *  </ul>
+ */
+public class SclPipelineService extends SclAutomationService {
+
+    public SclPipelineService(SclEditor sclEditor, SubstationEditor substationEditor, ControlBlockEditor controlBlockEditor) {
+        super(sclEditor, substationEditor, controlBlockEditor);
+    }
+
+    /**
+     * Creates an SCD file like {@link #createSCD(SCL, HeaderDTO, List)}, then runs the steps of a pipeline on it
+     * @param ssd : (mandatory) file contains substation datas
+     * @param headerDTO : (mandatory) object which hold header datas and historys' one
+     * @param stds : list of STD files containing IED datas (IED, Communication and DataTypeTemplate)
+     * @param sclPipeline : (mandatory) steps to run on the created SCD
+     * @return created SCD, with report items and timings of the steps
+     * @throws ScdException
+     */
+    public SclPipelineResult createSCD(@NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds, @NonNull SclPipeline sclPipeline) throws ScdException {
+        return runPipeline(createSCD(ssd, headerDTO, stds), sclPipeline);
+    }
+
+    /**
+     * Creates an SCD file like {@link #createSCD(SCL, HeaderDTO, List, ReportSink)}, then runs the steps of a pipeline on
+     * it like {@link SclPipeline#run(SclContext, ReportSink)} : the creation and the steps stop as soon as the sink should
+     * abort.
+     * @param ssd : (mandatory) file contains substation datas
+     * @param headerDTO : (mandatory) object which hold header datas and historys' one
+     * @param stds : list of STD files containing IED datas (IED, Communication and DataTypeTemplate)
+     * @param sclPipeline : (mandatory) steps to run on the created SCD
+     * @param reportSink : (mandatory) sink receiving the report items of the steps
+     * @return created SCD, with timings of the run steps
+     * @throws ScdException
+     */
+    public SclPipelineResult createSCD(@NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds, @NonNull SclPipeline sclPipeline,
+                                       @NonNull ReportSink reportSink) throws ScdException {
+        return runPipeline(createSCD(ssd, headerDTO, stds, reportSink), sclPipeline, reportSink);
+    }
+
+    /**
+     * Creates an SCD file like {@link #updateSCD(SCL, SCL, HeaderDTO, List)}, then runs the steps of a pipeline on it
+     * @param previousScd : (mandatory) SCD file created previously, from previous SSD and STD files
+     * @param ssd : (mandatory) file contains substation datas
+     * @param headerDTO : (mandatory) object which hold header datas and historys' one
+     * @param stds : list of STD files containing IED datas (IED, Communication and DataTypeTemplate)
+     * @param sclPipeline : (mandatory) steps to run on the created SCD
+     * @return created SCD, with report items and timings of the steps
+     * @throws ScdException
+     */
+    public SclPipelineResult updateSCD(@NonNull SCL previousScd, @NonNull SCL ssd, @NonNull HeaderDTO headerDTO, List<SCL> stds,
+                                       @NonNull SclPipeline sclPipeline) throws ScdException {
+        return runPipeline(updateSCD(previousScd, ssd, headerDTO, stds), sclPipeline);
+    }
+
+    /**
+     * Runs the steps of a pipeline on an SCD, with a new {@link SclContext}
+     * @param scd : (mandatory) SCD to process
+     * @param sclPipeline : (mandatory) steps to run
+     * @return SCD, with report items and timings of the steps
+     */
+    public SclPipelineResult runPipeline(@NonNull SCL scd, @NonNull SclPipeline sclPipeline) {
+        return sclPipeline.run(new SclContext(scd));
+    }
+
+    /**
+     * Runs the steps of a pipeline on an SCD, with a new {@link SclContext}, writing their report items to a sink
+     * @param scd : (mandatory) SCD to process
+     * @param sclPipeline : (mandatory) steps to run
+     * @param reportSink : (mandatory) sink receiving the report items of the steps
+     * @return SCD, with timings of the run steps
+     */
+    public SclPipelineResult runPipeline(@NonNull SCL scd, @NonNull SclPipeline sclPipeline, @NonNull ReportSink reportSink) {
+        return sclPipeline.run(new SclContext(scd), reportSink);
+    }
+}
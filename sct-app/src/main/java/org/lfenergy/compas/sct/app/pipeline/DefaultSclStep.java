@@ -0,0 +1,33 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Step created by {@link SclStep#of(String, Set, Function)}
+ */
+record DefaultSclStep(String name, Set<SclScope> mutatedScopes,
+                      Function<SclContext, List<SclReportItem>> execution) implements SclStep {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Set<SclScope> getMutatedScopes() {
+        return mutatedScopes;
+    }
+
+    @Override
+    public List<SclReportItem> execute(SclContext context) {
+        return execution.apply(context);
+    }
+}
@@ -0,0 +1,95 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
+import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Execution context of a {@link SclPipeline} : the SCD processed by the steps, the {@link SclEditorContext} given to the
+ * editors, and the indexes built from the SCD, identified by {@link SclContextKey}.
+ * <p>
+ * An index is built on first use and shared by the following steps, until a step mutating one of the scopes it is
+ * built from is run. Steps reading the SCD through the indexes therefore do not walk again the whole model.
+ * The adapters kept by the editor context are likewise dropped only when a step mutates {@link SclScope#IED_STRUCTURE}.
+ * </p>
+ * This class is not thread safe.
+ */
+public class SclContext {
+
+    @Getter
+    private final SCL scd;
+    @Getter
+    private final SclEditorContext editorContext;
+    private final Map<SclContextKey<?>, Object> indexes = new HashMap<>();
+    private int indexBuildCount;
+
+    public SclContext(@NonNull SCL scd) {
+        this.scd = scd;
+        this.editorContext = new SclEditorContext(scd);
+    }
+
+    /**
+     * Gets the SclRootAdapter of the SCD, created on first call and shared by all steps
+     * @return SclRootAdapter of the SCD
+     */
+    public SclRootAdapter getSclRootAdapter() {
+        return editorContext.getSclRootAdapter();
+    }
+
+    /**
+     * Gives the number of indexes built since this context was created, including the adapters built by the editor context
+     * @return number of built indexes
+     */
+    public int getIndexBuildCount() {
+        return indexBuildCount + editorContext.getBuildCount();
+    }
+
+    /**
+     * Gets an index, building it if it is not built yet or was invalidated
+     * @param index index to get
+     * @return value of the index
+     * @param <T> type of the index
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIndex(SclContextKey<T> index) {
+        // computeIfAbsent is not used because an index can be built from other indexes
+        if (indexes.containsKey(index)) {
+            return (T) indexes.get(index);
+        }
+        T value = index.build(this);
+        indexes.put(index, value);
+        indexBuildCount++;
+        return value;
+    }
+
+    /**
+     * Invalidates the indexes built from any of the given scopes
+     * @param mutatedScopes scopes of the SCD which were mutated
+     */
+    public void invalidate(Set<SclScope> mutatedScopes) {
+        if (!mutatedScopes.isEmpty()) {
+            indexes.keySet().removeIf(index -> index.isBuiltFromAny(mutatedScopes));
+        }
+        if (mutatedScopes.contains(SclScope.IED_STRUCTURE)) {
+            editorContext.invalidateIedStructure();
+        }
+    }
+
+    /**
+     * Invalidates all indexes and the SclRootAdapter, for example after a change of the SCD outside of the pipeline
+     */
+    public void invalidateAll() {
+        indexes.clear();
+        editorContext.invalidateAll();
+    }
+}
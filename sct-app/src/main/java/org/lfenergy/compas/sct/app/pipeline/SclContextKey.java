@@ -0,0 +1,77 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Key of an index built from an SCD and kept by a {@link SclContext} until a step mutates one of the scopes it is built from.
+ * Keys are compared by identity : each key should be declared once, as a constant.
+ * @param <T> type of the index
+ */
+public final class SclContextKey<T> {
+
+    /**
+     * IEDAdapters of all IEDs of the SCD, in SCD order
+     */
+    public static final SclContextKey<List<IEDAdapter>> IED_ADAPTERS = new SclContextKey<>("IED_ADAPTERS", EnumSet.of(SclScope.IED_STRUCTURE),
+            context -> context.getSclRootAdapter().streamIEDAdapters().toList());
+
+    /**
+     * IEDAdapters of the SCD by IED name, in SCD order
+     */
+    public static final SclContextKey<Map<String, IEDAdapter>> IED_ADAPTERS_BY_NAME = new SclContextKey<>("IED_ADAPTERS_BY_NAME", EnumSet.of(SclScope.IED_STRUCTURE),
+            context -> context.getIndex(IED_ADAPTERS).stream()
+                    .collect(Collectors.toMap(IEDAdapter::getName, Function.identity(), (iedAdapter1, iedAdapter2) -> iedAdapter1, LinkedHashMap::new)));
+
+    /**
+     * LDeviceAdapters of all IEDs of the SCD, in SCD order
+     */
+    public static final SclContextKey<List<LDeviceAdapter>> LDEVICE_ADAPTERS = new SclContextKey<>("LDEVICE_ADAPTERS", EnumSet.of(SclScope.IED_STRUCTURE),
+            context -> context.getIndex(IED_ADAPTERS).stream()
+                    .flatMap(IEDAdapter::streamLDeviceAdapters)
+                    .toList());
+
+    @Getter
+    private final String name;
+    private final Set<SclScope> scopes;
+    private final Function<SclContext, T> builder;
+
+    /**
+     * Constructor
+     * @param name name of the index
+     * @param scopes scopes of the SCD the index is built from
+     * @param builder builds the index. It can use other indexes of the context.
+     */
+    public SclContextKey(String name, Set<SclScope> scopes, Function<SclContext, T> builder) {
+        this.name = Objects.requireNonNull(name);
+        this.scopes = Set.copyOf(scopes);
+        this.builder = Objects.requireNonNull(builder);
+    }
+
+    T build(SclContext context) {
+        return builder.apply(context);
+    }
+
+    /**
+     * Checks if this index is built from one of the given scopes
+     * @param mutatedScopes scopes mutated by a step
+     * @return true when this index must be rebuilt after the mutation
+     */
+    boolean isBuiltFromAny(Set<SclScope> mutatedScopes) {
+        return mutatedScopes.stream().anyMatch(scopes::contains);
+    }
+
+    @Override
+    public String toString() {
+        return "SclContextKey[" + name + ", scopes=" + scopes + "]";
+    }
+}
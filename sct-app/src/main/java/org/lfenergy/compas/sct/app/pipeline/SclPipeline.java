@@ -0,0 +1,120 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordered list of {@link SclStep} run against one {@link SclContext}.
+ * <p>
+ * After each step, the indexes of the context built from the scopes mutated by the step are invalidated, even when the
+ * step fails. All steps are run, unless the pipeline stops on error : then the steps following a step which reported
+ * an error are skipped.
+ * </p>
+ * <p>
+ * When run with a {@link ReportSink}, the report items of a step are written to the sink as soon as the step ends. The
+ * sink is checked before each step : the run stops when the sink should abort, and the steps which do not mutate the
+ * SCD are skipped when the sink does not want more items.
+ * </p>
+ * Example :
+ * <pre>
+ *     SclPipeline sclPipeline = SclPipeline.of(
+ *             SclSteps.updateLDeviceStatus(sclEditor),
+ *             SclSteps.createDataSetAndControlBlocks(controlBlockEditor, dacomm),
+ *             SclSteps.analyzeDataGroups(controlBlockEditor));
+ *     SclPipelineResult result = sclPipeline.run(new SclContext(scd));
+ * </pre>
+ */
+public final class SclPipeline {
+
+    @Getter
+    private final List<SclStep> steps;
+    private final boolean stopOnError;
+
+    private SclPipeline(List<SclStep> steps, boolean stopOnError) {
+        this.steps = List.copyOf(steps);
+        this.stopOnError = stopOnError;
+    }
+
+    /**
+     * Creates a pipeline running all the given steps
+     * @param steps steps, in execution order
+     * @return pipeline
+     */
+    public static SclPipeline of(SclStep... steps) {
+        return new SclPipeline(List.of(steps), false);
+    }
+
+    /**
+     * Creates a pipeline with the same steps, stopping after the first step which reports an error
+     * @return pipeline
+     */
+    public SclPipeline stoppingOnError() {
+        return new SclPipeline(steps, true);
+    }
+
+    /**
+     * Creates a pipeline with the steps of this pipeline followed by the given step
+     * @param step step to add
+     * @return pipeline
+     */
+    public SclPipeline then(SclStep step) {
+        List<SclStep> newSteps = new ArrayList<>(steps);
+        newSteps.add(step);
+        return new SclPipeline(newSteps, stopOnError);
+    }
+
+    /**
+     * Runs the steps against a context
+     * @param context context holding the SCD to process
+     * @return report items and timings of the run steps
+     */
+    public SclPipelineResult run(SclContext context) {
+        ListReportSink reportSink = new ListReportSink();
+        SclPipelineResult sclPipelineResult = run(context, reportSink);
+        return new SclPipelineResult(sclPipelineResult.scd(), reportSink.getSclReportItems(), sclPipelineResult.stepTimings());
+    }
+
+    /**
+     * Runs the steps against a context, writing their report items to a sink
+     * @param context context holding the SCD to process
+     * @param reportSink sink receiving the report items of the steps, and telling if the next steps must be run
+     * @return timings of the run steps. The report items are not kept in the result, they are only written to the sink
+     */
+    public SclPipelineResult run(SclContext context, ReportSink reportSink) {
+        List<StepTiming> stepTimings = new ArrayList<>();
+        for (SclStep step : steps) {
+            if (reportSink.shouldAbort()) {
+                break;
+            }
+            if (!reportSink.wantsMoreItems() && step.getMutatedScopes().isEmpty()) {
+                continue;
+            }
+            int indexBuildCountBefore = context.getIndexBuildCount();
+            long startTime = System.nanoTime();
+            List<SclReportItem> stepReportItems;
+            try {
+                stepReportItems = step.execute(context);
+            } finally {
+                context.invalidate(step.getMutatedScopes());
+            }
+            Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+            stepReportItems.forEach(reportSink::report);
+            stepTimings.add(new StepTiming(step.getName(), duration, stepReportItems.size(), context.getIndexBuildCount() - indexBuildCountBefore));
+            if (stopOnError && stepReportItems.stream().anyMatch(SclReportItem::isError)) {
+                break;
+            }
+        }
+        return new SclPipelineResult(context.getScd(), List.of(), Collections.unmodifiableList(stepTimings));
+    }
+}
@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of a {@link SclPipeline}
+ * @param scd processed SCD
+ * @param sclReportItems report items of all steps, in step order. Empty when the pipeline wrote them to a ReportSink
+ * @param stepTimings timings of the run steps, in step order
+ */
+public record SclPipelineResult(SCL scd, List<SclReportItem> sclReportItems, List<StepTiming> stepTimings) {
+
+    /**
+     * Checks if no step reported an error
+     * @return true when there is no error in the report items
+     */
+    public boolean isSuccess() {
+        return sclReportItems.stream().noneMatch(SclReportItem::isError);
+    }
+
+    /**
+     * Gets the total duration of the run steps
+     * @return sum of the durations of the steps
+     */
+    public Duration getTotalDuration() {
+        return stepTimings.stream().map(StepTiming::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+}
@@ -0,0 +1,31 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+/**
+ * Part of an SCD model, mutated by a {@link SclStep} and read by an index of a {@link SclContext}
+ */
+public enum SclScope {
+    HEADER,
+    SUBSTATION,
+    /**
+     * IEDs, with their AccessPoints and LDevices
+     */
+    IED_STRUCTURE,
+    /**
+     * LNs of the LDevices, with their DOIs and DAIs
+     */
+    DOI_DAI,
+    /**
+     * Inputs of the LNs, with their ExtRefs and Compas-Flows
+     */
+    EXTREF,
+    /**
+     * DataSets and Control Blocks of the LNs
+     */
+    DATASET_AND_CONTROL_BLOCK,
+    COMMUNICATION,
+    DATA_TYPE_TEMPLATES
+}
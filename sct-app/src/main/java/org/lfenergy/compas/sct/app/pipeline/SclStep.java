@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Step of a {@link SclPipeline}. Steps of the editors are created by {@link SclSteps}.
+ */
+public interface SclStep {
+
+    /**
+     * Gets the name of the step, used for its timing
+     * @return name of the step
+     */
+    String getName();
+
+    /**
+     * Gets the scopes of the SCD mutated by the step. The indexes built from these scopes are invalidated after the step.
+     * @return mutated scopes, empty when the step only reads the SCD
+     */
+    Set<SclScope> getMutatedScopes();
+
+    /**
+     * Runs the step
+     * @param context context holding the SCD and its indexes
+     * @return report items of the step
+     */
+    List<SclReportItem> execute(SclContext context);
+
+    /**
+     * Creates a step
+     * @param name name of the step
+     * @param mutatedScopes scopes of the SCD mutated by the step
+     * @param execution execution of the step
+     * @return step
+     */
+    static SclStep of(String name, Set<SclScope> mutatedScopes, Function<SclContext, List<SclReportItem>> execution) {
+        return new DefaultSclStep(name, Set.copyOf(mutatedScopes), execution);
+    }
+}
@@ -0,0 +1,60 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Steps calling the editors, with the scopes of the SCD they mutate.
+ * Steps give the editors the {@link SclContext#getEditorContext() editor context}, so that consecutive steps do not walk
+ * the SCD again to build the adapters of its IEDs and LDevices : no built-in step mutates {@link SclScope#IED_STRUCTURE}.
+ */
+public final class SclSteps {
+
+    private SclSteps() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static SclStep updateLDeviceStatus(SclEditor sclEditor) {
+        return SclStep.of("updateLDeviceStatus", EnumSet.of(SclScope.DOI_DAI), context -> sclEditor.updateLDeviceStatus(context.getEditorContext()));
+    }
+
+    public static SclStep updateAllExtRefIedNames(ExtRefEditor extRefEditor) {
+        return SclStep.of("updateAllExtRefIedNames", EnumSet.of(SclScope.EXTREF), context -> extRefEditor.updateAllExtRefIedNames(context.getEditorContext()));
+    }
+
+    public static SclStep createDataSetAndControlBlocks(ControlBlockEditor controlBlockEditor, DACOMM dacomm) {
+        // ExtRefs are bound to the created Control Blocks
+        return SclStep.of("createDataSetAndControlBlocks", EnumSet.of(SclScope.DATASET_AND_CONTROL_BLOCK, SclScope.EXTREF),
+                context -> controlBlockEditor.createDataSetAndControlBlocks(context.getEditorContext(), dacomm));
+    }
+
+    public static SclStep configureNetworkForAllControlBlocks(ControlBlockEditor controlBlockEditor, CBCom cbCom) {
+        return SclStep.of("configureNetworkForAllControlBlocks", EnumSet.of(SclScope.COMMUNICATION),
+                context -> controlBlockEditor.configureNetworkForAllControlBlocks(context.getScd(), cbCom));
+    }
+
+    public static SclStep manageMonitoringLns(SclEditor sclEditor) {
+        return SclStep.of("manageMonitoringLns", EnumSet.of(SclScope.DOI_DAI), context -> sclEditor.manageMonitoringLns(context.getEditorContext()));
+    }
+
+    public static SclStep updateDoInRef(SclEditor sclEditor) {
+        return SclStep.of("updateDoInRef", EnumSet.of(SclScope.DOI_DAI), context -> sclEditor.updateDoInRef(context.getEditorContext()));
+    }
+
+    /**
+     * Step only reading the SCD : it does not invalidate any index
+     */
+    public static SclStep analyzeDataGroups(ControlBlockEditor controlBlockEditor) {
+        return SclStep.of("analyzeDataGroups", Set.of(), context -> controlBlockEditor.analyzeDataGroups(context.getEditorContext()));
+    }
+}
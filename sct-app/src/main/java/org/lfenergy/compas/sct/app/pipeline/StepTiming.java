@@ -0,0 +1,17 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Timing of a step run by a {@link SclPipeline}
+ * @param stepName name of the step
+ * @param duration duration of the step
+ * @param reportItemCount number of report items returned by the step
+ * @param indexBuildCount number of indexes built by the step
+ */
+public record StepTiming(String stepName, Duration duration, int reportItemCount, int indexBuildCount) {
+}
@@ -0,0 +1,8 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * <h2>SCD pipeline : ordered steps run against a shared {@link org.lfenergy.compas.sct.app.pipeline.SclContext SclContext}</h2>
+ */
+package org.lfenergy.compas.sct.app.pipeline;
@@ -8,16 +8,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.lfenergy.compas.scl2007b4.model.LN0;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TDataSet;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.sct.app.pipeline.SclPipeline;
+import org.lfenergy.compas.sct.app.pipeline.SclPipelineResult;
+import org.lfenergy.compas.sct.app.pipeline.SclSteps;
+import org.lfenergy.compas.sct.app.pipeline.StepTiming;
 import org.lfenergy.compas.sct.commons.*;
 import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
 import org.lfenergy.compas.sct.commons.scl.ControlService;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.testhelpers.DaComTestMarshallerHelper;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 
 import java.util.Arrays;
@@ -167,4 +179,83 @@ class SclAutomationServiceIntegrationTest {
         assertIsMarshallable(scd);
     }
 
+    @Test
+    void updateSCD_when_ieds_did_not_change_should_reuse_ieds_of_previous_scd_without_std() {
+        // Given
+        SCL ssd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd.xml");
+        SCL std = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml");
+        SCL previousScd = sclAutomationService.createSCD(ssd, headerDTO, List.of(std));
+        // When
+        SCL scd = sclAutomationService.updateSCD(previousScd, ssd, headerDTO, List.of());
+        // Then
+        assertThat(scd.getIED())
+                .extracting(TIED::getName)
+                .containsExactlyElementsOf(previousScd.getIED().stream().map(TIED::getName).toList());
+        assertThat(scd.getDataTypeTemplates()).isNotNull();
+        assertIsMarshallable(scd);
+    }
+
+    @Test
+    void updateSCD_when_ieds_did_not_change_should_give_same_ieds_as_createSCD() {
+        // Given
+        String ssdPath = "/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml";
+        SCL previousScd = sclAutomationService.createSCD(SclTestMarshaller.getSCLFromFile(ssdPath), headerDTO, getStds());
+        TDataSet staleDataSet = new TDataSet();
+        staleDataSet.setName("STALE_DATASET");
+        new SclRootAdapter(previousScd).streamIEDAdapters()
+                .flatMap(IEDAdapter::streamLDeviceAdapters)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Test shouldn't fail here, please check your XML input file"))
+                .getLN0Adapter().getCurrentElem().getDataSet().add(staleDataSet);
+        SCL expectedScd = sclAutomationService.createSCD(SclTestMarshaller.getSCLFromFile(ssdPath), headerDTO, getStds());
+        // When
+        SCL scd = sclAutomationService.updateSCD(previousScd, SclTestMarshaller.getSCLFromFile(ssdPath), headerDTO, List.of());
+        // Then
+        assertThat(scd.getIED())
+                .extracting(TIED::getName)
+                .containsExactly("SITESITE1SCU0", "SITESITE1SCU1", "SITESITE1SCU2");
+        assertThat(scd.getIED()).usingRecursiveComparison().isEqualTo(expectedScd.getIED());
+        assertThat(scd.getCommunication()).usingRecursiveComparison().isEqualTo(expectedScd.getCommunication());
+        assertThat(scd.getDataTypeTemplates()).usingRecursiveComparison().ignoringCollectionOrder()
+                .isEqualTo(expectedScd.getDataTypeTemplates());
+        assertIsMarshallable(scd);
+    }
+
+    @Test
+    void createSCD_with_pipeline_of_builtin_steps_should_build_ied_and_ldevice_adapters_once() {
+        // Given
+        SCL ssd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        ExtRefEditor extRefEditor = new ExtRefEditorService(new IedService(), new LdeviceService(), new LnService(), new ExtRefService(), new DataTypeTemplatesService());
+        DACOMM dacomm = DaComTestMarshallerHelper.getDACOMMFromFile("/cb_comm/Template_DA_COMM_v1.xml");
+        SclPipeline sclPipeline = SclPipeline.of(
+                SclSteps.updateLDeviceStatus(sclEditor),
+                SclSteps.updateAllExtRefIedNames(extRefEditor),
+                SclSteps.createDataSetAndControlBlocks(controlBlockEditor, dacomm),
+                SclSteps.configureNetworkForAllControlBlocks(controlBlockEditor, new CBCom()),
+                SclSteps.manageMonitoringLns(sclEditor),
+                SclSteps.updateDoInRef(sclEditor),
+                SclSteps.analyzeDataGroups(controlBlockEditor));
+        SclPipelineService sclPipelineService = new SclPipelineService(sclEditor, substationEditor, controlBlockEditor);
+        // When
+        SclPipelineResult result = sclPipelineService.createSCD(ssd, headerDTO, getStds(), sclPipeline);
+        // Then
+        // IEDAdapters are built by the first step, LDeviceAdapters by createDataSetAndControlBlocks, and both are reused afterward
+        assertThat(result.stepTimings())
+                .extracting(StepTiming::stepName, StepTiming::indexBuildCount)
+                .containsExactly(
+                        tuple("updateLDeviceStatus", 1),
+                        tuple("updateAllExtRefIedNames", 0),
+                        tuple("createDataSetAndControlBlocks", 1),
+                        tuple("configureNetworkForAllControlBlocks", 0),
+                        tuple("manageMonitoringLns", 0),
+                        tuple("updateDoInRef", 0),
+                        tuple("analyzeDataGroups", 0));
+    }
+
+    private static List<SCL> getStds() {
+        return List.of(SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml"));
+    }
+
 }
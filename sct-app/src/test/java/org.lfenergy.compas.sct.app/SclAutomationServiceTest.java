@@ -14,7 +14,9 @@ import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
 import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -23,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -87,6 +90,38 @@ class SclAutomationServiceTest {
         verify(controlBlockEditor, times(1)).removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(any(SCL.class));
     }
 
+    @Test
+    void createSCD_when_reportSink_aborts_should_stop_between_steps() throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+        // Given
+        SCL ssd = (SCL) BeanUtils.cloneBean(scl);
+        SCL std = (SCL) BeanUtils.cloneBean(scl);
+        SCL initScd = (SCL) BeanUtils.cloneBean(scl);
+        when(sclEditor.initScl(any(UUID.class), anyString(), anyString())).thenReturn(initScd);
+        AtomicBoolean aborted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            aborted.set(true);
+            return null;
+        }).when(sclEditor).importSTDElementsInSCD(any(SCL.class), anyList());
+        ReportSink reportSink = new ReportSink() {
+            @Override
+            public void report(SclReportItem sclReportItem) {
+                // no report item expected
+            }
+
+            @Override
+            public boolean shouldAbort() {
+                return aborted.get();
+            }
+        };
+        // When
+        SCL scd = sclAutomationService.createSCD(ssd, headerDTO, List.of(std), reportSink);
+        // Then
+        assertThat(scd).isSameAs(initScd);
+        verify(substationEditor, times(1)).addSubstation(any(SCL.class), any(SCL.class));
+        verify(sclEditor, times(1)).importSTDElementsInSCD(any(SCL.class), anyList());
+        verify(controlBlockEditor, never()).removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(any(SCL.class));
+    }
+
     @Test
     void createSCD_with_headerHistory_should_return_generatedSCD() throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
         // Given
@@ -0,0 +1,192 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.app;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.THeader;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.sct.app.pipeline.*;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.api.SubstationEditor;
+import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.report.CappedReportSink;
+import org.lfenergy.compas.sct.commons.report.FailFastReportSink;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SclPipelineServiceTest {
+
+    @InjectMocks
+    private SclPipelineService sclPipelineService;
+    @Mock
+    private SclEditor sclEditor;
+    @Mock
+    private SubstationEditor substationEditor;
+    @Mock
+    private ControlBlockEditor controlBlockEditor;
+
+    @Test
+    void runPipeline_should_run_steps_in_order_and_return_report_items_and_timings() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        SclReportItem warning = SclReportItem.warning("/SCL/IED", "warning");
+        SclReportItem error = SclReportItem.error("/SCL/IED", "error");
+        when(sclEditor.updateLDeviceStatus(any(SclEditorContext.class))).thenReturn(List.of(warning));
+        when(controlBlockEditor.analyzeDataGroups(any(SclEditorContext.class))).thenReturn(List.of(error));
+        SclPipeline sclPipeline = SclPipeline.of(SclSteps.updateLDeviceStatus(sclEditor), SclSteps.analyzeDataGroups(controlBlockEditor));
+        // When
+        SclPipelineResult result = sclPipelineService.runPipeline(scd, sclPipeline);
+        // Then
+        InOrder inOrder = inOrder(sclEditor, controlBlockEditor);
+        inOrder.verify(sclEditor).updateLDeviceStatus(argThat(context -> context.getScd() == scd));
+        inOrder.verify(controlBlockEditor).analyzeDataGroups(argThat(context -> context.getScd() == scd));
+        assertThat(result.scd()).isSameAs(scd);
+        assertThat(result.sclReportItems()).containsExactly(warning, error);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.stepTimings())
+                .extracting(StepTiming::stepName, StepTiming::reportItemCount)
+                .containsExactly(tuple("updateLDeviceStatus", 1), tuple("analyzeDataGroups", 1));
+        assertThat(result.getTotalDuration()).isEqualTo(result.stepTimings().get(0).duration().plus(result.stepTimings().get(1).duration()));
+    }
+
+    @Test
+    void runPipeline_when_stoppingOnError_should_skip_steps_following_an_error() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        when(sclEditor.updateLDeviceStatus(any(SclEditorContext.class))).thenReturn(List.of(SclReportItem.error("/SCL/IED", "error")));
+        SclPipeline sclPipeline = SclPipeline.of(SclSteps.updateLDeviceStatus(sclEditor))
+                .then(SclSteps.updateDoInRef(sclEditor))
+                .stoppingOnError();
+        // When
+        SclPipelineResult result = sclPipelineService.runPipeline(scd, sclPipeline);
+        // Then
+        verify(sclEditor, never()).updateDoInRef(any(SclEditorContext.class));
+        assertThat(result.stepTimings()).extracting(StepTiming::stepName).containsExactly("updateLDeviceStatus");
+    }
+
+    @Test
+    void runPipeline_with_reportSink_should_write_report_items_to_sink_and_stop_when_sink_aborts() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        SclReportItem error = SclReportItem.error("/SCL/IED", "error");
+        when(sclEditor.updateLDeviceStatus(any(SclEditorContext.class))).thenReturn(List.of(error));
+        SclPipeline sclPipeline = SclPipeline.of(SclSteps.updateLDeviceStatus(sclEditor), SclSteps.updateDoInRef(sclEditor));
+        ListReportSink listReportSink = new ListReportSink();
+        // When
+        SclPipelineResult result = sclPipelineService.runPipeline(scd, sclPipeline, new FailFastReportSink(listReportSink));
+        // Then
+        verify(sclEditor, never()).updateDoInRef(any(SclEditorContext.class));
+        assertThat(listReportSink.getSclReportItems()).containsExactly(error);
+        assertThat(result.sclReportItems()).isEmpty();
+        assertThat(result.stepTimings()).extracting(StepTiming::stepName).containsExactly("updateLDeviceStatus");
+    }
+
+    @Test
+    void runPipeline_when_reportSink_wants_no_more_items_should_only_run_steps_mutating_scd() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        SclStep readScd = SclStep.of("readScd", Set.of(), context -> List.of());
+        SclStep mutateIeds = SclStep.of("mutateIeds", EnumSet.of(SclScope.IED_STRUCTURE), context -> List.of());
+        SclPipeline sclPipeline = SclPipeline.of(readScd, mutateIeds, readScd);
+        // When
+        SclPipelineResult result = sclPipelineService.runPipeline(scd, sclPipeline, new CappedReportSink(new ListReportSink(), 0));
+        // Then
+        assertThat(result.stepTimings()).extracting(StepTiming::stepName).containsExactly("mutateIeds");
+    }
+
+    @Test
+    void runPipeline_should_rebuild_index_only_after_a_step_mutating_its_scope() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        TIED tied = new TIED();
+        tied.setName("IED_NAME_1");
+        scd.getIED().add(tied);
+        SclStep readIedNames = SclStep.of("readIedNames", Set.of(), context -> {
+            assertThat(context.getIndex(SclContextKey.IED_ADAPTERS_BY_NAME)).containsOnlyKeys("IED_NAME_1");
+            return List.of();
+        });
+        SclStep mutateCommunication = SclStep.of("mutateCommunication", EnumSet.of(SclScope.COMMUNICATION), context -> List.of());
+        SclStep mutateIeds = SclStep.of("mutateIeds", EnumSet.of(SclScope.IED_STRUCTURE), context -> List.of());
+        SclPipeline sclPipeline = SclPipeline.of(readIedNames, mutateCommunication, readIedNames, mutateIeds, readIedNames);
+        // When
+        SclPipelineResult result = sclPipelineService.runPipeline(scd, sclPipeline);
+        // Then
+        assertThat(result.stepTimings()).extracting(StepTiming::indexBuildCount).containsExactly(2, 0, 0, 0, 2);
+    }
+
+    @Test
+    void runPipeline_should_give_steps_the_shared_editorContext() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        TIED tied = new TIED();
+        tied.setName("IED_NAME_1");
+        scd.getIED().add(tied);
+        when(controlBlockEditor.analyzeDataGroups(any(SclEditorContext.class))).thenReturn(List.of());
+        ArgumentCaptor<SclEditorContext> editorContextCaptor = ArgumentCaptor.forClass(SclEditorContext.class);
+        SclStep readIedAdapters = SclStep.of("readIedAdapters", Set.of(), context -> {
+            assertThat(context.getIndex(SclContextKey.IED_ADAPTERS)).extracting(IEDAdapter::getName).containsExactly("IED_NAME_1");
+            return List.of();
+        });
+        SclPipeline sclPipeline = SclPipeline.of(readIedAdapters, SclSteps.analyzeDataGroups(controlBlockEditor), SclSteps.analyzeDataGroups(controlBlockEditor));
+        // When
+        SclPipelineResult result = sclPipelineService.runPipeline(scd, sclPipeline);
+        // Then
+        verify(controlBlockEditor, times(2)).analyzeDataGroups(editorContextCaptor.capture());
+        assertThat(editorContextCaptor.getAllValues()).hasSize(2).allSatisfy(editorContext -> {
+            assertThat(editorContext).isSameAs(editorContextCaptor.getValue());
+            assertThat(editorContext.getScd()).isSameAs(scd);
+        });
+        assertThat(result.stepTimings()).extracting(StepTiming::indexBuildCount).containsExactly(1, 0, 0);
+    }
+
+    @Test
+    void createSCD_should_run_pipeline_on_created_scd() {
+        // Given
+        SCL scd = new SCL();
+        scd.setHeader(new THeader());
+        HeaderDTO headerDTO = new HeaderDTO();
+        headerDTO.setId(UUID.randomUUID());
+        headerDTO.setRevision("Revision");
+        headerDTO.setVersion("Version");
+        when(sclEditor.initScl(any(UUID.class), anyString(), anyString())).thenReturn(scd);
+        when(sclEditor.manageMonitoringLns(any(SclEditorContext.class))).thenReturn(List.of());
+        // When
+        SclPipelineResult result = sclPipelineService.createSCD(new SCL(), headerDTO, List.of(), SclPipeline.of(SclSteps.manageMonitoringLns(sclEditor)));
+        // Then
+        verify(controlBlockEditor).removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
+        verify(sclEditor).manageMonitoringLns(argThat(context -> context.getScd() == scd));
+        assertThat(result.scd()).isSameAs(scd);
+        assertThat(result.isSuccess()).isTrue();
+    }
+}
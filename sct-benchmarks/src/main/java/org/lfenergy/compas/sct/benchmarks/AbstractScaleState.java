@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.util.Utils;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * JMH parameters shared by all benchmarks : the scale of the generated files.
+ * <p>
+ * Default values give a small and a large substation. They can be overridden from the command line, for example
+ * {@code java -jar benchmarks.jar -p ieds=10,50,100,200} to draw a scaling curve.
+ * </p>
+ */
+public abstract class AbstractScaleState {
+
+    @Param({"10", "100"})
+    public int ieds;
+
+    @Param({"5"})
+    public int lDevicesPerIed;
+
+    @Param({"20"})
+    public int extRefsPerLn0;
+
+    @Param({"100"})
+    public int dttSize;
+
+    protected SyntheticSclGenerator newGenerator() {
+        return new SyntheticSclGenerator(new SclScale(ieds, lDevicesPerIed, extRefsPerLn0, dttSize));
+    }
+
+    /**
+     * Benchmarked methods modify the SCD given as parameter : each invocation works on its own copy of a reference SCD
+     * @param scd reference SCD
+     * @return deep copy of the SCD
+     */
+    protected static SCL copy(SCL scd) {
+        return Utils.copySclElement(scd, SCL.class);
+    }
+}
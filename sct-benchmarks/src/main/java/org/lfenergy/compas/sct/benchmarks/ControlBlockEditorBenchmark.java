@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.*;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.scl.ControlService;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ControlBlockEditor#createDataSetAndControlBlocks} and
+ * {@link ControlBlockEditor#configureNetworkForAllControlBlocks}.
+ * Each one runs on the SCD as produced by the previous steps of the SCD generation, copied before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ControlBlockEditorBenchmark {
+
+    private static final ControlBlockEditor controlBlockEditor = new ControlBlockEditorService(new ControlService(), new LdeviceService());
+    private static final ExtRefEditor extRefEditor = new ExtRefEditorService(new IedService(), new LdeviceService(), new LnService(), new ExtRefService(), new DataTypeTemplatesService());
+
+    /**
+     * SCD with ExtRef iedName updated, without any DataSet nor ControlBlock
+     */
+    @State(Scope.Benchmark)
+    public static class DataSetAndControlBlocksState extends AbstractScaleState {
+        private SCL referenceScd;
+        private DACOMM dacomm;
+        private SCL scd;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            SyntheticSclGenerator generator = newGenerator();
+            referenceScd = generator.createScd();
+            extRefEditor.updateAllExtRefIedNames(referenceScd);
+            dacomm = generator.createDaComm();
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation() {
+            scd = copy(referenceScd);
+        }
+    }
+
+    /**
+     * SCD with DataSets and ControlBlocks, without network configuration
+     */
+    @State(Scope.Benchmark)
+    public static class NetworkState extends AbstractScaleState {
+        private SCL referenceScd;
+        private CBCom cbCom;
+        private SCL scd;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            SyntheticSclGenerator generator = newGenerator();
+            referenceScd = generator.createScd();
+            extRefEditor.updateAllExtRefIedNames(referenceScd);
+            controlBlockEditor.createDataSetAndControlBlocks(referenceScd, generator.createDaComm());
+            cbCom = generator.createCbCom();
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation() {
+            scd = copy(referenceScd);
+        }
+    }
+
+    @Benchmark
+    public List<SclReportItem> createDataSetAndControlBlocks(DataSetAndControlBlocksState state) {
+        return controlBlockEditor.createDataSetAndControlBlocks(state.scd, state.dacomm);
+    }
+
+    @Benchmark
+    public List<SclReportItem> configureNetworkForAllControlBlocks(NetworkState state) {
+        return controlBlockEditor.configureNetworkForAllControlBlocks(state.scd, state.cbCom);
+    }
+}
@@ -0,0 +1,58 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.*;
+import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.model.epf.EPF;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ExtRefEditor#updateAllExtRefIedNames} and {@link ExtRefEditor#manageBindingForLDEPF}.
+ * Both run on the SCD as produced by {@link org.lfenergy.compas.sct.app.SclAutomationService#createSCD}, copied before
+ * each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExtRefEditorBenchmark extends AbstractScaleState {
+
+    private final ExtRefEditor extRefEditor = new ExtRefEditorService(new IedService(), new LdeviceService(), new LnService(), new ExtRefService(), new DataTypeTemplatesService());
+
+    private SCL referenceScd;
+    private EPF epf;
+    private SCL scd;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        SyntheticSclGenerator generator = newGenerator();
+        referenceScd = generator.createScd();
+        epf = generator.createEpf();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        scd = copy(referenceScd);
+    }
+
+    @Benchmark
+    public List<SclReportItem> updateAllExtRefIedNames() {
+        return extRefEditor.updateAllExtRefIedNames(scd);
+    }
+
+    @Benchmark
+    public List<SclReportItem> manageBindingForLDEPF() {
+        return extRefEditor.manageBindingForLDEPF(scd, epf);
+    }
+}
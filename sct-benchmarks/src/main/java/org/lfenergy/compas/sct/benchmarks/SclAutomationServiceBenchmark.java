@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.app.SclAutomationService;
+import org.lfenergy.compas.sct.commons.ControlBlockEditorService;
+import org.lfenergy.compas.sct.commons.LdeviceService;
+import org.lfenergy.compas.sct.commons.SclService;
+import org.lfenergy.compas.sct.commons.SubstationService;
+import org.lfenergy.compas.sct.commons.VoltageLevelService;
+import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.scl.ControlService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link SclAutomationService#createSCD} : Substation import, then import of all STD (IED, DataTypeTemplates
+ * and Communication).
+ * SSD and STD are consumed by the import, so they are generated again before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SclAutomationServiceBenchmark extends AbstractScaleState {
+
+    private final SclAutomationService sclAutomationService = new SclAutomationService(new SclService(),
+            new SubstationService(new VoltageLevelService()),
+            new ControlBlockEditorService(new ControlService(), new LdeviceService()));
+
+    private SyntheticSclGenerator generator;
+    private HeaderDTO headerDTO;
+    private SCL ssd;
+    private List<SCL> stds;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        generator = newGenerator();
+        headerDTO = generator.createHeaderDTO();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        ssd = generator.createSsd();
+        stds = generator.createStds();
+    }
+
+    @Benchmark
+    public SCL createSCD() {
+        return sclAutomationService.createSCD(ssd, headerDTO, stds);
+    }
+}
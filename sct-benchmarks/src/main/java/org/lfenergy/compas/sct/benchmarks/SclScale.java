@@ -0,0 +1,23 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+/**
+ * Size of the synthetic SCL files built by {@link SyntheticSclGenerator}
+ *
+ * @param ieds           number of IEDs, one STD file per IED. IEDs are grouped by two in a Bay.
+ * @param lDevicesPerIed number of LDevices holding ExtRefs in each IED (an LDEPF LDevice is added on top of them)
+ * @param extRefsPerLn0  number of ExtRefs in each LN0, also used as number of LDEPF channels
+ * @param dttSize        number of additional LNodeType (each with its own DOType, DAType and EnumType) in each STD DataTypeTemplates
+ */
+public record SclScale(int ieds, int lDevicesPerIed, int extRefsPerLn0, int dttSize) {
+
+    public SclScale {
+        if (ieds < 1 || lDevicesPerIed < 1 || extRefsPerLn0 < 0 || dttSize < 0) {
+            throw new IllegalArgumentException("Invalid scale : " + ieds + " IEDs, " + lDevicesPerIed + " LDevices per IED, "
+                    + extRefsPerLn0 + " ExtRefs per LN0, DataTypeTemplates size " + dttSize);
+        }
+    }
+}
@@ -0,0 +1,513 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.app.SclAutomationService;
+import org.lfenergy.compas.sct.commons.*;
+import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.model.cbcom.AppIdRanges;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.model.cbcom.MacRanges;
+import org.lfenergy.compas.sct.commons.model.cbcom.TBayIntOrExt;
+import org.lfenergy.compas.sct.commons.model.cbcom.TCBType;
+import org.lfenergy.compas.sct.commons.model.cbcom.TIEDRedundancy;
+import org.lfenergy.compas.sct.commons.model.cbcom.TIEDType;
+import org.lfenergy.compas.sct.commons.model.cbcom.TRange;
+import org.lfenergy.compas.sct.commons.model.cbcom.TVlan;
+import org.lfenergy.compas.sct.commons.model.cbcom.Vlans;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.model.da_comm.FCDAs;
+import org.lfenergy.compas.sct.commons.model.da_comm.TFCDA;
+import org.lfenergy.compas.sct.commons.model.da_comm.Tfc;
+import org.lfenergy.compas.sct.commons.model.epf.Channels;
+import org.lfenergy.compas.sct.commons.model.epf.EPF;
+import org.lfenergy.compas.sct.commons.model.epf.TCBScopeType;
+import org.lfenergy.compas.sct.commons.model.epf.TChannel;
+import org.lfenergy.compas.sct.commons.model.epf.TChannelLevMod;
+import org.lfenergy.compas.sct.commons.model.epf.TChannelType;
+import org.lfenergy.compas.sct.commons.model.epf.TIEDredundancy;
+import org.lfenergy.compas.sct.commons.scl.ControlService;
+import org.lfenergy.compas.sct.commons.util.ActiveStatus;
+import org.lfenergy.compas.sct.commons.util.PrivateEnum;
+import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newConnectedAp;
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newVal;
+
+/**
+ * Builds synthetic SSD, STD, SCD, CBCom, DACOMM and EPF files of a given {@link SclScale}.
+ * <p>
+ * Files are consistent with each other, so that every benchmarked step does its nominal work instead of failing early :
+ * </p>
+ * <ul>
+ *   <li>each IED has a COMPAS-ICDHeader (with a unique ICDSystemVersionUUID), a COMPAS-SystemVersion and a COMPAS-Bay private,
+ *   and is referenced by an LNode of the SSD</li>
+ *   <li>each LDevice is "on" and has a GGIO LN. Its LN0 has ExtRefs, with their COMPAS-Flow, pointing to the GGIO of
+ *   LDevices of the following IEDs. ExtRef iedName is the ICDSystemVersionUUID of the source IED, as in STD files.</li>
+ *   <li>each IED has an LDEPF LDevice whose ExtRefs match the EPF channels, with exactly one source IED in the Bay</li>
+ *   <li>CBCom has settings for every IED and every ControlBlock created, and DACOMM allows the bound data attribute</li>
+ * </ul>
+ * Generation is deterministic : two calls with the same scale give equal files.
+ */
+public class SyntheticSclGenerator {
+
+    public static final String AP_NAME = "AP_NAME";
+    public static final String LDEPF = "LDEPF";
+    private static final String LN0_TYPE = "LN0_TYPE";
+    private static final String GGIO_TYPE = "GGIO_TYPE";
+    private static final String GGIO = "GGIO";
+    private static final String LN_INST = "1";
+    private static final String MOD_DO_NAME = "Mod";
+    private static final String SOURCE_DO_NAME = "Ind";
+    private static final String SOURCE_DA_NAME = "stVal";
+    private static final String MOD_DO_TYPE = "DO_ENC_MOD";
+    private static final String SPS_DO_TYPE = "DO_SPS";
+    private static final String BEHAVIOUR_MODE_KIND = "BehaviourModeKind";
+    private static final String MAIN_SYSTEM_VERSION = "01.00";
+    private static final String MINOR_SYSTEM_VERSION = "009.001.001";
+    private static final String SYSTEM_VERSION_ZW = "009.001";
+    private static final String SUBNETWORK_NAME = "RSPACE_PROCESS_NETWORK";
+    private static final String SUBNETWORK_TYPE = "8-MMS";
+    private static final int IEDS_PER_BAY = 2;
+
+    private final SclScale scale;
+
+    public SyntheticSclGenerator(SclScale scale) {
+        this.scale = scale;
+    }
+
+    /**
+     * Name of an IED
+     * @param iedIndex index of the IED, from 0
+     * @return IED name
+     */
+    public static String iedName(int iedIndex) {
+        return "IED%04d".formatted(iedIndex + 1);
+    }
+
+    /**
+     * Inst of an LDevice holding ExtRefs
+     * @param lDeviceIndex index of the LDevice in its IED, from 0
+     * @return LDevice inst
+     */
+    public static String ldInst(int lDeviceIndex) {
+        return "LD_INST%02d".formatted(lDeviceIndex + 1);
+    }
+
+    private static String icdSystemVersionUuid(int iedIndex) {
+        return "ICD_SYSTEM_VERSION_UUID_%04d".formatted(iedIndex + 1);
+    }
+
+    private static int bayIndex(int iedIndex) {
+        return iedIndex / IEDS_PER_BAY;
+    }
+
+    /**
+     * Builds an SSD with one Bay for every couple of IEDs. Each Bay has a Function with an LNode holding
+     * the COMPAS-ICDHeader of each IED of the Bay.
+     * @return new SSD
+     */
+    public SCL createSsd() {
+        TVoltageLevel tVoltageLevel = new TVoltageLevel();
+        tVoltageLevel.setName("VOLTAGE_LEVEL");
+        for (int iedIndex = 0; iedIndex < scale.ieds(); iedIndex += IEDS_PER_BAY) {
+            TFunction tFunction = new TFunction();
+            tFunction.setName("FUNCTION");
+            IntStream.range(iedIndex, Math.min(iedIndex + IEDS_PER_BAY, scale.ieds()))
+                    .mapToObj(this::newLNode)
+                    .forEach(tFunction.getLNode()::add);
+            TBay tBay = new TBay();
+            tBay.setName("BAY%04d".formatted(bayIndex(iedIndex) + 1));
+            tBay.getFunction().add(tFunction);
+            tVoltageLevel.getBay().add(tBay);
+        }
+        TSubstation tSubstation = new TSubstation();
+        tSubstation.setName("SUBSTATION");
+        tSubstation.getVoltageLevel().add(tVoltageLevel);
+        SCL ssd = newScl("SSD");
+        ssd.getSubstation().add(tSubstation);
+        return ssd;
+    }
+
+    private TLNode newLNode(int iedIndex) {
+        TLNode tlNode = new TLNode();
+        tlNode.setIedName(iedName(iedIndex));
+        tlNode.setLdInst(ldInst(0));
+        tlNode.getLnClass().add(TLLN0Enum.LLN_0.value());
+        tlNode.getPrivate().add(PrivateUtils.createPrivate(newIcdHeader(iedIndex)));
+        return tlNode;
+    }
+
+    /**
+     * Builds one STD per IED. Each STD has its own copy of the DataTypeTemplates, as vendor tools produce them.
+     * @return new list of STD
+     */
+    public List<SCL> createStds() {
+        return IntStream.range(0, scale.ieds())
+                .mapToObj(this::createStd)
+                .toList();
+    }
+
+    /**
+     * Builds the STD of one IED
+     * @param iedIndex index of the IED, from 0
+     * @return new STD
+     */
+    public SCL createStd(int iedIndex) {
+        SCL std = newScl("STD" + iedName(iedIndex));
+        std.getIED().add(newIed(iedIndex));
+        std.setDataTypeTemplates(newDataTypeTemplates());
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        tSubNetwork.setName(SUBNETWORK_NAME);
+        tSubNetwork.setType(SUBNETWORK_TYPE);
+        tSubNetwork.getConnectedAP().add(newConnectedAp(iedName(iedIndex), AP_NAME));
+        TCommunication tCommunication = new TCommunication();
+        tCommunication.getSubNetwork().add(tSubNetwork);
+        std.setCommunication(tCommunication);
+        return std;
+    }
+
+    /**
+     * Builds the SCD with {@link SclAutomationService#createSCD}, from {@link #createSsd()} and {@link #createStds()}
+     * @return new SCD
+     */
+    public SCL createScd() {
+        SclAutomationService sclAutomationService = new SclAutomationService(new SclService(),
+                new SubstationService(new VoltageLevelService()),
+                new ControlBlockEditorService(new ControlService(), new LdeviceService()));
+        return sclAutomationService.createSCD(createSsd(), createHeaderDTO(), createStds());
+    }
+
+    public HeaderDTO createHeaderDTO() {
+        return new HeaderDTO(UUID.nameUUIDFromBytes(scale.toString().getBytes()), "1.0", "1.0");
+    }
+
+    /**
+     * Builds CBCom settings with a VLAN for every ControlBlock type, IED System Version instance and Bay scope used in the generated SCD.
+     * @return new CBCom
+     */
+    public CBCom createCbCom() {
+        CBCom cbCom = new CBCom();
+        cbCom.setMacRanges(new MacRanges());
+        cbCom.setAppIdRanges(new AppIdRanges());
+        cbCom.setVlans(new Vlans());
+        cbCom.getMacRanges().getMacRange().add(newRange(TCBType.GOOSE, "01-0C-CD-01-00-00", "01-0C-CD-01-FF-FF"));
+        cbCom.getMacRanges().getMacRange().add(newRange(TCBType.SV, "01-0C-CD-04-00-00", "01-0C-CD-04-FF-FF"));
+        cbCom.getAppIdRanges().getAppIdRange().add(newRange(TCBType.GOOSE, "0000", "3FFF"));
+        cbCom.getAppIdRanges().getAppIdRange().add(newRange(TCBType.SV, "4000", "7FFF"));
+        int vlanId = 300;
+        for (TCBType tcbType : List.of(TCBType.GOOSE, TCBType.SV)) {
+            for (int iedSystemVersionInstance = 1; iedSystemVersionInstance <= IEDS_PER_BAY; iedSystemVersionInstance++) {
+                for (TBayIntOrExt tBayIntOrExt : TBayIntOrExt.values()) {
+                    cbCom.getVlans().getVlan().add(newVlan(tcbType, iedSystemVersionInstance, tBayIntOrExt, vlanId++));
+                }
+            }
+        }
+        return cbCom;
+    }
+
+    private static TRange newRange(TCBType tcbType, String start, String end) {
+        TRange tRange = new TRange();
+        tRange.setCBType(tcbType);
+        tRange.setStart(start);
+        tRange.setEnd(end);
+        return tRange;
+    }
+
+    private static TVlan newVlan(TCBType tcbType, int iedSystemVersionInstance, TBayIntOrExt tBayIntOrExt, int vlanId) {
+        TVlan tVlan = new TVlan();
+        tVlan.setCBType(tcbType);
+        tVlan.setXY(MAIN_SYSTEM_VERSION);
+        tVlan.setZW(SYSTEM_VERSION_ZW);
+        tVlan.setIEDType(TIEDType.BCU);
+        tVlan.setIEDRedundancy(TIEDRedundancy.NONE);
+        tVlan.setIEDSystemVersionInstance(String.valueOf(iedSystemVersionInstance));
+        tVlan.setBayIntOrExt(tBayIntOrExt);
+        tVlan.setVlanId(String.valueOf(vlanId));
+        tVlan.setVlanPriority("4");
+        tVlan.setMinTime("10");
+        tVlan.setMaxTime("2000");
+        return tVlan;
+    }
+
+    /**
+     * Builds DACOMM allowing the data attribute bound by the generated ExtRefs
+     * @return new DACOMM
+     */
+    public DACOMM createDaComm() {
+        TFCDA tfcda = new TFCDA();
+        tfcda.setLnClass(GGIO);
+        tfcda.setDoName(SOURCE_DO_NAME);
+        tfcda.setDaName(SOURCE_DA_NAME);
+        tfcda.setFc(Tfc.ST);
+        FCDAs fcdas = new FCDAs();
+        fcdas.getFCDA().add(tfcda);
+        DACOMM dacomm = new DACOMM();
+        dacomm.setFCDAs(fcdas);
+        return dacomm;
+    }
+
+    /**
+     * Builds EPF with one digital channel per ExtRef of the LDEPF LDevices.
+     * Channels are bay internal and select the source IED by its IED System Version instance, so that each ExtRef has
+     * exactly one source IED.
+     * @return new EPF
+     */
+    public EPF createEpf() {
+        Channels channels = new Channels();
+        IntStream.rangeClosed(1, scale.extRefsPerLn0())
+                .mapToObj(SyntheticSclGenerator::newChannel)
+                .forEach(channels.getChannel()::add);
+        EPF epf = new EPF();
+        epf.setChannels(channels);
+        return epf;
+    }
+
+    private static TChannel newChannel(int channelNum) {
+        TChannel tChannel = new TChannel();
+        tChannel.setBayScope(TCBScopeType.BAY_INTERNAL);
+        tChannel.setChannelType(TChannelType.DIGITAL);
+        tChannel.setChannelNum(String.valueOf(channelNum));
+        tChannel.setChannelShortLabel("CHANNEL" + channelNum);
+        tChannel.setChannelLevMod(TChannelLevMod.POSITIVE_OR_RISING);
+        tChannel.setChannelLevModQ(TChannelLevMod.OTHER);
+        tChannel.setIEDType(TCompasIEDType.BCU.value());
+        tChannel.setIEDRedundancy(TIEDredundancy.NONE);
+        tChannel.setIEDSystemVersionInstance("1");
+        tChannel.setLDInst(ldInst(0));
+        tChannel.setLNClass(GGIO);
+        tChannel.setLNInst(LN_INST);
+        tChannel.setDOName(SOURCE_DO_NAME);
+        tChannel.setDOInst("0");
+        tChannel.setDAName(SOURCE_DA_NAME);
+        return tChannel;
+    }
+
+    private static SCL newScl(String headerId) {
+        THeader tHeader = new THeader();
+        tHeader.setId(headerId);
+        SCL scl = new SCL();
+        scl.setVersion("2007");
+        scl.setRevision("B");
+        scl.setRelease((short) 4);
+        scl.setHeader(tHeader);
+        return scl;
+    }
+
+    private TCompasICDHeader newIcdHeader(int iedIndex) {
+        TCompasICDHeader tCompasICDHeader = new TCompasICDHeader();
+        tCompasICDHeader.setICDSystemVersionUUID(icdSystemVersionUuid(iedIndex));
+        tCompasICDHeader.setIEDName(iedName(iedIndex));
+        tCompasICDHeader.setIEDType(TCompasIEDType.BCU);
+        tCompasICDHeader.setIEDredundancy(TCompasIEDRedundancy.NONE);
+        tCompasICDHeader.setIEDSubstationinstance(BigInteger.valueOf(iedIndex + 1L));
+        // the two IEDs of a Bay have a different instance, so that LDEPF channels find a single source IED per Bay
+        tCompasICDHeader.setIEDSystemVersioninstance(BigInteger.valueOf(iedIndex % IEDS_PER_BAY + 1L));
+        tCompasICDHeader.setBayLabel("BAY%04d".formatted(bayIndex(iedIndex) + 1));
+        tCompasICDHeader.setVendorName("VENDOR");
+        tCompasICDHeader.setIEDmodel("MODEL");
+        tCompasICDHeader.setHwRev("1.0");
+        tCompasICDHeader.setSwRev("1.0");
+        tCompasICDHeader.setHeaderId("ICD_HEADER_ID");
+        tCompasICDHeader.setHeaderVersion("1.0");
+        tCompasICDHeader.setHeaderRevision("1.0");
+        return tCompasICDHeader;
+    }
+
+    private TIED newIed(int iedIndex) {
+        TCompasSystemVersion tCompasSystemVersion = new TCompasSystemVersion();
+        tCompasSystemVersion.setMainSystemVersion(MAIN_SYSTEM_VERSION);
+        tCompasSystemVersion.setMinorSystemVersion(MINOR_SYSTEM_VERSION);
+        TCompasBay tCompasBay = new TCompasBay();
+        tCompasBay.setUUID("BAY_UUID_%04d".formatted(bayIndex(iedIndex) + 1));
+
+        TServer tServer = new TServer();
+        IntStream.range(0, scale.lDevicesPerIed())
+                .mapToObj(lDeviceIndex -> newLDevice(iedIndex, lDeviceIndex))
+                .forEach(tServer.getLDevice()::add);
+        tServer.getLDevice().add(newLdepfLDevice(iedIndex));
+        TAccessPoint tAccessPoint = new TAccessPoint();
+        tAccessPoint.setName(AP_NAME);
+        tAccessPoint.setServices(newServices());
+        tAccessPoint.setServer(tServer);
+
+        TIED tied = new TIED();
+        tied.setName(iedName(iedIndex));
+        tied.getPrivate().add(PrivateUtils.createPrivate(newIcdHeader(iedIndex)));
+        tied.getPrivate().add(PrivateUtils.createPrivate(tCompasSystemVersion));
+        tied.getPrivate().add(PrivateUtils.createPrivate(tCompasBay));
+        tied.getAccessPoint().add(tAccessPoint);
+        return tied;
+    }
+
+    private static TServices newServices() {
+        TGSESettings tgseSettings = new TGSESettings();
+        tgseSettings.setDatSet(TServiceSettingsEnum.CONF);
+        tgseSettings.setCbName(TServiceSettingsNoDynEnum.CONF);
+        TSMVSettings tsmvSettings = new TSMVSettings();
+        tsmvSettings.setDatSet(TServiceSettingsEnum.CONF);
+        tsmvSettings.setCbName(TServiceSettingsNoDynEnum.CONF);
+        TServices tServices = new TServices();
+        tServices.setGSESettings(tgseSettings);
+        tServices.setSMVSettings(tsmvSettings);
+        return tServices;
+    }
+
+    private TLDevice newLDevice(int iedIndex, int lDeviceIndex) {
+        TInputs tInputs = new TInputs();
+        for (int extRefIndex = 0; extRefIndex < scale.extRefsPerLn0(); extRefIndex++) {
+            int sourceIedIndex = (iedIndex + 1 + extRefIndex) % scale.ieds();
+            String sourceLdInst = ldInst((lDeviceIndex + extRefIndex) % scale.lDevicesPerIed());
+            String desc = "EXTREF_%04d".formatted(extRefIndex + 1);
+            TExtRef tExtRef = new TExtRef();
+            tExtRef.setDesc(desc);
+            tExtRef.setIedName(icdSystemVersionUuid(sourceIedIndex));
+            tExtRef.setLdInst(sourceLdInst);
+            tExtRef.getLnClass().add(GGIO);
+            tExtRef.setLnInst(LN_INST);
+            tExtRef.setDoName(SOURCE_DO_NAME);
+            tExtRef.setDaName(SOURCE_DA_NAME);
+            tExtRef.setServiceType(extRefIndex % 4 == 3 ? TServiceType.SMV : TServiceType.GOOSE);
+            tInputs.getExtRef().add(tExtRef);
+
+            TCompasFlow tCompasFlow = new TCompasFlow();
+            tCompasFlow.setDataStreamKey(desc);
+            tCompasFlow.setExtRefiedName(tExtRef.getIedName());
+            tCompasFlow.setExtRefldinst(sourceLdInst);
+            tCompasFlow.setExtReflnClass(GGIO);
+            tCompasFlow.setExtReflnInst(LN_INST);
+            tCompasFlow.setFlowStatus(TCompasFlowStatus.ACTIVE);
+            TPrivate tPrivate = new TPrivate();
+            tPrivate.setType(PrivateEnum.COMPAS_FLOW.getPrivateType());
+            tPrivate.getContent().add(new ObjectFactory().createFlow(tCompasFlow));
+            tInputs.getPrivate().add(tPrivate);
+        }
+        TLDevice tlDevice = newLDeviceWithStatusOn(iedIndex, ldInst(lDeviceIndex));
+        tlDevice.getLN0().setInputs(tInputs);
+        TLN tln = new TLN();
+        tln.getLnClass().add(GGIO);
+        tln.setInst(LN_INST);
+        tln.setLnType(GGIO_TYPE);
+        tlDevice.getLN().add(tln);
+        return tlDevice;
+    }
+
+    private TLDevice newLdepfLDevice(int iedIndex) {
+        TInputs tInputs = new TInputs();
+        IntStream.rangeClosed(1, scale.extRefsPerLn0())
+                .mapToObj(channelNum -> {
+                    TExtRef tExtRef = new TExtRef();
+                    tExtRef.setDesc("DYN_LDEPF_DIGITAL CHANNEL " + channelNum + "_1_BOOLEEN_1_" + SOURCE_DA_NAME + "_1");
+                    tExtRef.getPLN().add(GGIO);
+                    tExtRef.setPDO(SOURCE_DO_NAME);
+                    tExtRef.setPDA(SOURCE_DA_NAME);
+                    return tExtRef;
+                })
+                .forEach(tInputs.getExtRef()::add);
+        TLDevice tlDevice = newLDeviceWithStatusOn(iedIndex, LDEPF);
+        tlDevice.getLN0().setInputs(tInputs);
+        return tlDevice;
+    }
+
+    private static TLDevice newLDeviceWithStatusOn(int iedIndex, String ldInst) {
+        TDAI tdai = new TDAI();
+        tdai.setName(SOURCE_DA_NAME);
+        tdai.getVal().add(newVal(ActiveStatus.ON.getValue()));
+        TDOI tdoi = new TDOI();
+        tdoi.setName(MOD_DO_NAME);
+        tdoi.getSDIOrDAI().add(tdai);
+        LN0 ln0 = new LN0();
+        ln0.setLnType(LN0_TYPE);
+        ln0.getDOI().add(tdoi);
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst(ldInst);
+        tlDevice.setLdName(iedName(iedIndex) + ldInst);
+        tlDevice.setLN0(ln0);
+        return tlDevice;
+    }
+
+    private TDataTypeTemplates newDataTypeTemplates() {
+        TDataTypeTemplates tDataTypeTemplates = new TDataTypeTemplates();
+        tDataTypeTemplates.getEnumType().add(newEnumType(BEHAVIOUR_MODE_KIND, List.of("on", "blocked", "test", "test/blocked", "off")));
+        tDataTypeTemplates.getDOType().add(newDOType(MOD_DO_TYPE, TPredefinedCDCEnum.ENC,
+                newDA(SOURCE_DA_NAME, TPredefinedBasicTypeEnum.ENUM, BEHAVIOUR_MODE_KIND)));
+        tDataTypeTemplates.getDOType().add(newDOType(SPS_DO_TYPE, TPredefinedCDCEnum.SPS,
+                newDA(SOURCE_DA_NAME, TPredefinedBasicTypeEnum.BOOLEAN, null),
+                newDA("q", TPredefinedBasicTypeEnum.QUALITY, null),
+                newDA("t", TPredefinedBasicTypeEnum.TIMESTAMP, null)));
+        tDataTypeTemplates.getLNodeType().add(newLNodeType(LN0_TYPE, TLLN0Enum.LLN_0.value(), newDO(MOD_DO_NAME, MOD_DO_TYPE)));
+        tDataTypeTemplates.getLNodeType().add(newLNodeType(GGIO_TYPE, GGIO, newDO(MOD_DO_NAME, MOD_DO_TYPE), newDO(SOURCE_DO_NAME, SPS_DO_TYPE)));
+        for (int i = 1; i <= scale.dttSize(); i++) {
+            String enumTypeId = "ENUM_TYPE_%04d".formatted(i);
+            String daTypeId = "DA_TYPE_%04d".formatted(i);
+            String doTypeId = "DO_TYPE_%04d".formatted(i);
+            tDataTypeTemplates.getEnumType().add(newEnumType(enumTypeId, List.of("value" + i, "other")));
+            TBDA tbda = new TBDA();
+            tbda.setName("bda");
+            tbda.setBType(TPredefinedBasicTypeEnum.ENUM);
+            tbda.setType(enumTypeId);
+            TDAType tdaType = new TDAType();
+            tdaType.setId(daTypeId);
+            tdaType.getBDA().add(tbda);
+            tDataTypeTemplates.getDAType().add(tdaType);
+            tDataTypeTemplates.getDOType().add(newDOType(doTypeId, TPredefinedCDCEnum.SPS,
+                    newDA(SOURCE_DA_NAME, TPredefinedBasicTypeEnum.BOOLEAN, null),
+                    newDA("origin", TPredefinedBasicTypeEnum.STRUCT, daTypeId)));
+            tDataTypeTemplates.getLNodeType().add(newLNodeType("LN_TYPE_%04d".formatted(i), GGIO,
+                    newDO(MOD_DO_NAME, MOD_DO_TYPE), newDO(SOURCE_DO_NAME, doTypeId)));
+        }
+        return tDataTypeTemplates;
+    }
+
+    private static TEnumType newEnumType(String id, List<String> values) {
+        TEnumType tEnumType = new TEnumType();
+        tEnumType.setId(id);
+        for (int ord = 0; ord < values.size(); ord++) {
+            TEnumVal tEnumVal = new TEnumVal();
+            tEnumVal.setOrd(ord + 1);
+            tEnumVal.setValue(values.get(ord));
+            tEnumType.getEnumVal().add(tEnumVal);
+        }
+        return tEnumType;
+    }
+
+    private static TDA newDA(String name, TPredefinedBasicTypeEnum bType, String type) {
+        TDA tda = new TDA();
+        tda.setName(name);
+        tda.setFc(TFCEnum.ST);
+        tda.setBType(bType);
+        tda.setType(type);
+        return tda;
+    }
+
+    private static TDOType newDOType(String id, TPredefinedCDCEnum cdc, TDA... tdas) {
+        TDOType tdoType = new TDOType();
+        tdoType.setId(id);
+        tdoType.setCdc(cdc);
+        tdoType.getSDOOrDA().addAll(List.of(tdas));
+        return tdoType;
+    }
+
+    private static TDO newDO(String name, String type) {
+        TDO tdo = new TDO();
+        tdo.setName(name);
+        tdo.setType(type);
+        return tdo;
+    }
+
+    private static TLNodeType newLNodeType(String id, String lnClass, TDO... tdos) {
+        TLNodeType tlNodeType = new TLNodeType();
+        tlNodeType.setId(id);
+        tlNodeType.getLnClass().add(lnClass);
+        tlNodeType.getDO().addAll(List.of(tdos));
+        return tlNodeType;
+    }
+}
@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TExtRef;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TLDevice;
+import org.lfenergy.compas.sct.commons.*;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.scl.ExtRefService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyntheticSclGeneratorTest {
+
+    private static final SclScale SCALE = new SclScale(4, 2, 3, 5);
+
+    private final SyntheticSclGenerator generator = new SyntheticSclGenerator(SCALE);
+
+    @Test
+    void createStds_should_return_one_std_per_ied() {
+        // When
+        List<SCL> stds = generator.createStds();
+        // Then
+        assertThat(stds).hasSize(4)
+                .allSatisfy(std -> {
+                    assertThat(std.getIED()).hasSize(1);
+                    assertThat(std.getDataTypeTemplates().getLNodeType()).hasSize(2 + 5);
+                    assertThat(std.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice())
+                            .extracting(TLDevice::getInst)
+                            .containsExactly("LD_INST01", "LD_INST02", "LDEPF");
+                });
+    }
+
+    @Test
+    void createScd_should_import_all_ieds() {
+        // When
+        SCL scd = generator.createScd();
+        // Then
+        assertThat(scd.getIED()).extracting(TIED::getName)
+                .containsExactly("IED0001", "IED0002", "IED0003", "IED0004");
+        assertThat(scd.getSubstation().getFirst().getVoltageLevel().getFirst().getBay()).hasSize(2);
+        assertThat(scd.getCommunication().getSubNetwork().getFirst().getConnectedAP()).hasSize(4);
+        assertThat(scd.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice().getFirst().getLN0().getInputs().getExtRef())
+                .hasSize(3);
+    }
+
+    @Test
+    void createScd_should_give_scd_where_all_extRef_iedName_can_be_updated() {
+        // Given
+        SCL scd = generator.createScd();
+        ExtRefEditorService extRefEditorService = new ExtRefEditorService(new IedService(), new LdeviceService(), new LnService(), new ExtRefService(), new DataTypeTemplatesService());
+        // When
+        List<SclReportItem> sclReportItems = extRefEditorService.updateAllExtRefIedNames(scd);
+        // Then
+        assertThat(sclReportItems).isEmpty();
+        TExtRef tExtRef = scd.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice().getFirst().getLN0().getInputs().getExtRef().getFirst();
+        assertThat(tExtRef.getIedName()).isEqualTo("IED0002");
+    }
+
+    @Test
+    void createEpf_should_return_one_channel_per_ldepf_extRef() {
+        // When Then
+        assertThat(generator.createEpf().getChannels().getChannel()).hasSize(3);
+    }
+
+    @Test
+    void sclScale_when_no_ied_should_throw_exception() {
+        // When Then
+        assertThatThrownBy(() -> new SclScale(0, 1, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -4,20 +4,26 @@
 
 package org.lfenergy.compas.sct.commons;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.metrics.SclEvents;
 import org.lfenergy.compas.sct.commons.model.cbcom.*;
 import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
 import org.lfenergy.compas.sct.commons.scl.ControlService;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
+import org.lfenergy.compas.sct.commons.util.AddressRangeAllocator;
 import org.lfenergy.compas.sct.commons.util.ControlBlockEnum;
+import org.lfenergy.compas.sct.commons.util.IedTaskExecutor;
 import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 import org.lfenergy.compas.sct.commons.util.SclConstructorHelper;
 import org.lfenergy.compas.sct.commons.util.Utils;
@@ -25,14 +31,13 @@ import org.lfenergy.compas.sct.commons.util.Utils;
 import java.math.BigInteger;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.util.AbstractMap.SimpleEntry;
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newAddress;
 import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newP;
 
-@RequiredArgsConstructor
+@Slf4j
 public class ControlBlockEditorService implements ControlBlockEditor {
 
     private static final int MAX_VLAN_ID = 0x0FFF;
@@ -48,45 +53,116 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     private static final int HEXADECIMAL_BASE = 16;
     private final ControlService controlService;
     private final LdeviceService ldeviceService;
+    private final IedTaskExecutor iedTaskExecutor;
+
+    /**
+     * Constructor of a service processing IEDs sequentially
+     * @param controlService service for Control Blocks
+     * @param ldeviceService service for LDevices
+     */
+    public ControlBlockEditorService(ControlService controlService, LdeviceService ldeviceService) {
+        this(controlService, ldeviceService, IedTaskExecutor.SEQUENTIAL);
+    }
+
+    /**
+     * Constructor
+     * @param controlService service for Control Blocks
+     * @param ldeviceService service for LDevices
+     * @param iedTaskExecutor executor of the per IED tasks of analyzeDataGroups, sequential when null
+     */
+    public ControlBlockEditorService(ControlService controlService, LdeviceService ldeviceService, IedTaskExecutor iedTaskExecutor) {
+        this.controlService = controlService;
+        this.ldeviceService = ldeviceService;
+        this.iedTaskExecutor = Objects.requireNonNullElse(iedTaskExecutor, IedTaskExecutor.SEQUENTIAL);
+    }
 
     @Override
     public List<SclReportItem> analyzeDataGroups(SCL scd) {
+        ListReportSink reportSink = new ListReportSink();
+        analyzeDataGroups(scd, reportSink);
+        return reportSink.getSclReportItems();
+    }
+
+    @Override
+    public void analyzeDataGroups(SCL scd, ReportSink reportSink) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        return sclRootAdapter.streamIEDAdapters()
-                .map(iedAdapter -> {
-                    List<SclReportItem> list = new ArrayList<>();
-                    list.addAll(iedAdapter.checkDataGroupCoherence());
-                    list.addAll(iedAdapter.checkBindingDataGroupCoherence());
-                    return list;
-                }).flatMap(Collection::stream).toList();
+        SclEvents.step("analyzeDataGroups", scd,
+                () -> analyzeDataGroups(sclRootAdapter, sclRootAdapter.streamIEDAdapters().toList(), reportSink));
     }
 
     @Override
-    public List<SclReportItem> createDataSetAndControlBlocks(SCL scd, DACOMM dacomm) {
+    public List<SclReportItem> analyzeDataGroups(SclEditorContext context) {
+        ListReportSink reportSink = new ListReportSink();
+        SclEvents.step("analyzeDataGroups", context.getScd(),
+                () -> analyzeDataGroups(context.getSclRootAdapter(), context.getIedAdapters(), reportSink));
+        return reportSink.getSclReportItems();
+    }
+
+    private void analyzeDataGroups(SclRootAdapter sclRootAdapter, List<IEDAdapter> iedAdapters, ReportSink reportSink) {
+        if (iedTaskExecutor.isParallel()) {
+            iedTaskExecutor.flatMap(iedAdapters, iedAdapter -> SclEvents.ied("analyzeDataGroups", iedAdapter, () -> {
+                        List<AccessPointCapacity> accessPointCapacities = iedAdapter.analyzeCapacities();
+                        List<SclReportItem> sclReportItems = new ArrayList<>();
+                        accessPointCapacities.forEach(accessPointCapacity -> sclReportItems.addAll(accessPointCapacity.dataGroupReportItems()));
+                        accessPointCapacities.forEach(accessPointCapacity -> sclReportItems.addAll(accessPointCapacity.bindingReportItems()));
+                        return sclReportItems;
+                    }))
+                    .stream()
+                    .takeWhile(sclReportItem -> reportSink.wantsMoreItems())
+                    .forEach(reportSink::report);
+        } else {
+            iedAdapters.stream()
+                    .takeWhile(iedAdapter -> reportSink.wantsMoreItems())
+                    .forEach(iedAdapter -> SclEvents.ied("analyzeDataGroups", iedAdapter, () -> {
+                        List<AccessPointCapacity> accessPointCapacities = iedAdapter.analyzeCapacities();
+                        accessPointCapacities.forEach(accessPointCapacity -> accessPointCapacity.dataGroupReportItems().forEach(reportSink::report));
+                        if (reportSink.wantsMoreItems()) {
+                            accessPointCapacities.forEach(accessPointCapacity -> accessPointCapacity.bindingReportItems().forEach(reportSink::report));
+                        }
+                    }));
+        }
+    }
+
+    @Override
+    public List<AccessPointCapacity> analyzeDataGroupCapacities(SCL scd) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        return sclRootAdapter.streamIEDAdapters()
-                .flatMap(IEDAdapter::streamLDeviceAdapters)
-                .map(lDeviceAdapter -> lDeviceAdapter.createDataSetAndControlBlocks(dacomm.getFCDAs().getFCDA()))
+        return SclEvents.step("analyzeDataGroupCapacities", scd, () -> iedTaskExecutor.flatMap(sclRootAdapter.streamIEDAdapters().toList(),
+                iedAdapter -> SclEvents.ied("analyzeDataGroupCapacities", iedAdapter, iedAdapter::analyzeCapacities)));
+    }
+
+    @Override
+    public List<SclReportItem> createDataSetAndControlBlocks(SCL scd, DACOMM dacomm) {
+        return createDataSetAndControlBlocks(new SclEditorContext(scd), dacomm);
+    }
+
+    @Override
+    public List<SclReportItem> createDataSetAndControlBlocks(SclEditorContext context, DACOMM dacomm) {
+        return SclEvents.step("createDataSetAndControlBlocks", context.getScd(), () -> context.getLDeviceAdapters().stream()
+                .map(lDeviceAdapter -> SclEvents.lDevice("createDataSetAndControlBlocks", lDeviceAdapter,
+                        () -> lDeviceAdapter.createDataSetAndControlBlocks(dacomm.getFCDAs().getFCDA())))
                 .flatMap(List::stream)
-                .toList();
+                .toList());
     }
 
     @Override
     public void removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(final SCL scl) {
-        SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
-        List<LDeviceAdapter> lDeviceAdapters = sclRootAdapter.streamIEDAdapters()
-                .flatMap(IEDAdapter::streamLDeviceAdapters).toList();
-        // LN0
-        lDeviceAdapters.stream()
-                .map(LDeviceAdapter::getLN0Adapter)
-                .forEach(ln0 -> {
-                    ln0.removeAllControlBlocksAndDatasets();
-                    ln0.removeAllExtRefSourceBindings();
-                });
-        // Other LN
-        lDeviceAdapters.stream()
-                .map(LDeviceAdapter::getLNAdapters).flatMap(List::stream)
-                .forEach(LNAdapter::removeAllControlBlocksAndDatasets);
+        SclEvents.step("removeAllControlBlocksAndDatasetsAndExtRefSrcBindings", scl, () -> {
+            SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
+            List<LDeviceAdapter> lDeviceAdapters = sclRootAdapter.streamIEDAdapters()
+                    .flatMap(IEDAdapter::streamLDeviceAdapters).toList();
+            // LN0
+            lDeviceAdapters.stream()
+                    .map(LDeviceAdapter::getLN0Adapter)
+                    .forEach(ln0 -> {
+                        ln0.removeAllControlBlocksAndDatasets();
+                        ln0.removeAllExtRefSourceBindings();
+                    });
+            // Other LN
+            lDeviceAdapters.stream()
+                    .map(LDeviceAdapter::getLNAdapters).flatMap(List::stream)
+                    .forEach(LNAdapter::removeAllControlBlocksAndDatasets);
+            sclRootAdapter.getAdapterCache().invalidate();
+        });
     }
 
     @Override
@@ -96,27 +172,32 @@ public class ControlBlockEditorService implements ControlBlockEditor {
 
     @Override
     public List<SclReportItem> configureNetworkForAllControlBlocks(SCL scd, CBCom cbCom, List<TSubNetwork> subnetworksToReuse) {
-        Map<CbKey, AppIdAndMac> appIdsAndMacsToReuse = subnetworksToReuse != null && !subnetworksToReuse.isEmpty() ?
-                computeAppIdsAndMacToReuse(scd, subnetworksToReuse)
-                : Collections.emptyMap();
-        return Stream.concat(
-                        configureNetworkForControlBlocks(scd, appIdsAndMacsToReuse, cbCom, TCBType.GOOSE),
-                        configureNetworkForControlBlocks(scd, appIdsAndMacsToReuse, cbCom, TCBType.SV))
-                .toList();
+        return SclEvents.step("configureNetworkForAllControlBlocks", scd, () -> {
+            Map<CbKey, AppIdAndMac> appIdsAndMacsToReuse = subnetworksToReuse != null && !subnetworksToReuse.isEmpty() ?
+                    computeAppIdsAndMacToReuse(scd, subnetworksToReuse)
+                    : Collections.emptyMap();
+            Map<ConnectedApKey, TConnectedAP> connectedAPs = indexConnectedAPs(scd.getCommunication());
+            return Stream.concat(
+                            configureNetworkForControlBlocks(scd, appIdsAndMacsToReuse, connectedAPs, cbCom, TCBType.GOOSE).stream(),
+                            configureNetworkForControlBlocks(scd, appIdsAndMacsToReuse, connectedAPs, cbCom, TCBType.SV).stream())
+                    .toList();
+        });
     }
 
-    private Stream<SclReportItem> configureNetworkForControlBlocks(SCL scl, Map<CbKey, AppIdAndMac> appIdsAndMacsToReuse, CBCom cbCom, TCBType tcbType) {
+    private List<SclReportItem> configureNetworkForControlBlocks(SCL scl, Map<CbKey, AppIdAndMac> appIdsAndMacsToReuse, Map<ConnectedApKey, TConnectedAP> connectedAPs, CBCom cbCom, TCBType tcbType) {
         CbComSettings cbComSettings;
         try {
             cbComSettings = parseCbCom(cbCom, tcbType);
         } catch (ScdException ex) {
-            return Stream.of(SclReportItem.error("Control Block Communication setting files", ex.getMessage()));
+            return List.of(SclReportItem.error("Control Block Communication setting files", ex.getMessage()));
         }
-        List<Long> appIdToReuse = appIdsAndMacsToReuse.values().stream().map(AppIdAndMac::appId).toList();
-        List<Long> macToReuse = appIdsAndMacsToReuse.values().stream().map(AppIdAndMac::mac).toList();
-        PrimitiveIterator.OfLong appIdIterator = cbComSettings.appIds.filter(appId -> !appIdToReuse.contains(appId)).iterator();
-        PrimitiveIterator.OfLong macIterator = cbComSettings.macAddresses.filter(mac -> !macToReuse.contains(mac)).iterator();
-        return scl.getIED().stream()
+        AddressRangeAllocator appIdAllocator = cbComSettings.appIds();
+        AddressRangeAllocator macAllocator = cbComSettings.macAddresses();
+        appIdsAndMacsToReuse.values().forEach(appIdAndMac -> {
+            appIdAllocator.reserve(appIdAndMac.appId());
+            macAllocator.reserve(appIdAndMac.mac());
+        });
+        List<SclReportItem> sclReportItems = scl.getIED().stream()
                 .flatMap(tied ->
                         tied.getAccessPoint()
                                 .stream()
@@ -130,17 +211,21 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                         .map(tControl -> {
                             CriteriaOrError criteriaOrError = getCriteria(iedApLd.ied(), tcbType, tControl.getName());
                             if (criteriaOrError.errorMessage != null) {
-                                return Optional.of(SclReportItem.error(iedApLd.getXPath(), criteriaOrError.errorMessage));
+                                return Optional.of(SclReportItem.error(iedApLd::getXPath, criteriaOrError.errorMessage));
                             }
                             Settings settings = cbComSettings.settingsByCriteria.get(criteriaOrError.criteria);
                             if (settings == null) {
                                 return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because: No controlBlock communication settings found with these " + criteriaOrError.criteria);
                             }
                             AppIdAndMac reuseAppIdAndMac = appIdsAndMacsToReuse.get(new CbKey(iedApLd.ied.getName(), iedApLd.lDevice.getInst(), tControl.getName()));
-                            return configureControlBlockNetwork(scl.getCommunication(), settings, appIdIterator, macIterator, tControl, iedApLd, reuseAppIdAndMac);
+                            return configureControlBlockNetwork(connectedAPs, settings, appIdAllocator, macAllocator, tControl, iedApLd, reuseAppIdAndMac);
                         })
                         .flatMap(Optional::stream)
-                );
+                )
+                .toList();
+        log.debug("{} APPID range usage : {}", tcbType.value(), appIdAllocator);
+        log.debug("{} MAC-Address range usage : {}", tcbType.value(), macAllocator);
+        return sclReportItems;
     }
 
     private CbComSettings parseCbCom(CBCom cbCom, TCBType tcbType) {
@@ -149,14 +234,14 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                 .filter(tRange -> tcbType.equals(tRange.getCBType()))
                 .findFirst()
                 .orElseThrow(() -> new ScdException("Control Block Communication setting files does not contain AppIdRange for cbType " + tcbType.value()));
-        LongStream appIds = LongStream.range(Long.parseLong(appIdRange.getStart(), HEXADECIMAL_BASE), Long.parseLong(appIdRange.getEnd(), HEXADECIMAL_BASE) + 1);
+        AddressRangeAllocator appIds = new AddressRangeAllocator(Long.parseLong(appIdRange.getStart(), HEXADECIMAL_BASE), Long.parseLong(appIdRange.getEnd(), HEXADECIMAL_BASE));
 
         TRange macRange = Optional.ofNullable(cbCom.getMacRanges()).map(MacRanges::getMacRange).stream()
                 .flatMap(Collection::stream)
                 .filter(tRange -> tcbType.equals(tRange.getCBType()))
                 .findFirst()
                 .orElseThrow(() -> new ScdException("Control Block Communication setting files does not contain MacRange for cbType " + tcbType.value()));
-        LongStream macAddresses = LongStream.range(Utils.macAddressToLong(macRange.getStart()), Utils.macAddressToLong(macRange.getEnd()) + 1);
+        AddressRangeAllocator macAddresses = new AddressRangeAllocator(Utils.macAddressToLong(macRange.getStart()), Utils.macAddressToLong(macRange.getEnd()));
 
         Map<Criteria, Settings> settingsByCriteria = Optional.ofNullable(cbCom.getVlans()).map(Vlans::getVlan).stream()
                 .flatMap(Collection::stream)
@@ -166,12 +251,11 @@ public class ControlBlockEditorService implements ControlBlockEditor {
         return new CbComSettings(appIds, macAddresses, settingsByCriteria);
     }
 
-    private Optional<SclReportItem> configureControlBlockNetwork(TCommunication tCommunication, Settings settings, PrimitiveIterator.OfLong appIdIterator, PrimitiveIterator.OfLong macAddressIterator, TControl tControl, IedApLd iedApLd, AppIdAndMac reuseAppIdAndMac) {
-        Optional<TConnectedAP> optConApAdapter = findConnectedAp(tCommunication, iedApLd.ied.getName(), iedApLd.apName);
-        if (optConApAdapter.isEmpty()) {
+    private Optional<SclReportItem> configureControlBlockNetwork(Map<ConnectedApKey, TConnectedAP> connectedAPs, Settings settings, AddressRangeAllocator appIdAllocator, AddressRangeAllocator macAddressAllocator, TControl tControl, IedApLd iedApLd, AppIdAndMac reuseAppIdAndMac) {
+        TConnectedAP tConnectedAP = connectedAPs.get(new ConnectedApKey(iedApLd.ied.getName(), iedApLd.apName));
+        if (tConnectedAP == null) {
             return newError(iedApLd, tControl, "Cannot configure communication for ControlBlock because no ConnectedAP found for AccessPoint");
         }
-        TConnectedAP tConnectedAP = optConApAdapter.get();
         if (settings.vlanId() == null) {
             return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because no Vlan Id was provided in the settings");
         }
@@ -179,13 +263,13 @@ public class ControlBlockEditorService implements ControlBlockEditor {
         if (reuseAppIdAndMac != null) {
             appIdAndMac = reuseAppIdAndMac;
         } else {
-            if (!appIdIterator.hasNext()) {
+            if (!appIdAllocator.hasNext()) {
                 return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because range of appId is exhausted");
             }
-            if (!macAddressIterator.hasNext()) {
+            if (!macAddressAllocator.hasNext()) {
                 return newError(iedApLd, tControl, "Cannot configure communication for this ControlBlock because range of MAC Address is exhausted");
             }
-            appIdAndMac = new AppIdAndMac(appIdIterator.nextLong(), macAddressIterator.nextLong());
+            appIdAndMac = new AppIdAndMac(appIdAllocator.next(), macAddressAllocator.next());
         }
 
         List<TP> listOfPs = new ArrayList<>();
@@ -205,13 +289,13 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     }
 
     private Map<CbKey, AppIdAndMac> computeAppIdsAndMacToReuse(SCL scd, List<TSubNetwork> subnetworksToReuse) {
-        List<CbKey> allControlBlocksInScd = scd.getIED().stream()
+        Set<CbKey> allControlBlocksInScd = scd.getIED().stream()
                 .flatMap(tIed -> ldeviceService.getLdevices(tIed)
                         .filter(TLDevice::isSetLN0)
                         .flatMap(tlDevice -> Stream.concat(tlDevice.getLN0().getGSEControl().stream(), tlDevice.getLN0().getSampledValueControl().stream())
                                 .map(tControlWithIEDName -> new CbKey(tIed.getName(), tlDevice.getInst(), tControlWithIEDName.getName()))
                         ))
-                .toList();
+                .collect(Collectors.toSet());
         return subnetworksToReuse.stream()
                 .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream())
                 .flatMap(tConnectedAP -> Stream.concat(tConnectedAP.getGSE().stream(), tConnectedAP.getSMV().stream())
@@ -224,15 +308,19 @@ public class ControlBlockEditorService implements ControlBlockEditor {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private Optional<TConnectedAP> findConnectedAp(TCommunication tCommunication, String iedName, String apName) {
+    /**
+     * Index ConnectedAPs by IED name and AccessPoint name. When several ConnectedAPs have the same key, the first one is kept.
+     */
+    private Map<ConnectedApKey, TConnectedAP> indexConnectedAPs(TCommunication tCommunication) {
         if (tCommunication == null || !tCommunication.isSetSubNetwork()) {
-            return Optional.empty();
+            return Collections.emptyMap();
         }
-        return tCommunication.getSubNetwork().stream()
+        Map<ConnectedApKey, TConnectedAP> connectedAPs = new HashMap<>();
+        tCommunication.getSubNetwork().stream()
                 .filter(TSubNetwork::isSetConnectedAP)
                 .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream())
-                .filter(tConnectedAP -> iedName.equals(tConnectedAP.getIedName()) && apName.equals(tConnectedAP.getApName()))
-                .findFirst();
+                .forEach(tConnectedAP -> connectedAPs.putIfAbsent(new ConnectedApKey(tConnectedAP.getIedName(), tConnectedAP.getApName()), tConnectedAP));
+        return connectedAPs;
     }
 
     private void updateGseOrCreateIfNotExists(TConnectedAP tConnectedAP, String ldInst, String cbName, List<TP> listOfP, TDurationInMilliSec minTime, TDurationInMilliSec maxTime) {
@@ -273,7 +361,7 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     }
 
     private static Optional<SclReportItem> newError(IedApLd iedApLd, TControl tControl, String message) {
-        return Optional.of(SclReportItem.error(iedApLd.getXPath() + "/LN0/" + controlBlockXPath(tControl),
+        return Optional.of(SclReportItem.error(() -> iedApLd.getXPath() + "/LN0/" + controlBlockXPath(tControl),
                 message));
     }
 
@@ -430,13 +518,12 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     /**
      * All settings of CbCom in a useful format
      */
-    record CbComSettings(LongStream appIds, LongStream macAddresses, Map<Criteria, Settings> settingsByCriteria) {
+    record CbComSettings(AddressRangeAllocator appIds, AddressRangeAllocator macAddresses, Map<Criteria, Settings> settingsByCriteria) {
     }
 
     record IedApLd(TIED ied, String apName, TLDevice lDevice) {
         String getXPath() {
-            return """
-                    /SCL/IED[@name="%s"]/AccessPoint[@name="%s"]/Server/LDevice[@inst="%s"]""".formatted(ied.getName(), apName, lDevice.getInst());
+            return "/SCL/IED[@name=\"" + ied.getName() + "\"]/AccessPoint[@name=\"" + apName + "\"]/Server/LDevice[@inst=\"" + lDevice.getInst() + "\"]";
         }
     }
 
@@ -450,6 +537,15 @@ public class ControlBlockEditorService implements ControlBlockEditor {
     record CbKey(String iedName, String LDInst, String cbName) {
     }
 
+    /**
+     * ConnectedAP key. Values that uniquely identify a ConnectedAP in a SCD.
+     *
+     * @param iedName name of IED of the ConnectedAP
+     * @param apName  name of the AccessPoint of the ConnectedAP
+     */
+    record ConnectedApKey(String iedName, String apName) {
+    }
+
     /**
      * Pair of APPID and MAC-Address
      *
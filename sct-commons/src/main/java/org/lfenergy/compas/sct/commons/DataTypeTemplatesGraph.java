@@ -0,0 +1,266 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.domain.DataAttribute;
+import org.lfenergy.compas.sct.commons.domain.DataObject;
+import org.lfenergy.compas.sct.commons.domain.DoLinkedToDa;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Resolved view of a DataTypeTemplates section : LNodeType -> DO -> DOType -> SDO/DA -> DAType -> BDA.
+ * <p>
+ * Every type is indexed by id, and every child (DO, SDO, DA, BDA) by name inside its parent type, so that following
+ * a reference is a hash lookup. When several elements share the same id (or name), the first one in document order
+ * is kept, like the linear searches of {@link LnodeTypeService}, {@link DoTypeService} and {@link DaTypeService}.
+ * </p>
+ * <p>
+ * The flattened {@link DoLinkedToDa} paths are computed once per DOType and once per LNodeType, then cached.
+ * Cached paths are never exposed : callers always get copies they are free to modify.
+ * </p>
+ * The graph is a snapshot of the DataTypeTemplates : it does not follow changes made afterward in the DataTypeTemplates.
+ * It is meant to be built for an operation which does not modify the DataTypeTemplates, then dropped.
+ */
+public final class DataTypeTemplatesGraph {
+
+    private final List<TLNodeType> lNodeTypes;
+
+    private final Map<String, LNodeTypeNode> lNodeTypesById;
+    private final Map<String, DoTypeNode> doTypesById;
+    private final Map<String, DaTypeNode> daTypesById;
+
+    private final Map<TDOType, List<DoLinkedToDa>> doLinkedToDasByDoType = new IdentityHashMap<>();
+    private final Map<TLNodeType, List<ResolvedDoLinkedToDa>> doLinkedToDasByLNodeType = new IdentityHashMap<>();
+
+    /**
+     * Constructor, indexes all types of given DataTypeTemplates
+     * @param dtt DataTypeTemplates to resolve
+     */
+    public DataTypeTemplatesGraph(TDataTypeTemplates dtt) {
+        this.lNodeTypes = dtt.getLNodeType();
+        this.lNodeTypesById = indexById(lNodeTypes.stream().filter(TLNodeType::isSetId), TLNodeType::getId, LNodeTypeNode::new);
+        this.doTypesById = indexById(dtt.getDOType().stream().filter(TDOType::isSetId), TDOType::getId, DoTypeNode::new);
+        this.daTypesById = indexById(dtt.getDAType().stream().filter(TDAType::isSetId), TDAType::getId, DaTypeNode::new);
+    }
+
+    /**
+     * Find LNodeType by id
+     * @param lNodeTypeId id of the LNodeType
+     * @return first LNodeType with given id
+     */
+    public Optional<LNodeTypeNode> findLNodeType(String lNodeTypeId) {
+        return Optional.ofNullable(lNodeTypesById.get(lNodeTypeId));
+    }
+
+    /**
+     * Find DOType by id
+     * @param doTypeId id of the DOType
+     * @return first DOType with given id
+     */
+    public Optional<DoTypeNode> findDoType(String doTypeId) {
+        return Optional.ofNullable(doTypesById.get(doTypeId));
+    }
+
+    /**
+     * Find DAType by id
+     * @param daTypeId id of the DAType
+     * @return first DAType with given id
+     */
+    public Optional<DaTypeNode> findDaType(String daTypeId) {
+        return Optional.ofNullable(daTypesById.get(daTypeId));
+    }
+
+    /**
+     * Gets all DO/DA paths of all LNodeTypes, in document order
+     * @return copies of the cached paths. DataObject cdc is only set when it comes from an SDO type.
+     */
+    public Stream<DoLinkedToDa> getAllDoLinkedToDa() {
+        return lNodeTypes.stream()
+                .flatMap(tlNodeType -> getResolvedDoLinkedToDas(tlNodeType).stream())
+                .map(resolved -> copyOf(resolved.doLinkedToDa()));
+    }
+
+    /**
+     * Gets DO/DA paths of given LNodeType, in document order
+     * @param lNodeTypeId id of the LNodeType
+     * @param doLinkedToDaPredicate filter applied on the cached paths, before they are copied
+     * @return copies of the matching paths, DataObject cdc defaults to the cdc of the DO type
+     */
+    public Stream<DoLinkedToDa> getDoLinkedToDas(String lNodeTypeId, Predicate<DoLinkedToDa> doLinkedToDaPredicate) {
+        return findLNodeType(lNodeTypeId).stream()
+                .flatMap(lNodeTypeNode -> getResolvedDoLinkedToDas(lNodeTypeNode.lNodeType()).stream())
+                .filter(resolved -> doLinkedToDaPredicate.test(resolved.doLinkedToDa()))
+                .map(resolved -> {
+                    DoLinkedToDa doLinkedToDa = copyOf(resolved.doLinkedToDa());
+                    if (doLinkedToDa.getDataObject().getCdc() == null) {
+                        doLinkedToDa.getDataObject().setCdc(resolved.doType().getCdc());
+                    }
+                    return doLinkedToDa;
+                });
+    }
+
+    private synchronized List<ResolvedDoLinkedToDa> getResolvedDoLinkedToDas(TLNodeType tlNodeType) {
+        List<ResolvedDoLinkedToDa> resolvedDoLinkedToDas = doLinkedToDasByLNodeType.get(tlNodeType);
+        if (resolvedDoLinkedToDas == null) {
+            resolvedDoLinkedToDas = tlNodeType.getDO().stream()
+                    .flatMap(tdo -> findDoType(tdo.getType()).stream()
+                            .flatMap(doTypeNode -> getRelativeDoLinkedToDas(doTypeNode.doType()).stream()
+                                    .map(relativeDoLinkedToDa -> {
+                                        DoLinkedToDa doLinkedToDa = copyOf(relativeDoLinkedToDa);
+                                        doLinkedToDa.getDataObject().setDoName(tdo.getName());
+                                        return new ResolvedDoLinkedToDa(doTypeNode.doType(), doLinkedToDa);
+                                    })))
+                    .toList();
+            doLinkedToDasByLNodeType.put(tlNodeType, resolvedDoLinkedToDas);
+        }
+        return resolvedDoLinkedToDas;
+    }
+
+    /**
+     * Flattened paths of a DOType, relative to this DOType : DO name is not set, SDO names start below this DOType
+     * and cdc is only set when it comes from an SDO type.
+     */
+    private synchronized List<DoLinkedToDa> getRelativeDoLinkedToDas(TDOType tdoType) {
+        List<DoLinkedToDa> doLinkedToDas = doLinkedToDasByDoType.get(tdoType);
+        if (doLinkedToDas != null) {
+            return doLinkedToDas;
+        }
+        List<DoLinkedToDa> result = new ArrayList<>();
+        // DA -> BDA -> BDA..
+        tdoType.getSDOOrDA().stream()
+                .filter(tUnNaming -> tUnNaming.getClass().equals(TDA.class))
+                .map(TDA.class::cast)
+                .forEach(tda -> {
+                    DoLinkedToDa doLinkedToDa = newDoLinkedToDa();
+                    doLinkedToDa.getDataAttribute().setDaName(tda.getName());
+                    if (tda.isSetFc()) {
+                        doLinkedToDa.getDataAttribute().setFc(tda.getFc());
+                    }
+                    // STRUCT type (BType=STRUCT) refer to BDA, otherwise it is DA
+                    if (TPredefinedBasicTypeEnum.STRUCT.equals(tda.getBType())) {
+                        findDaType(tda.getType())
+                                .ifPresent(daTypeNode -> addDaLinkedToBDA(daTypeNode.daType(), doLinkedToDa, result));
+                    } else {
+                        updateDataAttributeFromDaOrBda(tda, doLinkedToDa.getDataAttribute());
+                        result.add(doLinkedToDa);
+                    }
+                });
+        // SDO -> SDO -> SDO..
+        tdoType.getSDOOrDA().stream()
+                .filter(tUnNaming -> tUnNaming.getClass().equals(TSDO.class))
+                .map(TSDO.class::cast)
+                .filter(TSDO::isSetType)
+                .forEach(tsdo -> findDoType(tsdo.getType()).ifPresent(nextDoTypeNode -> {
+                    TDOType nextDoType = nextDoTypeNode.doType();
+                    getRelativeDoLinkedToDas(nextDoType).forEach(relativeDoLinkedToDa -> {
+                        DoLinkedToDa doLinkedToDa = copyOf(relativeDoLinkedToDa);
+                        doLinkedToDa.getDataObject().getSdoNames().addFirst(tsdo.getName());
+                        if (doLinkedToDa.getDataObject().getCdc() == null && nextDoType.isSetCdc()) {
+                            doLinkedToDa.getDataObject().setCdc(nextDoType.getCdc());
+                        }
+                        result.add(doLinkedToDa);
+                    });
+                }));
+        doLinkedToDas = List.copyOf(result);
+        doLinkedToDasByDoType.put(tdoType, doLinkedToDas);
+        return doLinkedToDas;
+    }
+
+    private void addDaLinkedToBDA(TDAType tdaType, DoLinkedToDa doLinkedToDaTemplate, List<DoLinkedToDa> result) {
+        // BDA -> BDA -> BDA..
+        tdaType.getBDA().forEach(tbda -> {
+            DoLinkedToDa doLinkedToDa = copyOf(doLinkedToDaTemplate);
+            doLinkedToDa.getDataAttribute().getBdaNames().add(tbda.getName());
+            // STRUCT type (BType=STRUCT) refer to complex BDA object, otherwise it is kind of DA object
+            if (TPredefinedBasicTypeEnum.STRUCT.equals(tbda.getBType())) {
+                findDaType(tbda.getType())
+                        .ifPresent(daTypeNode -> addDaLinkedToBDA(daTypeNode.daType(), doLinkedToDa, result));
+            } else {
+                updateDataAttributeFromDaOrBda(tbda, doLinkedToDa.getDataAttribute());
+                result.add(doLinkedToDa);
+            }
+        });
+    }
+
+    private static void updateDataAttributeFromDaOrBda(TAbstractDataAttribute daOrBda, DataAttribute dataAttribute) {
+        if (daOrBda.isSetType()) dataAttribute.setType(daOrBda.getType());
+        if (daOrBda.isSetBType()) dataAttribute.setBType(daOrBda.getBType());
+        if (daOrBda.isSetValImport()) dataAttribute.setValImport(daOrBda.isValImport());
+        if (daOrBda.isSetVal()) dataAttribute.addDaVal(daOrBda.getVal());
+    }
+
+    private static DoLinkedToDa newDoLinkedToDa() {
+        DoLinkedToDa doLinkedToDa = new DoLinkedToDa();
+        doLinkedToDa.setDataObject(new DataObject());
+        doLinkedToDa.setDataAttribute(new DataAttribute());
+        return doLinkedToDa;
+    }
+
+    /**
+     * Same as {@link DoLinkedToDa#copyFrom(DoLinkedToDa)}, but also copies DA values
+     */
+    private static DoLinkedToDa copyOf(DoLinkedToDa doLinkedToDa) {
+        DoLinkedToDa copy = DoLinkedToDa.copyFrom(doLinkedToDa);
+        copy.getDataAttribute().getDaiValues().addAll(doLinkedToDa.getDataAttribute().getDaiValues());
+        return copy;
+    }
+
+    private static <T, N> Map<String, N> indexById(Stream<T> types, Function<T, String> idGetter, Function<T, N> nodeBuilder) {
+        Map<String, N> index = new HashMap<>();
+        types.forEachOrdered(type -> index.computeIfAbsent(idGetter.apply(type), id -> nodeBuilder.apply(type)));
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static <T> Map<String, T> indexByName(Stream<T> elements, Function<T, String> nameGetter) {
+        Map<String, T> index = new HashMap<>();
+        elements.forEachOrdered(element -> index.putIfAbsent(nameGetter.apply(element), element));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * LNodeType with its DO indexed by name
+     * @param lNodeType LNodeType
+     * @param dosByName first DO for each name
+     */
+    public record LNodeTypeNode(TLNodeType lNodeType, Map<String, TDO> dosByName) {
+        LNodeTypeNode(TLNodeType lNodeType) {
+            this(lNodeType, indexByName(lNodeType.getDO().stream(), TDO::getName));
+        }
+    }
+
+    /**
+     * DOType with its SDO and DA indexed by name
+     * @param doType DOType
+     * @param sdosByName first SDO for each name
+     * @param dasByName first DA for each name
+     */
+    public record DoTypeNode(TDOType doType, Map<String, TSDO> sdosByName, Map<String, TDA> dasByName) {
+        DoTypeNode(TDOType doType) {
+            this(doType,
+                    indexByName(doType.getSDOOrDA().stream().filter(tUnNaming -> tUnNaming.getClass().equals(TSDO.class)).map(TSDO.class::cast), TSDO::getName),
+                    indexByName(doType.getSDOOrDA().stream().filter(tUnNaming -> tUnNaming.getClass().equals(TDA.class)).map(TDA.class::cast), TDA::getName));
+        }
+    }
+
+    /**
+     * DAType with its BDA indexed by name
+     * @param daType DAType
+     * @param bdasByName first BDA for each name
+     */
+    public record DaTypeNode(TDAType daType, Map<String, TBDA> bdasByName) {
+        DaTypeNode(TDAType daType) {
+            this(daType, indexByName(daType.getBDA().stream(), TBDA::getName));
+        }
+    }
+
+    private record ResolvedDoLinkedToDa(TDOType doType, DoLinkedToDa doLinkedToDa) {
+    }
+
+}
@@ -7,6 +7,8 @@ package org.lfenergy.compas.sct.commons;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.DataTypeTemplateReader;
+import org.lfenergy.compas.sct.commons.DataTypeTemplatesGraph.DaTypeNode;
+import org.lfenergy.compas.sct.commons.DataTypeTemplatesGraph.DoTypeNode;
 import org.lfenergy.compas.sct.commons.domain.DataAttribute;
 import org.lfenergy.compas.sct.commons.domain.DataObject;
 import org.lfenergy.compas.sct.commons.domain.DoLinkedToDa;
@@ -28,6 +30,18 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
     final SDOOrDAService sdoOrDAService = new SDOOrDAService();
     final BDAService bdaService = new BDAService();
 
+    /**
+     * Builds the resolved type graph of given DataTypeTemplates.
+     * The graph is a snapshot : an operation doing many lookups can build it once and give it to the methods taking a
+     * graph, as long as it does not modify the DataTypeTemplates meanwhile. Methods taking a TDataTypeTemplates walk
+     * the DataTypeTemplates without building a graph, which is faster for a single lookup.
+     * @param dtt TDataTypeTemplates to resolve
+     * @return resolved type graph of given DataTypeTemplates
+     */
+    public DataTypeTemplatesGraph buildDataTypeTemplatesGraph(TDataTypeTemplates dtt) {
+        return new DataTypeTemplatesGraph(dtt);
+    }
+
     /**
      * verify if DO(name=Mod)/DA(name=stVal) exists in DataTypeTemplate
      * @param dtt TDataTypeTemplates where Data object and Data attribute exists
@@ -52,6 +66,21 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
                 .orElse(false);
     }
 
+    /**
+     * verify if DO(name=Mod)/DA(name=stVal) exists in a resolved DataTypeTemplate
+     * @param graph resolved DataTypeTemplates where Data object and Data attribute exists
+     * @param lNodeTypeId LNode Type ID where Data object exists
+     * @return true if the Data Object (Mod) and Data attribute (stVal) present, false otherwise
+     * @see #isDoModAndDaStValExist(TDataTypeTemplates, String)
+     */
+    public boolean isDoModAndDaStValExist(DataTypeTemplatesGraph graph, String lNodeTypeId) {
+        return graph.findLNodeType(lNodeTypeId)
+                .map(lNodeTypeNode -> lNodeTypeNode.dosByName().get(MOD_DO_NAME))
+                .flatMap(tdo -> graph.findDoType(tdo.getType()))
+                .map(doTypeNode -> doTypeNode.dasByName().containsKey(STVAL_DA_NAME))
+                .orElse(false);
+    }
+
     @Override
     public Stream<DoLinkedToDa> getAllDoLinkedToDa(TDataTypeTemplates dtt) {
             return lnodeTypeService.getLnodeTypes(dtt)
@@ -95,6 +124,20 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
                 }));
     }
 
+    /**
+     * Same as {@link #getFilteredDoLinkedToDa(TDataTypeTemplates, String, DoLinkedToDaFilter)} on a resolved DataTypeTemplates
+     * @param graph resolved DataTypeTemplates
+     * @param lNodeTypeId LNode Type ID
+     * @param doLinkedToDaFilter filter on DO and DA names
+     * @return matching DoLinkedToDa
+     */
+    public Stream<DoLinkedToDa> getFilteredDoLinkedToDa(DataTypeTemplatesGraph graph, String lNodeTypeId, DoLinkedToDaFilter doLinkedToDaFilter) {
+        return graph.getDoLinkedToDas(lNodeTypeId, doLinkedToDa -> StringUtils.isBlank(doLinkedToDaFilter.doName())
+                || doLinkedToDaFilter.doName().equals(doLinkedToDa.getDataObject().getDoName())
+                && ((doLinkedToDa.getDoRef().startsWith(doLinkedToDaFilter.getDoRef()) && StringUtils.isBlank(doLinkedToDaFilter.daName()))
+                || doLinkedToDa.getDaRef().startsWith(doLinkedToDaFilter.getDaRef())));
+    }
+
     @Override
     public Optional<DoLinkedToDa> findDoLinkedToDa(TDataTypeTemplates dtt, String lNodeTypeId, DoLinkedToDa doLinkedToDa) {
         List<String> dataRefList = new ArrayList<>(doLinkedToDa.getDataObject().getSdoNames());
@@ -133,6 +176,48 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
                         ));
     }
 
+    /**
+     * Same as {@link #findDoLinkedToDa(TDataTypeTemplates, String, DoLinkedToDa)} on a resolved DataTypeTemplates
+     * @param graph resolved DataTypeTemplates
+     * @param lNodeTypeId LNode Type ID
+     * @param doLinkedToDa DO and DA names to find
+     * @return given doLinkedToDa when it exists in the DataTypeTemplates, empty Optional otherwise
+     */
+    public Optional<DoLinkedToDa> findDoLinkedToDa(DataTypeTemplatesGraph graph, String lNodeTypeId, DoLinkedToDa doLinkedToDa) {
+        List<String> dataRefList = new ArrayList<>(doLinkedToDa.getDataObject().getSdoNames());
+        dataRefList.addAll(doLinkedToDa.getDataAttribute().getBdaNames());
+
+        return graph.findLNodeType(lNodeTypeId)
+                .map(lNodeTypeNode -> lNodeTypeNode.dosByName().get(doLinkedToDa.getDataObject().getDoName()))
+                // Search DoType for each DO
+                .flatMap(tdo -> graph.findDoType(tdo.getType()))
+                .flatMap(doTypeNode -> {
+                    // Search last DoType from DOType (SDO) > DOType (SDO)
+                    DoTypeNode lastDoType = findDOTypeBySdoName(graph, doTypeNode, dataRefList);
+                    // Search first DA from last DoType
+                    return Optional.ofNullable(lastDoType.dasByName().get(doLinkedToDa.getDataAttribute().getDaName()))
+                            .flatMap(tda -> {
+                                // Check if first DA is STRUCT or not
+                                if (!TPredefinedBasicTypeEnum.STRUCT.equals(tda.getBType())) {
+                                    return Optional.of(doLinkedToDa);
+                                }
+                                // Search first DaType from DOType (from last DOType where DA is STRUCT)
+                                return graph.findDaType(tda.getType())
+                                        .flatMap(daTypeNode -> {
+                                            // Search last DAType from first DAType
+                                            DaTypeNode lastDAType = findDATypeByBdaName(graph, daTypeNode, dataRefList);
+
+                                            // last DAType should contain BDA not STRUCT
+                                            if (dataRefList.size() != 1) return Optional.empty();
+                                            String lastBdaName = dataRefList.getFirst();
+                                            return Optional.ofNullable(lastDAType.bdasByName().get(lastBdaName))
+                                                    .filter(tbda -> !TPredefinedBasicTypeEnum.STRUCT.equals(tbda.getBType()))
+                                                    .map(tbda -> doLinkedToDa);
+                                        });
+                            });
+                });
+    }
+
     private Optional<TDAType> getDATypeByDaName(TDataTypeTemplates dtt, TDOType tdoType, String daName) {
         return sdoOrDAService.findDA(tdoType, tda -> tda.getName().equals(daName))
                 .flatMap(tda -> daTypeService.findDaType(dtt, tda.getType()));
@@ -159,4 +244,34 @@ public class DataTypeTemplatesService implements DataTypeTemplateReader {
                 }).orElse(tdaType);
     }
 
+    private DoTypeNode findDOTypeBySdoName(DataTypeTemplatesGraph graph, DoTypeNode doTypeNode, List<String> sdoNames) {
+        DoTypeNode lastDoTypeNode = doTypeNode;
+        while (!sdoNames.isEmpty()) {
+            Optional<DoTypeNode> nextDoTypeNode = Optional.ofNullable(lastDoTypeNode.sdosByName().get(sdoNames.getFirst()))
+                    .flatMap(tsdo -> graph.findDoType(tsdo.getType()));
+            if (nextDoTypeNode.isEmpty()) {
+                break;
+            }
+            sdoNames.removeFirst();
+            lastDoTypeNode = nextDoTypeNode.get();
+        }
+        return lastDoTypeNode;
+    }
+
+    private DaTypeNode findDATypeByBdaName(DataTypeTemplatesGraph graph, DaTypeNode daTypeNode, List<String> bdaNames) {
+        DaTypeNode lastDaTypeNode = daTypeNode;
+        while (!bdaNames.isEmpty()) {
+            Optional<DaTypeNode> nextDaTypeNode = bdaService.getFilteredBDAs(lastDaTypeNode.daType(), tbda -> tbda.isSetBType()
+                            && tbda.getBType().equals(TPredefinedBasicTypeEnum.STRUCT))
+                    .findFirst()
+                    .flatMap(tbda -> graph.findDaType(tbda.getType()));
+            if (nextDaTypeNode.isEmpty()) {
+                break;
+            }
+            bdaNames.removeFirst();
+            lastDaTypeNode = nextDaTypeNode.get();
+        }
+        return lastDaTypeNode;
+    }
+
 }
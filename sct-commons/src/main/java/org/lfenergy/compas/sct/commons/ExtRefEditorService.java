@@ -7,14 +7,16 @@ package org.lfenergy.compas.sct.commons;
 import lombok.RequiredArgsConstructor;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
-import org.lfenergy.compas.sct.commons.api.LnEditor;
 import org.lfenergy.compas.sct.commons.domain.*;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.metrics.SclEvents;
 import org.lfenergy.compas.sct.commons.model.epf.EPF;
 import org.lfenergy.compas.sct.commons.model.epf.TCBScopeType;
 import org.lfenergy.compas.sct.commons.model.epf.TChannel;
 import org.lfenergy.compas.sct.commons.model.epf.TChannelType;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
@@ -22,14 +24,16 @@ import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.util.ActiveStatus;
+import org.lfenergy.compas.sct.commons.util.CompasPrivateCache;
+import org.lfenergy.compas.sct.commons.util.LnInstanceIndex;
 import org.lfenergy.compas.sct.commons.util.PrivateEnum;
-import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.math.BigInteger;
 import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.*;
@@ -48,7 +52,7 @@ public class ExtRefEditorService implements ExtRefEditor {
 
     private final IedService iedService;
     private final LdeviceService ldeviceService;
-    private final LnEditor lnEditor;
+    private final LnService lnService;
     private final ExtRefService extRefService;
     private final DataTypeTemplatesService dataTypeTemplatesService;
 
@@ -88,22 +92,24 @@ public class ExtRefEditorService implements ExtRefEditor {
      * - The location of ExtRef should be in LDevice (inst=LDEPF) <br/>
      * - ExtRef that lacks Bay or ICDHeader Private is not returned <br/>
      *
+     * @param compasPrivateCache cache of the privates of the SCL
      * @param sclReportItems List of SclReportItem
      * @return list of ExtRef and associated Bay
      */
-    private List<ExtRefInfo.ExtRefWithBayReference> getExtRefWithBayReferenceInLDEPF(TDataTypeTemplates dataTypeTemplates, TIED tied, final TLDevice tlDevice, final List<SclReportItem> sclReportItems) {
+    private List<ExtRefInfo.ExtRefWithBayReference> getExtRefWithBayReferenceInLDEPF(DataTypeTemplatesGraph dataTypeTemplatesGraph, CompasPrivateCache compasPrivateCache,
+                                                                                    TIED tied, final TLDevice tlDevice, final List<SclReportItem> sclReportItems) {
         List<ExtRefInfo.ExtRefWithBayReference> extRefBayReferenceList = new ArrayList<>();
-        String lDevicePath = "SCL/IED[@name=\"" + tied.getName() + "\"]/AccessPoint/Server/LDevice[@inst=\"" + tlDevice.getInst() + "\"]";
-        Optional<TCompasBay> tCompasBay = PrivateUtils.extractCompasPrivate(tied, TCompasBay.class);
+        Supplier<String> lDevicePath = () -> "SCL/IED[@name=\"" + tied.getName() + "\"]/AccessPoint/Server/LDevice[@inst=\"" + tlDevice.getInst() + "\"]";
+        Optional<TCompasBay> tCompasBay = compasPrivateCache.getCompasPrivate(tied, TCompasBay.class);
         if (tCompasBay.isEmpty()) {
             sclReportItems.add(SclReportItem.error(lDevicePath, "The IED has no Private Bay"));
-            if (PrivateUtils.extractCompasPrivate(tied, TCompasICDHeader.class).isEmpty()) {
+            if (compasPrivateCache.getCompasPrivate(tied, TCompasICDHeader.class).isEmpty()) {
                 sclReportItems.add(SclReportItem.error(lDevicePath, "The IED has no Private compas:ICDHeader"));
             }
             return Collections.emptyList();
         }
 
-        if (dataTypeTemplatesService.isDoModAndDaStValExist(dataTypeTemplates, tlDevice.getLN0().getLnType())) {
+        if (dataTypeTemplatesService.isDoModAndDaStValExist(dataTypeTemplatesGraph, tlDevice.getLN0().getLnType())) {
             extRefBayReferenceList.addAll(tlDevice.getLN0()
                     .getInputs()
                     .getExtRef().stream()
@@ -159,7 +165,7 @@ public class ExtRefEditorService implements ExtRefEditor {
         LdeviceService ldeviceService = new LdeviceService();
         return ldeviceService.findLdevice(iedAdapter.getCurrentElem(), tlDevice -> tlDevice.getInst().equals(channel.getLDInst()))
                 .filter(tlDevice -> ldeviceService.getLdeviceStatus(tlDevice).map(ActiveStatus.ON::equals).orElse(false))
-                .map(tlDevice -> new LDeviceAdapter(iedAdapter, tlDevice));
+                .map(iedAdapter::getLDeviceAdapter);
     }
 
     /**
@@ -276,12 +282,33 @@ public class ExtRefEditorService implements ExtRefEditor {
 
     @Override
     public List<SclReportItem> updateAllExtRefIedNames(SCL scd) {
+        ListReportSink reportSink = new ListReportSink();
+        updateAllExtRefIedNames(scd, reportSink);
+        return reportSink.getSclReportItems();
+    }
+
+    @Override
+    public void updateAllExtRefIedNames(SCL scd, ReportSink reportSink) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        List<SclReportItem> iedErrors = validateIed(sclRootAdapter);
+        SclEvents.step("updateAllExtRefIedNames", scd,
+                () -> updateAllExtRefIedNames(sclRootAdapter, sclRootAdapter.streamIEDAdapters().toList(), reportSink));
+    }
+
+    @Override
+    public List<SclReportItem> updateAllExtRefIedNames(SclEditorContext context) {
+        ListReportSink reportSink = new ListReportSink();
+        SclEvents.step("updateAllExtRefIedNames", context.getScd(),
+                () -> updateAllExtRefIedNames(context.getSclRootAdapter(), context.getIedAdapters(), reportSink));
+        return reportSink.getSclReportItems();
+    }
+
+    private void updateAllExtRefIedNames(SclRootAdapter sclRootAdapter, List<IEDAdapter> iedAdapters, ReportSink reportSink) {
+        List<SclReportItem> iedErrors = validateIed(sclRootAdapter, iedAdapters);
         if (!iedErrors.isEmpty()) {
-            return iedErrors;
+            iedErrors.forEach(reportSink::report);
+            return;
         }
-        Map<String, IEDAdapter> icdSystemVersionToIed = sclRootAdapter.streamIEDAdapters()
+        Map<String, IEDAdapter> icdSystemVersionToIed = iedAdapters.stream()
                 .collect(Collectors.toMap(
                         iedAdapter -> iedAdapter.getCompasICDHeader()
                                 .map(TCompasICDHeader::getICDSystemVersionUUID)
@@ -289,14 +316,14 @@ public class ExtRefEditorService implements ExtRefEditor {
                         Function.identity()
                 ));
 
-        return sclRootAdapter.streamIEDAdapters()
+        iedAdapters.stream()
                 .flatMap(IEDAdapter::streamLDeviceAdapters)
                 .filter(LDeviceAdapter::hasLN0)
                 .map(LDeviceAdapter::getLN0Adapter)
                 .filter(LN0Adapter::hasInputs)
                 .map(LN0Adapter::getInputsAdapter)
-                .map(inputsAdapter -> inputsAdapter.updateAllExtRefIedNames(icdSystemVersionToIed))
-                .flatMap(List::stream).toList();
+                .takeWhile(inputsAdapter -> !reportSink.shouldAbort())
+                .forEach(inputsAdapter -> inputsAdapter.updateAllExtRefIedNames(icdSystemVersionToIed).forEach(reportSink::report));
     }
 
     @Override
@@ -304,71 +331,80 @@ public class ExtRefEditorService implements ExtRefEditor {
         List<SclReportItem> sclReportItems = new ArrayList<>();
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
         if (!epf.isSetChannels()) return sclReportItems;
-        iedService.getFilteredIeds(scd, ied -> !ied.getName().contains("TEST"))
-                .forEach(tied -> ldeviceService.findLdevice(tied, tlDevice -> LDEVICE_LDEPF.equals(tlDevice.getInst()))
-                        .ifPresent(tlDevice -> getExtRefWithBayReferenceInLDEPF(scd.getDataTypeTemplates(), tied, tlDevice, sclReportItems)
-                                .forEach(extRefBayRef -> epf.getChannels().getChannel().stream().filter(tChannel -> doesExtRefMatchLDEPFChannel(extRefBayRef.extRef(), tChannel))
-                                        .findFirst().ifPresent(channel -> {
-                                            List<TIED> iedSources = getIedSources(sclRootAdapter, extRefBayRef.compasBay(), channel);
-                                            if (iedSources.size() == 1) {
-                                                updateLDEPFExtRefBinding(extRefBayRef.extRef(), iedSources.get(0), channel);
-                                                LDeviceAdapter lDeviceAdapter = new LDeviceAdapter(new IEDAdapter(sclRootAdapter, tied.getName()), tlDevice);
-                                                sclReportItems.addAll(updateLDEPFDos(lDeviceAdapter, extRefBayRef.extRef(), channel));
-                                            } else {
-                                                if (iedSources.size() > 1) {
-                                                    sclReportItems.add(SclReportItem.warning(null, "There is more than one IED source to bind the signal " +
-                                                            "/IED@name=" + extRefBayRef.iedName() + "/LDevice@inst=LDEPF/LN0" +
-                                                            "/ExtRef@desc=" + extRefBayRef.extRef().getDesc()));
+        return SclEvents.step("manageBindingForLDEPF", scd, () -> {
+            // DataTypeTemplates are not modified by the binding : they are resolved once for all LDEPF LDevices
+            DataTypeTemplatesGraph dataTypeTemplatesGraph = scd.isSetDataTypeTemplates()
+                    ? dataTypeTemplatesService.buildDataTypeTemplatesGraph(scd.getDataTypeTemplates()) : null;
+            iedService.getFilteredIeds(scd, ied -> !ied.getName().contains("TEST"))
+                    .forEach(tied -> ldeviceService.findLdevice(tied, tlDevice -> LDEVICE_LDEPF.equals(tlDevice.getInst()))
+                            .ifPresent(tlDevice -> getExtRefWithBayReferenceInLDEPF(dataTypeTemplatesGraph, sclRootAdapter.getCompasPrivateCache(), tied, tlDevice, sclReportItems)
+                                    .forEach(extRefBayRef -> epf.getChannels().getChannel().stream().filter(tChannel -> doesExtRefMatchLDEPFChannel(extRefBayRef.extRef(), tChannel))
+                                            .findFirst().ifPresent(channel -> {
+                                                List<TIED> iedSources = getIedSources(sclRootAdapter, extRefBayRef.compasBay(), channel);
+                                                if (iedSources.size() == 1) {
+                                                    updateLDEPFExtRefBinding(extRefBayRef.extRef(), iedSources.get(0), channel);
+                                                    LDeviceAdapter lDeviceAdapter = sclRootAdapter.getIEDAdapter(tied).getLDeviceAdapter(tlDevice);
+                                                    sclReportItems.addAll(updateLDEPFDos(lDeviceAdapter, extRefBayRef.extRef(), channel));
+                                                } else {
+                                                    if (iedSources.size() > 1) {
+                                                        sclReportItems.add(SclReportItem.warning((String) null, "There is more than one IED source to bind the signal " +
+                                                                "/IED@name=" + extRefBayRef.iedName() + "/LDevice@inst=LDEPF/LN0" +
+                                                                "/ExtRef@desc=" + extRefBayRef.extRef().getDesc()));
+                                                    }
+                                                    // If the source IED is not found, there will be no update or report message.
                                                 }
-                                                // If the source IED is not found, there will be no update or report message.
-                                            }
-                                        }))));
-        return sclReportItems;
+                                            }))));
+            return sclReportItems;
+        });
     }
 
     @Override
     public void epfPostProcessing(SCL scd) {
-        iedService.getFilteredIeds(scd, ied -> !ied.getName().contains("TEST"))
-                .forEach(tied -> ldeviceService.findLdevice(tied, tlDevice -> LDEVICE_LDEPF.equals(tlDevice.getInst()))
-                        .ifPresent(tlDevice -> tlDevice.getLN0().getDOI()
-                                .stream().filter(tdoi -> tdoi.getName().startsWith(INREF_PREFIX))
-                                .forEach(tdoi -> {
-                                    DoLinkedToDaFilter doLinkedToSetSrcRef = new DoLinkedToDaFilter(tdoi.getName(), List.of(), SETSRCREF_DA_NAME, List.of());
-                                    Optional<TDAI> setSrcRefDAI = lnEditor.getDOAndDAInstances(tlDevice.getLN0(), doLinkedToSetSrcRef);
-                                    DoLinkedToDaFilter doLinkedPurPose = new DoLinkedToDaFilter(tdoi.getName(), List.of(), PURPOSE_DA_NAME, List.of());
-                                    Optional<TDAI> purPoseDAI = lnEditor.getDOAndDAInstances(tlDevice.getLN0(), doLinkedPurPose);
-
-                                    boolean isSetSrcRefExistAndEmpty = setSrcRefDAI.isPresent()
-                                            && (!setSrcRefDAI.get().isSetVal()
-                                            || (setSrcRefDAI.get().isSetVal()
-                                            && setSrcRefDAI.get().getVal().getFirst().getValue().isEmpty()));
-                                    boolean isPurposeExistAndMatchChannel = purPoseDAI.isPresent()
-                                            && purPoseDAI.get().isSetVal()
-                                            && (purPoseDAI.get().getVal().getFirst().getValue().startsWith("DYN_LDEPF_DIGITAL CHANNEL")
-                                            || purPoseDAI.get().getVal().getFirst().getValue().startsWith("DYN_LDEPF_ANALOG CHANNEL"));
-                                    if(isSetSrcRefExistAndEmpty && isPurposeExistAndMatchChannel) {
-
-                                        DoLinkedToDa doLinkedToDa = new DoLinkedToDa();
-                                        DataObject dataObject = new DataObject();
-                                        dataObject.setDoName(tdoi.getName());
-                                        doLinkedToDa.setDataObject(dataObject);
-                                        DataAttribute dataAttribute = new DataAttribute();
-                                        dataAttribute.setDaName(SETSRCREF_DA_NAME);
-                                        dataAttribute.setDaiValues(List.of(new DaVal(null, tied.getName()+tlDevice.getInst()+"/LPHD0.Proxy")));
-                                        doLinkedToDa.setDataAttribute(dataAttribute);
-                                        lnEditor.updateOrCreateDOAndDAInstances(tlDevice.getLN0(), doLinkedToDa);
-                                    }
-                                })));
+        SclEvents.step("epfPostProcessing", scd, () -> {
+            // each InRef DOI of the LN0 is looked up twice : the index avoids filtering all DOI of the LN0 on each lookup
+            LnInstanceIndex lnInstanceIndex = new LnInstanceIndex();
+            iedService.getFilteredIeds(scd, ied -> !ied.getName().contains("TEST"))
+                    .forEach(tied -> ldeviceService.findLdevice(tied, tlDevice -> LDEVICE_LDEPF.equals(tlDevice.getInst()))
+                            .ifPresent(tlDevice -> tlDevice.getLN0().getDOI()
+                                    .stream().filter(tdoi -> tdoi.getName().startsWith(INREF_PREFIX))
+                                    .forEach(tdoi -> {
+                                        DoLinkedToDaFilter doLinkedToSetSrcRef = new DoLinkedToDaFilter(tdoi.getName(), List.of(), SETSRCREF_DA_NAME, List.of());
+                                        Optional<TDAI> setSrcRefDAI = lnService.getDOAndDAInstances(lnInstanceIndex, tlDevice.getLN0(), doLinkedToSetSrcRef);
+                                        DoLinkedToDaFilter doLinkedPurPose = new DoLinkedToDaFilter(tdoi.getName(), List.of(), PURPOSE_DA_NAME, List.of());
+                                        Optional<TDAI> purPoseDAI = lnService.getDOAndDAInstances(lnInstanceIndex, tlDevice.getLN0(), doLinkedPurPose);
+
+                                        boolean isSetSrcRefExistAndEmpty = setSrcRefDAI.isPresent()
+                                                && (!setSrcRefDAI.get().isSetVal()
+                                                || (setSrcRefDAI.get().isSetVal()
+                                                && setSrcRefDAI.get().getVal().getFirst().getValue().isEmpty()));
+                                        boolean isPurposeExistAndMatchChannel = purPoseDAI.isPresent()
+                                                && purPoseDAI.get().isSetVal()
+                                                && (purPoseDAI.get().getVal().getFirst().getValue().startsWith("DYN_LDEPF_DIGITAL CHANNEL")
+                                                || purPoseDAI.get().getVal().getFirst().getValue().startsWith("DYN_LDEPF_ANALOG CHANNEL"));
+                                        if(isSetSrcRefExistAndEmpty && isPurposeExistAndMatchChannel) {
+
+                                            DoLinkedToDa doLinkedToDa = new DoLinkedToDa();
+                                            DataObject dataObject = new DataObject();
+                                            dataObject.setDoName(tdoi.getName());
+                                            doLinkedToDa.setDataObject(dataObject);
+                                            DataAttribute dataAttribute = new DataAttribute();
+                                            dataAttribute.setDaName(SETSRCREF_DA_NAME);
+                                            dataAttribute.setDaiValues(List.of(new DaVal(null, tied.getName()+tlDevice.getInst()+"/LPHD0.Proxy")));
+                                            doLinkedToDa.setDataAttribute(dataAttribute);
+                                            lnService.updateOrCreateDOAndDAInstances(lnInstanceIndex, tlDevice.getLN0(), doLinkedToDa);
+                                        }
+                                    })));
+        });
     }
 
-    private List<SclReportItem> validateIed(SclRootAdapter sclRootAdapter) {
-        List<SclReportItem> iedErrors = new ArrayList<>(checkIedCompasIcdHeaderAttributes(sclRootAdapter));
+    private List<SclReportItem> validateIed(SclRootAdapter sclRootAdapter, List<IEDAdapter> iedAdapters) {
+        List<SclReportItem> iedErrors = new ArrayList<>(checkIedCompasIcdHeaderAttributes(iedAdapters));
         iedErrors.addAll(checkIedUnityOfIcdSystemVersionUuid(sclRootAdapter));
         return iedErrors;
     }
 
-    private List<SclReportItem> checkIedCompasIcdHeaderAttributes(SclRootAdapter sclRootAdapter) {
-        return sclRootAdapter.streamIEDAdapters()
+    private List<SclReportItem> checkIedCompasIcdHeaderAttributes(List<IEDAdapter> iedAdapters) {
+        return iedAdapters.stream()
                 .map(iedAdapter -> {
                             Optional<TCompasICDHeader> compasPrivate = iedAdapter.getCompasICDHeader();
                             if (compasPrivate.isEmpty()) {
@@ -387,15 +423,15 @@ public class ExtRefEditorService implements ExtRefEditor {
 
     private List<SclReportItem> checkIedUnityOfIcdSystemVersionUuid(SclRootAdapter sclRootAdapter) {
         Map<String, List<TIED>> systemVersionToIedList = sclRootAdapter.getCurrentElem().getIED().stream()
-                .collect(Collectors.groupingBy(ied -> PrivateUtils.extractCompasPrivate(ied, TCompasICDHeader.class)
+                .collect(Collectors.groupingBy(ied -> sclRootAdapter.getCompasPrivateCache().getCompasPrivate(ied, TCompasICDHeader.class)
                         .map(TCompasICDHeader::getICDSystemVersionUUID)
                         .orElse("")));
 
         return systemVersionToIedList.entrySet().stream()
                 .filter(entry -> isNotBlank(entry.getKey()))
                 .filter(entry -> entry.getValue().size() > 1)
-                .map(entry -> SclReportItem.error(entry.getValue().stream()
-                                .map(tied -> new IEDAdapter(sclRootAdapter, tied))
+                .map(entry -> SclReportItem.error(() -> entry.getValue().stream()
+                                .map(sclRootAdapter::getIEDAdapter)
                                 .map(IEDAdapter::getXPath)
                                 .collect(Collectors.joining(", ")),
                         "/IED/Private/compas:ICDHeader[@ICDSystemVersionUUID] must be unique" +
@@ -472,88 +508,96 @@ public class ExtRefEditorService implements ExtRefEditor {
 
     @Override
     public void debindCompasFlowsAndExtRefsBasedOnVoltageLevel(SCL scd) {
-        scd.getSubstation()
-                .stream()
-                .flatMap(tSubstation -> tSubstation.getVoltageLevel().stream())
-                .map(TVoltageLevel::getName)
-                .filter(tVoltageLevelName -> !"0".equals(tVoltageLevelName))
-                .forEach(tVoltageLevelName -> scd.getIED().stream()
-                        .flatMap(ldeviceService::getLdevices)
-                        .filter(TLDevice::isSetLN0)
-                        .filter(tlDevice -> tlDevice.getLN0().isSetInputs())
-                        .forEach(tlDevice -> {
-                            String flowSource = voltageCodification.get(tVoltageLevelName);
-                            extRefService.getCompasFlows(tlDevice)
-                                    .filter(TCompasFlow::isSetFlowSourceVoltageLevel)
-                                    .filter(TCompasFlow::isSetExtRefiedName)
-                                    .forEach(tCompasFlow -> {
-                                        if (!tCompasFlow.getFlowSourceVoltageLevel().equals(flowSource)) {
-                                            //debind extRefs correspondind to compas flow
-                                            extRefService.getMatchingExtRefs(tlDevice, tCompasFlow)
-                                                    .forEach(extRefService::clearExtRefBinding);
-                                            //debind all compas flow
-                                            extRefService.clearCompasFlowBinding(tCompasFlow);
-                                        }
-                                    });
-                        })
-                );
+        SclEvents.step("debindCompasFlowsAndExtRefsBasedOnVoltageLevel", scd, () -> {
+            // CompasFlows of each LDevice are read once per VoltageLevel : they are only extracted on the first one
+            CompasPrivateCache compasPrivateCache = new CompasPrivateCache();
+            scd.getSubstation()
+                    .stream()
+                    .flatMap(tSubstation -> tSubstation.getVoltageLevel().stream())
+                    .map(TVoltageLevel::getName)
+                    .filter(tVoltageLevelName -> !"0".equals(tVoltageLevelName))
+                    .forEach(tVoltageLevelName -> scd.getIED().stream()
+                            .flatMap(ldeviceService::getLdevices)
+                            .filter(TLDevice::isSetLN0)
+                            .filter(tlDevice -> tlDevice.getLN0().isSetInputs())
+                            .forEach(tlDevice -> {
+                                String flowSource = voltageCodification.get(tVoltageLevelName);
+                                extRefService.getCompasFlows(compasPrivateCache, tlDevice)
+                                        .filter(TCompasFlow::isSetFlowSourceVoltageLevel)
+                                        .filter(TCompasFlow::isSetExtRefiedName)
+                                        .forEach(tCompasFlow -> {
+                                            if (!tCompasFlow.getFlowSourceVoltageLevel().equals(flowSource)) {
+                                                //debind extRefs correspondind to compas flow
+                                                extRefService.getMatchingExtRefs(tlDevice, tCompasFlow)
+                                                        .forEach(extRefService::clearExtRefBinding);
+                                                //debind all compas flow
+                                                extRefService.clearCompasFlowBinding(tCompasFlow);
+                                            }
+                                        });
+                            })
+                    );
+        });
     }
 
 
     @Override
     public List<SclReportItem> updateIedNameBasedOnLnode(SCL scl) {
-        Map<TopoKey, TBay> bayByTopoKey = scl.getSubstation().stream()
-                .flatMap(tSubstation -> tSubstation.getVoltageLevel().stream())
-                .flatMap(tVoltageLevel -> tVoltageLevel.getBay().stream())
-                .map(tBay -> PrivateUtils.extractCompasPrivate(tBay, TCompasTopo.class)
-                        .filter(tCompasTopo -> isNotBlank(tCompasTopo.getNode()) && Objects.nonNull(tCompasTopo.getNodeOrder()))
-                        .map(tCompasTopo -> new BayTopoKey(tBay, new TopoKey(tCompasTopo.getNode(), tCompasTopo.getNodeOrder())))
-                )
-                .flatMap(Optional::stream)
-                .collect(Collectors.toMap(BayTopoKey::topoKey, BayTopoKey::bay));
-
-        List<SclReportItem> sclReportItems = new ArrayList<>();
-        scl.getIED().stream()
-                .flatMap(ldeviceService::getLdevices)
-                .forEach(tlDevice ->
-                        extRefService.getCompasFlows(tlDevice)
-                                .filter(tCompasFlow -> Objects.nonNull(tCompasFlow.getFlowSourceBayNode()) && Objects.nonNull(tCompasFlow.getFlowSourceBayNodeOrder()))
-                                .forEach(tCompasFlow ->
-                                        Optional.ofNullable(bayByTopoKey.get(new TopoKey(tCompasFlow.getFlowSourceBayNode().toString(), tCompasFlow.getFlowSourceBayNodeOrder())))
-                                                .flatMap(tBay -> tBay.getFunction().stream()
-                                                        .flatMap(tFunction -> tFunction.getLNode().stream())
-                                                        .filter(tlNode -> Objects.equals(tlNode.getLdInst(), tCompasFlow.getExtRefldinst())
-                                                                && Objects.equals(tlNode.getLnInst(), tCompasFlow.getExtReflnInst())
-                                                                && Utils.lnClassEquals(tlNode.getLnClass(), tCompasFlow.getExtReflnClass())
-                                                                && Objects.equals(tlNode.getPrefix(), tCompasFlow.getExtRefprefix()))
-                                                        .filter(tlNode -> {
-                                                            Optional<TCompasICDHeader> tCompasICDHeader = PrivateUtils.extractCompasPrivate(tlNode, TCompasICDHeader.class);
-                                                            if (tCompasICDHeader.isPresent()) {
-                                                                return Objects.equals(tCompasFlow.getFlowSourceIEDType(), tCompasICDHeader.get().getIEDType())
-                                                                        && Objects.equals(tCompasFlow.getFlowIEDSystemVersioninstance(), tCompasICDHeader.get().getIEDSystemVersioninstance())
-                                                                        && Objects.equals(tCompasFlow.getFlowSourceIEDredundancy(), tCompasICDHeader.get().getIEDredundancy());
-                                                            } else {
-                                                                sclReportItems.add(SclReportItem.error("", ("The substation LNode with following attributes : IedName:%s / LdInst:%s / LnClass:%s / LnInst:%s  " +
-                                                                        "does not contain the needed (COMPAS - ICDHeader) private")
-                                                                        .formatted(tlNode.getIedName(), tlNode.getLdInst(), tlNode.getLnClass().getFirst(), tlNode.getLnInst())));
-                                                                return false;
+        return SclEvents.step("updateIedNameBasedOnLnode", scl, () -> {
+            // the COMPAS-ICDHeader of an LNode is read for each CompasFlow of each LDevice pointing to its Bay
+            CompasPrivateCache compasPrivateCache = new CompasPrivateCache();
+            Map<TopoKey, TBay> bayByTopoKey = scl.getSubstation().stream()
+                    .flatMap(tSubstation -> tSubstation.getVoltageLevel().stream())
+                    .flatMap(tVoltageLevel -> tVoltageLevel.getBay().stream())
+                    .map(tBay -> compasPrivateCache.getCompasPrivate(tBay, TCompasTopo.class)
+                            .filter(tCompasTopo -> isNotBlank(tCompasTopo.getNode()) && Objects.nonNull(tCompasTopo.getNodeOrder()))
+                            .map(tCompasTopo -> new BayTopoKey(tBay, new TopoKey(tCompasTopo.getNode(), tCompasTopo.getNodeOrder())))
+                    )
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toMap(BayTopoKey::topoKey, BayTopoKey::bay));
+
+            List<SclReportItem> sclReportItems = new ArrayList<>();
+            scl.getIED().stream()
+                    .flatMap(ldeviceService::getLdevices)
+                    .forEach(tlDevice ->
+                            extRefService.getCompasFlows(compasPrivateCache, tlDevice)
+                                    .filter(tCompasFlow -> Objects.nonNull(tCompasFlow.getFlowSourceBayNode()) && Objects.nonNull(tCompasFlow.getFlowSourceBayNodeOrder()))
+                                    .forEach(tCompasFlow ->
+                                            Optional.ofNullable(bayByTopoKey.get(new TopoKey(tCompasFlow.getFlowSourceBayNode().toString(), tCompasFlow.getFlowSourceBayNodeOrder())))
+                                                    .flatMap(tBay -> tBay.getFunction().stream()
+                                                            .flatMap(tFunction -> tFunction.getLNode().stream())
+                                                            .filter(tlNode -> Objects.equals(tlNode.getLdInst(), tCompasFlow.getExtRefldinst())
+                                                                    && Objects.equals(tlNode.getLnInst(), tCompasFlow.getExtReflnInst())
+                                                                    && Utils.lnClassEquals(tlNode.getLnClass(), tCompasFlow.getExtReflnClass())
+                                                                    && Objects.equals(tlNode.getPrefix(), tCompasFlow.getExtRefprefix()))
+                                                            .filter(tlNode -> {
+                                                                Optional<TCompasICDHeader> tCompasICDHeader = compasPrivateCache.getCompasPrivate(tlNode, TCompasICDHeader.class);
+                                                                if (tCompasICDHeader.isPresent()) {
+                                                                    return Objects.equals(tCompasFlow.getFlowSourceIEDType(), tCompasICDHeader.get().getIEDType())
+                                                                            && Objects.equals(tCompasFlow.getFlowIEDSystemVersioninstance(), tCompasICDHeader.get().getIEDSystemVersioninstance())
+                                                                            && Objects.equals(tCompasFlow.getFlowSourceIEDredundancy(), tCompasICDHeader.get().getIEDredundancy());
+                                                                } else {
+                                                                    sclReportItems.add(SclReportItem.error("", ("The substation LNode with following attributes : IedName:%s / LdInst:%s / LnClass:%s / LnInst:%s  " +
+                                                                            "does not contain the needed (COMPAS - ICDHeader) private")
+                                                                            .formatted(tlNode.getIedName(), tlNode.getLdInst(), tlNode.getLnClass().getFirst(), tlNode.getLnInst())));
+                                                                    return false;
+                                                                }
+                                                            })
+                                                            .map(TLNode::getIedName)
+                                                            .reduce(checkOnlyOneIed(tCompasFlow, tBay, sclReportItems))
+                                                    )
+                                                    .ifPresentOrElse(iedName -> {
+                                                                extRefService.getMatchingExtRefs(tlDevice, tCompasFlow).forEach(tExtRef -> tExtRef.setIedName(iedName));
+                                                                tCompasFlow.setExtRefiedName(iedName);
+                                                            },
+                                                            () -> {
+                                                                extRefService.getMatchingExtRefs(tlDevice, tCompasFlow).forEach(extRefService::clearExtRefBinding);
+                                                                extRefService.clearCompasFlowBinding(tCompasFlow);
                                                             }
-                                                        })
-                                                        .map(TLNode::getIedName)
-                                                        .reduce(checkOnlyOneIed(tCompasFlow, tBay, sclReportItems))
-                                                )
-                                                .ifPresentOrElse(iedName -> {
-                                                            extRefService.getMatchingExtRefs(tlDevice, tCompasFlow).forEach(tExtRef -> tExtRef.setIedName(iedName));
-                                                            tCompasFlow.setExtRefiedName(iedName);
-                                                        },
-                                                        () -> {
-                                                            extRefService.getMatchingExtRefs(tlDevice, tCompasFlow).forEach(extRefService::clearExtRefBinding);
-                                                            extRefService.clearCompasFlowBinding(tCompasFlow);
-                                                        }
-                                                )
-                                )
-                );
-        return sclReportItems;
+                                                    )
+                                    )
+                    );
+            return sclReportItems;
+        });
     }
 
     private static BinaryOperator<String> checkOnlyOneIed(TCompasFlow tCompasFlow, TBay tBay, List<SclReportItem> sclReportItems) {
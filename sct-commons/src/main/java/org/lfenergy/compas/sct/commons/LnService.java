@@ -9,8 +9,8 @@ import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.LnEditor;
 import org.lfenergy.compas.sct.commons.domain.*;
 import org.lfenergy.compas.sct.commons.util.ActiveStatus;
+import org.lfenergy.compas.sct.commons.util.LnInstanceIndex;
 
-import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.*;
@@ -58,33 +58,34 @@ public class LnService implements LnEditor {
      * @return the Lnode Status
      */
     public ActiveStatus getLnStatus(TAnyLN tAnyLN, LN0 ln0) {
-        Optional<ActiveStatus> ln0Status = getDaiModStval(ln0);
-        return getDaiModStval(tAnyLN).filter(ActiveStatus.OFF::equals).orElseGet(() -> ln0Status.orElse(ActiveStatus.OFF));
+        LnInstanceIndex lnInstanceIndex = new LnInstanceIndex();
+        return getLnStatus(getDaiModStval(lnInstanceIndex, tAnyLN), getDaiModStval(lnInstanceIndex, ln0));
+    }
+
+    private static ActiveStatus getLnStatus(Optional<ActiveStatus> lnStatus, Optional<ActiveStatus> ln0Status) {
+        return lnStatus.filter(ActiveStatus.OFF::equals).orElseGet(() -> ln0Status.orElse(ActiveStatus.OFF));
     }
 
     public Optional<ActiveStatus> getDaiModStval(TAnyLN tAnyLN) {
-        return tAnyLN
-                .getDOI()
-                .stream()
-                .filter(tdoi -> MOD_DO_NAME.equals(tdoi.getName()))
-                .findFirst()
-                .flatMap(tdoi -> tdoi.getSDIOrDAI()
-                        .stream()
-                        .filter(dai -> dai.getClass().equals(TDAI.class))
-                        .map(TDAI.class::cast)
-                        .filter(tdai -> STVAL_DA_NAME.equals(tdai.getName()))
-                        .map(TDAI::getVal)
-                        .flatMap(Collection::stream)
-                        .findFirst()
-                        .map(TVal::getValue))
+        return getDaiModStval(new LnInstanceIndex(), tAnyLN);
+    }
+
+    private static Optional<ActiveStatus> getDaiModStval(LnInstanceIndex lnInstanceIndex, TAnyLN tAnyLN) {
+        return lnInstanceIndex.findDai(tAnyLN, MOD_DO_NAME, List.of(), STVAL_DA_NAME)
+                .flatMap(tdai -> tdai.getVal().stream().findFirst())
+                .map(TVal::getValue)
                 .map(ActiveStatus::fromValue);
     }
+
     public Stream<TAnyLN> getActiveLns(TLDevice tlDevice) {
+        // the LN0 status is read once, and the Mod DOI of each LN is found through the index of its DOI
+        LnInstanceIndex lnInstanceIndex = new LnInstanceIndex();
         LN0 ln0 = tlDevice.getLN0();
+        Optional<ActiveStatus> ln0Status = getDaiModStval(lnInstanceIndex, ln0);
         Stream<TLN> tlnStream = tlDevice.getLN()
                 .stream()
-                .filter(tln -> ActiveStatus.ON.equals(getLnStatus(tln, ln0)));
-        Stream<LN0> ln0Stream = Stream.of(ln0).filter(ln02 -> getDaiModStval(ln02).map(ActiveStatus.ON::equals).orElse(false));
+                .filter(tln -> ActiveStatus.ON.equals(getLnStatus(getDaiModStval(lnInstanceIndex, tln), ln0Status)));
+        Stream<LN0> ln0Stream = Stream.of(ln0).filter(ln02 -> ln0Status.map(ActiveStatus.ON::equals).orElse(false));
         return Stream.concat(ln0Stream, tlnStream);
     }
 
@@ -125,26 +126,62 @@ public class LnService implements LnEditor {
                 });
     }
 
+    /**
+     * Same as {@link #getDOAndDAInstances(TAnyLN, DoLinkedToDaFilter)}, finding the DAI through an index
+     * @param lnInstanceIndex index of the DOI/SDI/DAI, created by the caller for the duration of an operation
+     * @param tAnyLN LN where to look for the DAI
+     * @param doLinkedToDaFilter name path of the DAI
+     * @return DAI when found or else empty Optional
+     */
+    Optional<TDAI> getDOAndDAInstances(LnInstanceIndex lnInstanceIndex, TAnyLN tAnyLN, DoLinkedToDaFilter doLinkedToDaFilter) {
+        List<String> structNamesList = new ArrayList<>(doLinkedToDaFilter.sdoNames());
+        structNamesList.add(doLinkedToDaFilter.daName());
+        structNamesList.addAll(doLinkedToDaFilter.bdaNames());
+        String daiName = structNamesList.removeLast();
+        return lnInstanceIndex.findDai(tAnyLN, doLinkedToDaFilter.doName(), structNamesList, daiName);
+    }
+
     @Override
     public void updateOrCreateDOAndDAInstances(TAnyLN tAnyLN, DoLinkedToDa doLinkedToDa) {
         createDoiSdiDaiChainIfNotExists(tAnyLN, doLinkedToDa.getDataObject(), doLinkedToDa.getDataAttribute())
-                .ifPresent(tdai -> {
-                    List<DaVal> daiVals = doLinkedToDa.getDataAttribute().getDaiValues();
-                    if(!hasSettingGroup(tdai) && daiVals.size() == 1 && daiVals.getFirst().settingGroup() == null) {
-                        String value = daiVals.getFirst().val();
-                        tdai.getVal().stream().findFirst()
-                                .ifPresentOrElse(tVal -> tVal.setValue(value),
-                                        () -> tdai.getVal().add(newVal(value)));
-                    } else {
-                        for (DaVal daVal: daiVals) {
-                            tdai.getVal().stream()
-                                    .filter(tValElem -> tValElem.isSetSGroup() && tValElem.getSGroup() == daVal.settingGroup())
-                                    .findFirst()
-                                    .ifPresentOrElse(tVal -> tVal.setValue(daVal.val()),
-                                            () -> tdai.getVal().add(newVal(daVal.val(), daVal.settingGroup())));
-                        }
-                    }
-                });
+                .ifPresent(tdai -> updateDaiValues(tdai, doLinkedToDa));
+    }
+
+    /**
+     * Same as {@link #updateOrCreateDOAndDAInstances(TAnyLN, DoLinkedToDa)}, finding or creating the DAI through an index
+     * @param lnInstanceIndex index of the DOI/SDI/DAI, created by the caller for the duration of an operation
+     * @param tAnyLN LN where to update or create the DAI
+     * @param doLinkedToDa name path and values of the DAI
+     */
+    void updateOrCreateDOAndDAInstances(LnInstanceIndex lnInstanceIndex, TAnyLN tAnyLN, DoLinkedToDa doLinkedToDa) {
+        DataAttribute dataAttribute = doLinkedToDa.getDataAttribute();
+        List<String> structInstances = new ArrayList<>(doLinkedToDa.getDataObject().getSdoNames());
+        structInstances.add(dataAttribute.getDaName());
+        structInstances.addAll(dataAttribute.getBdaNames());
+        String daiName = structInstances.removeLast();
+        TDAI tdai = lnInstanceIndex.findOrCreateDai(tAnyLN, doLinkedToDa.getDataObject().getDoName(), structInstances, daiName);
+        if (tdai.isSetValImport()) {
+            tdai.setValImport(dataAttribute.isValImport());
+        }
+        updateDaiValues(tdai, doLinkedToDa);
+    }
+
+    private void updateDaiValues(TDAI tdai, DoLinkedToDa doLinkedToDa) {
+        List<DaVal> daiVals = doLinkedToDa.getDataAttribute().getDaiValues();
+        if(!hasSettingGroup(tdai) && daiVals.size() == 1 && daiVals.getFirst().settingGroup() == null) {
+            String value = daiVals.getFirst().val();
+            tdai.getVal().stream().findFirst()
+                    .ifPresentOrElse(tVal -> tVal.setValue(value),
+                            () -> tdai.getVal().add(newVal(value)));
+        } else {
+            for (DaVal daVal: daiVals) {
+                tdai.getVal().stream()
+                        .filter(tValElem -> tValElem.isSetSGroup() && tValElem.getSGroup() == daVal.settingGroup())
+                        .findFirst()
+                        .ifPresentOrElse(tVal -> tVal.setValue(daVal.val()),
+                                () -> tdai.getVal().add(newVal(daVal.val(), daVal.settingGroup())));
+            }
+        }
     }
 
     public void completeFromDAInstance(TIED tied, String ldInst, TAnyLN anyLN, DoLinkedToDa doLinkedToDa) {
@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+
+import java.util.List;
+
+/**
+ * SCD edited by several editor calls in a row, for example by the steps of a pipeline.
+ * <p>
+ * The adapters of the SCD, of its IEDs and of its LDevices are built on first use and shared by the following calls,
+ * which therefore do not walk again the whole SCD to find them. They stay valid while IEDs, AccessPoints and LDevices
+ * are neither added nor removed : {@link #invalidateIedStructure()} must be called after such a change.
+ * </p>
+ * This class is not thread safe.
+ *
+ * @see org.lfenergy.compas.sct.commons.api.SclEditor#updateLDeviceStatus(SclEditorContext)
+ */
+public final class SclEditorContext {
+
+    @Getter
+    private final SCL scd;
+    private SclRootAdapter sclRootAdapter;
+    private List<IEDAdapter> iedAdapters;
+    private List<LDeviceAdapter> lDeviceAdapters;
+    /**
+     * Number of times the IEDAdapters or LDeviceAdapters were built since this context was created
+     */
+    @Getter
+    private int buildCount;
+
+    /**
+     * Constructor
+     * @param scd SCD edited in this context
+     */
+    public SclEditorContext(@NonNull SCL scd) {
+        this.scd = scd;
+    }
+
+    /**
+     * Gets the SclRootAdapter of the SCD, created on first call
+     * @return SclRootAdapter of the SCD
+     */
+    public SclRootAdapter getSclRootAdapter() {
+        if (sclRootAdapter == null) {
+            sclRootAdapter = new SclRootAdapter(scd);
+        }
+        return sclRootAdapter;
+    }
+
+    List<IEDAdapter> getIedAdapters() {
+        if (iedAdapters == null) {
+            iedAdapters = getSclRootAdapter().streamIEDAdapters().toList();
+            buildCount++;
+        }
+        return iedAdapters;
+    }
+
+    List<LDeviceAdapter> getLDeviceAdapters() {
+        if (lDeviceAdapters == null) {
+            lDeviceAdapters = getIedAdapters().stream()
+                    .flatMap(IEDAdapter::streamLDeviceAdapters)
+                    .toList();
+            buildCount++;
+        }
+        return lDeviceAdapters;
+    }
+
+    /**
+     * Drops the adapters of the IEDs and LDevices, after IEDs, AccessPoints or LDevices were added or removed
+     */
+    public void invalidateIedStructure() {
+        iedAdapters = null;
+        lDeviceAdapters = null;
+    }
+
+    /**
+     * Drops all adapters, for example after the SCD was changed outside of the editors
+     */
+    public void invalidateAll() {
+        invalidateIedStructure();
+        sclRootAdapter = null;
+    }
+}
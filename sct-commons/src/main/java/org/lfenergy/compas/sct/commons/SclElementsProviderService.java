@@ -8,6 +8,7 @@ import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.SclElementsProvider;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.ExtRefBinderIndex;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.CommunicationAdapter;
 import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
@@ -21,6 +22,11 @@ import java.util.stream.Collectors;
 
 public class SclElementsProviderService implements SclElementsProvider {
 
+    /**
+     * Binder indexes of the SCDs given to getExtRefBinders, built again when IEDs, LDevices or LNs are added or removed
+     */
+    private final Map<SCL, ExtRefBinderIndex> extRefBinderIndexes = new WeakHashMap<>();
+
     @Override
     public List<SubNetworkDTO> getSubnetwork(SCL scd) throws ScdException {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
@@ -38,6 +44,14 @@ public class SclElementsProviderService implements SclElementsProvider {
 
     @Override
     public List<ExtRefBindingInfo> getExtRefBinders(SCL scd, String iedName, String ldInst, String lnClass, String lnInst, String prefix, ExtRefSignalInfo signalInfo) throws ScdException {
+        return getExtRefBinders(scd, iedName, ldInst, lnClass, lnInst, prefix, signalInfo, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<ExtRefBindingInfo> getExtRefBinders(SCL scd, String iedName, String ldInst, String lnClass, String lnInst, String prefix, ExtRefSignalInfo signalInfo, int offset, int limit) throws ScdException {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException(String.format("offset (%d) and limit (%d) must be positive", offset, limit));
+        }
         LDeviceAdapter lDeviceAdapter = createLDeviceAdapter(scd, iedName, ldInst);
         AbstractLNAdapter<?> abstractLNAdapter = AbstractLNAdapter.builder()
                 .withLDeviceAdapter(lDeviceAdapter)
@@ -50,10 +64,54 @@ public class SclElementsProviderService implements SclElementsProvider {
         abstractLNAdapter.isExtRefExist(signalInfo);
 
         // find potential binders for the signalInfo
-        return lDeviceAdapter.getParentAdapter().getParentAdapter().streamIEDAdapters()
-                .map(iedAdapter1 -> iedAdapter1.getExtRefBinders(signalInfo))
-                .flatMap(Collection::stream)
-                .sorted()
+        SclRootAdapter sclRootAdapter = lDeviceAdapter.getParentAdapter().getParentAdapter();
+        List<ExtRefBindingInfo> extRefBindingInfos = getExtRefBinderIndex(sclRootAdapter)
+                .getExtRefBinders(sclRootAdapter.getDataTypeTemplateAdapter(), signalInfo);
+        return getSortedPage(extRefBindingInfos, offset, limit);
+    }
+
+    /**
+     * Gets the binder index of the SCD, kept from one call to the next one while it is up to date
+     * @param sclRootAdapter adapter of the SCD
+     * @return binder index listing all the LNs of the SCD
+     */
+    synchronized ExtRefBinderIndex getExtRefBinderIndex(SclRootAdapter sclRootAdapter) {
+        SCL scd = sclRootAdapter.getCurrentElem();
+        ExtRefBinderIndex extRefBinderIndex = extRefBinderIndexes.get(scd);
+        if (extRefBinderIndex == null || !extRefBinderIndex.isUpToDate(scd)) {
+            extRefBinderIndex = new ExtRefBinderIndex(sclRootAdapter);
+            extRefBinderIndexes.put(scd, extRefBinderIndex);
+        }
+        return extRefBinderIndex;
+    }
+
+    /**
+     * Sorts binders and keeps the ones from offset to offset + limit, like a stable sort followed by a sublist.
+     * When only the first binders are kept, they are selected with a bounded heap instead of sorting all of them.
+     */
+    private static List<ExtRefBindingInfo> getSortedPage(List<ExtRefBindingInfo> extRefBindingInfos, int offset, int limit) {
+        int size = extRefBindingInfos.size();
+        long end = Math.min((long) offset + limit, size);
+        if (offset >= end) {
+            return List.of();
+        }
+        if (end == size) {
+            return extRefBindingInfos.stream().sorted().toList().subList(offset, size);
+        }
+        // ties are ordered by position, to give the same order as the stable sort
+        Comparator<Integer> byBinderThenPosition = Comparator.<Integer, ExtRefBindingInfo>comparing(extRefBindingInfos::get)
+                .thenComparing(Comparator.naturalOrder());
+        PriorityQueue<Integer> firstPositions = new PriorityQueue<>(byBinderThenPosition.reversed());
+        for (int position = 0; position < size; position++) {
+            firstPositions.add(position);
+            if (firstPositions.size() > end) {
+                firstPositions.poll();
+            }
+        }
+        return firstPositions.stream()
+                .sorted(byBinderThenPosition)
+                .skip(offset)
+                .map(extRefBindingInfos::get)
                 .toList();
     }
 
@@ -6,29 +6,38 @@ package org.lfenergy.compas.sct.commons;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.api.SclEditor;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.metrics.SclEvents;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+import org.lfenergy.compas.sct.commons.scl.ObjectReference;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.CommunicationAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.ConnectedAPAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.SubNetworkAdapter;
 import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
 import org.lfenergy.compas.sct.commons.scl.dtt.LNodeTypeAdapter;
+import org.lfenergy.compas.sct.commons.scl.dtt.PreparedDataTypeTemplate;
+import org.lfenergy.compas.sct.commons.scl.dtt.ReceivingDataTypeTemplate;
 import org.lfenergy.compas.sct.commons.scl.header.HeaderAdapter;
 import org.lfenergy.compas.sct.commons.scl.icd.IcdHeader;
 import org.lfenergy.compas.sct.commons.scl.ied.DAITracker;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
-import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.scl.sstation.SubstationAdapter;
+import org.lfenergy.compas.sct.commons.util.IedTaskExecutor;
 import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.lfenergy.compas.sct.commons.util.CommonConstants.IED_TEST_NAME;
 import static org.lfenergy.compas.sct.commons.util.PrivateEnum.COMPAS_ICDHEADER;
@@ -36,6 +45,24 @@ import static org.lfenergy.compas.sct.commons.util.PrivateEnum.COMPAS_ICDHEADER;
 @Slf4j
 public class SclService implements SclEditor {
 
+    private final IedTaskExecutor iedTaskExecutor;
+
+    /**
+     * Constructor of a service processing IEDs sequentially
+     */
+    public SclService() {
+        this(IedTaskExecutor.SEQUENTIAL);
+    }
+
+    /**
+     * Constructor
+     * @param iedTaskExecutor executor of the per IED tasks of updateLDeviceStatus, updateDoInRef and of the preparation of
+     *                        the DataTypeTemplates of STD files in importSTDElementsInSCD, sequential when null
+     */
+    public SclService(IedTaskExecutor iedTaskExecutor) {
+        this.iedTaskExecutor = Objects.requireNonNullElse(iedTaskExecutor, IedTaskExecutor.SEQUENTIAL);
+    }
+
     @Override
     public SCL initScl(final UUID hId, final String hVersion, final String hRevision) throws ScdException {
         SclRootAdapter scdAdapter = new SclRootAdapter(hId.toString(), hVersion, hRevision);
@@ -120,58 +147,45 @@ public class SclService implements SclEditor {
 
     @Override
     public void updateDAI(SCL scd, String iedName, String ldInst, DataAttributeRef dataAttributeRef) throws ScdException {
-        long startTime = System.nanoTime();
-        log.info(Utils.entering());
-        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        DataTypeTemplateAdapter dttAdapter = sclRootAdapter.getDataTypeTemplateAdapter();
-        LNodeTypeAdapter lNodeTypeAdapter = dttAdapter.getLNodeTypeAdapterById(dataAttributeRef.getLnType())
-                .orElseThrow(() -> new ScdException("Unknown LNodeType : " + dataAttributeRef.getLnType()));
-        lNodeTypeAdapter.checkDoAndDaTypeName(dataAttributeRef.getDoName(), dataAttributeRef.getDaName());
-
-        if (TPredefinedBasicTypeEnum.OBJ_REF == dataAttributeRef.getBType()) {
-            Long sGroup = dataAttributeRef.getDaName().getDaiValues().keySet().stream().findFirst().orElse(-1L);
-            String val = sGroup < 0 ? null : dataAttributeRef.getDaName().getDaiValues().get(sGroup);
-            sclRootAdapter.checkObjRef(val);
-        }
-
-        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName(iedName);
-        LDeviceAdapter lDeviceAdapter = iedAdapter.findLDeviceAdapterByLdInst(ldInst)
-                .orElseThrow(() -> new ScdException(String.format("Unknown LDevice (%s) in IED (%s)", ldInst, iedName)));
-
-        AbstractLNAdapter<?> lnAdapter = AbstractLNAdapter.builder()
-                .withLDeviceAdapter(lDeviceAdapter)
-                .withLnClass(dataAttributeRef.getLnClass())
-                .withLnInst(dataAttributeRef.getLnInst())
-                .withLnPrefix(dataAttributeRef.getPrefix())
-                .build();
+        new DaiUpdater(new SclRootAdapter(scd)).updateDAI(iedName, ldInst, dataAttributeRef);
+    }
 
-        if (TPredefinedCDCEnum.ING == dataAttributeRef.getCdc() || TPredefinedCDCEnum.ASG == dataAttributeRef.getCdc()) {
-            DAITracker daiTracker = new DAITracker(lnAdapter, dataAttributeRef.getDoName(), dataAttributeRef.getDaName());
-            daiTracker.validateBoundedDAI();
-        }
-        lnAdapter.updateDAI(dataAttributeRef);
-        log.info(Utils.leaving(startTime));
+    @Override
+    public List<DaiUpdateResult> updateDAIs(SCL scd, Collection<DaiUpdate> daiUpdates) {
+        DaiUpdater daiUpdater = new DaiUpdater(new SclRootAdapter(scd));
+        return daiUpdates.stream()
+                .map(daiUpdater::updateDAI)
+                .toList();
     }
 
     @Override
     public void importSTDElementsInSCD(SCL scd, List<SCL> stds) throws ScdException {
+        SclEvents.step("importSTDElementsInSCD", scd, () -> importSTDElementsInSCD(scd, stds, icdHeader -> true));
+    }
+
+    @Override
+    public void importSTDElementsInSCD(SCL scd, List<SCL> stds, Set<String> iedNames) throws ScdException {
+        SclEvents.step("importSTDElementsInSCD", scd,
+                () -> importSTDElementsInSCD(scd, stds, icdHeader -> iedNames.contains(icdHeader.getIedName())));
+    }
 
+    private void importSTDElementsInSCD(SCL scd, List<SCL> stds, Predicate<IcdHeader> icdHeaderFilter) throws ScdException {
         //Check SCD and STD compatibilities
         Map<String, PrivateLinkedToStds> mapICDSystemVersionUuidAndSTDFile = PrivateUtils.createMapICDSystemVersionUuidAndSTDFile(stds);
         PrivateUtils.checkSTDCorrespondanceWithLNodeCompasICDHeader(mapICDSystemVersionUuidAndSTDFile);
         // List all Private and remove duplicated one with same iedName
         // For each Private.ICDSystemVersionUUID and Private.iedName find STD File
-        List<String> iedNamesUsed = new ArrayList<>();
-        SclRootAdapter scdRootAdapter = new SclRootAdapter(scd);
+        List<StdImport> stdImports = new ArrayList<>();
+        Set<String> iedNamesUsed = new HashSet<>();
+        Set<SCL> stdsUsed = Collections.newSetFromMap(new IdentityHashMap<>());
         PrivateUtils.streamIcdHeaders(scd)
+                .filter(icdHeaderFilter)
                 .forEach(icdHeader -> {
-                    if (!iedNamesUsed.contains(icdHeader.getIedName())) {
+                    if (iedNamesUsed.add(icdHeader.getIedName())) {
                         String iedName = icdHeader.getIedName();
-                        iedNamesUsed.add(iedName);
                         String icdSysVerUuid = icdHeader.getIcdSystemVersionUUID();
                         if (!mapICDSystemVersionUuidAndSTDFile.containsKey(icdSysVerUuid))
                             throw new ScdException("There is no STD file found corresponding to " + icdHeader);
-                        // import /ied /dtt in Scd
                         SCL std = mapICDSystemVersionUuidAndSTDFile.get(icdSysVerUuid).stdList().get(0);
                         SclRootAdapter stdRootAdapter = new SclRootAdapter(std);
                         IEDAdapter stdIedAdapter = new IEDAdapter(stdRootAdapter, std.getIED().get(0));
@@ -179,45 +193,259 @@ public class SclService implements SclEditor {
                         if (optionalTPrivate.isPresent() && optionalTPrivate.flatMap(PrivateUtils::extractCompasICDHeader).map(IcdHeader::new).get().equals(icdHeader)) {
                             PrivateUtils.copyCompasICDHeaderFromLNodePrivateIntoSTDPrivate(optionalTPrivate.get(), icdHeader.toTCompasICDHeader());
                         } else throw new ScdException("COMPAS-ICDHeader is not the same in Substation and in IED");
-                        scdRootAdapter.addIED(std, iedName);
-
-                        //import connectedAP and rename ConnectedAP/@iedName
-                        addSubnetworks(scdRootAdapter.getCurrentElem(), std, iedName);
+                        // an STD used by several IEDs is modified by the import of the first one : only prepare it for this one
+                        stdImports.add(new StdImport(iedName, std, stdsUsed.add(std)));
                     }
                 });
+
+        // DataTypeTemplates of STD only depend on STD : they can be prepared concurrently, by the executor of the service
+        List<PreparedDataTypeTemplate> preparedStdDtts = iedTaskExecutor.map(stdImports, stdImport ->
+                stdImport.prepareDtt() ? new SclRootAdapter(stdImport.std()).getDataTypeTemplateAdapter().prepareImport() : null);
+
+        // import /ied /dtt in Scd, in the order of Substation to get the same SCD whatever the number of threads
+        SclRootAdapter scdRootAdapter = new SclRootAdapter(scd);
+        // types of the SCD are fingerprinted once for all the imports
+        ReceivingDataTypeTemplate receivingScdDtt = scdRootAdapter.getDataTypeTemplateAdapter().prepareReceiving();
+        for (int i = 0; i < stdImports.size(); i++) {
+            StdImport stdImport = stdImports.get(i);
+            PreparedDataTypeTemplate preparedStdDtt = preparedStdDtts.get(i);
+            SclEvents.addedIed("importSTDElementsInSCD", stdImport.iedName(), () -> {
+                IEDAdapter iedAdapter = scdRootAdapter.addIED(stdImport.std(), stdImport.iedName(), preparedStdDtt, receivingScdDtt);
+
+                //import connectedAP and rename ConnectedAP/@iedName
+                addSubnetworks(scdRootAdapter.getCurrentElem(), stdImport.std(), stdImport.iedName());
+                return iedAdapter;
+            });
+        }
+    }
+
+    @Override
+    public void importIEDsFromPreviousSCD(SCL scd, SCL previousScd, Collection<String> iedNames) throws ScdException {
+        SclEvents.step("importIEDsFromPreviousSCD", scd, () -> {
+            SclRootAdapter scdRootAdapter = new SclRootAdapter(scd);
+            SclRootAdapter previousScdRootAdapter = new SclRootAdapter(previousScd);
+            DataTypeTemplateAdapter previousDttAdapter = previousScdRootAdapter.getDataTypeTemplateAdapter();
+            ReceivingDataTypeTemplate receivingScdDtt = scdRootAdapter.getDataTypeTemplateAdapter().prepareReceiving();
+            iedNames.forEach(iedName -> SclEvents.addedIed("importIEDsFromPreviousSCD", iedName, () -> {
+                IEDAdapter previousIedAdapter = previousScdRootAdapter.getIEDAdapterByName(iedName);
+                // previous SCD is used as an STD file containing only this IED and the types it uses
+                SCL std = new SCL();
+                std.setHeader(previousScd.getHeader());
+                std.getIED().add(Utils.copySclElement(previousIedAdapter.getCurrentElem(), TIED.class));
+                std.setDataTypeTemplates(previousDttAdapter.copyTypesUsedBy(previousIedAdapter.streamLDeviceAdapters()
+                        .flatMap(lDeviceAdapter -> lDeviceAdapter.getLNAdaptersIncludingLN0().stream())
+                        .map(AbstractLNAdapter::getLnType)
+                        .collect(Collectors.toSet())));
+                IEDAdapter iedAdapter = scdRootAdapter.addIED(std, iedName, null, receivingScdDtt);
+                copyConnectedAPs(scdRootAdapter, previousScd, iedName);
+                return iedAdapter;
+            }));
+        });
+    }
+
+    private void copyConnectedAPs(SclRootAdapter scdRootAdapter, SCL previousScd, String iedName) {
+        Optional.ofNullable(previousScd.getCommunication()).ifPresent(tCommunication ->
+                tCommunication.getSubNetwork().forEach(previousSubNetwork ->
+                        previousSubNetwork.getConnectedAP().stream()
+                                .filter(previousConnectedAP -> iedName.equals(previousConnectedAP.getIedName()))
+                                .forEach(previousConnectedAP -> {
+                                    TConnectedAP copy = Utils.copySclElement(previousConnectedAP, TConnectedAP.class);
+                                    TConnectedAP tConnectedAP = scdRootAdapter.getCommunicationAdapter(true)
+                                            .addSubnetwork(previousSubNetwork.getName(), previousSubNetwork.getType(), iedName, copy.getApName())
+                                            .getConnectedAPAdapter(iedName, copy.getApName())
+                                            .getCurrentElem();
+                                    tConnectedAP.setAddress(copy.getAddress());
+                                    tConnectedAP.getPhysConn().addAll(copy.getPhysConn());
+                                })
+                ));
     }
 
     @Override
     public List<SclReportItem> updateLDeviceStatus(SCL scd) {
+        ListReportSink reportSink = new ListReportSink();
+        updateLDeviceStatus(scd, reportSink);
+        return reportSink.getSclReportItems();
+    }
+
+    @Override
+    public void updateLDeviceStatus(SCL scd, ReportSink reportSink) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        SclEvents.step("updateLDeviceStatus", scd,
+                () -> updateLDeviceStatus(sclRootAdapter, sclRootAdapter.streamIEDAdapters().toList(), reportSink));
+    }
+
+    @Override
+    public List<SclReportItem> updateLDeviceStatus(SclEditorContext context) {
+        ListReportSink reportSink = new ListReportSink();
+        SclEvents.step("updateLDeviceStatus", context.getScd(),
+                () -> updateLDeviceStatus(context.getSclRootAdapter(), context.getIedAdapters(), reportSink));
+        return reportSink.getSclReportItems();
+    }
+
+    private void updateLDeviceStatus(SclRootAdapter sclRootAdapter, List<IEDAdapter> iedAdapters, ReportSink reportSink) {
         SubstationAdapter substationAdapter = sclRootAdapter.getSubstationAdapter();
         final List<Pair<String, String>> iedNameLdInstList = substationAdapter.getIedAndLDeviceNamesForLN0FromLNode();
-        return sclRootAdapter.streamIEDAdapters()
-                .flatMap(IEDAdapter::streamLDeviceAdapters)
-                .map(LDeviceAdapter::getLN0Adapter)
-                .map(ln0Adapter -> ln0Adapter.updateLDeviceStatus(iedNameLdInstList))
-                .flatMap(Optional::stream)
-                .toList();
+        if (iedTaskExecutor.isParallel()) {
+            // all IEDs are processed : the sink is only read when reporting, in IED order
+            iedTaskExecutor.flatMap(iedAdapters,
+                            iedAdapter -> iedAdapter.streamLDeviceAdapters()
+                                    .map(lDeviceAdapter -> updateLDeviceStatus(lDeviceAdapter, iedNameLdInstList))
+                                    .flatMap(Optional::stream)
+                                    .toList())
+                    .stream()
+                    .takeWhile(sclReportItem -> !reportSink.shouldAbort())
+                    .forEach(reportSink::report);
+        } else {
+            iedAdapters.stream()
+                    .flatMap(IEDAdapter::streamLDeviceAdapters)
+                    .takeWhile(lDeviceAdapter -> !reportSink.shouldAbort())
+                    .forEach(lDeviceAdapter -> updateLDeviceStatus(lDeviceAdapter, iedNameLdInstList).ifPresent(reportSink::report));
+        }
+    }
+
+    private static Optional<SclReportItem> updateLDeviceStatus(LDeviceAdapter lDeviceAdapter, List<Pair<String, String>> iedNameLdInstList) {
+        return SclEvents.lDevice("updateLDeviceStatus", lDeviceAdapter,
+                () -> lDeviceAdapter.getLN0Adapter().updateLDeviceStatus(iedNameLdInstList));
     }
 
     @Override
     public List<SclReportItem> updateDoInRef(SCL scd) {
-        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        return sclRootAdapter.streamIEDAdapters()
-                .flatMap(IEDAdapter::streamLDeviceAdapters)
-                .map(LDeviceAdapter::getLN0Adapter)
-                .map(LN0Adapter::updateDoInRef)
-                .flatMap(List::stream)
-                .toList();
+        return updateDoInRef(new SclEditorContext(scd));
+    }
+
+    @Override
+    public List<SclReportItem> updateDoInRef(SclEditorContext context) {
+        return SclEvents.step("updateDoInRef", context.getScd(), () -> iedTaskExecutor.flatMap(context.getIedAdapters(),
+                iedAdapter -> iedAdapter.streamLDeviceAdapters()
+                        .map(lDeviceAdapter -> SclEvents.lDevice("updateDoInRef", lDeviceAdapter,
+                                () -> lDeviceAdapter.getLN0Adapter().updateDoInRef()))
+                        .flatMap(List::stream)
+                        .toList()));
     }
 
     @Override
     public List<SclReportItem> manageMonitoringLns(SCL scd) {
-        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
-        return sclRootAdapter.streamIEDAdapters()
+        return manageMonitoringLns(new SclEditorContext(scd));
+    }
+
+    @Override
+    public List<SclReportItem> manageMonitoringLns(SclEditorContext context) {
+        return SclEvents.step("manageMonitoringLns", context.getScd(), () -> context.getIedAdapters().stream()
                 .filter(iedAdapter -> !iedAdapter.getName().contains(IED_TEST_NAME))
-                .map(IEDAdapter::manageMonitoringLns)
+                .map(iedAdapter -> SclEvents.ied("manageMonitoringLns", iedAdapter, iedAdapter::manageMonitoringLns))
                 .flatMap(List::stream)
-                .toList();
+                .toList());
+    }
+
+    /**
+     * Updates DAIs of an SCL, keeping the LNodeTypes, LNs and ObjRef values looked up for previous updates
+     */
+    private static final class DaiUpdater {
+
+        private final SclRootAdapter sclRootAdapter;
+        private final DataTypeTemplateAdapter dttAdapter;
+        private final Map<String, Optional<LNodeTypeAdapter>> lNodeTypeAdaptersById = new HashMap<>();
+        private final Map<DataAttributeKey, LNodeTypeAdapter.CheckedDataAttribute> checkedDataAttributesByKey = new HashMap<>();
+        private final Map<LnLocation, AbstractLNAdapter<?>> lnAdaptersByLocation = new HashMap<>();
+        private final Map<String, Boolean> objRefValidities = new HashMap<>();
+        private Map<String, List<IEDAdapter>> iedAdaptersByName;
+
+        private DaiUpdater(SclRootAdapter sclRootAdapter) {
+            this.sclRootAdapter = sclRootAdapter;
+            this.dttAdapter = sclRootAdapter.getDataTypeTemplateAdapter();
+        }
+
+        private DaiUpdateResult updateDAI(DaiUpdate daiUpdate) {
+            try {
+                updateDAI(daiUpdate.iedName(), daiUpdate.ldInst(), daiUpdate.dataAttributeRef());
+                return DaiUpdateResult.success(daiUpdate);
+            } catch (ScdException | IllegalArgumentException e) {
+                return DaiUpdateResult.error(daiUpdate, e.getMessage());
+            }
+        }
+
+        private void updateDAI(String iedName, String ldInst, DataAttributeRef dataAttributeRef) throws ScdException {
+            // DO and DA are looked up once per name path, then each DataAttributeRef is checked and completed from them
+            DoTypeName doName = dataAttributeRef.getDoName();
+            DaTypeName daName = dataAttributeRef.getDaName();
+            DataAttributeKey dataAttributeKey = new DataAttributeKey(dataAttributeRef.getLnType(), doName.getName(),
+                    List.copyOf(doName.getStructNames()), daName.getName(), List.copyOf(daName.getStructNames()));
+            LNodeTypeAdapter.CheckedDataAttribute checkedDataAttribute = checkedDataAttributesByKey.get(dataAttributeKey);
+            if (checkedDataAttribute == null) {
+                LNodeTypeAdapter lNodeTypeAdapter = lNodeTypeAdaptersById
+                        .computeIfAbsent(dataAttributeRef.getLnType(), dttAdapter::getLNodeTypeAdapterById)
+                        .orElseThrow(() -> new ScdException("Unknown LNodeType : " + dataAttributeRef.getLnType()));
+                checkedDataAttribute = lNodeTypeAdapter.findDataAttribute(doName, daName);
+                checkedDataAttributesByKey.put(dataAttributeKey, checkedDataAttribute);
+            }
+            checkedDataAttribute.complete(doName, daName);
+
+            if (TPredefinedBasicTypeEnum.OBJ_REF == dataAttributeRef.getBType()) {
+                Long sGroup = dataAttributeRef.getDaName().getDaiValues().keySet().stream().findFirst().orElse(-1L);
+                String val = sGroup < 0 ? null : dataAttributeRef.getDaName().getDaiValues().get(sGroup);
+                checkObjRef(val);
+            }
+
+            LnLocation lnLocation = new LnLocation(iedName, ldInst, dataAttributeRef.getLnClass(), dataAttributeRef.getLnInst(), dataAttributeRef.getPrefix());
+            AbstractLNAdapter<?> lnAdapter = lnAdaptersByLocation.get(lnLocation);
+            if (lnAdapter == null) {
+                lnAdapter = getLnAdapter(lnLocation);
+                lnAdaptersByLocation.put(lnLocation, lnAdapter);
+            }
+
+            if (TPredefinedCDCEnum.ING == dataAttributeRef.getCdc() || TPredefinedCDCEnum.ASG == dataAttributeRef.getCdc()) {
+                DAITracker daiTracker = new DAITracker(lnAdapter, dataAttributeRef.getDoName(), dataAttributeRef.getDaName());
+                daiTracker.validateBoundedDAI();
+            }
+            lnAdapter.updateDAI(dataAttributeRef);
+        }
+
+        private AbstractLNAdapter<?> getLnAdapter(LnLocation lnLocation) throws ScdException {
+            IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName(lnLocation.iedName());
+            LDeviceAdapter lDeviceAdapter = iedAdapter.findLDeviceAdapterByLdInst(lnLocation.ldInst())
+                    .orElseThrow(() -> new ScdException(String.format("Unknown LDevice (%s) in IED (%s)", lnLocation.ldInst(), lnLocation.iedName())));
+            return AbstractLNAdapter.builder()
+                    .withLDeviceAdapter(lDeviceAdapter)
+                    .withLnClass(lnLocation.lnClass())
+                    .withLnInst(lnLocation.lnInst())
+                    .withLnPrefix(lnLocation.prefix())
+                    .build();
+        }
+
+        /**
+         * Checks ObjRef like {@link SclRootAdapter#checkObjRef(String)}, only testing IEDs whose name starts the LD name
+         * of the ObjRef
+         */
+        private void checkObjRef(String val) throws ScdException {
+            if (val == null || !objRefValidities.computeIfAbsent(val, this::isValidObjRef)) {
+                throw new ScdException("Invalid ObjRef: " + val);
+            }
+        }
+
+        private boolean isValidObjRef(String val) {
+            if (iedAdaptersByName == null) {
+                iedAdaptersByName = sclRootAdapter.streamIEDAdapters()
+                        .filter(iedAdapter -> StringUtils.isNotBlank(iedAdapter.getName()))
+                        .collect(Collectors.groupingBy(IEDAdapter::getName));
+            }
+            ObjectReference objRef = new ObjectReference(val);
+            String ldName = objRef.getLdName();
+            for (int length = 1; length <= ldName.length(); length++) {
+                List<IEDAdapter> iedAdapters = iedAdaptersByName.getOrDefault(ldName.substring(0, length), List.of());
+                if (iedAdapters.stream().anyMatch(iedAdapter -> iedAdapter.matches(objRef))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record LnLocation(String iedName, String ldInst, String lnClass, String lnInst, String prefix) {
+    }
+
+    private record DataAttributeKey(String lnType, String doName, List<String> sdoNames, String daName, List<String> bdaNames) {
+    }
+
+    private record StdImport(String iedName, SCL std, boolean prepareDtt) {
     }
 }
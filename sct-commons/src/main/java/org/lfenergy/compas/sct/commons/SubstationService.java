@@ -12,6 +12,7 @@ import org.lfenergy.compas.scl2007b4.model.TSubstation;
 import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
 import org.lfenergy.compas.sct.commons.api.SubstationEditor;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.metrics.SclEvents;
 
 @RequiredArgsConstructor
 public class SubstationService implements SubstationEditor {
@@ -26,20 +27,22 @@ public class SubstationService implements SubstationEditor {
         if (ssd.getSubstation().size() != 1) {
             throw new ScdException(String.format("SSD file must have exactly 1 Substation, but got %d", ssd.getSubstation().size()));
         }
-        TSubstation ssdTSubstation = ssd.getSubstation().getFirst();
-        if (scd.getSubstation().isEmpty()) {
-            scd.getSubstation().add(ssdTSubstation);
-        } else {
-            TSubstation scdTSubstation = scd.getSubstation().getFirst();
-            if (scdTSubstation.getName().equalsIgnoreCase(ssdTSubstation.getName())){
-                for (TVoltageLevel tvl : ssdTSubstation.getVoltageLevel()) {
-                    updateVoltageLevel(scd, tvl);
-                }
+        SclEvents.step("addSubstation", scd, () -> {
+            TSubstation ssdTSubstation = ssd.getSubstation().getFirst();
+            if (scd.getSubstation().isEmpty()) {
+                scd.getSubstation().add(ssdTSubstation);
             } else {
-                throw new ScdException("SCD file must have only one Substation and the Substation name from SSD file is" +
-                    " different from the one in SCD file. The files are rejected.");
+                TSubstation scdTSubstation = scd.getSubstation().getFirst();
+                if (scdTSubstation.getName().equalsIgnoreCase(ssdTSubstation.getName())){
+                    for (TVoltageLevel tvl : ssdTSubstation.getVoltageLevel()) {
+                        updateVoltageLevel(scd, tvl);
+                    }
+                } else {
+                    throw new ScdException("SCD file must have only one Substation and the Substation name from SSD file is" +
+                        " different from the one in SCD file. The files are rejected.");
+                }
             }
-        }
+        });
     }
 
     /**
@@ -7,9 +7,12 @@ package org.lfenergy.compas.sct.commons.api;
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TExtRef;
 import org.lfenergy.compas.scl2007b4.model.TSubNetwork;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
 import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.List;
  *      <li>{@link ControlBlockEditor#configureNetworkForAllControlBlocks <em>Configure the network for the <b>ControlBlocks</b></em>}</li>
  *      <li>{@link ControlBlockEditor#removeAllControlBlocksAndDatasetsAndExtRefSrcBindings <em>Removes all ControlBlocks and DataSets for all LNs in <b>SCL</b></em>}</li>
  *      <li>{@link ControlBlockEditor#analyzeDataGroups(SCL)} <em>Checks Control Blocks, DataSets and FCDA number limitation into Access Points </em>}</li>
+ *      <li>{@link ControlBlockEditor#analyzeDataGroupCapacities(SCL)} <em>Gives the Control Blocks, DataSets and FCDA numbers and limitations of Access Points </em>}</li>
  *   </ol>
  * </ul>
  */
@@ -44,6 +48,33 @@ public interface ControlBlockEditor {
      */
     List<SclReportItem> analyzeDataGroups(SCL scd);
 
+    /**
+     * Checks Control Blocks, DataSets and FCDA number limitation into Access Points, writing encountered errors to a sink.
+     * Checks stop as soon as the sink wants no more items or asks to abort. When the editor runs IEDs in parallel, all IEDs
+     * are checked before the sink is read : it then only drops the next items.
+     *
+     * @param scd SCL file to check
+     * @param reportSink sink receiving encountered errors
+     */
+    void analyzeDataGroups(SCL scd, ReportSink reportSink);
+
+    /**
+     * Same as {@link #analyzeDataGroups(SCL)}, reusing the adapters already built by the previous calls in the context
+     *
+     * @param context context of the SCL file to check
+     * @return list of encountered errors
+     */
+    List<SclReportItem> analyzeDataGroups(SclEditorContext context);
+
+    /**
+     * Gives, for each Access Point, the number of Control Blocks, DataSets and FCDA it contains and subscribes to, with
+     * their limitation and the errors {@link #analyzeDataGroups(SCL)} would report for it
+     *
+     * @param scd SCL file to analyze
+     * @return capacity report of each Access Point, in the order of the IEDs and Access Points
+     */
+    List<AccessPointCapacity> analyzeDataGroupCapacities(SCL scd);
+
     /**
      * Create All DataSet and ControlBlock in the SCL based on the ExtRef
      *
@@ -53,6 +84,16 @@ public interface ControlBlockEditor {
      */
     List<SclReportItem> createDataSetAndControlBlocks(SCL scd, DACOMM dacomm);
 
+    /**
+     * Same as {@link #createDataSetAndControlBlocks(SCL, DACOMM)}, reusing the adapters already built by the previous
+     * calls in the context
+     *
+     * @param context      context of the SCD. It could be modified by adding new DataSet and ControlBlocks
+     * @param dacomm       object containing a list of allowed FCDA for DataSets and Control Blocks creation
+     * @return             list of encountered errors
+     */
+    List<SclReportItem> createDataSetAndControlBlocks(SclEditorContext context, DACOMM dacomm);
+
     /**
      * Configure the network for all the ControlBlocks.
      * Create (or update if already existing) these elements
@@ -6,10 +6,12 @@ package org.lfenergy.compas.sct.commons.api;
 
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TExtRef;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
 import org.lfenergy.compas.sct.commons.dto.ExtRefInfo;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.model.epf.EPF;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
 
 import java.util.List;
 
@@ -54,6 +56,24 @@ public interface ExtRefEditor {
      */
     List<SclReportItem> updateAllExtRefIedNames(SCL scd);
 
+    /**
+     * Updates iedName attribute of all ExtRefs in the Scd, writing encountered errors to a sink.
+     * Updates only stop when the sink asks to abort, leaving remaining ExtRefs unchanged : a sink dropping items, like
+     * {@link org.lfenergy.compas.sct.commons.report.CappedReportSink}, does not prevent any update.
+     *
+     * @param scd SCL file in which ExtRefs should be updated
+     * @param reportSink sink receiving encountered errors
+     */
+    void updateAllExtRefIedNames(SCL scd, ReportSink reportSink);
+
+    /**
+     * Same as {@link #updateAllExtRefIedNames(SCL)}, reusing the adapters already built by the previous calls in the context
+     *
+     * @param context context of the SCL file in which ExtRefs should be updated
+     * @return list of encountered errors
+     */
+    List<SclReportItem> updateAllExtRefIedNames(SclEditorContext context);
+
     /**
      * ExtRef Binding For LDevice (inst=LDEPF) that matching EPF configuration
      *
@@ -7,10 +7,14 @@ package org.lfenergy.compas.sct.commons.api;
 import lombok.NonNull;
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.TLNode;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,6 +38,7 @@ import java.util.UUID;
  *   <li>DAI features</li>
  *   <ol>
  *      <li>{@link SclEditor#updateDAI <em>Update the <b>TDAI </b> reference object for given <b>iedName</b>, <b>ldInst </b> and <b>DataAttributeRef </b> model</em>}</li>
+ *      <li>{@link SclEditor#updateDAIs <em>Update the <b>TDAI </b> reference objects for given <b>DaiUpdate </b> models</em>}</li>
  *   </ol>
  * </ul>
  * @see ExtRefEditor
@@ -110,6 +115,23 @@ public interface SclEditor {
      */
     void updateDAI(SCL scd, String iedName, String ldInst, DataAttributeRef dataAttributeRef) throws ScdException;
 
+    /**
+     * Updates DAIs like {@link #updateDAI} for each given update, in the given order.
+     * LNodeTypes, DO/DA name paths, IEDs, LDevices, LNs and ObjRef values used by several updates are only looked up once.
+     * Updates are applied one by one, without validating the whole batch first :
+     * <ul>
+     *     <li>an update which cannot be applied because of an {@link ScdException} or an {@link IllegalArgumentException}
+     *     does not prevent the next ones from being applied : its error is given in its result.</li>
+     *     <li>any other exception (e.g. a NullPointerException on an incomplete DataAttributeRef) stops the batch and is thrown : the previous updates
+     *     remain applied and the next ones are not applied.</li>
+     * </ul>
+     *
+     * @param scd        SCL file in which DAIs should be updated
+     * @param daiUpdates updates to apply
+     * @return results of the updates, in the order of the given updates
+     */
+    List<DaiUpdateResult> updateDAIs(SCL scd, Collection<DaiUpdate> daiUpdates);
+
     /**
      * Imports IEDs, DataTypeTemplates and Communication nodes of STD files into SCL (SCD) file
      * <em><b>STD</b></em> : System Template Definition
@@ -137,6 +159,36 @@ public interface SclEditor {
      */
     void importSTDElementsInSCD(SCL scd, List<SCL> stds) throws ScdException;
 
+    /**
+     * Same as {@link #importSTDElementsInSCD(SCL, List)}, but only for the IEDs with given names.
+     * LNode/Private COMPAS-ICDHeader of SCL/Substation/.. of other IEDs are ignored.
+     *
+     * @param scd      SCL object in which content of STD files are imported
+     * @param stds     list of STD files contenting datas to import into SCD
+     * @param iedNames names of the IEDs to import
+     * @throws ScdException throws when inconsistency between Substation of SCL content and gien STD files,
+     *                      see {@link #importSTDElementsInSCD(SCL, List)}
+     */
+    void importSTDElementsInSCD(SCL scd, List<SCL> stds, Set<String> iedNames) throws ScdException;
+
+    /**
+     * Imports IEDs of a previous SCD into the SCD, instead of importing them again from their STD file.
+     * For each IED :
+     * <ul>
+     *     <li>import a copy of /IED and of the /DataTypeTemplate types it uses from the previous SCD</li>
+     *     <li>import a copy of its ConnectedAP (Address and PhysConn, like {@link #importSTDElementsInSCD(SCL, List)}) in Communication node in SCD file</li>
+     * </ul>
+     * IEDs are imported with their current content : Control Blocks, DataSets and ExtRef bindings of the previous SCD are kept,
+     * call {@link ControlBlockEditor#removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(SCL)}
+     * afterwards to get the same IEDs as a new import. GSE and SMV of the previous SCD are not imported.
+     *
+     * @param scd         SCL object in which IEDs are imported
+     * @param previousScd SCD containing the IEDs to import
+     * @param iedNames    names of the IEDs to import, in the order they are imported
+     * @throws ScdException throws when an IED is not found in previous SCD or already exists in SCD
+     */
+    void importIEDsFromPreviousSCD(SCL scd, SCL previousScd, Collection<String> iedNames) throws ScdException;
+
     /**
      * Activate used LDevice and Deactivate unused LDevice in {@link TLNode <em><b>TLNode </b></em>}
      *
@@ -145,6 +197,25 @@ public interface SclEditor {
      */
     List<SclReportItem> updateLDeviceStatus(SCL scd);
 
+    /**
+     * Activate used LDevice and Deactivate unused LDevice in {@link TLNode <em><b>TLNode </b></em>}, writing encountered errors to a sink.
+     * Updates only stop when the sink asks to abort, leaving remaining LDevices unchanged : a sink dropping items, like
+     * {@link org.lfenergy.compas.sct.commons.report.CappedReportSink}, does not prevent any update.
+     * When the editor runs IEDs in parallel, all LDevices are updated before the sink is read : it cannot stop updates early.
+     *
+     * @param scd SCL file for which LDevice should be activated or deactivated
+     * @param reportSink sink receiving encountered errors
+     */
+    void updateLDeviceStatus(SCL scd, ReportSink reportSink);
+
+    /**
+     * Same as {@link #updateLDeviceStatus(SCL)}, reusing the adapters already built by the previous calls in the context
+     *
+     * @param context context of the SCL file for which LDevice should be activated or deactivated
+     * @return list of encountered errors
+     */
+    List<SclReportItem> updateLDeviceStatus(SclEditorContext context);
+
     /**
      * Update DAIs of DO InRef in all LN0 of the SCD using matching ExtRef information.
      *
@@ -153,6 +224,14 @@ public interface SclEditor {
      */
     List<SclReportItem> updateDoInRef(SCL scd);
 
+    /**
+     * Same as {@link #updateDoInRef(SCL)}, reusing the adapters already built by the previous calls in the context
+     *
+     * @param context context of the SCL file for which DOs InRef should be updated
+     * @return list of encountered errors
+     */
+    List<SclReportItem> updateDoInRef(SclEditorContext context);
+
     /**
      * Update and/or create Monitoring LNs (LSVS and LGOS) for bound GOOSE and SMV Control Blocks
      *
@@ -161,4 +240,12 @@ public interface SclEditor {
      */
     List<SclReportItem> manageMonitoringLns(SCL scd);
 
+    /**
+     * Same as {@link #manageMonitoringLns(SCL)}, reusing the adapters already built by the previous calls in the context
+     *
+     * @param context context of the SCL file for which Monitoring LNs should be updated and/or created
+     * @return list of encountered errors
+     */
+    List<SclReportItem> manageMonitoringLns(SclEditorContext context);
+
 }
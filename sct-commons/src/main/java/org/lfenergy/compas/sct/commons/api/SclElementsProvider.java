@@ -72,6 +72,25 @@ public interface SclElementsProvider {
      */
     List<ExtRefBindingInfo> getExtRefBinders(SCL scd, String iedName, String ldInst, String lnClass, String lnInst, String prefix, ExtRefSignalInfo signalInfo) throws ScdException;
 
+    /**
+     * Gets a page of the possible ExtRefs to bind in SCL file with given ExtRef (<em>signalInfo</em>), like
+     * {@link #getExtRefBinders(SCL, String, String, String, String, String, ExtRefSignalInfo)}, without sorting all of them
+     *
+     * @param scd        SCL file in which ExtRefs should be found
+     * @param iedName    name of IED in which LDevice is localized
+     * @param ldInst     ldInst of LDevice in which LN is localized
+     * @param lnClass    lnClass of LN in which ExtRef signal to find binders is localized
+     * @param lnInst     lnInst of LN in which ExtRef signal to find binders is localized
+     * @param prefix     prefix of LN in which ExtRef signal to find binders is localized
+     * @param signalInfo ExtRef signal for which we should find possible binders in SCL file binders
+     * @param offset     number of sorted binders to skip
+     * @param limit      maximum number of binders to return
+     * @return list of at most <em>limit</em> <em>ExtRefBindingInfo</em>, starting at position <em>offset</em> of the binders
+     * sorted by {@link ExtRefBindingInfo#compareTo(ExtRefBindingInfo) compareTo} method.
+     * @throws ScdException throws when ExtRef contains inconsistency data
+     */
+    List<ExtRefBindingInfo> getExtRefBinders(SCL scd, String iedName, String ldInst, String lnClass, String lnInst, String prefix, ExtRefSignalInfo signalInfo, int offset, int limit) throws ScdException;
+
     /**
      * Gets all Control Blocks related to <em>extRefInfo</em> in given SCL file
      *
@@ -0,0 +1,31 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import java.util.List;
+
+/**
+ * Capacity report of an AccessPoint : the DataSets, FCDA and Control Blocks of its LDevices (server capacities) and the
+ * FCDA and Control Blocks it subscribes to in other IEDs through its bound ExtRefs (client demands), compared with the
+ * limits of its Services.
+ * <p>
+ * Server capacities are given for DATASET, FCDA (FCDA of the largest DataSet, the limit applying to each DataSet),
+ * REPORT, GSE and SMV. Client demands are given for FCDA, GSE, REPORT and SMV.
+ * </p>
+ *
+ * @param iedName              name of the IED of the AccessPoint
+ * @param accessPointName      name of the AccessPoint
+ * @param serverCapacities     elements of the LDevices of the AccessPoint
+ * @param clientDemands        elements subscribed by the AccessPoint
+ * @param dataGroupReportItems errors on server capacities, as given by
+ *                             {@link org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter#checkDataGroupCoherence}
+ * @param bindingReportItems   errors on bound ExtRefs and client demands, as given by
+ *                             {@link org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter#checkBindingDataGroupCoherence}
+ * @see org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter#analyzeCapacity()
+ */
+public record AccessPointCapacity(String iedName, String accessPointName, List<ServiceCapacity> serverCapacities,
+                                  List<ServiceCapacity> clientDemands, List<SclReportItem> dataGroupReportItems,
+                                  List<SclReportItem> bindingReportItems) {
+}
@@ -0,0 +1,16 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+/**
+ * Update of a DAI, as given to {@link org.lfenergy.compas.sct.commons.api.SclEditor#updateDAI}
+ *
+ * @param iedName          name of IED in which DAI is localized
+ * @param ldInst           ldInst of LDevice in which DAI is localized
+ * @param dataAttributeRef reference summarized DataTypeTemplate related to DAI to update
+ * @see org.lfenergy.compas.sct.commons.api.SclEditor#updateDAIs
+ */
+public record DaiUpdate(String iedName, String ldInst, DataAttributeRef dataAttributeRef) {
+}
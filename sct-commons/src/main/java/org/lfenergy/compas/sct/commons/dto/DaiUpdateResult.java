@@ -0,0 +1,27 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+/**
+ * Result of a DAI update
+ *
+ * @param daiUpdate    update which has been applied
+ * @param errorMessage message of the error which prevented the update, null when the DAI has been updated
+ * @see org.lfenergy.compas.sct.commons.api.SclEditor#updateDAIs
+ */
+public record DaiUpdateResult(DaiUpdate daiUpdate, String errorMessage) {
+
+    public static DaiUpdateResult success(DaiUpdate daiUpdate) {
+        return new DaiUpdateResult(daiUpdate, null);
+    }
+
+    public static DaiUpdateResult error(DaiUpdate daiUpdate, String errorMessage) {
+        return new DaiUpdateResult(daiUpdate, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return errorMessage == null;
+    }
+}
@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.TExtRef;
+import org.lfenergy.compas.scl2007b4.model.TLLN0Enum;
+import org.lfenergy.compas.scl2007b4.model.TServiceType;
+
+/**
+ * Key of the Control Block feeding an ExtRef, usable in hash based collections.
+ * <p>
+ * Two ExtRefs have equal keys when they are fed by the same Control Block : blank values (null, empty or whitespaces only)
+ * are normalized to null, so that they are considered equal like with {@link org.lfenergy.compas.sct.commons.util.Utils#equalsOrBothBlank},
+ * and a missing srcLNClass is considered as LLN0.
+ * </p>
+ *
+ * @param iedName    ExtRef iedName, null when blank
+ * @param srcLDInst  ExtRef srcLDInst, null when blank
+ * @param srcLNClass ExtRef srcLNClass, LLN0 when not set
+ * @param srcLNInst  ExtRef srcLNInst, null when blank
+ * @param srcPrefix  ExtRef srcPrefix, null when blank
+ * @param srcCBName  ExtRef srcCBName, null when blank
+ * @param serviceType ExtRef serviceType
+ * @see org.lfenergy.compas.sct.commons.scl.ExtRefService#isExtRefFeedBySameControlBlock(TExtRef, TExtRef)
+ */
+public record ExtRefSourceCBKey(String iedName, String srcLDInst, String srcLNClass, String srcLNInst, String srcPrefix,
+                                String srcCBName, TServiceType serviceType) {
+
+    /**
+     * Creates the key of the Control Block feeding an ExtRef
+     * @param tExtRef ExtRef
+     * @return key of the source Control Block
+     */
+    public static ExtRefSourceCBKey from(TExtRef tExtRef) {
+        return new ExtRefSourceCBKey(
+                StringUtils.defaultIfBlank(tExtRef.getIedName(), null),
+                StringUtils.defaultIfBlank(tExtRef.getSrcLDInst(), null),
+                tExtRef.isSetSrcLNClass() ? tExtRef.getSrcLNClass().get(0) : TLLN0Enum.LLN_0.value(),
+                StringUtils.defaultIfBlank(tExtRef.getSrcLNInst(), null),
+                StringUtils.defaultIfBlank(tExtRef.getSrcPrefix(), null),
+                StringUtils.defaultIfBlank(tExtRef.getSrcCBName(), null),
+                tExtRef.getServiceType());
+    }
+}
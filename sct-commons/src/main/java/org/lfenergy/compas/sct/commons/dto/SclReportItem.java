@@ -4,7 +4,52 @@
 
 package org.lfenergy.compas.sct.commons.dto;
 
-public record SclReportItem(String xpath, String message, boolean isError) {
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Item of a report : an error or a warning, with the XPath of the element concerned and a message.
+ * <p>
+ * The XPath and the message can be given as {@link Supplier}, usually a reference to an adapter like
+ * <em>adapter::getXPath</em>, so that they are only built when read : most report items are only counted or filtered.
+ * They are kept once built : concurrent first reads may build them several times, but always give the same value.
+ * </p>
+ * <p>
+ * A Supplier is called when the item is first read, not when the item is created : it reads the SCL elements as they
+ * are at that time, after the steps run in between, and keeps them in memory until then. Suppliers must therefore only
+ * read values that the later steps do not change, like names, inst and desc of the elements. A value that a later step
+ * may change must be given as a String, so that it is read when the item is created.
+ * </p>
+ * <p>
+ * This class replaces a record with the same accessors, equals, hashCode and toString. Passing a bare null XPath to a
+ * factory is ambiguous since the Supplier overloads exist : cast it to String.
+ * </p>
+ */
+public final class SclReportItem {
+
+    private volatile Supplier<String> xpathSupplier;
+    private String xpath;
+    private volatile Supplier<String> messageSupplier;
+    private String message;
+    private final boolean isError;
+
+    public SclReportItem(String xpath, String message, boolean isError) {
+        this.xpath = xpath;
+        this.message = message;
+        this.isError = isError;
+    }
+
+    private SclReportItem(Supplier<String> xpathSupplier, Supplier<String> messageSupplier, boolean isError) {
+        this.xpathSupplier = Objects.requireNonNull(xpathSupplier);
+        this.messageSupplier = Objects.requireNonNull(messageSupplier);
+        this.isError = isError;
+    }
+
+    private SclReportItem(Supplier<String> xpathSupplier, String message, boolean isError) {
+        this.xpathSupplier = Objects.requireNonNull(xpathSupplier);
+        this.message = message;
+        this.isError = isError;
+    }
 
     public static SclReportItem error(String xpath, String message) {
         return new SclReportItem(xpath, message, true);
@@ -14,4 +59,91 @@ public record SclReportItem(String xpath, String message, boolean isError) {
         return new SclReportItem(xpath, message, false);
     }
 
+    /**
+     * Creates an error whose XPath is built when first read, see {@link SclReportItem}
+     * @param xpathSupplier builds the XPath, must only read values not changed by later steps
+     * @param message message
+     * @return error
+     */
+    public static SclReportItem error(Supplier<String> xpathSupplier, String message) {
+        return new SclReportItem(xpathSupplier, message, true);
+    }
+
+    /**
+     * Creates a warning whose XPath is built when first read, see {@link SclReportItem}
+     * @param xpathSupplier builds the XPath, must only read values not changed by later steps
+     * @param message message
+     * @return warning
+     */
+    public static SclReportItem warning(Supplier<String> xpathSupplier, String message) {
+        return new SclReportItem(xpathSupplier, message, false);
+    }
+
+    /**
+     * Creates an error whose XPath and message are built when first read, see {@link SclReportItem}
+     * @param xpathSupplier builds the XPath, must only read values not changed by later steps
+     * @param messageSupplier builds the message, must only read values not changed by later steps
+     * @return error
+     */
+    public static SclReportItem error(Supplier<String> xpathSupplier, Supplier<String> messageSupplier) {
+        return new SclReportItem(xpathSupplier, messageSupplier, true);
+    }
+
+    /**
+     * Creates a warning whose XPath and message are built when first read, see {@link SclReportItem}
+     * @param xpathSupplier builds the XPath, must only read values not changed by later steps
+     * @param messageSupplier builds the message, must only read values not changed by later steps
+     * @return warning
+     */
+    public static SclReportItem warning(Supplier<String> xpathSupplier, Supplier<String> messageSupplier) {
+        return new SclReportItem(xpathSupplier, messageSupplier, false);
+    }
+
+    /**
+     * Gets XPath of the element concerned by this item, building it on first call
+     * @return XPath
+     */
+    public String xpath() {
+        Supplier<String> supplier = xpathSupplier;
+        if (supplier != null) {
+            xpath = supplier.get();
+            xpathSupplier = null;
+        }
+        return xpath;
+    }
+
+    /**
+     * Gets message of this item, building it on first call
+     * @return message
+     */
+    public String message() {
+        Supplier<String> supplier = messageSupplier;
+        if (supplier != null) {
+            message = supplier.get();
+            messageSupplier = null;
+        }
+        return message;
+    }
+
+    public boolean isError() {
+        return isError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SclReportItem that)) return false;
+        return isError == that.isError && Objects.equals(xpath(), that.xpath()) && Objects.equals(message(), that.message());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(xpath(), message(), isError);
+    }
+
+    @Override
+    public String toString() {
+        return "SclReportItem[xpath=" + xpath() + ", message=" + message() + ", isError=" + isError + "]";
+    }
+
 }
@@ -0,0 +1,32 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
+
+import static org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE;
+
+/**
+ * Number of elements of a kind (DataSets, FCDA, Control Blocks) used or subscribed by an AccessPoint, with the max
+ * number authorized by its Services
+ *
+ * @param service kind of element
+ * @param count   number of elements, or {@link #NOT_COUNTED} when it has not been counted
+ * @param max     max number authorized, or {@link org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter#MAX_OCCURRENCE_NO_LIMIT_VALUE}
+ *                when there is no limit
+ * @see AccessPointCapacity
+ */
+public record ServiceCapacity(ServicesConfigEnum service, long count, long max) {
+
+    public static final long NOT_COUNTED = -1L;
+
+    public boolean isLimited() {
+        return max != MAX_OCCURRENCE_NO_LIMIT_VALUE;
+    }
+
+    public boolean isExceeded() {
+        return isLimited() && count > max;
+    }
+}
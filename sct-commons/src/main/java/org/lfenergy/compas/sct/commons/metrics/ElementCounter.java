@@ -0,0 +1,63 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.LN0;
+import org.lfenergy.compas.scl2007b4.model.TAnyLN;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TLDevice;
+import org.lfenergy.compas.sct.commons.LdeviceService;
+import org.lfenergy.compas.sct.commons.LnService;
+
+/**
+ * Counts elements of IEDs and LDevices, for metrics and events
+ */
+final class ElementCounter {
+
+    private static final LdeviceService LDEVICE_SERVICE = new LdeviceService();
+    private static final LnService LN_SERVICE = new LnService();
+
+    private ElementCounter() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    static int countLDevices(TIED tied) {
+        return (int) LDEVICE_SERVICE.getLdevices(tied).count();
+    }
+
+    static int countLNs(TLDevice tlDevice) {
+        return (int) LN_SERVICE.getAnylns(tlDevice).count();
+    }
+
+    static int countExtRefs(TIED tied) {
+        return LDEVICE_SERVICE.getLdevices(tied).mapToInt(ElementCounter::countExtRefs).sum();
+    }
+
+    static int countExtRefs(TLDevice tlDevice) {
+        return LN_SERVICE.getAnylns(tlDevice)
+                .filter(TAnyLN::isSetInputs)
+                .mapToInt(tAnyLN -> tAnyLN.getInputs().getExtRef().size())
+                .sum();
+    }
+
+    static int countControlBlocks(TIED tied) {
+        return LDEVICE_SERVICE.getLdevices(tied).mapToInt(ElementCounter::countControlBlocks).sum();
+    }
+
+    static int countControlBlocks(TLDevice tlDevice) {
+        return LN_SERVICE.getAnylns(tlDevice)
+                .mapToInt(tAnyLN -> tAnyLN instanceof LN0 ln0 ?
+                        ln0.getReportControl().size() + ln0.getGSEControl().size() + ln0.getSampledValueControl().size()
+                        : tAnyLN.getReportControl().size())
+                .sum();
+    }
+
+    static int countDataSets(TLDevice tlDevice) {
+        return LN_SERVICE.getAnylns(tlDevice)
+                .mapToInt(tAnyLN -> tAnyLN.getDataSet().size())
+                .sum();
+    }
+
+}
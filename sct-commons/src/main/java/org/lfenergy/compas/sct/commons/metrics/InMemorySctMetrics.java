@@ -0,0 +1,114 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SctMetrics} keeping timers and counters in memory, for example to be exposed by a monitoring endpoint.
+ * This class is thread safe.
+ */
+public class InMemorySctMetrics implements SctMetrics {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, TimerRecorder> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordTimer(String name, Duration duration) {
+        timers.computeIfAbsent(name, key -> new TimerRecorder()).record(duration.toNanos());
+    }
+
+    @Override
+    public void incrementCounter(String name, long amount) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * Gets the value of a counter
+     * @param name name of the counter
+     * @return value of the counter, 0 when never incremented
+     */
+    public long getCounter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Gets the statistics of a timer
+     * @param name name of the timer
+     * @return statistics of the timer, empty when never recorded
+     */
+    public Optional<TimerStatistics> getTimer(String name) {
+        return Optional.ofNullable(timers.get(name)).map(TimerRecorder::toStatistics);
+    }
+
+    /**
+     * Gets a snapshot of all counters
+     * @return counter values by name, sorted by name
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Gets a snapshot of all timers
+     * @return timer statistics by name, sorted by name
+     */
+    public Map<String, TimerStatistics> getTimers() {
+        Map<String, TimerStatistics> snapshot = new TreeMap<>();
+        timers.forEach((name, timer) -> snapshot.put(name, timer.toStatistics()));
+        return snapshot;
+    }
+
+    /**
+     * Removes all timers and counters
+     */
+    public void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    /**
+     * Statistics of a timer
+     * @param count number of recorded durations
+     * @param total sum of recorded durations
+     * @param max longest recorded duration
+     */
+    public record TimerStatistics(long count, Duration total, Duration max) {
+
+        /**
+         * Gets the mean of recorded durations
+         * @return mean duration, zero when nothing was recorded
+         */
+        public Duration mean() {
+            return count == 0 ? Duration.ZERO : total.dividedBy(count);
+        }
+    }
+
+    private static final class TimerRecorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private TimerStatistics toStatistics() {
+            return new TimerStatistics(count.sum(), Duration.ofNanos(totalNanos.sum()), Duration.ofNanos(maxNanos.get()));
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubNetwork;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+
+import java.util.List;
+
+/**
+ * {@link ControlBlockEditor} recording metrics of the operations of another {@link ControlBlockEditor}
+ */
+final class MeteredControlBlockEditor implements ControlBlockEditor {
+
+    private final ControlBlockEditor controlBlockEditor;
+    private final OperationRecorder recorder;
+
+    MeteredControlBlockEditor(ControlBlockEditor controlBlockEditor, SctMetrics sctMetrics) {
+        this.controlBlockEditor = controlBlockEditor;
+        this.recorder = new OperationRecorder(sctMetrics, ControlBlockEditor.class.getSimpleName());
+    }
+
+    @Override
+    public void removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(SCL scl) {
+        recorder.record("removeAllControlBlocksAndDatasetsAndExtRefSrcBindings", scl,
+                () -> controlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scl));
+    }
+
+    @Override
+    public List<SclReportItem> analyzeDataGroups(SCL scd) {
+        return recorder.record("analyzeDataGroups", scd, () -> controlBlockEditor.analyzeDataGroups(scd));
+    }
+
+    @Override
+    public void analyzeDataGroups(SCL scd, ReportSink reportSink) {
+        recorder.record("analyzeDataGroups", scd, reportSink, sink -> controlBlockEditor.analyzeDataGroups(scd, sink));
+    }
+
+    @Override
+    public List<SclReportItem> analyzeDataGroups(SclEditorContext context) {
+        return recorder.record("analyzeDataGroups", context.getScd(), () -> controlBlockEditor.analyzeDataGroups(context));
+    }
+
+    @Override
+    public List<AccessPointCapacity> analyzeDataGroupCapacities(SCL scd) {
+        return recorder.record("analyzeDataGroupCapacities", scd, () -> controlBlockEditor.analyzeDataGroupCapacities(scd));
+    }
+
+    @Override
+    public List<SclReportItem> createDataSetAndControlBlocks(SCL scd, DACOMM dacomm) {
+        return recorder.record("createDataSetAndControlBlocks", scd, () -> controlBlockEditor.createDataSetAndControlBlocks(scd, dacomm));
+    }
+
+    @Override
+    public List<SclReportItem> createDataSetAndControlBlocks(SclEditorContext context, DACOMM dacomm) {
+        return recorder.record("createDataSetAndControlBlocks", context.getScd(),
+                () -> controlBlockEditor.createDataSetAndControlBlocks(context, dacomm));
+    }
+
+    @Override
+    public List<SclReportItem> configureNetworkForAllControlBlocks(SCL scd, CBCom cbCom) {
+        return recorder.record("configureNetworkForAllControlBlocks", scd, () -> controlBlockEditor.configureNetworkForAllControlBlocks(scd, cbCom));
+    }
+
+    @Override
+    public List<SclReportItem> configureNetworkForAllControlBlocks(SCL scd, CBCom cbCom, List<TSubNetwork> subnetworksToReuse) {
+        return recorder.record("configureNetworkForAllControlBlocks", scd,
+                () -> controlBlockEditor.configureNetworkForAllControlBlocks(scd, cbCom, subnetworksToReuse));
+    }
+
+}
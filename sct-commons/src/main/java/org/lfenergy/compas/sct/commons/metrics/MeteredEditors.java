@@ -0,0 +1,70 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import lombok.NonNull;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.api.SubstationEditor;
+
+/**
+ * Wraps the editors so that each public operation records a timer and counters in a {@link SctMetrics}.
+ * <p>
+ * Names of timers and counters are described in {@link OperationRecorder}, for example
+ * <em>sct.SclEditor.importSTDElementsInSCD</em> and <em>sct.SclEditor.importSTDElementsInSCD.ieds</em>.
+ * When the given {@link SctMetrics} is not enabled (like {@link NoOpSctMetrics}), editors are returned unchanged.
+ * </p>
+ * <p>
+ * The size of the SCD files is not recorded by the operations, it is recorded once per SCD with {@link #recordScdSize}.
+ * </p>
+ */
+public final class MeteredEditors {
+
+    static final String SCD_COUNT = "sct.scd.count";
+    static final String SCD_IEDS = "sct.scd.ieds";
+    static final String SCD_EXTREFS = "sct.scd.extrefs";
+    static final String SCD_CONTROL_BLOCKS = "sct.scd.controlblocks";
+
+    private MeteredEditors() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static SclEditor sclEditor(@NonNull SclEditor sclEditor, @NonNull SctMetrics sctMetrics) {
+        return sctMetrics.isEnabled() ? new MeteredSclEditor(sclEditor, sctMetrics) : sclEditor;
+    }
+
+    public static ExtRefEditor extRefEditor(@NonNull ExtRefEditor extRefEditor, @NonNull SctMetrics sctMetrics) {
+        return sctMetrics.isEnabled() ? new MeteredExtRefEditor(extRefEditor, sctMetrics) : extRefEditor;
+    }
+
+    public static ControlBlockEditor controlBlockEditor(@NonNull ControlBlockEditor controlBlockEditor, @NonNull SctMetrics sctMetrics) {
+        return sctMetrics.isEnabled() ? new MeteredControlBlockEditor(controlBlockEditor, sctMetrics) : controlBlockEditor;
+    }
+
+    public static SubstationEditor substationEditor(@NonNull SubstationEditor substationEditor, @NonNull SctMetrics sctMetrics) {
+        return sctMetrics.isEnabled() ? new MeteredSubstationEditor(substationEditor, sctMetrics) : substationEditor;
+    }
+
+    /**
+     * Records the size of an SCD : counters {@value #SCD_IEDS}, {@value #SCD_EXTREFS} and {@value #SCD_CONTROL_BLOCKS}
+     * are incremented with its number of elements, and {@value #SCD_COUNT} with 1, so that their ratio is the average size
+     * of the SCD files. As it walks the whole SCD, call it once per SCD, when it is complete (for example before saving it).
+     * Does nothing when the given {@link SctMetrics} is not enabled.
+     * @param scd complete SCD
+     * @param sctMetrics metrics receiving the counters
+     */
+    public static void recordScdSize(@NonNull SCL scd, @NonNull SctMetrics sctMetrics) {
+        if (!sctMetrics.isEnabled()) {
+            return;
+        }
+        sctMetrics.incrementCounter(SCD_COUNT, 1);
+        sctMetrics.incrementCounter(SCD_IEDS, scd.getIED().size());
+        sctMetrics.incrementCounter(SCD_EXTREFS, scd.getIED().stream().mapToLong(ElementCounter::countExtRefs).sum());
+        sctMetrics.incrementCounter(SCD_CONTROL_BLOCKS, scd.getIED().stream().mapToLong(ElementCounter::countControlBlocks).sum());
+    }
+
+}
@@ -0,0 +1,76 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TExtRef;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
+import org.lfenergy.compas.sct.commons.api.ExtRefEditor;
+import org.lfenergy.compas.sct.commons.dto.ExtRefInfo;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.model.epf.EPF;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+
+import java.util.List;
+
+/**
+ * {@link ExtRefEditor} recording metrics of the operations of another {@link ExtRefEditor}
+ */
+final class MeteredExtRefEditor implements ExtRefEditor {
+
+    private final ExtRefEditor extRefEditor;
+    private final OperationRecorder recorder;
+
+    MeteredExtRefEditor(ExtRefEditor extRefEditor, SctMetrics sctMetrics) {
+        this.extRefEditor = extRefEditor;
+        this.recorder = new OperationRecorder(sctMetrics, ExtRefEditor.class.getSimpleName());
+    }
+
+    @Override
+    public void updateExtRefBinders(SCL scd, ExtRefInfo extRefInfo) {
+        recorder.record("updateExtRefBinders", scd, () -> extRefEditor.updateExtRefBinders(scd, extRefInfo));
+    }
+
+    @Override
+    public TExtRef updateExtRefSource(SCL scd, ExtRefInfo extRefInfo) {
+        return recorder.record("updateExtRefSource", scd, () -> extRefEditor.updateExtRefSource(scd, extRefInfo));
+    }
+
+    @Override
+    public List<SclReportItem> updateAllExtRefIedNames(SCL scd) {
+        return recorder.record("updateAllExtRefIedNames", scd, () -> extRefEditor.updateAllExtRefIedNames(scd));
+    }
+
+    @Override
+    public void updateAllExtRefIedNames(SCL scd, ReportSink reportSink) {
+        recorder.record("updateAllExtRefIedNames", scd, reportSink, sink -> extRefEditor.updateAllExtRefIedNames(scd, sink));
+    }
+
+    @Override
+    public List<SclReportItem> updateAllExtRefIedNames(SclEditorContext context) {
+        return recorder.record("updateAllExtRefIedNames", context.getScd(), () -> extRefEditor.updateAllExtRefIedNames(context));
+    }
+
+    @Override
+    public List<SclReportItem> manageBindingForLDEPF(SCL scd, EPF epf) {
+        return recorder.record("manageBindingForLDEPF", scd, () -> extRefEditor.manageBindingForLDEPF(scd, epf));
+    }
+
+    @Override
+    public void epfPostProcessing(SCL scd) {
+        recorder.record("epfPostProcessing", scd, () -> extRefEditor.epfPostProcessing(scd));
+    }
+
+    @Override
+    public void debindCompasFlowsAndExtRefsBasedOnVoltageLevel(SCL scd) {
+        recorder.record("debindCompasFlowsAndExtRefsBasedOnVoltageLevel", scd, () -> extRefEditor.debindCompasFlowsAndExtRefsBasedOnVoltageLevel(scd));
+    }
+
+    @Override
+    public List<SclReportItem> updateIedNameBasedOnLnode(SCL scd) {
+        return recorder.record("updateIedNameBasedOnLnode", scd, () -> extRefEditor.updateIedNameBasedOnLnode(scd));
+    }
+
+}
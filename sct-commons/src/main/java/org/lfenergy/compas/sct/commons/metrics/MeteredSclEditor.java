@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.SclEditorContext;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.dto.DaiUpdate;
+import org.lfenergy.compas.sct.commons.dto.DaiUpdateResult;
+import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
+import org.lfenergy.compas.sct.commons.dto.HeaderDTO;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.SubNetworkDTO;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link SclEditor} recording metrics of the operations of another {@link SclEditor}
+ */
+final class MeteredSclEditor implements SclEditor {
+
+    private final SclEditor sclEditor;
+    private final OperationRecorder recorder;
+
+    MeteredSclEditor(SclEditor sclEditor, SctMetrics sctMetrics) {
+        this.sclEditor = sclEditor;
+        this.recorder = new OperationRecorder(sctMetrics, SclEditor.class.getSimpleName());
+    }
+
+    @Override
+    public SCL initScl(UUID hId, String hVersion, String hRevision) {
+        return recorder.record("initScl", null, () -> sclEditor.initScl(hId, hVersion, hRevision));
+    }
+
+    @Override
+    public void addHistoryItem(SCL scd, String who, String what, String why) {
+        recorder.record("addHistoryItem", scd, () -> sclEditor.addHistoryItem(scd, who, what, why));
+    }
+
+    @Override
+    public void updateHeader(SCL scd, HeaderDTO headerDTO) {
+        recorder.record("updateHeader", scd, () -> sclEditor.updateHeader(scd, headerDTO));
+    }
+
+    @Override
+    public void addIED(SCL scd, String iedName, SCL icd) {
+        recorder.record("addIED", scd, () -> sclEditor.addIED(scd, iedName, icd));
+    }
+
+    @Override
+    public void addSubnetworks(SCL scd, List<SubNetworkDTO> subNetworks, SCL icd) {
+        recorder.record("addSubnetworks", scd, () -> sclEditor.addSubnetworks(scd, subNetworks, icd));
+    }
+
+    @Override
+    public void addSubnetworks(SCL scd, SCL std, String stdIedName) {
+        recorder.record("addSubnetworks", scd, () -> sclEditor.addSubnetworks(scd, std, stdIedName));
+    }
+
+    @Override
+    public void updateDAI(SCL scd, String iedName, String ldInst, DataAttributeRef dataAttributeRef) {
+        recorder.record("updateDAI", scd, () -> sclEditor.updateDAI(scd, iedName, ldInst, dataAttributeRef));
+    }
+
+    @Override
+    public List<DaiUpdateResult> updateDAIs(SCL scd, Collection<DaiUpdate> daiUpdates) {
+        return recorder.record("updateDAIs", scd, () -> sclEditor.updateDAIs(scd, daiUpdates));
+    }
+
+    @Override
+    public void importSTDElementsInSCD(SCL scd, List<SCL> stds) {
+        recorder.record("importSTDElementsInSCD", scd, () -> sclEditor.importSTDElementsInSCD(scd, stds));
+    }
+
+    @Override
+    public void importSTDElementsInSCD(SCL scd, List<SCL> stds, Set<String> iedNames) {
+        recorder.record("importSTDElementsInSCD", scd, () -> sclEditor.importSTDElementsInSCD(scd, stds, iedNames));
+    }
+
+    @Override
+    public void importIEDsFromPreviousSCD(SCL scd, SCL previousScd, Collection<String> iedNames) {
+        recorder.record("importIEDsFromPreviousSCD", scd, () -> sclEditor.importIEDsFromPreviousSCD(scd, previousScd, iedNames));
+    }
+
+    @Override
+    public List<SclReportItem> updateLDeviceStatus(SCL scd) {
+        return recorder.record("updateLDeviceStatus", scd, () -> sclEditor.updateLDeviceStatus(scd));
+    }
+
+    @Override
+    public void updateLDeviceStatus(SCL scd, ReportSink reportSink) {
+        recorder.record("updateLDeviceStatus", scd, reportSink, sink -> sclEditor.updateLDeviceStatus(scd, sink));
+    }
+
+    @Override
+    public List<SclReportItem> updateLDeviceStatus(SclEditorContext context) {
+        return recorder.record("updateLDeviceStatus", context.getScd(), () -> sclEditor.updateLDeviceStatus(context));
+    }
+
+    @Override
+    public List<SclReportItem> updateDoInRef(SCL scd) {
+        return recorder.record("updateDoInRef", scd, () -> sclEditor.updateDoInRef(scd));
+    }
+
+    @Override
+    public List<SclReportItem> updateDoInRef(SclEditorContext context) {
+        return recorder.record("updateDoInRef", context.getScd(), () -> sclEditor.updateDoInRef(context));
+    }
+
+    @Override
+    public List<SclReportItem> manageMonitoringLns(SCL scd) {
+        return recorder.record("manageMonitoringLns", scd, () -> sclEditor.manageMonitoringLns(scd));
+    }
+
+    @Override
+    public List<SclReportItem> manageMonitoringLns(SclEditorContext context) {
+        return recorder.record("manageMonitoringLns", context.getScd(), () -> sclEditor.manageMonitoringLns(context));
+    }
+
+}
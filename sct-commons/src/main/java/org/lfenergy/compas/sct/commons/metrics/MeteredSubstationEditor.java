@@ -0,0 +1,28 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.api.SubstationEditor;
+
+/**
+ * {@link SubstationEditor} recording metrics of the operations of another {@link SubstationEditor}
+ */
+final class MeteredSubstationEditor implements SubstationEditor {
+
+    private final SubstationEditor substationEditor;
+    private final OperationRecorder recorder;
+
+    MeteredSubstationEditor(SubstationEditor substationEditor, SctMetrics sctMetrics) {
+        this.substationEditor = substationEditor;
+        this.recorder = new OperationRecorder(sctMetrics, SubstationEditor.class.getSimpleName());
+    }
+
+    @Override
+    public void addSubstation(SCL scd, SCL ssd) {
+        recorder.record("addSubstation", scd, () -> substationEditor.addSubstation(scd, ssd));
+    }
+
+}
@@ -0,0 +1,34 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import java.time.Duration;
+
+/**
+ * Default {@link SctMetrics}, which ignores all recorded timers and counters
+ */
+public final class NoOpSctMetrics implements SctMetrics {
+
+    public static final NoOpSctMetrics INSTANCE = new NoOpSctMetrics();
+
+    private NoOpSctMetrics() {
+    }
+
+    @Override
+    public void recordTimer(String name, Duration duration) {
+        // nothing to record
+    }
+
+    @Override
+    public void incrementCounter(String name, long amount) {
+        // nothing to record
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+}
@@ -0,0 +1,114 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.report.CountingReportSink;
+import org.lfenergy.compas.sct.commons.report.ReportSink;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Records the timer and counters of the operations of an editor.
+ * For an operation, the timer is named <em>sct.&lt;editor&gt;.&lt;operation&gt;</em> and the counters are suffixed with :
+ * <ul>
+ *   <li>{@value #FAILURES} : number of calls which threw an exception</li>
+ *   <li>{@value #IEDS} : number of IEDs of the processed SCD at the end of the operation. The other elements are not
+ *   counted here, as it would walk the whole SCD after each call : see {@link MeteredEditors#recordScdSize}</li>
+ *   <li>{@value #REPORT_ERRORS}, {@value #REPORT_WARNINGS} : number of returned or reported report items by severity</li>
+ * </ul>
+ */
+final class OperationRecorder {
+
+    static final String FAILURES = ".failures";
+    static final String IEDS = ".ieds";
+    static final String REPORT_ERRORS = ".report.errors";
+    static final String REPORT_WARNINGS = ".report.warnings";
+
+    private final SctMetrics sctMetrics;
+    private final String prefix;
+
+    OperationRecorder(SctMetrics sctMetrics, String editorName) {
+        this.sctMetrics = sctMetrics;
+        this.prefix = "sct." + editorName + ".";
+    }
+
+    /**
+     * Calls an operation and records its metrics
+     * @param operation name of the operation
+     * @param scd SCD processed by the operation, null when the operation returns it
+     * @param operationCall call of the operation
+     * @return result of the operation
+     * @param <T> type of the result
+     */
+    <T> T record(String operation, SCL scd, Supplier<T> operationCall) {
+        String name = prefix + operation;
+        long startTime = System.nanoTime();
+        T result;
+        try {
+            result = operationCall.get();
+        } catch (RuntimeException e) {
+            sctMetrics.recordTimer(name, Duration.ofNanos(System.nanoTime() - startTime));
+            sctMetrics.incrementCounter(name + FAILURES, 1);
+            throw e;
+        }
+        sctMetrics.recordTimer(name, Duration.ofNanos(System.nanoTime() - startTime));
+        if (scd != null) {
+            sctMetrics.incrementCounter(name + IEDS, scd.getIED().size());
+        } else if (result instanceof SCL resultScd) {
+            sctMetrics.incrementCounter(name + IEDS, resultScd.getIED().size());
+        }
+        if (result instanceof List<?> items) {
+            recordReportItems(name, items);
+        }
+        return result;
+    }
+
+    /**
+     * Calls an operation without result and records its metrics
+     * @param operation name of the operation
+     * @param scd SCD processed by the operation
+     * @param operationCall call of the operation
+     */
+    void record(String operation, SCL scd, Runnable operationCall) {
+        record(operation, scd, () -> {
+            operationCall.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls an operation writing its report to a {@link ReportSink} and records its metrics
+     * @param operation name of the operation
+     * @param scd SCD processed by the operation
+     * @param reportSink sink receiving the report items of the operation
+     * @param operationCall call of the operation with the sink to write to
+     */
+    void record(String operation, SCL scd, ReportSink reportSink, Consumer<ReportSink> operationCall) {
+        CountingReportSink countingReportSink = new CountingReportSink(reportSink);
+        record(operation, scd, () -> operationCall.accept(countingReportSink));
+        String name = prefix + operation;
+        sctMetrics.incrementCounter(name + REPORT_ERRORS, countingReportSink.getErrorCount());
+        sctMetrics.incrementCounter(name + REPORT_WARNINGS, countingReportSink.getWarningCount());
+    }
+
+    private void recordReportItems(String name, List<?> items) {
+        long errorCount = items.stream()
+                .filter(SclReportItem.class::isInstance)
+                .map(SclReportItem.class::cast)
+                .filter(SclReportItem::isError)
+                .count();
+        long warningCount = items.stream()
+                .filter(SclReportItem.class::isInstance)
+                .count() - errorCount;
+        sctMetrics.incrementCounter(name + REPORT_ERRORS, errorCount);
+        sctMetrics.incrementCounter(name + REPORT_WARNINGS, warningCount);
+    }
+
+}
@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+
+import java.util.function.Supplier;
+
+/**
+ * Records the JDK Flight Recorder events {@link SclStepEvent}, {@link SclIedEvent} and {@link SclLDeviceEvent} around
+ * the processing of a step, an IED or an LDevice.
+ * <p>
+ * As with the events themselves, an event is committed only when the processing completes without exception, and
+ * only when it is enabled in the recording settings.
+ * </p>
+ */
+public final class SclEvents {
+
+    private SclEvents() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs a step processing a whole SCD within a {@link SclStepEvent}
+     * @param step name of the step
+     * @param scd SCD processed by the step
+     * @param stepCall processing of the step
+     * @return result of the step
+     * @param <T> type of the result
+     */
+    public static <T> T step(String step, SCL scd, Supplier<T> stepCall) {
+        SclStepEvent event = SclStepEvent.begin(step);
+        T result = stepCall.get();
+        event.end(scd);
+        return result;
+    }
+
+    /**
+     * Runs a step without result processing a whole SCD within a {@link SclStepEvent}
+     * @param step name of the step
+     * @param scd SCD processed by the step
+     * @param stepCall processing of the step
+     */
+    public static void step(String step, SCL scd, Runnable stepCall) {
+        step(step, scd, () -> {
+            stepCall.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the processing of an IED of the SCD within a {@link SclIedEvent}
+     * @param step name of the step
+     * @param iedAdapter processed IED
+     * @param iedCall processing of the IED
+     * @return result of the processing
+     * @param <T> type of the result
+     */
+    public static <T> T ied(String step, IEDAdapter iedAdapter, Supplier<T> iedCall) {
+        SclIedEvent event = SclIedEvent.begin(step, iedAdapter.getName());
+        T result = iedCall.get();
+        event.end(iedAdapter.getCurrentElem());
+        return result;
+    }
+
+    /**
+     * Runs the processing without result of an IED of the SCD within a {@link SclIedEvent}
+     * @param step name of the step
+     * @param iedAdapter processed IED
+     * @param iedCall processing of the IED
+     */
+    public static void ied(String step, IEDAdapter iedAdapter, Runnable iedCall) {
+        ied(step, iedAdapter, () -> {
+            iedCall.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the addition of an IED to the SCD within a {@link SclIedEvent}
+     * @param step name of the step
+     * @param iedName name of the added IED
+     * @param addIedCall addition of the IED
+     * @return added IED
+     */
+    public static IEDAdapter addedIed(String step, String iedName, Supplier<IEDAdapter> addIedCall) {
+        SclIedEvent event = SclIedEvent.begin(step, iedName);
+        IEDAdapter iedAdapter = addIedCall.get();
+        event.end(iedAdapter.getCurrentElem());
+        return iedAdapter;
+    }
+
+    /**
+     * Runs the processing of an LDevice of the SCD within a {@link SclLDeviceEvent}
+     * @param step name of the step
+     * @param lDeviceAdapter processed LDevice
+     * @param lDeviceCall processing of the LDevice
+     * @return result of the processing
+     * @param <T> type of the result
+     */
+    public static <T> T lDevice(String step, LDeviceAdapter lDeviceAdapter, Supplier<T> lDeviceCall) {
+        SclLDeviceEvent event = SclLDeviceEvent.begin(step, lDeviceAdapter.getParentAdapter().getName(), lDeviceAdapter.getInst());
+        T result = lDeviceCall.get();
+        event.end(lDeviceAdapter.getCurrentElem());
+        return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import jdk.jfr.*;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+
+/**
+ * JDK Flight Recorder event of the processing of an IED during a step.
+ * <p>
+ * Disabled by default : enable <em>org.lfenergy.compas.sct.Ied</em> in the recording settings to record it.
+ * Element counts are computed at the end of the processing, only when the event is committed.
+ * </p>
+ */
+@Name("org.lfenergy.compas.sct.Ied")
+@Label("SCT IED")
+@Description("Processing of an IED during a step")
+@Category({"CoMPAS", "SCT"})
+@Enabled(false)
+@StackTrace(false)
+public final class SclIedEvent extends Event {
+
+    @Label("Step")
+    private String step;
+
+    @Label("IED Name")
+    private String iedName;
+
+    @Label("LDevice Count")
+    private int lDeviceCount;
+
+    @Label("ExtRef Count")
+    private int extRefCount;
+
+    @Label("Control Block Count")
+    private int controlBlockCount;
+
+    private SclIedEvent() {
+    }
+
+    /**
+     * Starts the event of the processing of an IED
+     * @param step name of the step
+     * @param iedName name of the IED
+     * @return started event
+     */
+    static SclIedEvent begin(String step, String iedName) {
+        SclIedEvent event = new SclIedEvent();
+        event.step = step;
+        event.iedName = iedName;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it when enabled
+     * @param tied processed IED
+     */
+    void end(TIED tied) {
+        if (shouldCommit()) {
+            lDeviceCount = ElementCounter.countLDevices(tied);
+            extRefCount = ElementCounter.countExtRefs(tied);
+            controlBlockCount = ElementCounter.countControlBlocks(tied);
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import jdk.jfr.*;
+import org.lfenergy.compas.scl2007b4.model.TLDevice;
+
+/**
+ * JDK Flight Recorder event of the processing of an LDevice during a step.
+ * <p>
+ * Disabled by default : enable <em>org.lfenergy.compas.sct.LDevice</em> in the recording settings to record it.
+ * Element counts are computed at the end of the processing, only when the event is committed.
+ * </p>
+ */
+@Name("org.lfenergy.compas.sct.LDevice")
+@Label("SCT LDevice")
+@Description("Processing of an LDevice during a step")
+@Category({"CoMPAS", "SCT"})
+@Enabled(false)
+@StackTrace(false)
+public final class SclLDeviceEvent extends Event {
+
+    @Label("Step")
+    private String step;
+
+    @Label("IED Name")
+    private String iedName;
+
+    @Label("LDevice Inst")
+    private String ldInst;
+
+    @Label("LN Count")
+    private int lnCount;
+
+    @Label("ExtRef Count")
+    private int extRefCount;
+
+    @Label("DataSet Count")
+    private int dataSetCount;
+
+    @Label("Control Block Count")
+    private int controlBlockCount;
+
+    private SclLDeviceEvent() {
+    }
+
+    /**
+     * Starts the event of the processing of an LDevice
+     * @param step name of the step
+     * @param iedName name of the IED containing the LDevice
+     * @param ldInst inst of the LDevice
+     * @return started event
+     */
+    static SclLDeviceEvent begin(String step, String iedName, String ldInst) {
+        SclLDeviceEvent event = new SclLDeviceEvent();
+        event.step = step;
+        event.iedName = iedName;
+        event.ldInst = ldInst;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it when enabled
+     * @param tlDevice processed LDevice
+     */
+    void end(TLDevice tlDevice) {
+        if (shouldCommit()) {
+            lnCount = ElementCounter.countLNs(tlDevice);
+            extRefCount = ElementCounter.countExtRefs(tlDevice);
+            dataSetCount = ElementCounter.countDataSets(tlDevice);
+            controlBlockCount = ElementCounter.countControlBlocks(tlDevice);
+            commit();
+        }
+    }
+
+}
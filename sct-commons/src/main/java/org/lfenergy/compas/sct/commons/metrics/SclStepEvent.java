@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import jdk.jfr.*;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+
+/**
+ * JDK Flight Recorder event of a step processing a whole SCD, like <em>importSTDElementsInSCD</em>.
+ * <p>
+ * Disabled by default : enable <em>org.lfenergy.compas.sct.Step</em> in the recording settings to record it.
+ * The event is committed only when the step completes without exception.
+ * </p>
+ */
+@Name("org.lfenergy.compas.sct.Step")
+@Label("SCT Step")
+@Description("Step processing a whole SCD")
+@Category({"CoMPAS", "SCT"})
+@Enabled(false)
+@StackTrace(false)
+public final class SclStepEvent extends Event {
+
+    @Label("Step")
+    private String step;
+
+    @Label("IED Count")
+    private int iedCount;
+
+    private SclStepEvent() {
+    }
+
+    /**
+     * Starts the event of a step
+     * @param step name of the step
+     * @return started event
+     */
+    static SclStepEvent begin(String step) {
+        SclStepEvent event = new SclStepEvent();
+        event.step = step;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it when enabled
+     * @param scd SCD processed by the step
+     */
+    void end(SCL scd) {
+        if (shouldCommit()) {
+            iedCount = scd.getIED().size();
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import java.time.Duration;
+
+/**
+ * Service Provider Interface receiving the timers and counters recorded by the SCL editors.
+ * <p>
+ * Implement it to bridge the editors to a monitoring system, then wrap the editors with {@link MeteredEditors}.
+ * Implementations must be thread safe.
+ * </p>
+ * <ul>
+ *   <li>{@link NoOpSctMetrics} : default implementation, ignores everything</li>
+ *   <li>{@link InMemorySctMetrics} : keeps timers and counters in memory</li>
+ * </ul>
+ */
+public interface SctMetrics {
+
+    /**
+     * Records the duration of an operation
+     * @param name name of the timer
+     * @param duration duration of the operation
+     */
+    void recordTimer(String name, Duration duration);
+
+    /**
+     * Increments a counter
+     * @param name name of the counter
+     * @param amount amount to add to the counter
+     */
+    void incrementCounter(String name, long amount);
+
+    /**
+     * Tells if recorded values are used. When false, callers can skip computing them.
+     * @return true when recorded values are used
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+}
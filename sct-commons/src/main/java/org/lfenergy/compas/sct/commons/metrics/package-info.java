@@ -0,0 +1,8 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * <h2>commons.metrics contains timers, counters and JDK Flight Recorder events of the operations on SCL Files</h2>
+ */
+package org.lfenergy.compas.sct.commons.metrics;
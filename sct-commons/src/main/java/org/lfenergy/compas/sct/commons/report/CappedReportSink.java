@@ -0,0 +1,56 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+/**
+ * {@link ReportSink} forwarding at most N errors and N warnings to another sink.
+ * Other report items are only counted, and no more item is wanted when both categories are full.
+ * Capping never aborts an operation : operations updating the SCD go on until the end.
+ */
+public class CappedReportSink implements ReportSink {
+
+    private final ReportSink delegate;
+    private final long maxItemsPerCategory;
+    private long errorCount;
+    private long warningCount;
+    @Getter
+    private long droppedCount;
+
+    /**
+     * Constructor
+     * @param delegate sink to forward report items to
+     * @param maxItemsPerCategory maximum number of errors, and maximum number of warnings, to forward
+     */
+    public CappedReportSink(ReportSink delegate, long maxItemsPerCategory) {
+        if (maxItemsPerCategory < 0) {
+            throw new IllegalArgumentException("maxItemsPerCategory must be positive or zero, but got " + maxItemsPerCategory);
+        }
+        this.delegate = delegate;
+        this.maxItemsPerCategory = maxItemsPerCategory;
+    }
+
+    @Override
+    public void report(SclReportItem sclReportItem) {
+        if (sclReportItem.isError() ? errorCount++ < maxItemsPerCategory : warningCount++ < maxItemsPerCategory) {
+            delegate.report(sclReportItem);
+        } else {
+            droppedCount++;
+        }
+    }
+
+    @Override
+    public boolean wantsMoreItems() {
+        return (errorCount < maxItemsPerCategory || warningCount < maxItemsPerCategory) && delegate.wantsMoreItems();
+    }
+
+    @Override
+    public boolean shouldAbort() {
+        return delegate.shouldAbort();
+    }
+
+}
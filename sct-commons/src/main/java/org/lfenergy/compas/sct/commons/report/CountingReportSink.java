@@ -0,0 +1,66 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+/**
+ * {@link ReportSink} counting report items by severity, and optionally forwarding them to another sink
+ */
+public class CountingReportSink implements ReportSink {
+
+    private final ReportSink delegate;
+    @Getter
+    private long errorCount;
+    @Getter
+    private long warningCount;
+
+    /**
+     * Constructor of a sink which only counts report items
+     */
+    public CountingReportSink() {
+        this(null);
+    }
+
+    /**
+     * Constructor of a sink which counts report items and forwards them
+     * @param delegate sink to forward report items to, can be null
+     */
+    public CountingReportSink(ReportSink delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void report(SclReportItem sclReportItem) {
+        if (sclReportItem.isError()) {
+            errorCount++;
+        } else {
+            warningCount++;
+        }
+        if (delegate != null) {
+            delegate.report(sclReportItem);
+        }
+    }
+
+    @Override
+    public boolean wantsMoreItems() {
+        return delegate == null || delegate.wantsMoreItems();
+    }
+
+    @Override
+    public boolean shouldAbort() {
+        return delegate != null && delegate.shouldAbort();
+    }
+
+    /**
+     * Gets the number of received report items
+     * @return number of errors and warnings
+     */
+    public long getCount() {
+        return errorCount + warningCount;
+    }
+
+}
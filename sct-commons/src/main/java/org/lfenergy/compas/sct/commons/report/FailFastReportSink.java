@@ -0,0 +1,38 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import lombok.RequiredArgsConstructor;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+/**
+ * {@link ReportSink} forwarding report items to another sink, and aborting the operation after the first error
+ */
+@RequiredArgsConstructor
+public class FailFastReportSink implements ReportSink {
+
+    private final ReportSink delegate;
+    private boolean errorReceived;
+
+    @Override
+    public void report(SclReportItem sclReportItem) {
+        if (errorReceived) {
+            return;
+        }
+        errorReceived = sclReportItem.isError();
+        delegate.report(sclReportItem);
+    }
+
+    @Override
+    public boolean wantsMoreItems() {
+        return !errorReceived && delegate.wantsMoreItems();
+    }
+
+    @Override
+    public boolean shouldAbort() {
+        return errorReceived || delegate.shouldAbort();
+    }
+
+}
@@ -0,0 +1,73 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link ReportSink} writing each report item as a JSON object on its own line, as soon as it is received :
+ * <pre>{"severity":"ERROR","xpath":"/SCL/IED[@name=\"IED_NAME\"]","message":"..."}</pre>
+ * Must be closed to flush the written items.
+ */
+public class JsonLinesReportSink implements ReportSink, Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator jsonGenerator;
+
+    /**
+     * Constructor
+     * @param writer writer to write report items to, closed when this sink is closed
+     */
+    public JsonLinesReportSink(Writer writer) {
+        try {
+            this.jsonGenerator = JSON_FACTORY.createGenerator(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.jsonGenerator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Creates a sink writing report items to a file, in UTF-8
+     * @param path file to write, created or truncated
+     * @return sink writing to the file
+     * @throws UncheckedIOException when the file cannot be opened
+     */
+    public static JsonLinesReportSink toFile(Path path) {
+        try {
+            return new JsonLinesReportSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void report(SclReportItem sclReportItem) {
+        try {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("severity", sclReportItem.isError() ? "ERROR" : "WARNING");
+            jsonGenerator.writeStringField("xpath", sclReportItem.xpath());
+            jsonGenerator.writeStringField("message", sclReportItem.message());
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonGenerator.close();
+    }
+
+}
@@ -0,0 +1,33 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ReportSink} keeping all report items in a list, in order of reception
+ */
+public class ListReportSink implements ReportSink {
+
+    private final List<SclReportItem> sclReportItems = new ArrayList<>();
+
+    @Override
+    public void report(SclReportItem sclReportItem) {
+        sclReportItems.add(sclReportItem);
+    }
+
+    /**
+     * Gets received report items
+     * @return unmodifiable list of report items
+     */
+    public List<SclReportItem> getSclReportItems() {
+        return Collections.unmodifiableList(sclReportItems);
+    }
+
+}
@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+/**
+ * Receives the report items of an operation as soon as they are found, instead of a list built at the end.
+ * <p>
+ * A sink tells the operation two different things :
+ * </p>
+ * <ul>
+ *   <li>{@link #wantsMoreItems()} : when false, items are no more needed. Operations which only check the SCD stop
+ *   there, but operations which update the SCD go on until the end, the next items are just dropped</li>
+ *   <li>{@link #shouldAbort()} : when true, every operation stops as soon as possible, even the ones which update the
+ *   SCD : it can then be partially updated</li>
+ * </ul>
+ * <p>
+ * Operations run with a parallel {@link org.lfenergy.compas.sct.commons.util.IedTaskExecutor} process all IEDs before
+ * the first item reaches the sink : the sink can then only drop the next items, it cannot stop the processing early.
+ * </p>
+ * <p>
+ * Sinks can be combined, for example to write the first 1000 errors and warnings to a file and stop at the first error :
+ * </p>
+ * <pre>{@code
+ * try (JsonLinesReportSink fileSink = JsonLinesReportSink.toFile(path)) {
+ *     controlBlockEditor.analyzeDataGroups(scd, new FailFastReportSink(new CappedReportSink(fileSink, 1000)));
+ * }
+ * }</pre>
+ * <ul>
+ *   <li>{@link ListReportSink} : keeps all items in a list</li>
+ *   <li>{@link CountingReportSink} : only counts items by severity</li>
+ *   <li>{@link JsonLinesReportSink} : writes items as JSON lines</li>
+ *   <li>{@link FailFastReportSink} : aborts the operation after the first error</li>
+ *   <li>{@link CappedReportSink} : keeps at most N items per severity</li>
+ * </ul>
+ */
+public interface ReportSink {
+
+    /**
+     * Receives a report item
+     * @param sclReportItem report item
+     */
+    void report(SclReportItem sclReportItem);
+
+    /**
+     * Tells if the sink still needs items. When false, an operation which only checks the SCD can stop.
+     * @return false when next items would be dropped
+     */
+    default boolean wantsMoreItems() {
+        return !shouldAbort();
+    }
+
+    /**
+     * Tells if the operation must stop, even when it updates the SCD and leaves it partially updated
+     * @return true when the operation must stop
+     */
+    default boolean shouldAbort() {
+        return false;
+    }
+
+}
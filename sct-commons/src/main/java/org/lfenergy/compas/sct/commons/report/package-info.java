@@ -0,0 +1,8 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * <h2>commons.report contains sinks receiving the report items of the operations on SCL Files</h2>
+ */
+package org.lfenergy.compas.sct.commons.report;
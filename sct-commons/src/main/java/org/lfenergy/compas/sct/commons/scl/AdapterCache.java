@@ -0,0 +1,97 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Cache of the adapters of the elements of an SCL (IED, AccessPoint, LDevice, LN0, LN), to give the same adapter each
+ * time the children of an element are listed, instead of creating new adapters and checking again that each element
+ * is a child of its parent (see {@link SclElementAdapter#amChildElementRef()}).
+ * <p>
+ * Elements are compared by identity, and each kind of element always has the same kind of adapter.
+ * A cached adapter is only given for the same parent adapter : the parent/child relation has been checked when
+ * the adapter was created and is not checked again. Adapters only hold their parent and their element, so an adapter
+ * stays valid as long as its element is a child of its parent element, which is the case of the elements listed
+ * or found by key in their parent. Operations removing elements forget their adapters with {@link #invalidate(Object)}
+ * or {@link #invalidate()}.
+ * </p>
+ * Lookups and invalidations are synchronized : a cache can be shared by threads working on different IEDs.
+ * Adapters are created outside of the lock.
+ */
+public class AdapterCache {
+
+    /**
+     * Cache which keeps nothing, always creating new adapters : used by adapters which are not attached to an SclRootAdapter
+     */
+    static final AdapterCache NO_CACHE = new AdapterCache(false);
+
+    private final Map<Object, SclElementAdapter<?, ?>> adaptersByElement = new IdentityHashMap<>();
+    private final boolean enabled;
+
+    /**
+     * Constructor
+     */
+    public AdapterCache() {
+        this(true);
+    }
+
+    private AdapterCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the adapter of an element, creating it on first call
+     *
+     * @param parentAdapter  adapter of the parent of the element
+     * @param element        element to adapt, which must be a child of the element of parentAdapter (adapters of null
+     *                       elements are not cached)
+     * @param adapterFactory constructor of the adapter, called when the element has no adapter yet for this parent adapter
+     * @return cached or created adapter
+     * @param <P> type of the parent adapter
+     * @param <E> type of the element
+     * @param <A> type of the adapter
+     */
+    @SuppressWarnings("unchecked")
+    public <P extends SclElementAdapter<?, ?>, E, A extends SclElementAdapter<P, E>> A getOrCreate(P parentAdapter, E element,
+                                                                                               BiFunction<P, E, A> adapterFactory) {
+        if (!enabled || element == null) {
+            return adapterFactory.apply(parentAdapter, element);
+        }
+        synchronized (this) {
+            SclElementAdapter<?, ?> cachedAdapter = adaptersByElement.get(element);
+            if (cachedAdapter != null && cachedAdapter.getParentAdapter() == parentAdapter) {
+                return (A) cachedAdapter;
+            }
+        }
+        A adapter = adapterFactory.apply(parentAdapter, element);
+        synchronized (this) {
+            SclElementAdapter<?, ?> cachedAdapter = adaptersByElement.get(element);
+            if (cachedAdapter != null && cachedAdapter.getParentAdapter() == parentAdapter) {
+                // created meanwhile by another thread
+                return (A) cachedAdapter;
+            }
+            adaptersByElement.put(element, adapter);
+            return adapter;
+        }
+    }
+
+    /**
+     * Forgets the cached adapter of an element, after it has been removed from its parent
+     * @param element removed element
+     */
+    public synchronized void invalidate(Object element) {
+        adaptersByElement.remove(element);
+    }
+
+    /**
+     * Forgets all cached adapters
+     */
+    public synchronized void invalidate() {
+        adaptersByElement.clear();
+    }
+}
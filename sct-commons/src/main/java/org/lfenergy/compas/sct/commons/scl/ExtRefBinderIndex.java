@@ -0,0 +1,157 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.DaTypeName;
+import org.lfenergy.compas.sct.commons.dto.DoTypeName;
+import org.lfenergy.compas.sct.commons.dto.ExtRefBindingInfo;
+import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
+
+import java.util.*;
+
+/**
+ * Index of the LNs of an SCL which can bind an ExtRef, giving the same binders as
+ * {@link org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter#getExtRefBinders} called on each IED, in the same order.
+ * <p>
+ * LNs are listed once, with their location (IED name, LDevice inst, lnClass, inst, prefix) and their lnType, and grouped
+ * by lnClass to serve signals with a pLN. The binding data of a signal only depends on the lnType of the LN : it is
+ * resolved in the DataTypeTemplates once per lnType and per call, instead of once per LN.
+ * </p>
+ * An index is a snapshot of the LNs of the SCL. Like {@link SclIndex}, it remembers the identity and the size of the
+ * lists of IEDs, AccessPoints, LDevices and LNs it has been built from, and the location and type of each LN :
+ * {@link #isUpToDate(SCL)} tells whether an IED, AccessPoint, LDevice or LN was added, removed, renamed or retyped
+ * since then.
+ * </p>
+ * The index does not hold the SCL itself, so that it can be kept in a cache weakly keyed by the SCL.
+ */
+public class ExtRefBinderIndex {
+
+    private final List<List<?>> sources;
+    private final int[] sizes;
+    private final List<BinderLocation> binderLocations = new ArrayList<>();
+    private final Map<String, List<BinderLocation>> binderLocationsByLnClass = new HashMap<>();
+
+    /**
+     * Constructor
+     * @param sclRootAdapter adapter of the SCL to index
+     */
+    public ExtRefBinderIndex(SclRootAdapter sclRootAdapter) {
+        sources = sources(sclRootAdapter.getCurrentElem());
+        sizes = sources.stream().mapToInt(List::size).toArray();
+        sclRootAdapter.streamIEDAdapters()
+                .forEach(iedAdapter -> iedAdapter.streamLDeviceAdapters()
+                        .forEach(lDeviceAdapter -> lDeviceAdapter.getLNAdaptersIncludingLN0()
+                                .forEach(lnAdapter -> {
+                                    BinderLocation binderLocation = new BinderLocation(iedAdapter.getCurrentElem(),
+                                            lDeviceAdapter.getCurrentElem(), lnAdapter.getCurrentElem(),
+                                            iedAdapter.getName(), lDeviceAdapter.getInst(), lnAdapter.getLNClass(),
+                                            lnAdapter.getLNInst(), lnAdapter.getPrefix(), lnAdapter.getLnType());
+                                    binderLocations.add(binderLocation);
+                                    binderLocationsByLnClass.computeIfAbsent(binderLocation.lnClass(), lnClass -> new ArrayList<>())
+                                            .add(binderLocation);
+                                })));
+    }
+
+    /**
+     * Checks that no IED, AccessPoint, LDevice or LN was added to, removed from or changed in the SCL since this index
+     * was built. This only compares list identities and sizes, and the location and type of each indexed LN.
+     * @param scl SCL this index was built from
+     * @return true if this index still lists all the LNs of the SCL, false if it must be built again
+     */
+    public boolean isUpToDate(SCL scl) {
+        List<List<?>> currentSources = sources(scl);
+        if (currentSources.size() != sources.size()) {
+            return false;
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            if (currentSources.get(i) != sources.get(i) || currentSources.get(i).size() != sizes[i]) {
+                return false;
+            }
+        }
+        return binderLocations.stream().allMatch(BinderLocation::isStillMatching);
+    }
+
+    private static List<List<?>> sources(SCL scl) {
+        List<List<?>> sources = new ArrayList<>();
+        sources.add(scl.getIED());
+        scl.getIED().forEach(tied -> {
+            sources.add(tied.getAccessPoint());
+            tied.getAccessPoint().stream()
+                    .map(TAccessPoint::getServer)
+                    .filter(Objects::nonNull)
+                    .map(TServer::getLDevice)
+                    .forEach(tlDevices -> {
+                        sources.add(tlDevices);
+                        tlDevices.stream().map(TLDevice::getLN).forEach(sources::add);
+                    });
+        });
+        return sources;
+    }
+
+    /**
+     * Gets all the possible binders of an ExtRef, like
+     * {@link org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter#getExtRefBinders} called on each IED
+     * @param dttAdapter DataTypeTemplates of the indexed SCL
+     * @param signalInfo ExtRef signal to bind
+     * @return binders in the order of the SCL (IED, LDevice then LN order), not sorted
+     * @throws ScdException throws when ExtRef contains inconsistency data
+     */
+    public List<ExtRefBindingInfo> getExtRefBinders(DataTypeTemplateAdapter dttAdapter, ExtRefSignalInfo signalInfo) throws ScdException {
+        if (!signalInfo.isValid()) {
+            throw new ScdException("Invalid ExtRef signal (pDO,pDA or intAddr))");
+        }
+        List<BinderLocation> candidates = StringUtils.isBlank(signalInfo.getPLN()) ? binderLocations
+                : binderLocationsByLnClass.getOrDefault(signalInfo.getPLN(), List.of());
+        Map<String, ExtRefBindingInfo> bindersByLnType = new HashMap<>();
+        List<ExtRefBindingInfo> extRefBindingInfos = new ArrayList<>(candidates.size());
+        for (BinderLocation binderLocation : candidates) {
+            ExtRefBindingInfo binder = bindersByLnType.computeIfAbsent(binderLocation.lnType(),
+                    lnType -> dttAdapter.getBinderDataAttribute(lnType, signalInfo));
+            extRefBindingInfos.add(binderLocation.toExtRefBindingInfo(binder));
+        }
+        return extRefBindingInfos;
+    }
+
+    /**
+     * Location and type of an LN, with the elements they were read from
+     */
+    private record BinderLocation(TIED tied, TLDevice tlDevice, TAnyLN tAnyLN,
+                                  String iedName, String ldInst, String lnClass, String lnInst, String prefix, String lnType) {
+
+        /**
+         * Checks that the IED, LDevice and LN still have the name and type read when this location was indexed
+         */
+        private boolean isStillMatching() {
+            if (!Objects.equals(iedName, tied.getName()) || !Objects.equals(ldInst, tlDevice.getInst())
+                    || !Objects.equals(lnType, tAnyLN.getLnType())) {
+                return false;
+            }
+            if (tAnyLN instanceof TLN tln) {
+                return Objects.equals(lnClass, tln.isSetLnClass() ? tln.getLnClass().getFirst() : null)
+                        && Objects.equals(lnInst, tln.getInst())
+                        && Objects.equals(prefix, tln.getPrefix());
+            }
+            return tlDevice.getLN0() == tAnyLN;
+        }
+
+        private ExtRefBindingInfo toExtRefBindingInfo(ExtRefBindingInfo binder) {
+            ExtRefBindingInfo extRefBindingInfo = new ExtRefBindingInfo();
+            extRefBindingInfo.setLnType(binder.getLnType());
+            extRefBindingInfo.setDoName(binder.getDoName() == null ? null : DoTypeName.from(binder.getDoName()));
+            extRefBindingInfo.setDaName(binder.getDaName() == null ? null : DaTypeName.from(binder.getDaName()));
+            extRefBindingInfo.setServiceType(binder.getServiceType());
+            extRefBindingInfo.setIedName(iedName);
+            extRefBindingInfo.setLdInst(ldInst);
+            extRefBindingInfo.setLnClass(lnClass);
+            extRefBindingInfo.setLnInst(lnInst);
+            extRefBindingInfo.setPrefix(prefix);
+            return extRefBindingInfo;
+        }
+    }
+}
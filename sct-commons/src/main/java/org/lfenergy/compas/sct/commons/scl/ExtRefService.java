@@ -7,13 +7,12 @@
 package org.lfenergy.compas.sct.commons.scl;
 
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.ExtRefSourceCBKey;
+import org.lfenergy.compas.sct.commons.util.CompasPrivateCache;
 import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Stream;
 
 public class ExtRefService {
@@ -40,6 +39,18 @@ public class ExtRefService {
                 .flatMap(tInputs -> PrivateUtils.extractCompasPrivates(tlDevice.getLN0().getInputs(), TCompasFlow.class));
     }
 
+    /**
+     * List all CompasFlows in this LDevice, extracted through the given cache
+     *
+     * @param compasPrivateCache cache of the privates of the SCL containing the LDevice
+     * @param tlDevice           LDevice containing CompasFlows
+     * @return stream of CompasFlows
+     */
+    public Stream<TCompasFlow> getCompasFlows(CompasPrivateCache compasPrivateCache, TLDevice tlDevice) {
+        return getInputs(tlDevice).stream()
+                .flatMap(tInputs -> compasPrivateCache.getCompasPrivates(tInputs, TCompasFlow.class).stream());
+    }
+
     /**
      * Find CompasFlows that match given ExtRef
      *
@@ -52,6 +63,19 @@ public class ExtRefService {
                 .filter(compasFlow -> isMatchingExtRef(compasFlow, tExtRef));
     }
 
+    /**
+     * Find CompasFlows that match given ExtRef, extracting CompasFlows through the given cache
+     *
+     * @param compasPrivateCache cache of the privates of the SCL containing the inputs
+     * @param inputs             inputs containing Privates CompasFlow and TExtRefs
+     * @param tExtRef            corresponding to CompasFlow we are searching
+     * @return list of matching CompasFlows
+     */
+    public Stream<TCompasFlow> getMatchingCompasFlows(CompasPrivateCache compasPrivateCache, TInputs inputs, TExtRef tExtRef) {
+        return compasPrivateCache.getCompasPrivates(inputs, TCompasFlow.class).stream()
+                .filter(compasFlow -> isMatchingExtRef(compasFlow, tExtRef));
+    }
+
     /**
      * Retrieves ExtRefs corresponding to given CompasFlow
      *
@@ -124,26 +148,21 @@ public class ExtRefService {
      * @return true if the two ExtRef are fed by same Control Block, otherwise false
      */
     public boolean isExtRefFeedBySameControlBlock(TExtRef t1, TExtRef t2) {
-        String srcLNClass1 = (t1.isSetSrcLNClass()) ? t1.getSrcLNClass().get(0) : TLLN0Enum.LLN_0.value();
-        String srcLNClass2 = (t2.isSetSrcLNClass()) ? t2.getSrcLNClass().get(0) : TLLN0Enum.LLN_0.value();
-        return Utils.equalsOrBothBlank(t1.getIedName(), t2.getIedName())
-                && Utils.equalsOrBothBlank(t1.getSrcLDInst(), t2.getSrcLDInst())
-                && srcLNClass1.equals(srcLNClass2)
-                && Utils.equalsOrBothBlank(t1.getSrcLNInst(), t2.getSrcLNInst())
-                && Utils.equalsOrBothBlank(t1.getSrcPrefix(), t2.getSrcPrefix())
-                && Utils.equalsOrBothBlank(t1.getSrcCBName(), t2.getSrcCBName())
-                && Objects.equals(t1.getServiceType(), t2.getServiceType());
+        return ExtRefSourceCBKey.from(t1).equals(ExtRefSourceCBKey.from(t2));
     }
 
     /**
-     * Remove ExtRef which are fed by same Control Block
+     * Remove ExtRef which are fed by same Control Block.
+     * The first ExtRef fed by each Control Block is kept, in the order of the given list.
      *
      * @return list ExtRefs without duplication
+     * @see ExtRefSourceCBKey
      */
     public List<TExtRef> filterDuplicatedExtRefs(List<TExtRef> tExtRefs) {
+        Set<ExtRefSourceCBKey> sourceCBKeys = new HashSet<>();
         List<TExtRef> filteredList = new ArrayList<>();
         tExtRefs.forEach(tExtRef -> {
-            if (filteredList.stream().noneMatch(t -> isExtRefFeedBySameControlBlock(tExtRef, t)))
+            if (sourceCBKeys.add(ExtRefSourceCBKey.from(tExtRef)))
                 filteredList.add(tExtRef);
         });
         return filteredList;
@@ -9,6 +9,8 @@ import org.lfenergy.compas.scl2007b4.model.TBaseElement;
 import org.lfenergy.compas.scl2007b4.model.TPrivate;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
 
+import java.util.Objects;
+
 /**
  * A representation of the model object
  * <em><b>{@link SclElementAdapter SclElementAdapter}</b></em>.
@@ -96,6 +98,18 @@ public abstract class SclElementAdapter<P extends SclElementAdapter, T> {
      */
     protected abstract boolean amChildElementRef();
 
+    /**
+     * Gets the cache of the adapters of the SCL, held by the SclRootAdapter at the top of the parent adapters
+     * @return cache of the SclRootAdapter, or a cache keeping nothing when this adapter is not attached to an SclRootAdapter
+     */
+    protected AdapterCache getAdapterCache() {
+        if (parentAdapter == null) {
+            return AdapterCache.NO_CACHE;
+        }
+        // parent adapters which are not real adapters (e.g. mocks) do not give a cache
+        return Objects.requireNonNullElse(parentAdapter.getAdapterCache(), AdapterCache.NO_CACHE);
+    }
+
     /**
      * Adds Private to current element
      * @param tPrivate Private to add
@@ -113,8 +127,19 @@ public abstract class SclElementAdapter<P extends SclElementAdapter, T> {
      * @return path to current element
      */
     public String getXPath(){
-        String parentXpath = (parentAdapter != null) ? parentAdapter.getXPath() : "";
-        return parentXpath + "/" + elementXPath();
+        return appendXPath(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends XPath path to current element from parent element, so that the whole path is built in a single buffer
+     * @param xpath buffer to append to
+     * @return given buffer
+     */
+    public StringBuilder appendXPath(StringBuilder xpath){
+        if (parentAdapter != null) {
+            parentAdapter.appendXPath(xpath);
+        }
+        return xpath.append('/').append(elementXPath());
     }
 
     /**
@@ -123,6 +148,6 @@ public abstract class SclElementAdapter<P extends SclElementAdapter, T> {
      * @return error description with message and current element xpath
      */
     public SclReportItem buildFatalReportItem(String message){
-        return SclReportItem.error(getXPath(), message);
+        return SclReportItem.error(this::getXPath, message);
     }
 }
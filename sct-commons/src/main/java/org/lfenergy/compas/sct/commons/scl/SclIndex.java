@@ -0,0 +1,324 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.scl.ln.LnKey;
+import org.lfenergy.compas.sct.commons.util.Utils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Hash based lookup of the elements of an SCL which are searched by key all along the SCD processing :
+ * <ul>
+ *     <li>IED by name</li>
+ *     <li>LDevice by IED name and inst</li>
+ *     <li>LN by {@link LnKey} inside an LDevice (blank prefix and blank lnClass are considered equals, inst must be
+ *     equal and not null)</li>
+ *     <li>ConnectedAP by IED name and AccessPoint name</li>
+ * </ul>
+ * Each index is built lazily on its first lookup, then reused.
+ * An index is rebuilt when the lists it was built from have been replaced or resized, or when the element found no
+ * longer has the searched key. Renaming an element does not change the lists : it must be signaled with
+ * {@link #onIedRenamed(TIED)}, {@link #onLDevicesChanged(TIED)} or {@link #onLnsChanged(TLDevice)}, as done by the
+ * adapters which rename elements. Other changes which keep lists untouched (e.g. replacing an element at the same
+ * position) must be signaled with {@link #invalidate()}.
+ * Lookups give the same result as the linear search they replace : when several elements share the same key, the
+ * first one in document order is returned, and an LN with several lnClass values found before the searched LN is
+ * reported with the same exception.
+ * Lookups and notifications are synchronized : an index can be shared by threads which only read the SCL, like the
+ * per IED tasks run by {@link org.lfenergy.compas.sct.commons.util.IedTaskExecutor}.
+ */
+public class SclIndex {
+
+    /**
+     * Key which cannot be built from a searched LN, as searched lnClass are never null once normalized
+     */
+    private static final LnKey MULTIPLE_LN_CLASS_KEY = new LnKey(null, null, null);
+
+    @Getter
+    private final SCL scl;
+    private Index<String, TIED> iedIndex;
+    private final Map<TIED, Index<String, TLDevice>> lDeviceIndexes = new IdentityHashMap<>();
+    private final Map<TLDevice, Index<LnKey, IndexedLn>> lnIndexes = new IdentityHashMap<>();
+    private Index<ConnectedApKey, IndexedConnectedAP> connectedApIndex;
+
+    /**
+     * Constructor
+     * @param scl SCL to index
+     */
+    public SclIndex(SCL scl) {
+        this.scl = Objects.requireNonNull(scl, "SCL to index must be defined");
+    }
+
+    /**
+     * Find an IED by name
+     * @param iedName name of the IED
+     * @return the first IED with the given name, or empty Optional if none found
+     */
+    public synchronized Optional<TIED> findIed(String iedName) {
+        iedIndex = refresh(iedIndex, iedName, this::iedSources, () -> scl.getIED().stream(), TIED::getName);
+        return iedIndex.find(iedName);
+    }
+
+    /**
+     * Checks whether the given IED is the one indexed under its name
+     * @param tied IED to check
+     * @return true if the given IED instance is the first IED of the SCL with that name, false otherwise
+     */
+    public synchronized boolean isIndexedIed(TIED tied) {
+        return tied != null && findIed(tied.getName()).filter(found -> found == tied).isPresent();
+    }
+
+    /**
+     * Find an LDevice by IED name and LDevice inst
+     * @param iedName name of the IED containing the LDevice
+     * @param ldInst inst of the LDevice
+     * @return the first LDevice matching, or empty Optional if none found
+     */
+    public synchronized Optional<TLDevice> findLDevice(String iedName, String ldInst) {
+        return findIed(iedName).flatMap(tied -> findLDevice(tied, ldInst));
+    }
+
+    /**
+     * Find an LDevice by inst inside an IED
+     * @param tied IED containing the LDevice
+     * @param ldInst inst of the LDevice
+     * @return the first LDevice of the IED with given inst, or empty Optional if none found
+     */
+    public synchronized Optional<TLDevice> findLDevice(TIED tied, String ldInst) {
+        Index<String, TLDevice> index = refresh(lDeviceIndexes.get(tied), ldInst, () -> lDeviceSources(tied), () -> streamLDevices(tied), TLDevice::getInst);
+        lDeviceIndexes.put(tied, index);
+        return index.find(ldInst);
+    }
+
+    /**
+     * Find an LN (other than LN0) inside an LDevice
+     * @param tlDevice LDevice containing the LN
+     * @param lnClass lnClass of the LN
+     * @param lnInst inst of the LN
+     * @param prefix prefix of the LN
+     * @return the first LN matching, or empty Optional if none found
+     * @throws IllegalArgumentException when an LN with several lnClass values is found before the first LN matching
+     */
+    public synchronized Optional<TLN> findLn(TLDevice tlDevice, String lnClass, String lnInst, String prefix) {
+        // inst is compared with String.equals : no LN matches a null inst
+        if (!tlDevice.isSetLN() || lnInst == null) {
+            return Optional.empty();
+        }
+        LnKey lnKey = toLnKey(lnClass, lnInst, prefix);
+        Index<LnKey, IndexedLn> index = refresh(lnIndexes.get(tlDevice), lnKey, () -> List.of(tlDevice.getLN()), () -> streamIndexedLns(tlDevice), IndexedLn::key);
+        index = refresh(index, MULTIPLE_LN_CLASS_KEY, () -> List.of(tlDevice.getLN()), () -> streamIndexedLns(tlDevice), IndexedLn::key);
+        lnIndexes.put(tlDevice, index);
+        Optional<IndexedLn> indexedLn = index.find(lnKey);
+        Optional<IndexedLn> invalidLn = index.find(MULTIPLE_LN_CLASS_KEY)
+                .filter(multipleLnClassLn -> indexedLn.isEmpty() || multipleLnClassLn.position() < indexedLn.get().position());
+        if (invalidLn.isPresent()) {
+            // same exception as the linear search, which stops on the first LN with several lnClass values
+            throw Utils.multipleLnClassException(invalidLn.get().tln().getLnClass());
+        }
+        return indexedLn.map(IndexedLn::tln);
+    }
+
+    /**
+     * Find a ConnectedAP by IED name and AccessPoint name, in all SubNetworks
+     * @param iedName name of the IED
+     * @param apName name of the AccessPoint
+     * @return the first ConnectedAP matching with its parent SubNetwork, or empty Optional if none found
+     */
+    public synchronized Optional<IndexedConnectedAP> findConnectedAP(String iedName, String apName) {
+        if (!scl.isSetCommunication()) {
+            return Optional.empty();
+        }
+        ConnectedApKey key = new ConnectedApKey(iedName, apName);
+        connectedApIndex = refresh(connectedApIndex, key, this::connectedApSources, this::streamConnectedAPs, IndexedConnectedAP::key);
+        return connectedApIndex.find(key);
+    }
+
+    /**
+     * Registers an IED which has just been added to the SCL
+     * @param tied added IED
+     */
+    public synchronized void onIedAdded(TIED tied) {
+        if (iedIndex != null && iedIndex.isUpToDateExceptLastAddition(iedSources())) {
+            iedIndex.map().putIfAbsent(tied.getName(), tied);
+            iedIndex = iedIndex.withSources(iedSources());
+        } else {
+            iedIndex = null;
+        }
+    }
+
+    /**
+     * Forgets the index of the IEDs by name, after an IED has been renamed
+     * @param tied renamed IED
+     */
+    public synchronized void onIedRenamed(TIED tied) {
+        iedIndex = null;
+    }
+
+    /**
+     * Forgets every index related to given LDevice, typically after LNs have been added, removed or renamed
+     * @param tlDevice modified LDevice
+     */
+    public synchronized void onLnsChanged(TLDevice tlDevice) {
+        lnIndexes.remove(tlDevice);
+    }
+
+    /**
+     * Forgets every index related to given IED, typically after LDevices have been added, removed or renamed
+     * @param tied modified IED
+     */
+    public synchronized void onLDevicesChanged(TIED tied) {
+        lDeviceIndexes.remove(tied);
+    }
+
+    /**
+     * Forgets all indexes, they will be rebuilt on next lookup
+     */
+    public synchronized void invalidate() {
+        iedIndex = null;
+        lDeviceIndexes.clear();
+        lnIndexes.clear();
+        connectedApIndex = null;
+    }
+
+    private List<List<?>> iedSources() {
+        return List.of(scl.getIED());
+    }
+
+    private static List<List<?>> lDeviceSources(TIED tied) {
+        List<List<?>> sources = new ArrayList<>();
+        sources.add(tied.getAccessPoint());
+        tied.getAccessPoint().stream()
+                .map(TAccessPoint::getServer)
+                .filter(Objects::nonNull)
+                .map(TServer::getLDevice)
+                .forEach(sources::add);
+        return sources;
+    }
+
+    private static Stream<TLDevice> streamLDevices(TIED tied) {
+        return tied.getAccessPoint().stream()
+                .map(TAccessPoint::getServer)
+                .filter(Objects::nonNull)
+                .flatMap(tServer -> tServer.getLDevice().stream());
+    }
+
+    private List<List<?>> connectedApSources() {
+        List<List<?>> sources = new ArrayList<>();
+        sources.add(scl.getCommunication().getSubNetwork());
+        scl.getCommunication().getSubNetwork().forEach(tSubNetwork -> sources.add(tSubNetwork.getConnectedAP()));
+        return sources;
+    }
+
+    private Stream<IndexedConnectedAP> streamConnectedAPs() {
+        return scl.getCommunication().getSubNetwork().stream()
+                .flatMap(tSubNetwork -> tSubNetwork.getConnectedAP().stream()
+                        .map(tConnectedAP -> new IndexedConnectedAP(tSubNetwork, tConnectedAP)));
+    }
+
+    private static Stream<IndexedLn> streamIndexedLns(TLDevice tlDevice) {
+        List<TLN> tlns = tlDevice.getLN();
+        return IntStream.range(0, tlns.size()).mapToObj(position -> new IndexedLn(position, tlns.get(position)));
+    }
+
+    private static LnKey toLnKey(String lnClass, String lnInst, String prefix) {
+        return new LnKey(StringUtils.defaultIfBlank(lnClass, StringUtils.EMPTY), lnInst, StringUtils.defaultIfBlank(prefix, StringUtils.EMPTY));
+    }
+
+    /**
+     * Returns the given index if it is still valid for the given key, otherwise a new index built from the SCL
+     */
+    private static <K, V> Index<K, V> refresh(Index<K, V> index, K key, Supplier<List<List<?>>> sources, Supplier<Stream<V>> values, Function<V, K> keyMapper) {
+        List<List<?>> currentSources = sources.get();
+        if (index != null && index.isUpToDate(currentSources) && index.isStillMatching(key, keyMapper)) {
+            return index;
+        }
+        return Index.build(currentSources, values.get(), keyMapper);
+    }
+
+    /**
+     * ConnectedAP found in index, with its parent SubNetwork
+     * @param subNetwork SubNetwork containing the ConnectedAP
+     * @param connectedAP ConnectedAP
+     */
+    public record IndexedConnectedAP(TSubNetwork subNetwork, TConnectedAP connectedAP) {
+        private ConnectedApKey key() {
+            return new ConnectedApKey(connectedAP.getIedName(), connectedAP.getApName());
+        }
+    }
+
+    private record ConnectedApKey(String iedName, String apName) {
+    }
+
+    /**
+     * LN with its position in its LDevice. LNs with several lnClass values cannot be searched : they are all indexed
+     * under {@link #MULTIPLE_LN_CLASS_KEY}, which only keeps the first of them.
+     */
+    private record IndexedLn(int position, TLN tln) {
+        private LnKey key() {
+            if (tln.isSetLnClass() && tln.getLnClass().size() > 1) {
+                return MULTIPLE_LN_CLASS_KEY;
+            }
+            return toLnKey(tln.isSetLnClass() ? tln.getLnClass().getFirst() : null, tln.getInst(), tln.getPrefix());
+        }
+    }
+
+    /**
+     * Map of key to value, remembering the identity and the size of the lists it has been built from
+     */
+    private record Index<K, V>(List<List<?>> sources, int[] sizes, Map<K, V> map) {
+
+        private static <K, V> Index<K, V> build(List<List<?>> sources, Stream<V> values, Function<V, K> keyMapper) {
+            Map<K, V> map = new HashMap<>();
+            values.forEachOrdered(value -> map.putIfAbsent(keyMapper.apply(value), value));
+            return new Index<>(sources, sizes(sources), map);
+        }
+
+        private static int[] sizes(List<List<?>> sources) {
+            return sources.stream().mapToInt(List::size).toArray();
+        }
+
+        private boolean isUpToDate(List<List<?>> currentSources) {
+            if (currentSources.size() != sources.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                if (currentSources.get(i) != sources.get(i) || currentSources.get(i).size() != sizes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isUpToDateExceptLastAddition(List<List<?>> currentSources) {
+            return currentSources.size() == 1 && sources.size() == 1
+                    && currentSources.getFirst() == sources.getFirst()
+                    && currentSources.getFirst().size() == sizes[0] + 1;
+        }
+
+        private Index<K, V> withSources(List<List<?>> currentSources) {
+            return new Index<>(currentSources, sizes(currentSources), map);
+        }
+
+        /**
+         * Checks that the value indexed under the given key, if any, has not been renamed since the index was built
+         */
+        private boolean isStillMatching(K key, Function<V, K> keyMapper) {
+            V value = map.get(key);
+            return value == null || Objects.equals(key, keyMapper.apply(value));
+        }
+
+        private Optional<V> find(K key) {
+            return Optional.ofNullable(map.get(key));
+        }
+    }
+}
@@ -5,6 +5,7 @@
 package org.lfenergy.compas.sct.commons.scl;
 
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -13,12 +14,16 @@ import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.com.CommunicationAdapter;
 import org.lfenergy.compas.sct.commons.scl.com.ConnectedAPAdapter;
+import org.lfenergy.compas.sct.commons.scl.com.SubNetworkAdapter;
 import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
+import org.lfenergy.compas.sct.commons.scl.dtt.PreparedDataTypeTemplate;
+import org.lfenergy.compas.sct.commons.scl.dtt.ReceivingDataTypeTemplate;
 import org.lfenergy.compas.sct.commons.scl.header.HeaderAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.FcdaIndex;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.sstation.SubstationAdapter;
+import org.lfenergy.compas.sct.commons.util.CompasPrivateCache;
 
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -37,6 +42,9 @@ import java.util.stream.Stream;
  *      <li>{@link SclRootAdapter#streamIEDAdapters() <em>Returns the value of the <b>IEDAdapter </b> containment reference list</em>}</li>
  *      <li>{@link SclRootAdapter#getIEDAdapterByName(String) <em>Returns the value of the <b>IEDAdapter </b> reference object By name</em>}</li>
  *      <li>{@link SclRootAdapter#getDataTypeTemplateAdapter() <em>Returns the value of the <b>DataTypeTemplateAdapter </b> containment reference list</em>}</li>
+ *      <li>{@link SclRootAdapter#getSclIndex() <em>Returns the <b>SclIndex </b> used to find IED, LDevice, LN and ConnectedAP by key</em>}</li>
+ *      <li>{@link SclRootAdapter#getFcdaIndex() <em>Returns the <b>FcdaIndex </b> used to find and create FCDA of DataSets by key</em>}</li>
+ *      <li>{@link SclRootAdapter#getAdapterCache() <em>Returns the <b>AdapterCache </b> giving the same adapters of IED, AccessPoint, LDevice and LN</em>}</li>
  *    </ul>
  *   <li>Principal functions</li>
  *    <ul>
@@ -64,6 +72,13 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
     public static final String VERSION = "2007";
     private static final String MESSAGE_IED_NAME_NOT_FOUND = "IED.name '%s' not found in SCD";
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SclIndex sclIndex;
+    private CompasPrivateCache compasPrivateCache;
+    private FcdaIndex fcdaIndex;
+    private AdapterCache adapterCache;
+
     /**
      * Constructor
      * @param hId SCL Header ID
@@ -185,6 +200,35 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
      * @throws ScdException throws when inconsistency between IED to add and SCL file content
      */
     public IEDAdapter addIED(SCL icd, String iedName) throws ScdException {
+        return addIED(icd, iedName, null);
+    }
+
+    /**
+     * Adds IED and updates DataTypeTemplate of current SCL, with the DataTypeTemplate of the ICD already prepared for import.
+     * As preparation is the costly part of DataTypeTemplate import and does not depend on current SCL, it can be done
+     * beforehand, concurrently for several ICD (see {@link DataTypeTemplateAdapter#prepareImport()}).
+     * @param icd ICD containing IED to add and related DataTypeTemplate
+     * @param iedName name of IED to add in SCL
+     * @param preparedIcdDtt DataTypeTemplate of the ICD prepared for import, or null to prepare it here
+     * @return <em>IEDAdapter</em> as added IED
+     * @throws ScdException throws when inconsistency between IED to add and SCL file content
+     */
+    public IEDAdapter addIED(SCL icd, String iedName, PreparedDataTypeTemplate preparedIcdDtt) throws ScdException {
+        return addIED(icd, iedName, preparedIcdDtt, null);
+    }
+
+    /**
+     * Same as {@link #addIED(SCL, String, PreparedDataTypeTemplate)}, with the DataTypeTemplate of current SCL already
+     * prepared to receive types (see {@link DataTypeTemplateAdapter#prepareReceiving()}) : when adding several IED in a
+     * row, the types of current SCL are only fingerprinted once.
+     * @param icd ICD containing IED to add and related DataTypeTemplate
+     * @param iedName name of IED to add in SCL
+     * @param preparedIcdDtt DataTypeTemplate of the ICD prepared for import, or null to prepare it here
+     * @param receivingDtt DataTypeTemplate of current SCL prepared to receive types, or null to prepare it here
+     * @return <em>IEDAdapter</em> as added IED
+     * @throws ScdException throws when inconsistency between IED to add and SCL file content
+     */
+    public IEDAdapter addIED(SCL icd, String iedName, PreparedDataTypeTemplate preparedIcdDtt, ReceivingDataTypeTemplate receivingDtt) throws ScdException {
         if(icd.getIED().isEmpty()){
             throw new ScdException("No IED to import from ICD file");
         }
@@ -198,14 +242,15 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
         // import DTT
         DataTypeTemplateAdapter rcvDttAdapter = getDataTypeTemplateAdapter();
         SclRootAdapter prvSclRootAdapter = new SclRootAdapter(icd);
-        DataTypeTemplateAdapter prvDttAdapter = prvSclRootAdapter.getDataTypeTemplateAdapter();
-        var pairOldNewId = rcvDttAdapter.importDTT(iedName,prvDttAdapter);
+        PreparedDataTypeTemplate prvDtt = preparedIcdDtt != null ? preparedIcdDtt : prvSclRootAdapter.getDataTypeTemplateAdapter().prepareImport();
+        var pairOldNewId = rcvDttAdapter.importDTT(iedName, prvDtt, receivingDtt != null ? receivingDtt : rcvDttAdapter.prepareReceiving());
 
         IEDAdapter prvIEDAdapter = new IEDAdapter(prvSclRootAdapter, icd.getIED().get(0));
         prvIEDAdapter.setIEDName(iedName);
         prvIEDAdapter.updateLDeviceNodesType(pairOldNewId);
         //add IED
         currentElem.getIED().add(prvIEDAdapter.currentElem);
+        getSclIndex().onIedAdded(prvIEDAdapter.currentElem);
         return getIEDAdapterByName(iedName);
     }
 
@@ -245,10 +290,64 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
      * @return <em>Optional<IEDAdapter></em> of the first IED with a matching name
      */
     public Optional<IEDAdapter> findIedAdapterByName(String iedName) throws ScdException {
-        return currentElem.getIED().stream()
-            .filter(ied -> Objects.equals(ied.getName(), iedName))
-            .findFirst()
-            .map(ied -> new IEDAdapter(this, ied));
+        return getSclIndex().findIed(iedName)
+            .map(this::getIEDAdapter);
+    }
+
+    /**
+     * Gets the index of current SCL, created on first call
+     * @return <em>SclIndex</em> of current SCL
+     */
+    public synchronized SclIndex getSclIndex() {
+        if (sclIndex == null || sclIndex.getScl() != currentElem) {
+            sclIndex = new SclIndex(currentElem);
+        }
+        return sclIndex;
+    }
+
+    /**
+     * Gets the cache of the COMPAS privates of the elements of current SCL, created on first call
+     * @return <em>CompasPrivateCache</em> of current SCL
+     */
+    public synchronized CompasPrivateCache getCompasPrivateCache() {
+        if (compasPrivateCache == null) {
+            compasPrivateCache = new CompasPrivateCache();
+        }
+        return compasPrivateCache;
+    }
+
+    /**
+     * Gets the index of the FCDA of the DataSets of current SCL, created on first call.
+     * It lives as long as this adapter, e.g. for the whole creation of DataSets and ControlBlocks of an SCL.
+     * @return <em>FcdaIndex</em> of current SCL
+     */
+    public synchronized FcdaIndex getFcdaIndex() {
+        if (fcdaIndex == null) {
+            fcdaIndex = new FcdaIndex();
+        }
+        return fcdaIndex;
+    }
+
+    /**
+     * Gets the cache of the adapters of the elements of current SCL, created on first call.
+     * Adapters of IEDs, AccessPoints, LDevices and LNs listed or found through adapters of this SCL are taken from it.
+     * @return <em>AdapterCache</em> of current SCL
+     */
+    @Override
+    public synchronized AdapterCache getAdapterCache() {
+        if (adapterCache == null) {
+            adapterCache = new AdapterCache();
+        }
+        return adapterCache;
+    }
+
+    /**
+     * Checks, using the index, whether given IED is the IED of current SCL registered under its name
+     * @param tied IED to check
+     * @return true if found in index, false otherwise (the IED may still belong to the SCL when several IEDs share the same name)
+     */
+    public boolean isIndexedIed(TIED tied) {
+        return getSclIndex().isIndexedIed(tied);
     }
 
     /**
@@ -272,7 +371,16 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
      */
     public Stream<IEDAdapter> streamIEDAdapters() {
         return currentElem.getIED().stream()
-            .map(tied -> new IEDAdapter(this, tied));
+            .map(this::getIEDAdapter);
+    }
+
+    /**
+     * Gets the adapter of an IED of current SCL
+     * @param tied IED of current SCL
+     * @return cached or created <em>IEDAdapter</em> of the IED
+     */
+    public IEDAdapter getIEDAdapter(TIED tied) {
+        return getAdapterCache().getOrCreate(this, tied, IEDAdapter::new);
     }
 
     /**
@@ -284,7 +392,7 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
     public IEDAdapter checkObjRef(String val) throws ScdException {
         ObjectReference objRef = new ObjectReference(val);
         for(TIED tied : currentElem.getIED()){
-            IEDAdapter iedAdapter = new IEDAdapter(this,tied);
+            IEDAdapter iedAdapter = getIEDAdapter(tied);
             if(iedAdapter.matches(objRef)){
                 return iedAdapter;
             }
@@ -302,10 +410,11 @@ public class SclRootAdapter extends SclElementAdapter<SclRootAdapter, SCL> {
         if (!currentElem.isSetCommunication()) {
             return Optional.empty();
         }
-        CommunicationAdapter communicationAdapter = new CommunicationAdapter(this, currentElem.getCommunication());
-        return communicationAdapter.getSubNetworkAdapters().stream()
-            .map(subNetworkAdapter -> subNetworkAdapter.findConnectedAPAdapter(iedName, apName))
-            .flatMap(Optional::stream)
-            .findFirst();
+        return getSclIndex().findConnectedAP(iedName, apName)
+            .map(indexedConnectedAP -> {
+                CommunicationAdapter communicationAdapter = new CommunicationAdapter(this, currentElem.getCommunication());
+                SubNetworkAdapter subNetworkAdapter = new SubNetworkAdapter(communicationAdapter, indexedConnectedAP.subNetwork());
+                return new ConnectedAPAdapter(subNetworkAdapter, indexedConnectedAP.connectedAP());
+            });
     }
 }
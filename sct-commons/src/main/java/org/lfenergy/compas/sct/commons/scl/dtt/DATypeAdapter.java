@@ -253,9 +253,20 @@ public class DATypeAdapter extends AbstractDataTypeAdapter<TDAType>{
      * @throws ScdException throws when DaTypeName structured names is not well-ordered
      */
     public void check(DaTypeName daTypeName) throws ScdException {
+        if(daTypeName.getStructNames().isEmpty())  return;
+        getTailBdaAdapter(daTypeName).check(daTypeName);
+    }
+
+    /**
+     * Finds the last BDA of the BDA chain of a DaTypeName, checking the chain like {@link #check(DaTypeName)} without
+     * completing the DaTypeName
+     * @param daTypeName DaTypeName with at least one BDA name
+     * @return adapter of the last BDA
+     * @throws ScdException throws when DaTypeName structured names is not well-ordered
+     */
+    public BDAAdapter getTailBdaAdapter(DaTypeName daTypeName) throws ScdException {
         int sz= daTypeName.getStructNames().size();
         String strBDAs = StringUtils.join(daTypeName.getStructNames());
-        if(sz == 0)  return;
         DATypeAdapter daTypeAdapter = this;
         for (int i = 0; i < sz - 1; ++i) {
             String bdaName = daTypeName.getStructNames().get(i);
@@ -266,13 +277,15 @@ public class DATypeAdapter extends AbstractDataTypeAdapter<TDAType>{
         }
         String lastBda = daTypeName.getStructNames().get(sz - 1);
         BDAAdapter bdaAdapter = daTypeAdapter.getBdaAdapterByName(lastBda)
-                .orElseThrow();
+                .orElseThrow(
+                        () -> new ScdException(String.format("Invalid BDA(%s) in '%s'",lastBda,strBDAs  ))
+                );
         if(!bdaAdapter.isTail()){
             throw new ScdException(
                     String.format("Last BDA(%s) in '%s' cannot be of type STRUCT", lastBda, strBDAs)
             );
         }
-        bdaAdapter.check(daTypeName);
+        return bdaAdapter;
     }
 
     /**
@@ -14,6 +14,7 @@ import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -42,6 +43,9 @@ import java.util.stream.Collectors;
  *      <li>{@link DataTypeTemplateAdapter#addPrivate <em>Add <b>TPrivate </b>under this object</em>}</li>
  *      <li>{@link DataTypeTemplateAdapter#importDTT <em>Add <b>TDataTypeTemplates </b>
  *      describing the childrens <b>TLNodeType,TDOType,TDAType,TEnumType </b> that can be created under this object</em>}</li>
+ *      <li>{@link DataTypeTemplateAdapter#copyTypesUsedBy <em>Copy <b>TLNodeType </b> and all the types they use in a new <b>TDataTypeTemplates </b></em>}</li>
+ *      <li>{@link DataTypeTemplateAdapter#prepareImport <em>Prepare <b>TDataTypeTemplates </b> to be imported in another one</em>}</li>
+ *      <li>{@link DataTypeTemplateAdapter#prepareReceiving <em>Prepare <b>TDataTypeTemplates </b> to receive several other ones</em>}</li>
  *      <li>{@link DataTypeTemplateAdapter#importEnumType <em>Add <b>TDataTypeTemplates </b> describing the children <b>TEnumType </b> that can be created under this object</em>}</li>
  *      <li>{@link DataTypeTemplateAdapter#importLNodeType <em>Add <b>TDataTypeTemplates </b> describing the children <b>TLNodeType </b> that can be created under this object</em>}</li>
  *      <li>{@link DataTypeTemplateAdapter#importDOType <em>Add <b>TDataTypeTemplates </b> describing the children <b>TDOType </b> that can be created under this object</em>}</li>
@@ -204,72 +208,135 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @param prvDttAdapter Adapter of the Data Type template that provides its DataTypeTemplate
      */
     public void importEnumType(String thisIEDName, DataTypeTemplateAdapter prvDttAdapter){
+        new DataTypeTemplateImporter(thisIEDName, this, prvDttAdapter).importEnumTypes();
+    }
 
-        Map<String,String> pairOldAndNewEnumId = new HashMap<>();
-        List<EnumTypeAdapter> prvEnumTypeAdapters = prvDttAdapter.getEnumTypeAdapters();
+    /**
+     * Import DataTypeTemplate from IEDName and received DataTypeTemplate.
+     * Types are compared with their content fingerprint (see {@link DataTypeTemplateImporter}) : types identical to
+     * existing ones, whatever their id, are not imported and both DataTypeTemplates are only browsed once.
+     * @param thisIEDName IED name (in which DO Type is localized)
+     * @param rcvDttAdapter Adapter of the Data Type template that receives its DataTypeTemplate
+     * @return map of (old LNodeType id, new LNodeType id)
+     */
+    public Map<String,String> importDTT(String thisIEDName, DataTypeTemplateAdapter rcvDttAdapter) {
+        return importDTT(thisIEDName, rcvDttAdapter.prepareImport());
+    }
 
-        for(EnumTypeAdapter prvEnumTypeAdapter : prvEnumTypeAdapters){
+    /**
+     * Import DataTypeTemplate from IEDName and received DataTypeTemplate, prepared beforehand with {@link #prepareImport()}
+     * @param thisIEDName IED name (in which DO Type is localized)
+     * @param preparedDtt DataTypeTemplate that provides the types, ready to be imported
+     * @return map of (old LNodeType id, new LNodeType id)
+     * @throws IllegalStateException when preparedDtt has already been imported
+     */
+    public Map<String,String> importDTT(String thisIEDName, PreparedDataTypeTemplate preparedDtt) {
+        return importDTT(thisIEDName, preparedDtt, prepareReceiving());
+    }
 
-            TEnumType prvEnumType = prvEnumTypeAdapter.getCurrentElem();
-            String oldEnumId = prvEnumType.getId();
-            String newEnumId = prvEnumType.getId();
-            Optional<EnumTypeAdapter> opRcvEnumTypeAdapter = this.getEnumTypeAdapterById(oldEnumId);
+    /**
+     * Import DataTypeTemplate from IEDName and received DataTypeTemplate, prepared beforehand with {@link #prepareImport()},
+     * into this DataTypeTemplate prepared with {@link #prepareReceiving()} : the types of this DataTypeTemplate are
+     * only fingerprinted once for all the imports using the same receivingDtt.
+     * @param thisIEDName IED name (in which DO Type is localized)
+     * @param preparedDtt DataTypeTemplate that provides the types, ready to be imported
+     * @param receivingDtt this DataTypeTemplate, ready to receive types
+     * @return map of (old LNodeType id, new LNodeType id)
+     * @throws IllegalStateException when preparedDtt has already been imported
+     * @throws IllegalArgumentException when receivingDtt has been prepared for another DataTypeTemplate
+     */
+    public Map<String,String> importDTT(String thisIEDName, PreparedDataTypeTemplate preparedDtt, ReceivingDataTypeTemplate receivingDtt) {
+        DataTypeTemplateImporter dataTypeTemplateImporter = new DataTypeTemplateImporter(thisIEDName, this, preparedDtt, receivingDtt);
 
-            boolean isImportable = opRcvEnumTypeAdapter.isEmpty() || !opRcvEnumTypeAdapter.get().hasSameContentAs(prvEnumType);
+        dataTypeTemplateImporter.importEnumTypes();
 
-            if(isImportable && opRcvEnumTypeAdapter.isPresent()){
-                // same ID, different content
-                // rename enumType Id
-                newEnumId = generateDttId(thisIEDName,prvEnumType.getId());
-                prvEnumType.setId(newEnumId);
-            }
+        dataTypeTemplateImporter.importDATypes();
 
-            if(isImportable) {
-                //import this enumType
-                currentElem.getEnumType().add(prvEnumType);
-                if(!Objects.equals(oldEnumId,newEnumId)) {
-                    pairOldAndNewEnumId.put(oldEnumId,newEnumId);
-                }
-            }
-        }
+        dataTypeTemplateImporter.importDOTypes();
 
-        // escalate on this DTT and update all element linked to added EnumType
-        pairOldAndNewEnumId.forEach((oldId, newId) -> {
-            List<DATypeAdapter> daTypeAdapters = prvDttAdapter.findDATypesWhichBdaContainsEnumTypeId(oldId);
-            List<TBDA> bdas = daTypeAdapters.stream()
-                    .map(DATypeAdapter::getBdaAdapters)
-                    .flatMap(Collection::stream)
-                    .map(DATypeAdapter.BDAAdapter::getCurrentElem)
-                    .filter(bda -> TPredefinedBasicTypeEnum.ENUM == bda.getBType()
-                            && Objects.equals(bda.getType(),oldId))
-                    .collect(Collectors.toList());
-            bdas.forEach(tbda -> tbda.setType(newId));
-            List<DOTypeAdapter> doTypeAdapters = prvDttAdapter.findDOTypesWhichDAContainsEnumTypeId(oldId);
-            List<TDA> tdas = doTypeAdapters.stream()
-                    .map(doTypeAdapter -> retrieveSdoOrDA(doTypeAdapter.getCurrentElem().getSDOOrDA(), TDA.class))
-                    .flatMap(Collection::stream)
-                    .filter(tda -> TPredefinedBasicTypeEnum.ENUM == tda.getBType()
-                            && Objects.equals(tda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tdas.forEach(tda -> tda.setType(newId));
-        });
+        return dataTypeTemplateImporter.importLNodeTypes();
     }
 
     /**
-     * Import DataTypeTemplate from IEDName and received DataTypeTemplate
-     * @param thisIEDName IED name (in which DO Type is localized)
-     * @param rcvDttAdapter Adapter of the Data Type template that receives its DataTypeTemplate
-     * @return map of (old enumId, new enumId)
+     * Copies the given LNodeTypes and all the types they use, directly or not, into a new DataTypeTemplate.
+     * Types are copied by value and keep their order of appearance in this DataTypeTemplate.
+     * @param lNodeTypeIds ids of the LNodeTypes to copy. Unknown ids are ignored.
+     * @return new DataTypeTemplate containing copies of the used types
      */
-    public Map<String,String> importDTT(String thisIEDName, DataTypeTemplateAdapter rcvDttAdapter) {
+    public TDataTypeTemplates copyTypesUsedBy(Collection<String> lNodeTypeIds) {
+        Set<String> usedLNodeTypeIds = new HashSet<>(lNodeTypeIds);
+        Set<String> usedDoTypeIds = new HashSet<>();
+        Set<String> usedDaTypeIds = new HashSet<>();
+        Set<String> usedEnumTypeIds = new HashSet<>();
+        currentElem.getLNodeType().stream()
+                .filter(tlNodeType -> usedLNodeTypeIds.contains(tlNodeType.getId()))
+                .flatMap(tlNodeType -> tlNodeType.getDO().stream())
+                .forEach(tdo -> usedDoTypeIds.add(tdo.getType()));
+        Map<String, TDOType> doTypesById = new HashMap<>();
+        currentElem.getDOType().forEach(tdoType -> doTypesById.putIfAbsent(tdoType.getId(), tdoType));
+        Map<String, TDAType> daTypesById = new HashMap<>();
+        currentElem.getDAType().forEach(tdaType -> daTypesById.putIfAbsent(tdaType.getId(), tdaType));
+        Deque<String> doTypeIdsToVisit = new ArrayDeque<>(usedDoTypeIds);
+        Deque<String> daTypeIdsToVisit = new ArrayDeque<>();
+        while (!doTypeIdsToVisit.isEmpty()) {
+            TDOType tdoType = doTypesById.get(doTypeIdsToVisit.pop());
+            if (tdoType == null) {
+                continue;
+            }
+            for (TUnNaming sdoOrDa : tdoType.getSDOOrDA()) {
+                if (sdoOrDa instanceof TSDO tsdo && usedDoTypeIds.add(tsdo.getType())) {
+                    doTypeIdsToVisit.push(tsdo.getType());
+                } else if (sdoOrDa instanceof TDA tda) {
+                    addUsedType(tda, usedDaTypeIds, usedEnumTypeIds, daTypeIdsToVisit);
+                }
+            }
+        }
+        while (!daTypeIdsToVisit.isEmpty()) {
+            TDAType tdaType = daTypesById.get(daTypeIdsToVisit.pop());
+            if (tdaType != null) {
+                tdaType.getBDA().forEach(tbda -> addUsedType(tbda, usedDaTypeIds, usedEnumTypeIds, daTypeIdsToVisit));
+            }
+        }
+        TDataTypeTemplates copy = new TDataTypeTemplates();
+        copyTypes(currentElem.getLNodeType(), usedLNodeTypeIds, copy.getLNodeType(), TLNodeType.class);
+        copyTypes(currentElem.getDOType(), usedDoTypeIds, copy.getDOType(), TDOType.class);
+        copyTypes(currentElem.getDAType(), usedDaTypeIds, copy.getDAType(), TDAType.class);
+        copyTypes(currentElem.getEnumType(), usedEnumTypeIds, copy.getEnumType(), TEnumType.class);
+        return copy;
+    }
 
-        this.importEnumType(thisIEDName,rcvDttAdapter);
+    private static void addUsedType(TAbstractDataAttribute data, Set<String> usedDaTypeIds, Set<String> usedEnumTypeIds, Deque<String> daTypeIdsToVisit) {
+        if (data.getBType() == TPredefinedBasicTypeEnum.ENUM) {
+            usedEnumTypeIds.add(data.getType());
+        } else if (data.getBType() == TPredefinedBasicTypeEnum.STRUCT && usedDaTypeIds.add(data.getType())) {
+            daTypeIdsToVisit.push(data.getType());
+        }
+    }
 
-        this.importDAType(thisIEDName,rcvDttAdapter);
+    private static <T extends TIDNaming> void copyTypes(List<T> types, Set<String> usedIds, List<T> copies, Class<T> typeClass) {
+        types.stream()
+                .filter(type -> usedIds.contains(type.getId()))
+                .map(type -> Utils.copySclElement(type, typeClass))
+                .forEach(copies::add);
+    }
 
-        this.importDOType(thisIEDName,rcvDttAdapter);
+    /**
+     * Prepares the import of this DataTypeTemplate into another one : fingerprints of the types and references between
+     * types are computed once. It does not depend on the receiving DataTypeTemplate, so the import of several
+     * DataTypeTemplates can be prepared concurrently.
+     * @return this DataTypeTemplate ready to be imported with {@link #importDTT(String, PreparedDataTypeTemplate)}
+     */
+    public PreparedDataTypeTemplate prepareImport() {
+        return new PreparedDataTypeTemplate(currentElem);
+    }
 
-        return importLNodeType(thisIEDName,rcvDttAdapter);
+    /**
+     * Prepares this DataTypeTemplate to receive several DataTypeTemplates in a row : fingerprints of its types are
+     * computed once for all these imports. This DataTypeTemplate must only be modified by these imports meanwhile.
+     * @return this DataTypeTemplate ready to receive types with {@link #importDTT(String, PreparedDataTypeTemplate, ReceivingDataTypeTemplate)}
+     */
+    public ReceivingDataTypeTemplate prepareReceiving() {
+        return new ReceivingDataTypeTemplate(currentElem);
     }
 
     /**
@@ -279,36 +346,7 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @return map of (old enumId, new enumId)
      */
     protected Map<String, String> importLNodeType(String thisIEDName, DataTypeTemplateAdapter prvDttAdapter) {
-        Map<String,String> pairOldAndNewId = new HashMap<>();
-        List<LNodeTypeAdapter> prvLNodeTypeAdapters = prvDttAdapter.getLNodeTypeAdapters();
-        for(LNodeTypeAdapter prvLNodeTypeAdapter : prvLNodeTypeAdapters){
-
-            TLNodeType prvLNodeType = prvLNodeTypeAdapter.getCurrentElem();
-            String oldId = prvLNodeType.getId();
-            String newId = prvLNodeType.getId();
-            Optional<LNodeTypeAdapter> opRcvLNodeTypeAdapter = this.getLNodeTypeAdapterById(oldId);
-
-            boolean isImportable = false;
-            if(!opRcvLNodeTypeAdapter.isPresent() || !opRcvLNodeTypeAdapter.get().hasSameContentAs(prvLNodeType)) {
-                isImportable = true;
-            }
-
-            if(isImportable && opRcvLNodeTypeAdapter.isPresent()){
-                // same ID, different content
-                // rename enumType Id
-                newId = generateDttId(thisIEDName,prvLNodeType.getId());
-                prvLNodeType.setId(newId);
-            }
-
-            if(isImportable) {
-                //import this LNodeType
-                currentElem.getLNodeType().add(prvLNodeType);
-                if(!Objects.equals(oldId,newId)) {
-                    pairOldAndNewId.put(oldId,newId);
-                }
-            }
-        }
-        return pairOldAndNewId;
+        return new DataTypeTemplateImporter(thisIEDName, this, prvDttAdapter).importLNodeTypes();
     }
 
     /**
@@ -317,54 +355,7 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @param prvDttAdapter Adapter of the Data Type template that provides its DataTypeTemplate
      */
     protected void importDOType(String thisIEDName, DataTypeTemplateAdapter prvDttAdapter) {
-        Map<String,String> pairOldAndNewDOTyYpeId = new HashMap<>();
-        List<DOTypeAdapter> prvDOTypeAdapters = prvDttAdapter.getDOTypeAdapters();
-
-        for(DOTypeAdapter prvDOTypeAdapter : prvDOTypeAdapters){
-
-            TDOType prvDOType = prvDOTypeAdapter.getCurrentElem();
-            String oldId = prvDOType.getId();
-            String newId = prvDOType.getId();
-            Optional<DOTypeAdapter> opRcvDOTypeAdapter = this.getDOTypeAdapterById(oldId);
-
-            boolean isImportable = false;
-            if(!opRcvDOTypeAdapter.isPresent() || !opRcvDOTypeAdapter.get().hasSameContentAs(prvDOType)) {
-                isImportable = true;
-            }
-
-            if(isImportable && opRcvDOTypeAdapter.isPresent()){
-                // same ID, different content
-                // rename enumType Id
-                newId = generateDttId(thisIEDName,prvDOType.getId());
-                prvDOType.setId(newId);
-            }
-
-            if(isImportable) {
-                //import this DOType
-                currentElem.getDOType().add(prvDOType);
-                if(!Objects.equals(oldId,newId)) {
-                    pairOldAndNewDOTyYpeId.put(oldId,newId);
-                }
-            }
-        }
-
-        // escalate on provider DTT
-        pairOldAndNewDOTyYpeId.forEach((oldId, newId) -> {
-            List<DOTypeAdapter> doTypeAdapters = prvDttAdapter.findDOTypesFromSDOWithDOTypeId(oldId);
-            var tsdos = doTypeAdapters.stream()
-                    .map(doTypeAdapter -> retrieveSdoOrDA(doTypeAdapter.getCurrentElem().getSDOOrDA(),TSDO.class) )
-                    .flatMap(Collection::stream)
-                    .filter(bda ->  Objects.equals(bda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tsdos.forEach(tbda -> tbda.setType(newId));
-            List<LNodeTypeAdapter> lNodeTypeAdapters = prvDttAdapter.findLNodeTypesFromDoWithDoTypeId(oldId);
-            var tdos = lNodeTypeAdapters.stream()
-                    .map(lNodeTypeAdapter ->  lNodeTypeAdapter.getCurrentElem().getDO())
-                    .flatMap(Collection::stream)
-                    .filter(tda -> Objects.equals(tda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tdos.forEach(tda -> tda.setType(newId));
-        });
+        new DataTypeTemplateImporter(thisIEDName, this, prvDttAdapter).importDOTypes();
     }
 
     /**
@@ -373,59 +364,7 @@ public class DataTypeTemplateAdapter extends SclElementAdapter<SclRootAdapter, T
      * @param prvDttAdapter Adapter of the Data Type template that provides its DataTypeTemplate
      */
     protected void importDAType(String thisIEDName, DataTypeTemplateAdapter prvDttAdapter) {
-
-        Map<String,String> pairOldAndNewEnumId = new HashMap<>();
-        List<DATypeAdapter> prvDATypeAdapters = prvDttAdapter.getDATypeAdapters();
-
-        for(DATypeAdapter prvDATypeAdapter : prvDATypeAdapters){
-
-            TDAType prvDAType = prvDATypeAdapter.getCurrentElem();
-            String oldId = prvDAType.getId();
-            String newId = prvDAType.getId();
-            Optional<DATypeAdapter> opRcvDATypeAdapter = this.getDATypeAdapterById(oldId);
-
-            boolean isImportable = false;
-            if(!opRcvDATypeAdapter.isPresent() || !opRcvDATypeAdapter.get().hasSameContentAs(prvDAType)) {
-                isImportable = true;
-            }
-
-            if(isImportable && opRcvDATypeAdapter.isPresent()){
-                // same ID, different content
-                // rename enumType Id
-                newId = generateDttId(thisIEDName,prvDAType.getId());
-                prvDAType.setId(newId);
-            }
-
-            if(isImportable) {
-                //import this DAType
-                currentElem.getDAType().add(prvDAType);
-                if(!Objects.equals(oldId,newId)) {
-                    pairOldAndNewEnumId.put(oldId,newId);
-                }
-            }
-        }
-
-        // escalate on this DTT
-        pairOldAndNewEnumId.forEach((oldId, newId) -> {
-            List<DATypeAdapter> daTypeAdapters = prvDttAdapter.findDATypesFromStructBdaWithDATypeId(oldId);
-            var tbdas = daTypeAdapters.stream()
-                    .map(DATypeAdapter::getBdaAdapters)
-                    .flatMap(Collection::stream)
-                    .map(DATypeAdapter.BDAAdapter::getCurrentElem)
-                    .filter(bda -> TPredefinedBasicTypeEnum.STRUCT == bda.getBType()
-                            && Objects.equals(bda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tbdas.forEach(tbda -> tbda.setType(newId));
-            List<DOTypeAdapter> doTypeAdapters = prvDttAdapter.findDOTypesWhichDAContainsStructWithDATypeId(oldId);
-            var tdas = doTypeAdapters.stream()
-                    .map(doTypeAdapter -> retrieveSdoOrDA(doTypeAdapter.getCurrentElem().getSDOOrDA(), TDA.class))
-                    .flatMap(Collection::stream)
-                    .filter(tda -> TPredefinedBasicTypeEnum.STRUCT == tda.getBType()
-                            && Objects.equals(tda.getType(),oldId))
-                    .collect(Collectors.toList());
-            tdas.forEach(tda -> tda.setType(newId));
-        });
-
+        new DataTypeTemplateImporter(thisIEDName, this, prvDttAdapter).importDATypes();
     }
 
     /**
@@ -0,0 +1,239 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Canonical content fingerprints of the types of a <em><b>DataTypeTemplates</b></em>.
+ * <p>
+ * The fingerprint of a type is a hash of its content where each reference to another type (Enum or Struct
+ * DA/BDA, SDO, DO) is replaced by the fingerprint of the referenced type, like a Merkle tree.
+ * Two types with the same fingerprint are therefore identical down to their leaves, whatever their id and
+ * the id of the types they reference. The content taken into account follows the rules of
+ * {@link IDTTComparable#hasSameContentAs} : Privates are compared on type and source, EnumVals and Vals
+ * regardless of their order, BDAs, SDOs, DAs and DOs in their order of appearance, descriptions are ignored.
+ * </p>
+ * Fingerprints are computed lazily then kept, so the DataTypeTemplates must not be modified while this object is used,
+ * except for types added and registered with {@link #register} : references to a registered type are then resolved
+ * as if it had been there from the start. When several types share the same id, references
+ * are resolved to the first one. This class is not thread safe.
+ *
+ * @see <a href="https://github.com/com-pas/compas-sct/issues/5" target="_blank">General rules to define if two DTT are different</a>
+ */
+final class DataTypeTemplateFingerprints {
+
+    private static final String UNRESOLVED_REFERENCE = "unresolved";
+    private static final String CYCLIC_REFERENCE = "cyclic";
+
+    private final Map<String, TEnumType> enumTypesById;
+    private final Map<String, TDAType> daTypesById;
+    private final Map<String, TDOType> doTypesById;
+    private final Map<TIDNaming, String> fingerprints = new IdentityHashMap<>();
+    private final Set<TIDNaming> inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Constructor
+     * @param dataTypeTemplates DataTypeTemplates containing the types to fingerprint and the types they reference
+     */
+    DataTypeTemplateFingerprints(TDataTypeTemplates dataTypeTemplates) {
+        enumTypesById = indexById(dataTypeTemplates.getEnumType());
+        daTypesById = indexById(dataTypeTemplates.getDAType());
+        doTypesById = indexById(dataTypeTemplates.getDOType());
+    }
+
+    /**
+     * Gets the fingerprint of an EnumType, DAType, DOType or LNodeType of the DataTypeTemplates
+     * @param type type to fingerprint
+     * @return hexadecimal representation of the fingerprint
+     */
+    String of(TIDNaming type) {
+        String fingerprint = fingerprints.get(type);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        if (!inProgress.add(type)) {
+            return new Canonical().add(CYCLIC_REFERENCE).add(type.getId()).digest();
+        }
+        try {
+            fingerprint = switch (type) {
+                case TEnumType tEnumType -> enumTypeFingerprint(tEnumType);
+                case TDAType tdaType -> daTypeFingerprint(tdaType);
+                case TDOType tdoType -> doTypeFingerprint(tdoType);
+                case TLNodeType tlNodeType -> lNodeTypeFingerprint(tlNodeType);
+                default -> throw new IllegalArgumentException("Unsupported DataTypeTemplates type : " + type.getClass().getSimpleName());
+            };
+        } finally {
+            inProgress.remove(type);
+        }
+        fingerprints.put(type, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * Registers the fingerprint of a type which has been added to the DataTypeTemplates after this object creation
+     * @param type added type
+     * @param fingerprint fingerprint of the added type, as computed in the DataTypeTemplates it comes from
+     */
+    void register(TIDNaming type, String fingerprint) {
+        fingerprints.put(type, fingerprint);
+        switch (type) {
+            case TEnumType tEnumType -> enumTypesById.putIfAbsent(tEnumType.getId(), tEnumType);
+            case TDAType tdaType -> daTypesById.putIfAbsent(tdaType.getId(), tdaType);
+            case TDOType tdoType -> doTypesById.putIfAbsent(tdoType.getId(), tdoType);
+            default -> {
+                // LNodeTypes are not referenced by other types
+            }
+        }
+    }
+
+    private String enumTypeFingerprint(TEnumType tEnumType) {
+        return new Canonical()
+                .add(TEnumType.class.getSimpleName())
+                .addSorted(tEnumType.getPrivate(), DataTypeTemplateFingerprints::privateKey)
+                .addSorted(tEnumType.getEnumVal(), tEnumVal -> new Canonical().add(tEnumVal.getOrd()).add(tEnumVal.getValue()).toString())
+                .digest();
+    }
+
+    private String daTypeFingerprint(TDAType tdaType) {
+        Canonical canonical = new Canonical()
+                .add(TDAType.class.getSimpleName())
+                .addSorted(tdaType.getPrivate(), DataTypeTemplateFingerprints::privateKey)
+                .add(tdaType.getIedType())
+                .add(tdaType.getBDA().size());
+        tdaType.getBDA().forEach(tbda -> addDataAttribute(canonical, tbda));
+        return addProtNs(canonical, tdaType.getProtNs()).digest();
+    }
+
+    private String doTypeFingerprint(TDOType tdoType) {
+        Canonical canonical = new Canonical()
+                .add(TDOType.class.getSimpleName())
+                .addSorted(tdoType.getPrivate(), DataTypeTemplateFingerprints::privateKey)
+                .add(tdoType.getCdc())
+                .add(tdoType.getIedType())
+                .add(tdoType.getSDOOrDA().size());
+        for (TUnNaming sdoOrDa : tdoType.getSDOOrDA()) {
+            if (sdoOrDa instanceof TSDO tsdo) {
+                canonical.add(TSDO.class.getSimpleName())
+                        .add(tsdo.getName())
+                        .add(reference(doTypesById, tsdo.getType()))
+                        .add(tsdo.getCount());
+            } else if (sdoOrDa instanceof TDA tda) {
+                addDataAttribute(canonical, tda);
+            }
+        }
+        return canonical.digest();
+    }
+
+    private String lNodeTypeFingerprint(TLNodeType tlNodeType) {
+        Canonical canonical = new Canonical()
+                .add(TLNodeType.class.getSimpleName())
+                .addSorted(tlNodeType.getPrivate(), DataTypeTemplateFingerprints::privateKey)
+                .add(tlNodeType.getLnClass().size());
+        tlNodeType.getLnClass().forEach(canonical::add);
+        canonical.add(tlNodeType.getIedType())
+                .add(tlNodeType.getDO().size());
+        tlNodeType.getDO().forEach(tdo -> canonical
+                .add(tdo.getName())
+                .add(reference(doTypesById, tdo.getType()))
+                .add(tdo.isTransient())
+                .add(tdo.getAccessControl()));
+        return canonical.digest();
+    }
+
+    private void addDataAttribute(Canonical canonical, TAbstractDataAttribute data) {
+        canonical.add(data.getClass().getSimpleName())
+                .add(data.getName())
+                .add(data.getBType())
+                .add(typeReference(data))
+                .add(data.getSAddr())
+                .add(data.getValKind())
+                .add(data.isValImport())
+                .add(data.isSetCount() ? data.getCount() : null)
+                .addSorted(data.getVal(), tVal -> new Canonical().add(tVal.getValue()).add(tVal.isSetSGroup() ? tVal.getSGroup() : null).toString());
+        if (data instanceof TDA tda) {
+            canonical.add(tda.getFc())
+                    .add(tda.isDchg())
+                    .add(tda.isDupd())
+                    .add(tda.isQchg());
+            addProtNs(canonical, tda.getProtNs());
+        }
+    }
+
+    private String typeReference(TAbstractDataAttribute data) {
+        if (data.getBType() == TPredefinedBasicTypeEnum.ENUM) {
+            return reference(enumTypesById, data.getType());
+        }
+        if (data.getBType() == TPredefinedBasicTypeEnum.STRUCT) {
+            return reference(daTypesById, data.getType());
+        }
+        return data.getType();
+    }
+
+    private <T extends TIDNaming> String reference(Map<String, T> typesById, String id) {
+        T referencedType = typesById.get(id);
+        return referencedType != null ? of(referencedType) : new Canonical().add(UNRESOLVED_REFERENCE).add(id).toString();
+    }
+
+    private static Canonical addProtNs(Canonical canonical, List<TProtNs> tProtNs) {
+        canonical.add(tProtNs.size());
+        tProtNs.forEach(protNs -> canonical.add(protNs.getValue()).add(protNs.getType()));
+        return canonical;
+    }
+
+    private static String privateKey(TPrivate tPrivate) {
+        return new Canonical().add(tPrivate.getType()).add(tPrivate.getSource()).toString();
+    }
+
+    private static <T extends TIDNaming> Map<String, T> indexById(List<T> types) {
+        Map<String, T> typesById = new HashMap<>();
+        types.forEach(type -> typesById.putIfAbsent(type.getId(), type));
+        return typesById;
+    }
+
+    /**
+     * Unambiguous serialization of a sequence of values : each value is prefixed by its length
+     */
+    private static final class Canonical {
+
+        private final StringBuilder content = new StringBuilder();
+
+        private Canonical add(Object value) {
+            if (value == null) {
+                content.append('~');
+            } else {
+                String str = value.toString();
+                content.append(str.length()).append(':').append(str);
+            }
+            return this;
+        }
+
+        private <E> Canonical addSorted(Collection<E> elements, Function<E, String> elementMapper) {
+            add(elements.size());
+            elements.stream().map(elementMapper).sorted().forEach(this::add);
+            return this;
+        }
+
+        private String digest() {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(hash);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return content.toString();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Imports the types of a provider <em><b>DataTypeTemplates</b></em> into a receiver one, for a given IED.
+ * <p>
+ * For each type of the provider :
+ * </p>
+ * <ul>
+ *     <li>a type of the receiver with the same id and the same content is reused</li>
+ *     <li>otherwise a type of the receiver with the same content, according to {@link DataTypeTemplateFingerprints},
+ *     is reused, whatever its id</li>
+ *     <li>otherwise the type is added to the receiver, renamed with IED name as prefix when its id is already used</li>
+ * </ul>
+ * When a type is reused under another id or renamed, the references to it in the provider are updated through a
+ * reverse reference index, so that the types added afterward point to the right types of the receiver.
+ * Types referenced by other types of the same kind (DAType by Struct BDA, DOType by SDO) are processed, and added,
+ * before them.
+ * The receiver is indexed once by {@link ReceivingDataTypeTemplate}, which can be kept for the next imports into the
+ * same receiver. The provider is indexed once by {@link PreparedDataTypeTemplate}, possibly beforehand and in another
+ * thread.
+ */
+final class DataTypeTemplateImporter {
+
+    private final String iedName;
+    private final DataTypeTemplateAdapter rcvDttAdapter;
+    private final TDataTypeTemplates rcvDtt;
+    private final TDataTypeTemplates prvDtt;
+    private final DataTypeTemplateFingerprints rcvFingerprints;
+    private final DataTypeTemplateFingerprints prvFingerprints;
+    private final Map<String, List<Consumer<String>>> prvEnumTypeReferences;
+    private final Map<String, List<Consumer<String>>> prvDaTypeReferences;
+    private final Map<String, List<Consumer<String>>> prvDoTypeReferences;
+
+    /**
+     * Constructor
+     * @param iedName name of the IED the provider types come from, used to rename types with an id already used
+     * @param rcvDttAdapter Adapter of the Data Type template that receives the types
+     * @param prvDttAdapter Adapter of the Data Type template that provides the types
+     */
+    DataTypeTemplateImporter(String iedName, DataTypeTemplateAdapter rcvDttAdapter, DataTypeTemplateAdapter prvDttAdapter) {
+        this(iedName, rcvDttAdapter, prvDttAdapter.prepareImport());
+    }
+
+    /**
+     * Constructor
+     * @param iedName name of the IED the provider types come from, used to rename types with an id already used
+     * @param rcvDttAdapter Adapter of the Data Type template that receives the types
+     * @param preparedPrvDtt Data Type template that provides the types, already indexed
+     * @throws IllegalStateException when the provider has already been imported
+     */
+    DataTypeTemplateImporter(String iedName, DataTypeTemplateAdapter rcvDttAdapter, PreparedDataTypeTemplate preparedPrvDtt) {
+        this(iedName, rcvDttAdapter, preparedPrvDtt, rcvDttAdapter.prepareReceiving());
+    }
+
+    /**
+     * Constructor
+     * @param iedName name of the IED the provider types come from, used to rename types with an id already used
+     * @param rcvDttAdapter Adapter of the Data Type template that receives the types
+     * @param preparedPrvDtt Data Type template that provides the types, already indexed
+     * @param receivingDtt Data Type template that receives the types, already indexed
+     * @throws IllegalStateException when the provider has already been imported
+     * @throws IllegalArgumentException when receivingDtt has not been prepared from the DataTypeTemplates of rcvDttAdapter
+     */
+    DataTypeTemplateImporter(String iedName, DataTypeTemplateAdapter rcvDttAdapter, PreparedDataTypeTemplate preparedPrvDtt,
+                             ReceivingDataTypeTemplate receivingDtt) {
+        if (receivingDtt.getDataTypeTemplates() != rcvDttAdapter.getCurrentElem()) {
+            throw new IllegalArgumentException("Receiving DataTypeTemplates has been prepared for another DataTypeTemplates");
+        }
+        preparedPrvDtt.markImported();
+        this.iedName = iedName;
+        this.rcvDttAdapter = rcvDttAdapter;
+        this.rcvDtt = rcvDttAdapter.getCurrentElem();
+        this.prvDtt = preparedPrvDtt.getDataTypeTemplates();
+        this.rcvFingerprints = receivingDtt.getFingerprints();
+        this.prvFingerprints = preparedPrvDtt.getFingerprints();
+        this.prvEnumTypeReferences = preparedPrvDtt.getEnumTypeReferences();
+        this.prvDaTypeReferences = preparedPrvDtt.getDaTypeReferences();
+        this.prvDoTypeReferences = preparedPrvDtt.getDoTypeReferences();
+    }
+
+    /**
+     * Imports provider EnumTypes
+     * @return map of (old EnumType id, new EnumType id) for EnumTypes reused under another id or renamed
+     */
+    Map<String, String> importEnumTypes() {
+        return importTypes(rcvDtt.getEnumType(), prvDtt.getEnumType(), prvEnumTypeReferences, tEnumType -> List.of(),
+                (rcvEnumType, prvEnumType) -> new EnumTypeAdapter(rcvDttAdapter, rcvEnumType).hasSameContentAs(prvEnumType));
+    }
+
+    /**
+     * Imports provider DATypes. EnumTypes must have been imported before.
+     * @return map of (old DAType id, new DAType id) for DATypes reused under another id or renamed
+     */
+    Map<String, String> importDATypes() {
+        return importTypes(rcvDtt.getDAType(), prvDtt.getDAType(), prvDaTypeReferences,
+                tdaType -> tdaType.getBDA().stream()
+                        .filter(tbda -> tbda.getBType() == TPredefinedBasicTypeEnum.STRUCT)
+                        .map(TBDA::getType)
+                        .toList(),
+                (rcvDAType, prvDAType) -> new DATypeAdapter(rcvDttAdapter, rcvDAType).hasSameContentAs(prvDAType));
+    }
+
+    /**
+     * Imports provider DOTypes. EnumTypes and DATypes must have been imported before.
+     * @return map of (old DOType id, new DOType id) for DOTypes reused under another id or renamed
+     */
+    Map<String, String> importDOTypes() {
+        return importTypes(rcvDtt.getDOType(), prvDtt.getDOType(), prvDoTypeReferences,
+                tdoType -> tdoType.getSDOOrDA().stream()
+                        .filter(TSDO.class::isInstance)
+                        .map(tUnNaming -> ((TSDO) tUnNaming).getType())
+                        .toList(),
+                (rcvDOType, prvDOType) -> new DOTypeAdapter(rcvDttAdapter, rcvDOType).hasSameContentAs(prvDOType));
+    }
+
+    /**
+     * Imports provider LNodeTypes. DOTypes must have been imported before.
+     * @return map of (old LNodeType id, new LNodeType id) for LNodeTypes reused under another id or renamed
+     */
+    Map<String, String> importLNodeTypes() {
+        return importTypes(rcvDtt.getLNodeType(), prvDtt.getLNodeType(), new HashMap<>(), tlNodeType -> List.of(),
+                (rcvLNodeType, prvLNodeType) -> new LNodeTypeAdapter(rcvDttAdapter, rcvLNodeType).hasSameContentAs(prvLNodeType));
+    }
+
+    private <T extends TIDNaming> Map<String, String> importTypes(List<T> rcvTypes, List<T> prvTypes,
+                                                                  Map<String, List<Consumer<String>>> prvReferences,
+                                                                  Function<T, List<String>> sameKindReferencedIds,
+                                                                  BiPredicate<T, T> hasSameContent) {
+        TypeImport<T> typeImport = new TypeImport<>(rcvTypes, prvTypes, prvReferences, sameKindReferencedIds, hasSameContent);
+        prvTypes.forEach(typeImport::importType);
+        return typeImport.pairOldAndNewId;
+    }
+
+    /**
+     * Import state of one kind of type
+     */
+    private final class TypeImport<T extends TIDNaming> {
+
+        private final List<T> rcvTypes;
+        private final Map<String, List<Consumer<String>>> prvReferences;
+        private final Function<T, List<String>> sameKindReferencedIds;
+        private final BiPredicate<T, T> hasSameContent;
+        private final Map<String, T> rcvTypesById = new HashMap<>();
+        private final Map<String, String> rcvIdsByFingerprint = new HashMap<>();
+        private final Map<String, T> prvTypesById = new HashMap<>();
+        private final Set<T> decided = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<String, String> pairOldAndNewId = new HashMap<>();
+
+        private TypeImport(List<T> rcvTypes, List<T> prvTypes, Map<String, List<Consumer<String>>> prvReferences,
+                           Function<T, List<String>> sameKindReferencedIds, BiPredicate<T, T> hasSameContent) {
+            this.rcvTypes = rcvTypes;
+            this.prvReferences = prvReferences;
+            this.sameKindReferencedIds = sameKindReferencedIds;
+            this.hasSameContent = hasSameContent;
+            rcvTypes.forEach(rcvType -> {
+                rcvTypesById.putIfAbsent(rcvType.getId(), rcvType);
+                rcvIdsByFingerprint.putIfAbsent(rcvFingerprints.of(rcvType), rcvType.getId());
+            });
+            prvTypes.forEach(prvType -> prvTypesById.putIfAbsent(prvType.getId(), prvType));
+        }
+
+        private void importType(T prvType) {
+            if (!decided.add(prvType)) {
+                return;
+            }
+            // referenced types first, so that references of prvType are up-to-date when comparing it
+            sameKindReferencedIds.apply(prvType).stream()
+                    .map(prvTypesById::get)
+                    .filter(Objects::nonNull)
+                    .forEach(this::importType);
+
+            String oldId = prvType.getId();
+            String fingerprint = prvFingerprints.of(prvType);
+            T rcvType = rcvTypesById.get(oldId);
+            if (rcvType != null && (fingerprint.equals(rcvFingerprints.of(rcvType)) || hasSameContent.test(rcvType, prvType))) {
+                // same ID, same content
+                return;
+            }
+            String sameContentId = rcvIdsByFingerprint.get(fingerprint);
+            if (sameContentId != null) {
+                // other ID, same content : reuse existing type
+                rename(oldId, sameContentId);
+                return;
+            }
+            if (rcvType != null) {
+                // same ID, different content : rename type
+                String newId = rcvDttAdapter.generateDttId(iedName, oldId);
+                prvType.setId(newId);
+                rename(oldId, newId);
+            }
+            rcvTypes.add(prvType);
+            rcvTypesById.putIfAbsent(prvType.getId(), prvType);
+            rcvIdsByFingerprint.putIfAbsent(fingerprint, prvType.getId());
+            rcvFingerprints.register(prvType, fingerprint);
+        }
+
+        private void rename(String oldId, String newId) {
+            if (Objects.equals(oldId, newId)) {
+                return;
+            }
+            pairOldAndNewId.put(oldId, newId);
+            List<Consumer<String>> typeSetters = prvReferences.remove(oldId);
+            if (typeSetters != null) {
+                typeSetters.forEach(typeSetter -> typeSetter.accept(newId));
+            }
+        }
+    }
+}
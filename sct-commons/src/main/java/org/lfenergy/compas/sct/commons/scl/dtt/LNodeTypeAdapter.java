@@ -9,8 +9,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lfenergy.compas.scl2007b4.model.TDO;
 import org.lfenergy.compas.scl2007b4.model.TDOType;
+import org.lfenergy.compas.scl2007b4.model.TFCEnum;
 import org.lfenergy.compas.scl2007b4.model.TLNodeType;
 import org.lfenergy.compas.scl2007b4.model.TPredefinedBasicTypeEnum;
+import org.lfenergy.compas.scl2007b4.model.TPredefinedCDCEnum;
 import org.lfenergy.compas.sct.commons.dto.DaTypeName;
 import org.lfenergy.compas.sct.commons.dto.DataAttributeRef;
 import org.lfenergy.compas.sct.commons.dto.DoTypeName;
@@ -317,6 +319,21 @@ public class LNodeTypeAdapter
      *                      DataTypeTemplate (unknown reference for example). Which should normally not happens.
      */
     public void checkDoAndDaTypeName(@NonNull DoTypeName doTypeName, @NonNull DaTypeName daTypeName) throws ScdException {
+        findDataAttribute(doTypeName, daTypeName).complete(doTypeName, daTypeName);
+    }
+
+    /**
+     * Finds the DA or BDA designated by the names of a DoTypeName and a DaTypeName, checking these names like
+     * {@link #checkDoAndDaTypeName}. Only the CDC of the DoTypeName may be completed : the found data attribute completes
+     * and checks the values of any DoTypeName and DaTypeName with the same names.
+     *
+     * @param doTypeName DO/SDO to find
+     * @param daTypeName DA/BDA to find
+     * @return found data attribute
+     * @throws ScdException when inconsistency are found in th SCL's
+     *                      DataTypeTemplate (unknown reference for example). Which should normally not happens.
+     */
+    public CheckedDataAttribute findDataAttribute(@NonNull DoTypeName doTypeName, @NonNull DaTypeName daTypeName) throws ScdException {
         if (!doTypeName.isDefined() || !daTypeName.isDefined()) {
             throw new ScdException("Invalid Data: data attributes information are missing");
         }
@@ -347,14 +364,39 @@ public class LNodeTypeAdapter
             throw new ScdException("Invalid DA chain" + daTypeName);
         }
 
+        TPredefinedCDCEnum sdoCdc = adapterPairOptional.map(Pair::getValue).map(DOTypeAdapter::getCdc).orElse(null);
         if (daTypeName.getStructNames().isEmpty()) {
-            daAdapter.check(daTypeName);
-        } else {
-            daTypeName.setFc(daAdapter.getCurrentElem().getFc());
-            DATypeAdapter daTypeAdapter = parentAdapter.getDATypeAdapterById(daAdapter.getType())
-                    .orElseThrow(() -> new ScdException(String.format("Unknown DAType (%s) referenced by DA(%s)", daAdapter.getType(), daAdapter.getName()))
-            );
-            daTypeAdapter.check(daTypeName);
+            return new CheckedDataAttribute(sdoCdc, daAdapter.getCurrentElem().getFc(), daAdapter);
+        }
+        DATypeAdapter daTypeAdapter = parentAdapter.getDATypeAdapterById(daAdapter.getType())
+                .orElseThrow(() -> new ScdException(String.format("Unknown DAType (%s) referenced by DA(%s)", daAdapter.getType(), daAdapter.getName()))
+        );
+        return new CheckedDataAttribute(sdoCdc, daAdapter.getCurrentElem().getFc(), daTypeAdapter.getTailBdaAdapter(daTypeName));
+    }
+
+    /**
+     * DA or BDA found by {@link LNodeTypeAdapter#findDataAttribute}
+     *
+     * @param sdoCdc               CDC of the last SDO of the DoTypeName, null when it has no SDO
+     * @param fc                   functional constraint of the DA
+     * @param dataAttributeAdapter adapter of the DA, or of the last BDA when the DaTypeName has BDA names
+     */
+    public record CheckedDataAttribute(TPredefinedCDCEnum sdoCdc, TFCEnum fc, AbstractDataAttributeAdapter<?, ?> dataAttributeAdapter) {
+
+        /**
+         * Completes a DoTypeName and a DaTypeName with the names this data attribute was found from, like
+         * {@link LNodeTypeAdapter#checkDoAndDaTypeName}
+         *
+         * @param doTypeName DO/SDO to complete
+         * @param daTypeName DA/BDA to complete
+         * @throws ScdException when the value of the DaTypeName is not a value of the EnumType of the data attribute
+         */
+        public void complete(DoTypeName doTypeName, DaTypeName daTypeName) throws ScdException {
+            if (sdoCdc != null) {
+                doTypeName.setCdc(sdoCdc);
+            }
+            dataAttributeAdapter.check(daTypeName);
+            daTypeName.setFc(fc);
         }
     }
 
@@ -0,0 +1,108 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * <em><b>DataTypeTemplates</b></em> of a provider (usually an STD file) ready to be imported into a receiver one with
+ * {@link DataTypeTemplateAdapter#importDTT(String, PreparedDataTypeTemplate)}.
+ * <p>
+ * The part of the import which only depends on the provider is done here : content fingerprints of all its types and
+ * index of the references between its types. As it does not read nor modify the receiver, several providers can be
+ * prepared concurrently, each one in its own thread, while the import itself must be run sequentially.
+ * </p>
+ * A prepared provider can only be imported once, and must not be modified between its preparation and its import.
+ *
+ * @see DataTypeTemplateAdapter#prepareImport()
+ */
+public final class PreparedDataTypeTemplate {
+
+    private final TDataTypeTemplates prvDtt;
+    private final DataTypeTemplateFingerprints prvFingerprints;
+    private final Map<String, List<Consumer<String>>> prvEnumTypeReferences = new HashMap<>();
+    private final Map<String, List<Consumer<String>>> prvDaTypeReferences = new HashMap<>();
+    private final Map<String, List<Consumer<String>>> prvDoTypeReferences = new HashMap<>();
+    private boolean imported;
+
+    /**
+     * Constructor
+     * @param prvDtt DataTypeTemplates that provides the types
+     */
+    PreparedDataTypeTemplate(TDataTypeTemplates prvDtt) {
+        this.prvDtt = prvDtt;
+        this.prvFingerprints = new DataTypeTemplateFingerprints(prvDtt);
+        // fingerprints do not depend on ids : compute them before provider ids and references get renamed
+        prvDtt.getEnumType().forEach(prvFingerprints::of);
+        prvDtt.getDAType().forEach(prvFingerprints::of);
+        prvDtt.getDOType().forEach(prvFingerprints::of);
+        prvDtt.getLNodeType().forEach(prvFingerprints::of);
+        indexPrvReferences();
+    }
+
+    TDataTypeTemplates getDataTypeTemplates() {
+        return prvDtt;
+    }
+
+    DataTypeTemplateFingerprints getFingerprints() {
+        return prvFingerprints;
+    }
+
+    Map<String, List<Consumer<String>>> getEnumTypeReferences() {
+        return prvEnumTypeReferences;
+    }
+
+    Map<String, List<Consumer<String>>> getDaTypeReferences() {
+        return prvDaTypeReferences;
+    }
+
+    Map<String, List<Consumer<String>>> getDoTypeReferences() {
+        return prvDoTypeReferences;
+    }
+
+    /**
+     * Marks this provider as imported
+     * @throws IllegalStateException when this provider has already been imported : its references index has been consumed
+     */
+    void markImported() {
+        if (imported) {
+            throw new IllegalStateException("DataTypeTemplates has already been imported");
+        }
+        imported = true;
+    }
+
+    private void indexPrvReferences() {
+        for (TDAType tdaType : prvDtt.getDAType()) {
+            tdaType.getBDA().forEach(this::indexDataAttributeReference);
+        }
+        for (TDOType tdoType : prvDtt.getDOType()) {
+            for (TUnNaming sdoOrDa : tdoType.getSDOOrDA()) {
+                if (sdoOrDa instanceof TSDO tsdo) {
+                    addReference(prvDoTypeReferences, tsdo.getType(), tsdo::setType);
+                } else if (sdoOrDa instanceof TDA tda) {
+                    indexDataAttributeReference(tda);
+                }
+            }
+        }
+        for (TLNodeType tlNodeType : prvDtt.getLNodeType()) {
+            tlNodeType.getDO().forEach(tdo -> addReference(prvDoTypeReferences, tdo.getType(), tdo::setType));
+        }
+    }
+
+    private void indexDataAttributeReference(TAbstractDataAttribute data) {
+        if (data.getBType() == TPredefinedBasicTypeEnum.ENUM) {
+            addReference(prvEnumTypeReferences, data.getType(), data::setType);
+        } else if (data.getBType() == TPredefinedBasicTypeEnum.STRUCT) {
+            addReference(prvDaTypeReferences, data.getType(), data::setType);
+        }
+    }
+
+    private static void addReference(Map<String, List<Consumer<String>>> references, String id, Consumer<String> typeSetter) {
+        references.computeIfAbsent(id, k -> new ArrayList<>()).add(typeSetter);
+    }
+}
@@ -0,0 +1,42 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+
+/**
+ * <em><b>DataTypeTemplates</b></em> of a receiver (usually an SCD) into which several providers are imported in a row
+ * with {@link DataTypeTemplateAdapter#importDTT(String, PreparedDataTypeTemplate, ReceivingDataTypeTemplate)}.
+ * <p>
+ * The content fingerprints of the receiver types are kept from one import to the next one : each fingerprint is
+ * computed once, and the types added or renamed by an import are registered with the fingerprint they had in their
+ * provider.
+ * </p>
+ * The receiver must only be modified by these imports while this object is used.
+ *
+ * @see DataTypeTemplateAdapter#prepareReceiving()
+ */
+public final class ReceivingDataTypeTemplate {
+
+    private final TDataTypeTemplates rcvDtt;
+    private final DataTypeTemplateFingerprints rcvFingerprints;
+
+    /**
+     * Constructor
+     * @param rcvDtt DataTypeTemplates that receives the types
+     */
+    ReceivingDataTypeTemplate(TDataTypeTemplates rcvDtt) {
+        this.rcvDtt = rcvDtt;
+        this.rcvFingerprints = new DataTypeTemplateFingerprints(rcvDtt);
+    }
+
+    TDataTypeTemplates getDataTypeTemplates() {
+        return rcvDtt;
+    }
+
+    DataTypeTemplateFingerprints getFingerprints() {
+        return rcvFingerprints;
+    }
+}
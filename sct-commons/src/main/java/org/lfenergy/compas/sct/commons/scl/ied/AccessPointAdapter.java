@@ -7,16 +7,20 @@
 package org.lfenergy.compas.sct.commons.scl.ied;
 
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.ServiceCapacity;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.ExtRefService;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
+import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,6 +35,7 @@ import java.util.stream.Stream;
  *    <ul>
  *      <li>{@link AccessPointAdapter#checkFCDALimitations <em>Returns the value of the <b>name </b>attribute</em>}</li>
  *      <li>{@link AccessPointAdapter#checkControlsLimitation Returns the value of the <b>Service </b>object</em>}</li>
+ *      <li>{@link AccessPointAdapter#analyzeCapacity <em>Checks all limitations of the AccessPoint in a single traversal</em>}</li>
  *    </ul>
  * </ol>
  */
@@ -73,7 +78,11 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
     private Stream<LDeviceAdapter> streamLDeviceAdapters() {
         if (!currentElem.isSetServer()) return Stream.empty();
         return currentElem.getServer().getLDevice().stream()
-                .map(tlDevice -> new LDeviceAdapter(getParentAdapter(), tlDevice));
+                .map(this::getLDeviceAdapter);
+    }
+
+    private LDeviceAdapter getLDeviceAdapter(TLDevice tlDevice) {
+        return getAdapterCache().getOrCreate(parentAdapter, tlDevice, LDeviceAdapter::new);
     }
 
     /**
@@ -85,19 +94,22 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
         long max = getMaxInstanceAuthorized(ServicesConfigEnum.FCDA);
         if (currentElem.getServer() == null || max == MAX_OCCURRENCE_NO_LIMIT_VALUE) return Collections.emptyList();
         return currentElem.getServer().getLDevice().stream()
-                .map(tlDevice -> new LDeviceAdapter(parentAdapter, tlDevice))
+                .map(this::getLDeviceAdapter)
                 .map(lDeviceAdapter ->
                         lDeviceAdapter.getLNAdaptersIncludingLN0().stream()
                                 .map(abstractLNAdapter -> abstractLNAdapter.getCurrentElem().getDataSet())
                                 .flatMap(Collection::stream)
                                 .filter(tDataSet -> tDataSet.getFCDA().size() > max)
-                                .map(tDataSet -> SclReportItem.error(getXPath(), String.format("There are too much FCDA for the DataSet %s for the LDevice %s"
-                                        + " in IED %s: %d > %d max", tDataSet.getName(), lDeviceAdapter.getInst(), parentAdapter.getName(),
-                                    tDataSet.getFCDA().size(), max))
-                                ).toList()
+                                .map(tDataSet -> fcdaLimitationError(tDataSet, lDeviceAdapter.getInst(), max))
+                                .toList()
                 ).flatMap(Collection::stream).toList();
     }
 
+    private SclReportItem fcdaLimitationError(TDataSet tDataSet, String ldInst, long max) {
+        return SclReportItem.error(this::getXPath, String.format("There are too much FCDA for the DataSet %s for the LDevice %s"
+                + " in IED %s: %d > %d max", tDataSet.getName(), ldInst, parentAdapter.getName(), tDataSet.getFCDA().size(), max));
+    }
+
     /**
      * Checks if occurrences of specified tpe (DataSet, Controls) exceeds config limitation
      *
@@ -105,9 +117,12 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      * @return Optional of encountered error or empty
      */
     public Optional<SclReportItem> checkControlsLimitation(ServicesConfigEnum servicesConfigEnum) {
+        return checkControlsLimitation(servicesConfigEnum, getNumberOfItems(servicesConfigEnum));
+    }
+
+    private Optional<SclReportItem> checkControlsLimitation(ServicesConfigEnum servicesConfigEnum, long value) {
         long max = getMaxInstanceAuthorized(servicesConfigEnum);
-        long value = getNumberOfItems(servicesConfigEnum);
-        return max == MAX_OCCURRENCE_NO_LIMIT_VALUE || value <= max ? Optional.empty() : Optional.of(SclReportItem.error(getXPath(),
+        return max == MAX_OCCURRENCE_NO_LIMIT_VALUE || value <= max ? Optional.empty() : Optional.of(SclReportItem.error(this::getXPath,
             String.format("There are too much %ss for the IED %s: %d > %d max", servicesConfigEnum.getDisplayName(), parentAdapter.getName(), value, max)));
     }
 
@@ -120,7 +135,7 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
     private long getNumberOfItems(ServicesConfigEnum servicesConfigEnum) {
         if (!currentElem.isSetServer()) return 0L;
         return currentElem.getServer().getLDevice().stream()
-                .map(tlDevice -> new LDeviceAdapter(parentAdapter, tlDevice))
+                .map(this::getLDeviceAdapter)
                 .map(lDeviceAdapter -> {
                     List<AbstractLNAdapter<?>> list = new ArrayList<>();
                     if (servicesConfigEnum == ServicesConfigEnum.GSE || servicesConfigEnum == ServicesConfigEnum.SMV)
@@ -154,7 +169,7 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      * @param servicesConfigEnum element type
      * @return max number authorized by config
      */
-    private long getMaxInstanceAuthorized(ServicesConfigEnum servicesConfigEnum) {
+    long getMaxInstanceAuthorized(ServicesConfigEnum servicesConfigEnum) {
         if (currentElem.getServices() == null)
             return MAX_OCCURRENCE_NO_LIMIT_VALUE;
         TServices tServices = currentElem.getServices();
@@ -181,17 +196,24 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      * @return Optional of encountered error or empty
      */
     public Optional<SclReportItem> checkLimitationForBoundIedFcdas(List<TExtRef> tExtRefs) {
-        long max;
-        if (currentElem.getServices() == null) {
-            max = MAX_OCCURRENCE_NO_LIMIT_VALUE;
-        } else {
-            TClientServices tClientServices = currentElem.getServices().getClientServices();
-            max = tClientServices != null && tClientServices.isSetMaxAttributes() ? tClientServices.getMaxAttributes() : MAX_OCCURRENCE_NO_LIMIT_VALUE;
-        }
+        long max = getMaxInstanceAuthorizedForBoundIED(ServicesConfigEnum.FCDA);
         if (max == MAX_OCCURRENCE_NO_LIMIT_VALUE){
             return Optional.empty();
         }
-        long value = tExtRefs.stream()
+        return checkLimitationForBoundIedFcdas(countBoundIedFcdas(tExtRefs), max);
+    }
+
+    private Optional<SclReportItem> checkLimitationForBoundIedFcdas(long value, long max) {
+        return value <= max ? Optional.empty() :
+                Optional.of(SclReportItem.error(getParentAdapter()::getXPath,
+                    "The Client IED %s subscribes to too much FCDA: %d > %d max".formatted(getParentAdapter().getName(), value, max)));
+    }
+
+    /**
+     * Counts the FCDA of the source DataSets of bound ExtRefs
+     */
+    private long countBoundIedFcdas(List<TExtRef> tExtRefs) {
+        return tExtRefs.stream()
                 .map(tExtRef -> {
                     IEDAdapter iedAdapter = getParentAdapter().getParentAdapter().getIEDAdapterByName(tExtRef.getIedName());
                     LDeviceAdapter lDeviceAdapter;
@@ -211,10 +233,6 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
                 .flatMap(Collection::stream)
                 .toList()
                 .size();
-
-        return value <= max ? Optional.empty() :
-                Optional.of(SclReportItem.error(getParentAdapter().getXPath(),
-                    "The Client IED %s subscribes to too much FCDA: %d > %d max".formatted(getParentAdapter().getName(), value, max)));
     }
 
     /**
@@ -233,32 +251,38 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
         List<SclReportItem> sclReportItems = new ArrayList<>();
         List<TExtRef> tExtRefList = streamLDeviceAdapters()
                 .map(LDeviceAdapter::getLN0Adapter)
-                .map(ln0Adapter -> {
-                    List<TExtRef> extRefs = new ArrayList<>();
-                    if (ln0Adapter.hasInputs()) {
-                        extRefs.addAll(ln0Adapter.getInputsAdapter().filterDuplicatedExtRefs()
-                                .stream().filter(TExtRef::isSetSrcCBName).collect(Collectors.toCollection(ArrayList::new)));
-                        sclReportItems.addAll(checkExtRefWithoutServiceType(extRefs, ln0Adapter.getXPath()));
-                        extRefs.removeIf(tExtRef -> !tExtRef.isSetServiceType());
-                    }
-                    return extRefs;
-                }).flatMap(Collection::stream)
+                .map(ln0Adapter -> getCoherentExtRefs(ln0Adapter, sclReportItems))
+                .flatMap(Collection::stream)
                 .toList();
         return new ExtRefAnalyzeRecord(sclReportItems, new ExtRefService().filterDuplicatedExtRefs(tExtRefList));
     }
 
+    /**
+     * Returns the ExtRefs of a LN0 which have SrcCBName and ServiceType set, adding errors for ExtRefs with SrcCBName but without ServiceType
+     */
+    private List<TExtRef> getCoherentExtRefs(LN0Adapter ln0Adapter, List<SclReportItem> sclReportItems) {
+        List<TExtRef> extRefs = new ArrayList<>();
+        if (ln0Adapter.hasInputs()) {
+            extRefs.addAll(ln0Adapter.getInputsAdapter().filterDuplicatedExtRefs()
+                    .stream().filter(TExtRef::isSetSrcCBName).collect(Collectors.toCollection(ArrayList::new)));
+            sclReportItems.addAll(checkExtRefWithoutServiceType(extRefs, ln0Adapter::getXPath));
+            extRefs.removeIf(tExtRef -> !tExtRef.isSetServiceType());
+        }
+        return extRefs;
+    }
+
     /**
      * Checks all ExtRefs with SrcCBName and without ServiceType provided
      *
      * @param tExtRefs Set of ExtRefs to check
+     * @param xPath supplier of the XPath of the LN0 containing the ExtRefs
      * @return errors list
      */
-    private List<SclReportItem> checkExtRefWithoutServiceType(List<TExtRef> tExtRefs, String xPath) {
+    private List<SclReportItem> checkExtRefWithoutServiceType(List<TExtRef> tExtRefs, Supplier<String> xPath) {
         return tExtRefs.stream()
                 .filter(tExtRef -> !tExtRef.isSetServiceType())
                 .map(tExtRef ->
-                        SclReportItem.error("%s/Inputs/ExtRef[%s]".formatted(xPath,
-                            Utils.xpathAttributeFilter("desc", tExtRef.getDesc())),
+                        SclReportItem.error(() -> xPath.get() + "/Inputs/ExtRef[" + Utils.xpathAttributeFilter("desc", tExtRef.getDesc()) + "]",
                             "ExtRef is missing ServiceType attribute"))
                 .toList();
     }
@@ -269,15 +293,93 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
      * @return List of errors encountered
      */
     public List<SclReportItem> checkLimitationForBoundIEDControls(List<TExtRef> tExtRefs) {
-        Map<TServiceType, Set<TExtRef>> extRefsByServiceType = tExtRefs.stream()
-                .filter(TExtRef::isSetServiceType)
-                .collect(Collectors.groupingBy(TExtRef::getServiceType, Collectors.toSet()));
+        return checkLimitationForBoundIEDControls(groupByServiceType(tExtRefs));
+    }
+
+    private List<SclReportItem> checkLimitationForBoundIEDControls(Map<TServiceType, Set<TExtRef>> extRefsByServiceType) {
         return extRefsByServiceType.entrySet().stream()
                 .map(entry -> checkLimitationForOneControlType(entry.getValue(), ServicesConfigEnum.from(entry.getKey())))
                 .flatMap(Optional::stream)
                 .toList();
     }
 
+    private static Map<TServiceType, Set<TExtRef>> groupByServiceType(List<TExtRef> tExtRefs) {
+        return tExtRefs.stream()
+                .filter(TExtRef::isSetServiceType)
+                .collect(Collectors.groupingBy(TExtRef::getServiceType, Collectors.toSet()));
+    }
+
+    /**
+     * Checks all limitations of this AccessPoint, giving the same errors as {@link IEDAdapter#checkDataGroupCoherence}
+     * and {@link IEDAdapter#checkBindingDataGroupCoherence} for this AccessPoint, with the counts they are based on.
+     * LDevices are visited once : DataSets, FCDA and Control Blocks are counted and bound ExtRefs are collected in the
+     * same traversal, without creating LN adapters.
+     * The FCDA subscribed by bound ExtRefs are only counted when the AccessPoint has a ClientServices maxAttributes limit.
+     *
+     * @return capacities and demands of this AccessPoint, with encountered errors
+     */
+    public AccessPointCapacity analyzeCapacity() {
+        long maxFcda = getMaxInstanceAuthorized(ServicesConfigEnum.FCDA);
+        Map<ServicesConfigEnum, Long> serverCounts = new EnumMap<>(ServicesConfigEnum.class);
+        List<SclReportItem> dataGroupReportItems = new ArrayList<>();
+        List<SclReportItem> bindingReportItems = new ArrayList<>();
+        List<TExtRef> coherentExtRefs = new ArrayList<>();
+        if (currentElem.isSetServer()) {
+            for (TLDevice tlDevice : currentElem.getServer().getLDevice()) {
+                LN0 ln0 = tlDevice.getLN0();
+                serverCounts.merge(ServicesConfigEnum.GSE, (long) ln0.getGSEControl().size(), Long::sum);
+                serverCounts.merge(ServicesConfigEnum.SMV, (long) ln0.getSampledValueControl().size(), Long::sum);
+                List<TAnyLN> tAnyLNs = new ArrayList<>();
+                tAnyLNs.add(ln0);
+                tAnyLNs.addAll(tlDevice.getLN());
+                for (TAnyLN tAnyLN : tAnyLNs) {
+                    serverCounts.merge(ServicesConfigEnum.REPORT, (long) tAnyLN.getReportControl().size(), Long::sum);
+                    serverCounts.merge(ServicesConfigEnum.DATASET, (long) tAnyLN.getDataSet().size(), Long::sum);
+                    for (TDataSet tDataSet : tAnyLN.getDataSet()) {
+                        serverCounts.merge(ServicesConfigEnum.FCDA, (long) tDataSet.getFCDA().size(), Long::max);
+                        if (maxFcda != MAX_OCCURRENCE_NO_LIMIT_VALUE && tDataSet.getFCDA().size() > maxFcda) {
+                            dataGroupReportItems.add(fcdaLimitationError(tDataSet, tlDevice.getInst(), maxFcda));
+                        }
+                    }
+                }
+                if (ln0.isSetInputs()) {
+                    coherentExtRefs.addAll(getCoherentExtRefs(getLDeviceAdapter(tlDevice).getLN0Adapter(), bindingReportItems));
+                }
+            }
+        }
+        Stream.of(ServicesConfigEnum.DATASET, ServicesConfigEnum.REPORT, ServicesConfigEnum.GSE, ServicesConfigEnum.SMV)
+                .map(servicesConfigEnum -> checkControlsLimitation(servicesConfigEnum, serverCounts.getOrDefault(servicesConfigEnum, 0L)))
+                .flatMap(Optional::stream)
+                .forEach(dataGroupReportItems::add);
+        List<ServiceCapacity> serverCapacities = Stream.of(ServicesConfigEnum.DATASET, ServicesConfigEnum.FCDA, ServicesConfigEnum.REPORT,
+                        ServicesConfigEnum.GSE, ServicesConfigEnum.SMV)
+                .map(servicesConfigEnum -> new ServiceCapacity(servicesConfigEnum, serverCounts.getOrDefault(servicesConfigEnum, 0L),
+                        getMaxInstanceAuthorized(servicesConfigEnum)))
+                .toList();
+
+        List<TExtRef> boundExtRefs = new ExtRefService().filterDuplicatedExtRefs(coherentExtRefs);
+        long maxBoundFcda = getMaxInstanceAuthorizedForBoundIED(ServicesConfigEnum.FCDA);
+        long boundFcdas = ServiceCapacity.NOT_COUNTED;
+        if (maxBoundFcda != MAX_OCCURRENCE_NO_LIMIT_VALUE) {
+            boundFcdas = countBoundIedFcdas(boundExtRefs);
+            checkLimitationForBoundIedFcdas(boundFcdas, maxBoundFcda).ifPresent(bindingReportItems::add);
+        }
+        Map<TServiceType, Set<TExtRef>> extRefsByServiceType = groupByServiceType(boundExtRefs);
+        bindingReportItems.addAll(checkLimitationForBoundIEDControls(extRefsByServiceType));
+        List<ServiceCapacity> clientDemands = List.of(
+                new ServiceCapacity(ServicesConfigEnum.FCDA, boundFcdas, maxBoundFcda),
+                clientDemand(ServicesConfigEnum.REPORT, extRefsByServiceType.get(TServiceType.REPORT)),
+                clientDemand(ServicesConfigEnum.GSE, extRefsByServiceType.get(TServiceType.GOOSE)),
+                clientDemand(ServicesConfigEnum.SMV, extRefsByServiceType.get(TServiceType.SMV)));
+
+        return new AccessPointCapacity(parentAdapter.getName(), currentElem.getName(), serverCapacities, clientDemands,
+                dataGroupReportItems, bindingReportItems);
+    }
+
+    private ServiceCapacity clientDemand(ServicesConfigEnum servicesConfigEnum, Set<TExtRef> tExtRefs) {
+        return new ServiceCapacity(servicesConfigEnum, tExtRefs == null ? 0L : tExtRefs.size(), getMaxInstanceAuthorizedForBoundIED(servicesConfigEnum));
+    }
+
     /**
      * Checks Control Block number limitation for bound IED
      *
@@ -289,7 +391,7 @@ public class AccessPointAdapter extends SclElementAdapter<IEDAdapter, TAccessPoi
         long max = getMaxInstanceAuthorizedForBoundIED(servicesConfigEnum);
         long value = tExtRefs.size();
         return max == AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE || value <= max ? Optional.empty() :
-            Optional.of(SclReportItem.error(getParentAdapter().getXPath(),
+            Optional.of(SclReportItem.error(getParentAdapter()::getXPath,
                 "The Client IED %s subscribes to too much %ss: %d > %d max".formatted(getParentAdapter().getName(), servicesConfigEnum.getDisplayName(),
                     value, max)));
     }
@@ -18,6 +18,7 @@ import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A representation of the model object
@@ -89,13 +90,11 @@ public class DAITracker {
         Pair<? extends IDataAdapter,Integer> matchResult;
         String doiName = doTypeName.getName();
         List<String> sdoiNames = doTypeName.getStructNames();
-        try {
-            doiOrSdoiAdapter = lnAdapter.getDOIAdapterByName(doiName);
-            indexDoType = -1;
-        } catch (ScdException e) {
-            doiOrSdoiAdapter = null;
+        doiOrSdoiAdapter = lnAdapter.findDoiAdapterByName(doiName).orElse(null);
+        if (doiOrSdoiAdapter == null) {
             return MatchResult.FAILED;
         }
+        indexDoType = -1;
         if(!sdoiNames.isEmpty()){
             matchResult = doiOrSdoiAdapter.findDeepestMatch(
                     sdoiNames,0,false
@@ -111,14 +110,12 @@ public class DAITracker {
         }
 
         if (!daTypeName.getStructNames().isEmpty()) {
-            IDataParentAdapter firstDAIAdapter;
-            try {
-                firstDAIAdapter = doiOrSdoiAdapter.getStructuredDataAdapterByName(daTypeName.getName());
-                indexDaType = -1;
-            } catch (ScdException e) {
+            Optional<IDataParentAdapter> firstDAIAdapter = doiOrSdoiAdapter.findStructuredDataAdapterByName(daTypeName.getName());
+            if (firstDAIAdapter.isEmpty()) {
                 return MatchResult.PARTIAL_MATCH;
             }
-            matchResult = firstDAIAdapter.findDeepestMatch(
+            indexDaType = -1;
+            matchResult = firstDAIAdapter.get().findDeepestMatch(
                     daTypeName.getStructNames(), 0, true
             );
             bdaiOrDaiAdapter = matchResult.getLeft();
@@ -128,12 +125,12 @@ public class DAITracker {
                 return MatchResult.PARTIAL_MATCH;
             }
         } else {
-            try {
-                bdaiOrDaiAdapter = doiOrSdoiAdapter.getDataAdapterByName(daTypeName.getName());
-                indexDaType = -1;
-            } catch (ScdException e) {
+            Optional<AbstractDAIAdapter<?>> daiAdapter = doiOrSdoiAdapter.findDataAdapterByName(daTypeName.getName());
+            if (daiAdapter.isEmpty()) {
                 return MatchResult.PARTIAL_MATCH;
             }
+            bdaiOrDaiAdapter = daiAdapter.get();
+            indexDaType = -1;
         }
         return MatchResult.FULL_MATCH;
     }
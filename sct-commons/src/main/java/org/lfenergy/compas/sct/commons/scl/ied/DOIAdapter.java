@@ -127,7 +127,7 @@ public class DOIAdapter extends SclElementAdapter<AbstractLNAdapter<? extends TA
                 }
             }
         } else {
-            sclReportItems.add(SclReportItem.warning(getXPath(), "The DOI %s can't be bound with an ExtRef".formatted(getXPath())));
+            sclReportItems.add(SclReportItem.warning(this::getXPath, () -> "The DOI %s can't be bound with an ExtRef".formatted(getXPath())));
         }
 
         return sclReportItems;
@@ -144,7 +144,7 @@ public class DOIAdapter extends SclElementAdapter<AbstractLNAdapter<? extends TA
             DataAttributeRef daiFilterSrcRef = new DataAttributeRef(getParentAdapter(), new DoTypeName(getName()), new DaTypeName(daName));
             Optional<DataAttributeRef> foundDais = getParentAdapter().getDAI(daiFilterSrcRef, true).stream().findFirst();
         if (foundDais.isEmpty()) {
-            return Optional.of(SclReportItem.warning(getXPath() + "/DAI@name=\"" + daName + "\"/Val", DAI_NOT_UPDATABLE_MESSAGE.formatted(daName)));
+            return Optional.of(SclReportItem.warning(() -> getXPath() + "/DAI@name=\"" + daName + "\"/Val", DAI_NOT_UPDATABLE_MESSAGE.formatted(daName)));
         }
         DataAttributeRef filterForUpdate = foundDais.get();
         filterForUpdate.setVal(value);
@@ -5,21 +5,22 @@
 package org.lfenergy.compas.sct.commons.scl.ied;
 
 
-import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.TAnyLN;
 import org.lfenergy.compas.scl2007b4.model.TDataSet;
 import org.lfenergy.compas.scl2007b4.model.TFCDA;
 import org.lfenergy.compas.scl2007b4.model.TFCEnum;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
+import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
 
-import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newFcda;
-import static org.lfenergy.compas.sct.commons.util.Utils.equalsOrBothBlank;
 import static org.lfenergy.compas.sct.commons.util.Utils.xpathAttributeFilter;
 
 /**
@@ -50,7 +51,7 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
      * IEC 61850 requires FCDA to be oredred inside a DataSet.
      * This is the comparator to sort the FCDA inside a DataSet
      */
-    private static final Comparator<TFCDA> FCDA_COMPARATOR = Comparator
+    static final Comparator<TFCDA> FCDA_COMPARATOR = Comparator
             .comparing(TFCDA::getLdInst, Utils::blanksFirstComparator)
             .thenComparing(TFCDA::getPrefix, Utils::blanksFirstComparator)
             .thenComparing(tfcda -> tfcda.isSetLnClass() ? tfcda.getLnClass().get(0) : null, Utils::blanksFirstComparator)
@@ -85,6 +86,7 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
 
     /**
      * Find a FCDA matching all given criteria.
+     * FCDA are looked up in the {@link FcdaIndex} of the SCL, shared by all the adapters of the same {@link SclRootAdapter}.
      *
      * @param ldInst  FCDA ldInst attribute
      * @param prefix  FCDA prefix attribute
@@ -96,24 +98,13 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
      * @return Matching FCDA in this DataSet when found, empty Optional otherwise.
      */
     public Optional<TFCDA> findFCDA(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) {
-        if (!currentElem.isSetFCDA()) {
-            return Optional.empty();
-        }
-        return currentElem.getFCDA().stream()
-                .filter(tfcda ->
-                        Objects.equals(ldInst, tfcda.getLdInst())
-                                && equalsOrBothBlank(prefix, tfcda.getPrefix())
-                                && Utils.lnClassEquals(tfcda.getLnClass(), lnClass)
-                                && equalsOrBothBlank(lnInst, tfcda.getLnInst())
-                                && Objects.equals(doName, tfcda.getDoName())
-                                && Objects.equals(fc, tfcda.getFc())
-                                && equalsOrBothBlank(daName, tfcda.getDaName()))
-                .findFirst();
+        return getFcdaIndex().findFcda(currentElem, ldInst, prefix, lnClass, lnInst, doName, daName, fc);
     }
 
     /**
      * Create a new FCDA in this DataSet.
      * Does nothing if a FCDA with the given attribute already exists in this DataSet.
+     * The FCDA limit of the AccessPoint (ConfDataSet maxAttributes) is checked before creating a new FCDA.
      *
      * @param ldInst  FCDA ldInst attribute
      * @param prefix  FCDA prefix attribute
@@ -123,24 +114,34 @@ public class DataSetAdapter extends SclElementAdapter<AbstractLNAdapter<? extend
      * @param daName  FCDA daNae attribute
      * @param fc      FCDA fc attribute
      * @return created FCDA, or existing FCDA with the given attributes
+     * @throws ScdException throws when this DataSet already has the max number of FCDA allowed by the AccessPoint
      */
-    public TFCDA createFCDAIfNotExists(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) {
+    public TFCDA createFCDAIfNotExists(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) throws ScdException {
         Objects.requireNonNull(fc); // fc is required by XSD
-        Optional<TFCDA> fcda = findFCDA(ldInst, prefix, lnClass, lnInst, doName, daName, fc);
-        return fcda
-                .orElseGet(() -> {
-                    TFCDA newFcda = newFcda(
-                            StringUtils.trimToNull(ldInst),
-                            lnClass,
-                            StringUtils.trimToNull(lnInst),
-                            StringUtils.trimToNull(prefix),
-                            StringUtils.trimToNull(doName),
-                            StringUtils.trimToNull(daName),
-                            fc);
-                    currentElem.getFCDA().add(newFcda);
-                    currentElem.getFCDA().sort(FCDA_COMPARATOR);
-                    return newFcda;
-                });
+        return getFcdaIndex().createFcdaIfNotExists(currentElem, this::getMaxFcdaAuthorized, ldInst, prefix, lnClass, lnInst, doName, daName, fc);
+    }
+
+    /**
+     * Gets the FcdaIndex of the SCL of this DataSet, or a new one when this adapter is not attached to an SclRootAdapter
+     */
+    private FcdaIndex getFcdaIndex() {
+        return Optional.ofNullable(parentAdapter)
+                .map(AbstractLNAdapter::getParentAdapter)
+                .map(LDeviceAdapter::getParentAdapter)
+                .map(IEDAdapter::getParentAdapter)
+                .map(SclRootAdapter::getFcdaIndex)
+                .orElseGet(FcdaIndex::new);
+    }
+
+    /**
+     * Gets the max number of FCDA by DataSet authorized by the AccessPoint of this DataSet
+     */
+    private long getMaxFcdaAuthorized() {
+        if (parentAdapter == null || parentAdapter.getParentAdapter() == null || parentAdapter.getParentAdapter().getParentAdapter() == null) {
+            return AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE;
+        }
+        return parentAdapter.getParentAdapter().getAccessPointAdapter()
+                .getMaxInstanceAuthorized(ServicesConfigEnum.FCDA);
     }
 
 }
@@ -0,0 +1,264 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.ied;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lfenergy.compas.scl2007b4.model.TDataSet;
+import org.lfenergy.compas.scl2007b4.model.TFCDA;
+import org.lfenergy.compas.scl2007b4.model.TFCEnum;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.util.Utils;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+import static org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE;
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newFcda;
+
+/**
+ * Index of the FCDA of DataSets by key (ldInst, prefix, lnClass, lnInst, doName, daName, fc), to find or create FCDA
+ * without scanning all the FCDA of a DataSet, with the same matching rules as {@link DataSetAdapter#findFCDA}.
+ * <p>
+ * DataSets are compared by identity. The keys of a DataSet are kept with the list of FCDA they come from and the size
+ * of this list : they are computed again when this list has been replaced or resized outside of this index.
+ * Other changes (e.g. modifying the attributes of an FCDA) must be signaled with {@link #invalidate(TDataSet)}.
+ * </p>
+ * <p>
+ * As in {@link DataSetAdapter#findFCDA}, a FCDA with several lnClass values cannot be searched : looking for a FCDA
+ * which only differs from it by lnClass throws an {@link IllegalArgumentException}. Such FCDA do not prevent the other
+ * FCDA of the DataSet from being found.
+ * </p>
+ * <p>
+ * FCDA created by {@link #createFcdaIfNotExists} are kept sorted with {@link DataSetAdapter#FCDA_COMPARATOR} : the list
+ * is sorted on first creation, then new FCDA are inserted at their position.
+ * </p>
+ * Lookups, creations and invalidations are synchronized : an index can be shared by threads working on different DataSets.
+ */
+public class FcdaIndex {
+
+    static final String MESSAGE_TOO_MUCH_FCDA = "There are too much FCDA for the DataSet %s: cannot add more than %d FCDA";
+
+    /**
+     * lnClass of the keys of the FCDA with several lnClass values. It is not a valid lnClass, so no searched key has it.
+     */
+    private static final String MULTIPLE_LN_CLASS = "<multiple lnClass>";
+
+    private final Map<TDataSet, IndexedFcdas> indexedFcdasByDataSet = new IdentityHashMap<>();
+
+    /**
+     * Find a FCDA matching all given criteria, like {@link DataSetAdapter#findFCDA}
+     *
+     * @param tDataSet DataSet where to look for the FCDA
+     * @param ldInst   FCDA ldInst attribute
+     * @param prefix   FCDA prefix attribute
+     * @param lnClass  FCDA lnClass attribute
+     * @param lnInst   FCDA lnInst attribute
+     * @param doName   FCDA doName attribute
+     * @param daName   FCDA daName attribute
+     * @param fc       FCDA fc attribute
+     * @return Matching FCDA in the DataSet when found, empty Optional otherwise.
+     * @throws IllegalArgumentException when a FCDA of the DataSet with several lnClass values has the other given attributes
+     */
+    public synchronized Optional<TFCDA> findFcda(TDataSet tDataSet, String ldInst, String prefix, String lnClass, String lnInst,
+                                                 String doName, String daName, TFCEnum fc) {
+        if (!tDataSet.isSetFCDA()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(indexedFcdasOf(tDataSet).find(new FcdaKey(ldInst, prefix, lnClass, lnInst, doName, daName, fc)));
+    }
+
+    /**
+     * Create a new FCDA in a DataSet, like {@link DataSetAdapter#createFCDAIfNotExists}.
+     * Does nothing if a FCDA with the given attributes already exists in the DataSet.
+     *
+     * @param tDataSet        DataSet where to create the FCDA
+     * @param maxFcdaSupplier max number of FCDA allowed in the DataSet, or
+     *                        {@link AccessPointAdapter#MAX_OCCURRENCE_NO_LIMIT_VALUE}. Only called when a FCDA is created.
+     * @param ldInst          FCDA ldInst attribute
+     * @param prefix          FCDA prefix attribute
+     * @param lnClass         FCDA lnClass attribute
+     * @param lnInst          FCDA lnInst attribute
+     * @param doName          FCDA doName attribute
+     * @param daName          FCDA daName attribute
+     * @param fc              FCDA fc attribute
+     * @return created FCDA, or existing FCDA with the given attributes
+     * @throws ScdException throws when the DataSet already has the max number of FCDA allowed
+     * @throws IllegalArgumentException when a FCDA of the DataSet with several lnClass values has the other given attributes
+     */
+    public synchronized TFCDA createFcdaIfNotExists(TDataSet tDataSet, LongSupplier maxFcdaSupplier, String ldInst, String prefix,
+                                                    String lnClass, String lnInst, String doName, String daName, TFCEnum fc) throws ScdException {
+        IndexedFcdas indexedFcdas = indexedFcdasOf(tDataSet);
+        FcdaKey fcdaKey = new FcdaKey(ldInst, prefix, lnClass, lnInst, doName, daName, fc);
+        TFCDA existingFcda = indexedFcdas.find(fcdaKey);
+        if (existingFcda != null) {
+            return existingFcda;
+        }
+        List<TFCDA> fcdas = tDataSet.getFCDA();
+        checkLimit(tDataSet.getName(), fcdas.size(), 1, maxFcdaSupplier);
+        TFCDA newFcda = newFcda(
+                StringUtils.trimToNull(ldInst),
+                lnClass,
+                StringUtils.trimToNull(lnInst),
+                StringUtils.trimToNull(prefix),
+                StringUtils.trimToNull(doName),
+                StringUtils.trimToNull(daName),
+                fc);
+        if (indexedFcdas.sorted) {
+            fcdas.add(upperBound(fcdas, newFcda), newFcda);
+        } else {
+            fcdas.add(newFcda);
+            fcdas.sort(DataSetAdapter.FCDA_COMPARATOR);
+            indexedFcdas.sorted = true;
+        }
+        indexedFcdas.fcdasByKey.putIfAbsent(FcdaKey.from(newFcda), newFcda);
+        indexedFcdas.indexedSize = fcdas.size();
+        return newFcda;
+    }
+
+    /**
+     * Checks that FCDA can all be created in a DataSet with {@link #createFcdaIfNotExists} without exceeding the max
+     * number of FCDA allowed, so that none is created when they cannot all be. The FCDA already in the DataSet and the
+     * duplicated keys are not counted.
+     *
+     * @param tDataSet        DataSet where the FCDA would be created, or null when it does not exist yet
+     * @param dataSetName     name of the DataSet
+     * @param maxFcdaSupplier max number of FCDA allowed in the DataSet, or
+     *                        {@link AccessPointAdapter#MAX_OCCURRENCE_NO_LIMIT_VALUE}. Only called when a FCDA would be created.
+     * @param fcdaKeys        keys of the FCDA to create
+     * @throws ScdException throws when the DataSet cannot hold all the FCDA
+     * @throws IllegalArgumentException when a FCDA of the DataSet with several lnClass values has the attributes of a given key
+     */
+    public synchronized void checkLimit(TDataSet tDataSet, String dataSetName, LongSupplier maxFcdaSupplier,
+                                        Collection<FcdaKey> fcdaKeys) throws ScdException {
+        IndexedFcdas indexedFcdas = tDataSet == null || !tDataSet.isSetFCDA() ? null : indexedFcdasOf(tDataSet);
+        Set<FcdaKey> newFcdaKeys = new HashSet<>();
+        for (FcdaKey fcdaKey : fcdaKeys) {
+            if (indexedFcdas == null || indexedFcdas.find(fcdaKey) == null) {
+                newFcdaKeys.add(fcdaKey);
+            }
+        }
+        if (!newFcdaKeys.isEmpty()) {
+            checkLimit(dataSetName, indexedFcdas == null ? 0 : indexedFcdas.indexedSize, newFcdaKeys.size(), maxFcdaSupplier);
+        }
+    }
+
+    private static void checkLimit(String dataSetName, int existingFcdaCount, int newFcdaCount, LongSupplier maxFcdaSupplier) throws ScdException {
+        long max = maxFcdaSupplier.getAsLong();
+        if (max != MAX_OCCURRENCE_NO_LIMIT_VALUE && existingFcdaCount + newFcdaCount > max) {
+            throw new ScdException(String.format(MESSAGE_TOO_MUCH_FCDA, dataSetName, max));
+        }
+    }
+
+    /**
+     * Forgets the keys of the FCDA of given DataSet
+     * @param tDataSet DataSet whose FCDA have changed
+     */
+    public synchronized void invalidate(TDataSet tDataSet) {
+        indexedFcdasByDataSet.remove(tDataSet);
+    }
+
+    /**
+     * Forgets the keys of the FCDA of all DataSets
+     */
+    public synchronized void invalidate() {
+        indexedFcdasByDataSet.clear();
+    }
+
+    private IndexedFcdas indexedFcdasOf(TDataSet tDataSet) {
+        List<TFCDA> fcdas = tDataSet.getFCDA();
+        IndexedFcdas indexedFcdas = indexedFcdasByDataSet.get(tDataSet);
+        if (indexedFcdas == null || indexedFcdas.fcdas != fcdas || indexedFcdas.indexedSize != fcdas.size()) {
+            indexedFcdas = new IndexedFcdas(fcdas);
+            indexedFcdasByDataSet.put(tDataSet, indexedFcdas);
+        }
+        return indexedFcdas;
+    }
+
+    /**
+     * Position after the last FCDA lower or equal to given FCDA in a sorted list : inserting there keeps the order
+     * a stable sort would give
+     */
+    private static int upperBound(List<TFCDA> sortedFcdas, TFCDA tfcda) {
+        int low = 0;
+        int high = sortedFcdas.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (DataSetAdapter.FCDA_COMPARATOR.compare(sortedFcdas.get(middle), tfcda) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * FCDA of a DataSet by key, with the list they come from and its size when indexed
+     */
+    private static final class IndexedFcdas {
+
+        private final List<TFCDA> fcdas;
+        private final Map<FcdaKey, TFCDA> fcdasByKey = new HashMap<>();
+        private int indexedSize;
+        private boolean sorted;
+
+        private IndexedFcdas(List<TFCDA> fcdas) {
+            this.fcdas = fcdas;
+            this.indexedSize = fcdas.size();
+            // As in the list, the first FCDA of a given key is the one found
+            fcdas.forEach(tfcda -> fcdasByKey.putIfAbsent(FcdaKey.from(tfcda), tfcda));
+        }
+
+        /**
+         * Finds the FCDA of given key. Fails like the linear search of {@link DataSetAdapter#findFCDA} when a FCDA with
+         * several lnClass values only differs from this key by lnClass.
+         */
+        private TFCDA find(FcdaKey fcdaKey) {
+            TFCDA multipleLnClassFcda = fcdasByKey.get(fcdaKey.withLnClass(MULTIPLE_LN_CLASS));
+            if (multipleLnClassFcda != null) {
+                throw Utils.multipleLnClassException(multipleLnClassFcda.getLnClass());
+            }
+            return fcdasByKey.get(fcdaKey);
+        }
+    }
+
+    /**
+     * Attributes identifying a FCDA. As in {@link DataSetAdapter#findFCDA}, ldInst, doName and fc must be equal, while
+     * prefix, lnClass, lnInst and daName must be equal or both blank : blank values of the latter are replaced by null.
+     * FCDA of the DataSets with several lnClass values are indexed under a key with an invalid lnClass.
+     *
+     * @param ldInst  FCDA ldInst attribute
+     * @param prefix  FCDA prefix attribute
+     * @param lnClass FCDA lnClass attribute
+     * @param lnInst  FCDA lnInst attribute
+     * @param doName  FCDA doName attribute
+     * @param daName  FCDA daName attribute
+     * @param fc      FCDA fc attribute
+     */
+    public record FcdaKey(String ldInst, String prefix, String lnClass, String lnInst, String doName, String daName, TFCEnum fc) {
+
+        /**
+         * Constructor, replacing blank prefix, lnClass, lnInst and daName by null
+         */
+        public FcdaKey {
+            prefix = StringUtils.defaultIfBlank(prefix, null);
+            lnClass = StringUtils.defaultIfBlank(lnClass, null);
+            lnInst = StringUtils.defaultIfBlank(lnInst, null);
+            daName = StringUtils.defaultIfBlank(daName, null);
+        }
+
+        private FcdaKey withLnClass(String otherLnClass) {
+            return new FcdaKey(ldInst, prefix, otherLnClass, lnInst, doName, daName, fc);
+        }
+
+        private static FcdaKey from(TFCDA tfcda) {
+            String lnClass = null;
+            if (tfcda.isSetLnClass()) {
+                lnClass = tfcda.getLnClass().size() > 1 ? MULTIPLE_LN_CLASS : tfcda.getLnClass().getFirst();
+            }
+            return new FcdaKey(tfcda.getLdInst(), tfcda.getPrefix(), lnClass, tfcda.getLnInst(), tfcda.getDoName(), tfcda.getDaName(), tfcda.getFc());
+        }
+    }
+}
@@ -77,10 +77,9 @@ public interface IDataParentAdapter extends IDataAdapter {
      * Search SDI by name, directly under current this DOI or SDI
      *
      * @param sdiName name of SDI to find
-     * @return <em>RootSDIAdapter</em> object
-     * @throws ScdException throws when specified name of SDI not present in current DOI or SDI
+     * @return <em>RootSDIAdapter</em> object when found or else empty Optional
      */
-    default Optional<IDataParentAdapter> findStructuredDataAdapterByName(String sdiName) throws ScdException {
+    default Optional<IDataParentAdapter> findStructuredDataAdapterByName(String sdiName) {
         return getSDIOrDAI()
                 .stream()
                 .filter(tUnNaming -> tUnNaming.getClass().equals(TSDI.class))
@@ -122,8 +121,7 @@ public interface IDataParentAdapter extends IDataAdapter {
      * Finds DAI from current DOI
      *
      * @param daiName name of DAI to get
-     * @return found DAI
-     * @throws ScdException throws when specified name of DAI not present in current DOI
+     * @return found DAI or else empty Optional
      */
     default Optional<AbstractDAIAdapter<?>> findDataAdapterByName(String daiName) {
         return getSDIOrDAI()
@@ -177,22 +175,19 @@ public interface IDataParentAdapter extends IDataAdapter {
         IDataAdapter diAdapter = null;
         IDataAdapter currSdiAdapter = this;
         for (int currIndex = fromIndex; currIndex < sz; currIndex++) {
-            try {
-                if (currIndex == sz - 1 && isBdaNames) {
-                    currSdiAdapter = ((IDataParentAdapter) currSdiAdapter).getDataAdapterByName(
-                            sNames.get(currIndex)
-                    );
-                } else {
-                    currSdiAdapter = ((IDataParentAdapter) currSdiAdapter).getStructuredDataAdapterByName(
-                            sNames.get(currIndex)
-                    );
-                }
-                diAdapter = currSdiAdapter;
-                index = currIndex;
-            } catch (ScdException e) {
+            Optional<? extends IDataAdapter> nextAdapter;
+            if (currIndex == sz - 1 && isBdaNames) {
+                nextAdapter = ((IDataParentAdapter) currSdiAdapter).findDataAdapterByName(sNames.get(currIndex));
+            } else {
+                nextAdapter = ((IDataParentAdapter) currSdiAdapter).findStructuredDataAdapterByName(sNames.get(currIndex));
+            }
+            if (nextAdapter.isEmpty()) {
                 // partial match was found if index >= 0 or unknown data object names
                 break;
             }
+            currSdiAdapter = nextAdapter.get();
+            diAdapter = currSdiAdapter;
+            index = currIndex;
         }
         return Pair.of(diAdapter, index);
     }
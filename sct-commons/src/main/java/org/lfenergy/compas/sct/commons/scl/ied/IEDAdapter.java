@@ -6,6 +6,7 @@ package org.lfenergy.compas.sct.commons.scl.ied;
 
 import lombok.NonNull;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
 import org.lfenergy.compas.sct.commons.dto.ExtRefBindingInfo;
 import org.lfenergy.compas.sct.commons.dto.ExtRefSignalInfo;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
@@ -95,10 +96,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      */
     public IEDAdapter(SclRootAdapter parentAdapter, String iedName) throws ScdException {
         super(parentAdapter);
-        TIED ied = parentAdapter.getCurrentElem().getIED()
-                .stream()
-                .filter(tied -> tied.getName().equals(iedName))
-                .findFirst()
+        TIED ied = parentAdapter.getSclIndex().findIed(iedName)
                 .orElseThrow(() -> new ScdException("Unknown IED name :" + iedName));
         setCurrentElem(ied);
     }
@@ -110,7 +108,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      */
     @Override
     protected boolean amChildElementRef() {
-        return parentAdapter.getCurrentElem().getIED().contains(currentElem);
+        return parentAdapter.isIndexedIed(currentElem) || parentAdapter.getCurrentElem().getIED().contains(currentElem);
     }
 
     @Override
@@ -125,6 +123,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      */
     public void setIEDName(String iedName) {
         currentElem.setName(iedName);
+        parentAdapter.getSclIndex().onIedRenamed(currentElem);
     }
 
     /**
@@ -134,7 +133,17 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      */
     public Stream<LDeviceAdapter> streamLDeviceAdapters() {
         return streamLDevices()
-                .map(tlDevice -> new LDeviceAdapter(this, tlDevice));
+                .map(this::getLDeviceAdapter);
+    }
+
+    /**
+     * Gets the adapter of an LDevice of current IED
+     *
+     * @param tlDevice LDevice of current IED
+     * @return cached or created <em>LDeviceAdapter</em> of the LDevice
+     */
+    public LDeviceAdapter getLDeviceAdapter(TLDevice tlDevice) {
+        return getAdapterCache().getOrCreate(this, tlDevice, LDeviceAdapter::new);
     }
 
     /**
@@ -176,10 +185,8 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
         if (isBlank(ldInst)) {
             return Optional.empty();
         }
-        return streamLDevices()
-                .filter(tlDevice -> ldInst.equals(tlDevice.getInst()))
-                .findFirst()
-                .map(tlDevice -> new LDeviceAdapter(this, tlDevice));
+        return parentAdapter.getSclIndex().findLDevice(currentElem, ldInst)
+                .map(this::getLDeviceAdapter);
     }
 
     /**
@@ -326,7 +333,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      * @return value of private compas:Bay if present, empty Optional otherwise
      */
     public Optional<TCompasBay> getPrivateCompasBay() {
-        return PrivateUtils.extractCompasPrivate(currentElem, TCompasBay.class);
+        return extractCompasPrivate(TCompasBay.class);
     }
 
     /**
@@ -367,9 +374,22 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
                 }).toList();
     }
 
+    /**
+     * Analyzes the capacity of each AccessPoint of the IED, checking in a single traversal by AccessPoint the same
+     * limitations as {@link #checkDataGroupCoherence} and {@link #checkBindingDataGroupCoherence}
+     *
+     * @return capacity report of each AccessPoint of the IED
+     * @see AccessPointAdapter#analyzeCapacity()
+     */
+    public List<AccessPointCapacity> analyzeCapacities() {
+        return streamAccessPointAdapters()
+                .map(AccessPointAdapter::analyzeCapacity)
+                .toList();
+    }
+
     private Stream<AccessPointAdapter> streamAccessPointAdapters() {
         return currentElem.getAccessPoint().stream()
-                .map(tAccessPoint -> new AccessPointAdapter(this, tAccessPoint));
+                .map(tAccessPoint -> getAdapterCache().getOrCreate(this, tAccessPoint, AccessPointAdapter::new));
     }
 
     /**
@@ -378,7 +398,7 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      * @return COMPAS-ICDHeader private value if present, else empty Optional
      */
     public Optional<TCompasICDHeader> getCompasICDHeader() {
-        return PrivateUtils.extractCompasPrivate(currentElem, TCompasICDHeader.class);
+        return extractCompasPrivate(TCompasICDHeader.class);
     }
 
     /**
@@ -387,7 +407,17 @@ public class IEDAdapter extends SclElementAdapter<SclRootAdapter, TIED> {
      * @return COMPAS-SystemVersion private value if present, else empty Optional
      */
     public Optional<TCompasSystemVersion> getCompasSystemVersion() {
-        return PrivateUtils.extractCompasPrivate(currentElem, TCompasSystemVersion.class);
+        return extractCompasPrivate(TCompasSystemVersion.class);
+    }
+
+    /**
+     * Extracts a COMPAS private of the IED through the cache of the SCL, when the IED has a parent SCL adapter
+     */
+    private <T> Optional<T> extractCompasPrivate(Class<T> compasClass) {
+        if (parentAdapter == null) {
+            return PrivateUtils.extractCompasPrivate(currentElem, compasClass);
+        }
+        return parentAdapter.getCompasPrivateCache().getCompasPrivate(currentElem, compasClass);
     }
 
     /**
@@ -19,13 +19,17 @@ import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.util.ActiveStatus;
+import org.lfenergy.compas.sct.commons.util.CompasPrivateCache;
 import org.lfenergy.compas.sct.commons.util.ControlBlockEnum;
-import org.lfenergy.compas.sct.commons.util.PrivateUtils;
+import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE;
 import static org.lfenergy.compas.sct.commons.util.CommonConstants.*;
 
 /**
@@ -124,7 +128,7 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
      * @return Error if ExtRef could not be updated
      */
     private Optional<SclReportItem> updateExtRefIedName(TExtRef extRef, IEDAdapter sourceIed) {
-        List<TCompasFlow> matchingCompasFlows = extRefService.getMatchingCompasFlows(currentElem, extRef).toList();
+        List<TCompasFlow> matchingCompasFlows = getMatchingCompasFlows(extRef).toList();
         if (!singleMatch(matchingCompasFlows)) {
             return fatalReportItem(extRef,
                     matchingCompasFlows.isEmpty() ? MESSAGE_NO_MATCHING_COMPAS_FLOW : MESSAGE_TOO_MANY_MATCHING_COMPAS_FLOWS);
@@ -139,7 +143,7 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
             extRefService.clearExtRefBinding(extRef);
             return sourceValidationError;
         }
-        String sourceIedName = PrivateUtils.extractCompasPrivate(sourceIed.getCurrentElem(), TCompasICDHeader.class)
+        String sourceIedName = sourceIed.getCompasICDHeader()
                 .map(TCompasICDHeader::getIEDName).orElse("");
         extRef.setIedName(sourceIedName);
         compasFlow.setExtRefiedName(sourceIedName);
@@ -153,26 +157,26 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
         }
         Optional<LDeviceAdapter> optionalSourceLDevice = sourceIed.findLDeviceAdapterByLdInst(extRef.getLdInst());
         if (optionalSourceLDevice.isEmpty()) {
-            return warningReportItem(extRef, String.format(MESSAGE_SOURCE_LDEVICE_NOT_FOUND, sourceIed.getXPath()));
+            return warningReportItem(extRef, () -> String.format(MESSAGE_SOURCE_LDEVICE_NOT_FOUND, sourceIed.getXPath()));
         }
         LDeviceAdapter sourceLDevice = optionalSourceLDevice.get();
         if (sourceLDevice.findSourceDA(extRef).isEmpty()) {
-            return warningReportItem(extRef, String.format(MESSAGE_SOURCE_LN_NOT_FOUND, optionalSourceLDevice.get().getXPath()));
+            return warningReportItem(extRef, () -> String.format(MESSAGE_SOURCE_LN_NOT_FOUND, sourceLDevice.getXPath()));
         }
         Optional<String> optionalSourceLDeviceStatus = sourceLDevice.getLDeviceStatus();
         if (optionalSourceLDeviceStatus.isEmpty()) {
-            return fatalReportItem(extRef, String.format(MESSAGE_SOURCE_LDEVICE_STATUS_UNDEFINED,
+            return fatalReportItem(extRef, () -> String.format(MESSAGE_SOURCE_LDEVICE_STATUS_UNDEFINED,
                     sourceLDevice.getXPath()));
         }
         return optionalSourceLDeviceStatus.map(sourceLDeviceStatus -> {
             try {
                 ActiveStatus lDeviceStatus = ActiveStatus.fromValue(sourceLDeviceStatus);
                 return switch (lDeviceStatus) {
-                    case OFF -> SclReportItem.warning(extRefXPath(extRef.getDesc()), String.format(MESSAGE_SOURCE_LDEVICE_STATUS_OFF, sourceLDevice.getXPath()));
+                    case OFF -> SclReportItem.warning(() -> extRefXPath(extRef.getDesc()), () -> String.format(MESSAGE_SOURCE_LDEVICE_STATUS_OFF, sourceLDevice.getXPath()));
                     case ON -> null;
                 };
             } catch (IllegalArgumentException e) {
-                return SclReportItem.error(extRefXPath(extRef.getDesc()), String.format(MESSAGE_SOURCE_LDEVICE_STATUS_NEITHER_ON_NOR_OFF, sourceLDevice.getXPath()));
+                return SclReportItem.error(() -> extRefXPath(extRef.getDesc()), () -> String.format(MESSAGE_SOURCE_LDEVICE_STATUS_NEITHER_ON_NOR_OFF, sourceLDevice.getXPath()));
             }
         });
     }
@@ -182,16 +186,25 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
     }
 
     private Optional<SclReportItem> warningReportItem(TExtRef extRef, String message) {
-        return Optional.of(SclReportItem.warning(extRefXPath(extRef.getDesc()), message));
+        return Optional.of(SclReportItem.warning(() -> extRefXPath(extRef.getDesc()), message));
+    }
+
+    private Optional<SclReportItem> warningReportItem(TExtRef extRef, Supplier<String> messageSupplier) {
+        return Optional.of(SclReportItem.warning(() -> extRefXPath(extRef.getDesc()), messageSupplier));
     }
 
     private Optional<SclReportItem> fatalReportItem(TExtRef extRef, String message) {
-        return Optional.of(SclReportItem.error(extRefXPath(extRef.getDesc()), message));
+        return Optional.of(SclReportItem.error(() -> extRefXPath(extRef.getDesc()), message));
+    }
+
+    private Optional<SclReportItem> fatalReportItem(TExtRef extRef, Supplier<String> messageSupplier) {
+        return Optional.of(SclReportItem.error(() -> extRefXPath(extRef.getDesc()), messageSupplier));
     }
 
     private String extRefXPath(String extRefDesc) {
-        return getXPath() + String.format("/ExtRef[%s]",
-                Utils.xpathAttributeFilter("desc", extRefDesc));
+        return appendXPath(new StringBuilder())
+                .append("/ExtRef[").append(Utils.xpathAttributeFilter("desc", extRefDesc)).append(']')
+                .toString();
     }
 
     private LDeviceAdapter getLDeviceAdapter() {
@@ -216,8 +229,25 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
                 .toList();
     }
 
+    /**
+     * Finds the CompasFlows matching the ExtRef. CompasFlows are extracted once per Inputs through the cache of the SCL,
+     * when this adapter has a parent SCL adapter, instead of once per ExtRef.
+     */
+    private Stream<TCompasFlow> getMatchingCompasFlows(TExtRef extRef) {
+        CompasPrivateCache compasPrivateCache = Optional.ofNullable(parentAdapter)
+                .map(LN0Adapter::getParentAdapter)
+                .map(LDeviceAdapter::getParentAdapter)
+                .map(IEDAdapter::getParentAdapter)
+                .map(SclRootAdapter::getCompasPrivateCache)
+                .orElse(null);
+        if (compasPrivateCache == null) {
+            return extRefService.getMatchingCompasFlows(currentElem, extRef);
+        }
+        return extRefService.getMatchingCompasFlows(compasPrivateCache, currentElem, extRef);
+    }
+
     private boolean matchingCompasFlowIsActiveOrUntested(TExtRef extRef) {
-        return extRefService.getMatchingCompasFlows(currentElem, extRef).findFirst()
+        return getMatchingCompasFlows(extRef).findFirst()
                 .map(TCompasFlow::getFlowStatus)
                 .filter(flowStatus -> flowStatus == TCompasFlowStatus.ACTIVE || flowStatus == TCompasFlowStatus.UNTESTED)
                 .isPresent();
@@ -255,18 +285,22 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
 
         Optional<LDeviceAdapter> optionalSourceLDevice = sourceIed.findLDeviceAdapterByLdInst(extRef.getLdInst());
         if (optionalSourceLDevice.isEmpty()) {
-            return warningReportItem(extRef, String.format(MESSAGE_SOURCE_LDEVICE_NOT_FOUND, sourceIed.getXPath()));
+            return warningReportItem(extRef, () -> String.format(MESSAGE_SOURCE_LDEVICE_NOT_FOUND, sourceIed.getXPath()));
         }
         LDeviceAdapter sourceLDevice = optionalSourceLDevice.get();
         Set<DataAttributeRef> sourceDas = sourceLDevice.findSourceDA(extRef);
         if (sourceDas.isEmpty()) {
-            return warningReportItem(extRef, String.format(MESSAGE_SOURCE_LN_NOT_FOUND, optionalSourceLDevice.get().getXPath()));
+            return warningReportItem(extRef, () -> String.format(MESSAGE_SOURCE_LN_NOT_FOUND, sourceLDevice.getXPath()));
         }
 
         Optional<SclReportItem> sclReportItem = removeFilteredSourceDas(extRef, sourceDas, allowedFcdas);
         if (sclReportItem.isPresent()) {
             return sclReportItem;
         }
+        Optional<SclReportItem> fcdaLimitReportItem = checkFcdaLimit(extRef, sourceLDevice, sourceDas, isBayInternal);
+        if (fcdaLimitReportItem.isPresent()) {
+            return fcdaLimitReportItem;
+        }
 
         try {
             sourceDas.forEach(sourceDa -> {
@@ -285,16 +319,53 @@ public class InputsAdapter extends SclElementAdapter<LN0Adapter, TInputs> {
         return Optional.empty();
     }
 
+    /**
+     * Checks that the FCDA of the ExtRef can be created in their DataSets without exceeding the FCDA limit of the
+     * AccessPoint of the source LDevice (ConfDataSet maxAttributes), so that nothing is created when they cannot all be.
+     */
+    private Optional<SclReportItem> checkFcdaLimit(TExtRef extRef, LDeviceAdapter sourceLDevice, Set<DataAttributeRef> sourceDas, boolean isBayInternal) {
+        long maxFcda = sourceLDevice.getAccessPointAdapter().getMaxInstanceAuthorized(ServicesConfigEnum.FCDA);
+        if (maxFcda == MAX_OCCURRENCE_NO_LIMIT_VALUE) {
+            return Optional.empty();
+        }
+        Map<String, List<FcdaIndex.FcdaKey>> fcdaKeysByDataSetName = new TreeMap<>();
+        for (DataAttributeRef sourceDa : sourceDas) {
+            String dataSetName = DATASET_NAME_PREFIX + generateDataSetSuffix(extRef, sourceDa, isBayInternal);
+            fcdaKeysByDataSetName.computeIfAbsent(dataSetName, name -> new ArrayList<>())
+                    .add(new FcdaIndex.FcdaKey(extRef.getLdInst(), extRef.getPrefix(), fcdaLnClass(extRef), extRef.getLnInst(),
+                            sourceDa.getDoRef(), fcdaDaName(extRef, sourceDa), sourceDa.getFc()));
+        }
+        LN0Adapter sourceLn0 = sourceLDevice.getLN0Adapter();
+        FcdaIndex fcdaIndex = getSclRootAdapter().getFcdaIndex();
+        try {
+            for (Map.Entry<String, List<FcdaIndex.FcdaKey>> fcdaKeys : fcdaKeysByDataSetName.entrySet()) {
+                TDataSet tDataSet = sourceLn0.findDataSetByName(fcdaKeys.getKey())
+                        .map(DataSetAdapter::getCurrentElem)
+                        .orElse(null);
+                fcdaIndex.checkLimit(tDataSet, fcdaKeys.getKey(), () -> maxFcda, fcdaKeys.getValue());
+            }
+        } catch (ScdException e) {
+            return fatalReportItem(extRef, () -> MESSAGE_UNABLE_TO_CREATE_DATASET_OR_CONTROLBLOCK + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     private void createDataSetWithFCDA(TExtRef extRef, LDeviceAdapter sourceLDevice, DataAttributeRef sourceDa, String dataSetName) {
         DataSetAdapter dataSetAdapter = sourceLDevice.getLN0Adapter().createDataSetIfNotExists(dataSetName, ControlBlockEnum.from(extRef.getServiceType()));
-        String fcdaDaName = extRef.getServiceType() == TServiceType.REPORT ? null : sourceDa.getDaRef();
-        String fcdaLnClass = extRef.getLnClass().stream().findFirst().orElse(null);
-        dataSetAdapter.createFCDAIfNotExists(extRef.getLdInst(), extRef.getPrefix(), fcdaLnClass, extRef.getLnInst(),
+        dataSetAdapter.createFCDAIfNotExists(extRef.getLdInst(), extRef.getPrefix(), fcdaLnClass(extRef), extRef.getLnInst(),
                 sourceDa.getDoRef(),
-                fcdaDaName,
+                fcdaDaName(extRef, sourceDa),
                 sourceDa.getFc());
     }
 
+    private static String fcdaDaName(TExtRef extRef, DataAttributeRef sourceDa) {
+        return extRef.getServiceType() == TServiceType.REPORT ? null : sourceDa.getDaRef();
+    }
+
+    private static String fcdaLnClass(TExtRef extRef) {
+        return extRef.getLnClass().stream().findFirst().orElse(null);
+    }
+
     private void createControlBlockWithTarget(TExtRef extRef, LDeviceAdapter sourceLDevice, DataAttributeRef sourceDa, String cbName, String datSet) {
         String sourceLDName = sourceLDevice.getLdName();
         String cbId = getParentAdapter().generateControlBlockId(sourceLDName, cbName);
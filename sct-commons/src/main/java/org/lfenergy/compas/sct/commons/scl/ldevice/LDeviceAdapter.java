@@ -10,8 +10,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.AdapterCache;
 import org.lfenergy.compas.sct.commons.scl.SclElementAdapter;
+import org.lfenergy.compas.sct.commons.scl.SclIndex;
 import org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
@@ -21,6 +24,7 @@ import org.lfenergy.compas.sct.commons.util.MonitoringLnClassEnum;
 import org.lfenergy.compas.sct.commons.util.Utils;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.lfenergy.compas.sct.commons.util.Utils.copySclElement;
 
@@ -103,17 +107,25 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
                         parentAdapter.getName())));
     }
 
+    /**
+     * Gets the adapter of the AccessPoint holding this LDevice
+     * @return AccessPointAdapter of the AccessPoint of this LDevice
+     */
+    public AccessPointAdapter getAccessPointAdapter() {
+        return getAdapterCache().getOrCreate(parentAdapter, getAccessPoint(), AccessPointAdapter::new);
+    }
+
     @Override
     protected String elementXPath() {
         return String.format("LDevice[%s]", Utils.xpathAttributeFilter("inst", currentElem.isSetInst() ? currentElem.getInst() : null));
     }
 
     @Override
-    public String getXPath() {
+    public StringBuilder appendXPath(StringBuilder xpath) {
         if (parentAdapter != null) {
-            return parentAdapter.getXPath() + "/AccessPoint/Server/" + elementXPath();
+            return parentAdapter.appendXPath(xpath).append("/AccessPoint/Server/").append(elementXPath());
         } else {
-            return super.getXPath();
+            return super.appendXPath(xpath);
         }
     }
 
@@ -150,7 +162,7 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
      * @return <em>LN0Adapter</em>
      */
     public LN0Adapter getLN0Adapter() {
-        return new LN0Adapter(this, currentElem.getLN0());
+        return getAdapterCache().getOrCreate(this, currentElem.getLN0(), LN0Adapter::new);
     }
 
     /**
@@ -170,10 +182,14 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
     public List<LNAdapter> getLNAdapters() {
         return currentElem.getLN()
                 .stream()
-                .map(tln -> new LNAdapter(this, tln))
+                .map(this::getLNAdapter)
                 .toList();
     }
 
+    private LNAdapter getLNAdapter(TLN tln) {
+        return getAdapterCache().getOrCreate(this, tln, LNAdapter::new);
+    }
+
     /**
      * Gets specific LNode from current LDevice
      *
@@ -204,16 +220,8 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
      * @throws ScdException thros when specified LNode not found in current IED
      */
     public Optional<LNAdapter> findLnAdapter(String lnClass, String lnInst, String prefix) {
-        if (!currentElem.isSetLN()) {
-            return Optional.empty();
-        }
-        return currentElem.getLN()
-                .stream()
-                .filter(tln -> Utils.lnClassEquals(tln.getLnClass(), lnClass)
-                        && tln.getInst().equals(lnInst)
-                        && Utils.equalsOrBothBlank(prefix, tln.getPrefix()))
-                .map(tln -> new LNAdapter(this, tln))
-                .findFirst();
+        return getSclIndex().findLn(currentElem, lnClass, lnInst, prefix)
+                .map(this::getLNAdapter);
     }
 
     /**
@@ -397,7 +405,7 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
                     DataAttributeRef filter = new DataAttributeRef(lnAdapter, new DoTypeName(doName), new DaTypeName(DA_SETSRCREF));
                     Optional<DataAttributeRef> foundDai = lnAdapter.getDAI(filter, true).stream().findFirst();
                     if (foundDai.isEmpty()) {
-                        optionalSclReportItem = Optional.of(SclReportItem.warning(lnAdapter.getXPath() + "/DOI@name=\"" + doName + "\"/DAI@name=\"setSrcRef\"/Val",
+                        optionalSclReportItem = Optional.of(SclReportItem.warning(() -> lnAdapter.getXPath() + "/DOI@name=\"" + doName + "\"/DAI@name=\"setSrcRef\"/Val",
                                 "The DAI cannot be updated"));
                     } else {
                         DataAttributeRef daToUpdateFilter = foundDai.get();
@@ -408,28 +416,36 @@ public class LDeviceAdapter extends SclElementAdapter<IEDAdapter, TLDevice> {
                             updateNewCreatedLnDaiValue(lnToUpdate, tExtRefs.get(i), String.valueOf(i + 1), daToUpdateFilter);
                             lnToUpdate = copySclElement(lnAdapter.getCurrentElem(), TLN.class); //value copy
                         }
+                        getSclIndex().onLnsChanged(getCurrentElem());
                     }
                     return optionalSclReportItem;
                 }).findFirst()
-                .orElse(Optional.of(SclReportItem.warning(getXPath(), "There is no LN %s present in LDevice".formatted(monitoringLnClassEnum.value()))));
+                .orElse(Optional.of(SclReportItem.warning(this::getXPath, "There is no LN %s present in LDevice".formatted(monitoringLnClassEnum.value()))));
     }
 
     private void removeLnsByLnClass(MonitoringLnClassEnum monitoringLnClassEnum) {
-        List<TLN> lnToKeep = getCurrentElem().getLN().stream()
-                .filter(tln -> !Utils.lnClassEquals(tln.getLnClass(), monitoringLnClassEnum.value()))
-                .toList();
+        Map<Boolean, List<TLN>> lnsByRemoval = getCurrentElem().getLN().stream()
+                .collect(Collectors.partitioningBy(tln -> Utils.lnClassEquals(tln.getLnClass(), monitoringLnClassEnum.value())));
+        List<TLN> lnToKeep = lnsByRemoval.get(false);
+        AdapterCache adapterCache = getAdapterCache();
+        lnsByRemoval.get(true).forEach(adapterCache::invalidate);
         getCurrentElem().unsetLN();
         getCurrentElem().getLN().addAll(lnToKeep);
     }
 
     private void updateNewCreatedLnDaiValue(TLN tln, TExtRef tExtRef, String lnInst, DataAttributeRef daToUpdate) {
-        LNAdapter lnAdapter = new LNAdapter(this, tln);
+        LNAdapter lnAdapter = getLNAdapter(tln);
         String value = createVal(tExtRef);
         lnAdapter.getCurrentElem().setInst(lnInst);
+        getSclIndex().onLnsChanged(currentElem);
         daToUpdate.setVal(value);
         lnAdapter.updateDAI(daToUpdate);
     }
 
+    private SclIndex getSclIndex() {
+        return parentAdapter.getParentAdapter().getSclIndex();
+    }
+
     private String createVal(TExtRef tExtRef) {
         String sourceLdName = getParentAdapter().getParentAdapter().getIEDAdapterByName(tExtRef.getIedName())
                 .getLDeviceAdapterByLdInst(tExtRef.getSrcLDInst()).getLdName();
@@ -234,7 +234,7 @@ public class LN0Adapter extends AbstractLNAdapter<LN0> {
                 .map(doiAdapter -> doiAdapter.getDataAdapterByName(PURPOSE_DA_NAME).getCurrentElem().getVal().stream()
                         .findFirst()
                         .map(tVal -> doiAdapter.updateDaiFromExtRef(getExtRefsBoundToInRef(tVal.getValue())))
-                        .orElse(List.of(SclReportItem.warning(getXPath(), "The DOI %s can't be bound with an ExtRef".formatted(getXPath()))))
+                        .orElse(List.of(SclReportItem.warning(this::getXPath, () -> "The DOI %s can't be bound with an ExtRef".formatted(getXPath()))))
                 )
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -33,5 +33,18 @@ public class LnKey {
         this.prefix = tln.getPrefix();
     }
 
+    /**
+     * Constructor for a key which is not read from an LN (lnType is left undefined, it is not part of the key)
+     * @param lnClass LN lnClass
+     * @param inst LN inst
+     * @param prefix LN prefix
+     */
+    public LnKey(String lnClass, String inst, String prefix) {
+        this.inst = inst;
+        this.lnType = null;
+        this.lnClass = lnClass;
+        this.prefix = prefix;
+    }
+
 }
 
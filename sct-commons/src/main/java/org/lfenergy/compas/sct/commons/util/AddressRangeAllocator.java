@@ -0,0 +1,153 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Allocator of the values of a range, for example APPID or MAC-Address ranges of Control Block communication settings.
+ * <p>
+ * Values are allocated in ascending order, skipping values reserved beforehand (for example values to reuse).
+ * Allocated and reserved values are kept in a bitmap indexed by offset in the range, so that each allocation and
+ * each reservation is done in constant amortized time, whatever the number of reserved values. The bitmap grows with
+ * the highest offset used, not with the size of the range. Offsets which do not fit in a bitmap (ranges of more than
+ * {@link Integer#MAX_VALUE} values, like a full MAC-Address range) are kept in a set.
+ * </p>
+ * This class is not thread safe.
+ */
+public final class AddressRangeAllocator {
+
+    private static final long BITMAP_SIZE = Integer.MAX_VALUE;
+
+    @Getter
+    private final long start;
+    @Getter
+    private final long end;
+    private final long size;
+    private final BitSet usedOffsets = new BitSet();
+    private final Set<Long> usedOffsetsOutOfBitmap = new HashSet<>();
+    private long cursor;
+    @Getter
+    private long reservedCount;
+    @Getter
+    private long allocatedCount;
+
+    /**
+     * Constructor
+     * @param start first value of the range
+     * @param end last value of the range (included). When lower than start, range is empty.
+     * @throws ScdException when the range contains more than {@link Long#MAX_VALUE} values
+     */
+    public AddressRangeAllocator(long start, long end) {
+        long length = end < start ? 0 : end - start + 1;
+        if (length < 0) {
+            throw new ScdException("Range [%d, %d] is too large, it must contain at most %d values".formatted(start, end, Long.MAX_VALUE));
+        }
+        this.start = start;
+        this.end = end;
+        this.size = length;
+    }
+
+    /**
+     * Reserves a value so that it is never allocated. Values outside the range and values already used are ignored.
+     * @param value value to reserve
+     */
+    public void reserve(long value) {
+        if (value < start || value > end) {
+            return;
+        }
+        if (markUsed(value - start)) {
+            reservedCount++;
+        }
+    }
+
+    /**
+     * Checks if there is a value left to allocate
+     * @return true when next() can be called
+     */
+    public boolean hasNext() {
+        return nextFreeOffset() < size;
+    }
+
+    /**
+     * Allocates the lowest value not allocated nor reserved
+     * @return allocated value
+     * @throws NoSuchElementException when range is exhausted
+     */
+    public long next() {
+        long offset = nextFreeOffset();
+        if (offset >= size) {
+            throw new NoSuchElementException("Range [%d, %d] is exhausted".formatted(start, end));
+        }
+        markUsed(offset);
+        cursor = offset + 1;
+        allocatedCount++;
+        return start + offset;
+    }
+
+    /**
+     * Gets the number of values of the range
+     * @return size of the range
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of values of the range which are either allocated or reserved
+     * @return number of used values
+     */
+    public long getUsedCount() {
+        return reservedCount + allocatedCount;
+    }
+
+    /**
+     * Gets the ratio of used values in the range
+     * @return ratio between 0 and 1, 1 for an empty range
+     */
+    public double getUsageRatio() {
+        return size == 0 ? 1 : (double) getUsedCount() / size;
+    }
+
+    /**
+     * Marks an offset as used
+     * @return true when the offset was not used yet
+     */
+    private boolean markUsed(long offset) {
+        if (offset < BITMAP_SIZE) {
+            if (usedOffsets.get((int) offset)) {
+                return false;
+            }
+            usedOffsets.set((int) offset);
+            return true;
+        }
+        return usedOffsetsOutOfBitmap.add(offset);
+    }
+
+    /**
+     * Lowest offset from the cursor which is not used, or size of the range when there is none
+     */
+    private long nextFreeOffset() {
+        long offset = cursor;
+        if (offset < BITMAP_SIZE) {
+            offset = usedOffsets.nextClearBit((int) offset);
+        }
+        while (offset < size && usedOffsetsOutOfBitmap.contains(offset)) {
+            offset++;
+        }
+        return Math.min(offset, size);
+    }
+
+    @Override
+    public String toString() {
+        return "%d/%d used (%d reserved, %d allocated)".formatted(getUsedCount(), size, reservedCount, allocatedCount);
+    }
+}
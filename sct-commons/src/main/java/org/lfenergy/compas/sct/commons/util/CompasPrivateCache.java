@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.lfenergy.compas.scl2007b4.model.TBaseElement;
+import org.lfenergy.compas.scl2007b4.model.TPrivate;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.*;
+
+/**
+ * Memoized view of the COMPAS privates of the elements of an SCL (COMPAS-Bay, COMPAS-ICDHeader, COMPAS-SystemVersion,
+ * COMPAS-Flow, COMPAS-Topo...), to avoid filtering privates and unwrapping their content on each lookup.
+ * <p>
+ * Elements are compared by identity. The privates extracted for an element are kept with the list of privates they come
+ * from, the private elements of this list and the content items of each private : they are extracted again when the
+ * list, one of its privates or one of their content items has been replaced, added or removed, for example by
+ * {@link PrivateUtils#removePrivates}, by adding a private or by setting a content item of a private.
+ * Changes which keep all of them untouched (e.g. replacing the value of a JAXBElement of a private content) must be
+ * signaled with {@link #invalidate(TBaseElement)}.
+ * </p>
+ * Lookups and invalidations are synchronized : a cache can be shared by threads which only read the SCL.
+ */
+public class CompasPrivateCache {
+
+    private final Map<TBaseElement, CachedPrivates> cachedPrivatesByElement = new IdentityHashMap<>();
+
+    /**
+     * Extract compas elements of class <em>compasClass</em> nested in private elements of the given baseElement,
+     * like {@link PrivateUtils#extractCompasPrivates(TBaseElement, Class)}
+     * @param baseElement element where to look for privates
+     * @param compasClass class of privates to extract
+     * @return unmodifiable list of compas objects nested in the privates
+     * @param <T> Inference parameter stands for class <em>compasClass</em>
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> List<T> getCompasPrivates(TBaseElement baseElement, Class<T> compasClass) {
+        if (!baseElement.isSetPrivate()) {
+            cachedPrivatesByElement.remove(baseElement);
+            return List.of();
+        }
+        List<TPrivate> privates = baseElement.getPrivate();
+        CachedPrivates cachedPrivates = cachedPrivatesByElement.get(baseElement);
+        if (cachedPrivates == null || !cachedPrivates.isUpToDate(privates)) {
+            cachedPrivates = new CachedPrivates(privates);
+            cachedPrivatesByElement.put(baseElement, cachedPrivates);
+        }
+        return (List<T>) cachedPrivates.compasPrivatesByClass()
+                .computeIfAbsent(compasClass, aClass -> PrivateUtils.getPrivateStream(privates, compasClass).toList());
+    }
+
+    /**
+     * Extract a single compas element of class <em>compasClass</em> nested in private elements of a given baseElement,
+     * like {@link PrivateUtils#extractCompasPrivate(TBaseElement, Class)}
+     * @param baseElement element where to look for privates
+     * @param compasClass class of privates to extract
+     * @return compas object nested in the privates, empty Optional if none found
+     * @param <T> Inference parameter stands for class <em>compasClass</em>
+     * @throws ScdException throws when more than 1 compas element is found
+     */
+    public <T> Optional<T> getCompasPrivate(TBaseElement baseElement, Class<T> compasClass) throws ScdException {
+        List<T> compasPrivates = getCompasPrivates(baseElement, compasClass);
+        if (compasPrivates.size() > 1) {
+            throw PrivateUtils.moreThanOneCompasPrivateException(PrivateEnum.fromClass(compasClass));
+        }
+        return compasPrivates.stream().findFirst();
+    }
+
+    /**
+     * Forgets the privates extracted for given element
+     * @param baseElement element whose privates have changed
+     */
+    public synchronized void invalidate(TBaseElement baseElement) {
+        cachedPrivatesByElement.remove(baseElement);
+    }
+
+    /**
+     * Forgets the privates extracted for all elements
+     */
+    public synchronized void invalidate() {
+        cachedPrivatesByElement.clear();
+    }
+
+    /**
+     * Compas privates of an element by class, with the list of privates they have been extracted from, and the private
+     * elements and content items this list contained at extraction time
+     */
+    private record CachedPrivates(List<TPrivate> privates, TPrivate[] privateElements, Object[][] contents,
+                                  Map<Class<?>, List<?>> compasPrivatesByClass) {
+
+        private CachedPrivates(List<TPrivate> privates) {
+            this(privates, privates.toArray(TPrivate[]::new), contents(privates), new HashMap<>());
+        }
+
+        private static Object[][] contents(List<TPrivate> privates) {
+            Object[][] contents = new Object[privates.size()][];
+            for (int i = 0; i < privates.size(); i++) {
+                contents[i] = privates.get(i).getContent().toArray();
+            }
+            return contents;
+        }
+
+        private boolean isUpToDate(List<TPrivate> currentPrivates) {
+            if (currentPrivates != privates || currentPrivates.size() != privateElements.length) {
+                return false;
+            }
+            for (int i = 0; i < privateElements.length; i++) {
+                TPrivate tPrivate = currentPrivates.get(i);
+                if (tPrivate != privateElements[i] || !hasSameItems(tPrivate.getContent(), contents[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean hasSameItems(List<Object> currentContent, Object[] content) {
+            if (currentContent.size() != content.length) {
+                return false;
+            }
+            for (int i = 0; i < content.length; i++) {
+                if (currentContent.get(i) != content[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
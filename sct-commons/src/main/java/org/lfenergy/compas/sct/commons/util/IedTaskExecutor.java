@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Runs a task for each IED of an SCD, either sequentially (default) or concurrently in a {@link ForkJoinPool}.
+ * <p>
+ * Whatever the mode, results are returned in the order of the IEDs : reports stay the same from one run to another.
+ * </p>
+ * <p>
+ * The parallel mode is only safe for tasks which write into the IED they are given, and only read the rest of the SCD.
+ * It is the case of the following operations, which use it when their service is created with a parallel executor :
+ * </p>
+ * <ul>
+ *     <li>SclService.updateLDeviceStatus and SclService.updateDoInRef : they update DOI/DAI of the LN0 of the IED
+ *     LDevices, reading the DataTypeTemplates and the Substation</li>
+ *     <li>SclService.importSTDElementsInSCD : it prepares the DataTypeTemplates of each STD file before importing them in
+ *     the SCD one after the other. The preparation only reads and writes the STD file</li>
+ *     <li>ControlBlockEditorService.analyzeDataGroups and ControlBlockEditorService.analyzeDataGroupCapacities, through
+ *     IEDAdapter.analyzeCapacities : they only read the IED, its source IEDs and the DataTypeTemplates</li>
+ * </ul>
+ * <p>
+ * These tasks share the per-SCL caches of the SclRootAdapter (SclIndex, CompasPrivateCache, FcdaIndex, AdapterCache),
+ * whose lookups are synchronized. IedTaskExecutorTest checks that these operations give the same result in both modes
+ * on an SCD with many IEDs.
+ * </p>
+ * <p>
+ * In parallel mode, the results of all IEDs are computed before being returned. A
+ * {@link org.lfenergy.compas.sct.commons.report.ReportSink} given to the operation therefore receives items only once
+ * every IED is processed : asking to abort, or wanting no more items, drops the next items but does not stop the
+ * processing early.
+ * </p>
+ * The pool is owned by the caller, which must shut it down when it is no more used.
+ */
+public final class IedTaskExecutor {
+
+    /**
+     * Executor running tasks one after the other, in the calling thread
+     */
+    public static final IedTaskExecutor SEQUENTIAL = new IedTaskExecutor(null);
+
+    private final ForkJoinPool forkJoinPool;
+
+    private IedTaskExecutor(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Creates an executor running tasks concurrently, one task per IED
+     * @param forkJoinPool pool running the tasks, its parallelism is the maximum number of IEDs processed at the same time
+     * @return parallel executor
+     */
+    public static IedTaskExecutor parallel(ForkJoinPool forkJoinPool) {
+        return new IedTaskExecutor(Objects.requireNonNull(forkJoinPool));
+    }
+
+    /**
+     * Checks if tasks are run concurrently
+     * @return true when this executor has a pool
+     */
+    public boolean isParallel() {
+        return forkJoinPool != null;
+    }
+
+    /**
+     * Runs a task for each item, and returns the result of each item in the order of the items
+     * @param items items to process, usually IEDAdapters
+     * @param task task to run for each item. It may return null : null results are kept in the returned list.
+     * @return result of each item, at the index of the item
+     * @param <T> type of the items
+     * @param <R> type of the results
+     */
+    public <T, R> List<R> map(List<T> items, Function<T, R> task) {
+        if (forkJoinPool == null || items.size() < 2) {
+            return items.stream().map(task).toList();
+        }
+        List<R> results = new ArrayList<>(items.size());
+        items.forEach(item -> results.add(null));
+        forkJoinPool.invoke(new MapAction<>(items, task, results, 0, items.size()));
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Runs a task for each item, and concatenates results in the order of the items
+     * @param items items to process, usually IEDAdapters
+     * @param task task to run for each item
+     * @return results of all items, in the order of the items
+     * @param <T> type of the items
+     * @param <R> type of the results
+     */
+    public <T, R> List<R> flatMap(List<T> items, Function<T, List<R>> task) {
+        return map(items, task).stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Splits the items in halves until a single item remains, and stores the result of each item at its index
+     */
+    private static final class MapAction<T, R> extends RecursiveAction {
+
+        private final transient List<T> items;
+        private final transient Function<T, R> task;
+        private final transient List<R> results;
+        private final int from;
+        private final int to;
+
+        private MapAction(List<T> items, Function<T, R> task, List<R> results, int from, int to) {
+            this.items = items;
+            this.task = task;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results.set(from, task.apply(items.get(from)));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MapAction<>(items, task, results, from, middle),
+                    new MapAction<>(items, task, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.*;
+
+/**
+ * Index of the DOI/SDI/DAI instances of LNs, to find them by their name path (DO name, SDI names, DAI name) without
+ * filtering the children of each element.
+ * <p>
+ * The index of an LN is a tree whose nodes are the LN, its DOI and their SDI, each one mapping the names of its children
+ * to their nodes (or to DAI for leaves). Nodes are built on first lookup, level by level : a lookup costs the depth
+ * of the path once the nodes on the path are built.
+ * </p>
+ * <p>
+ * As in the lists of the SCL, the first child of a given name is kept when several children have the same name.
+ * Nodes keep the list of children they are built from and the number of children they have indexed :
+ * children appended to the list (e.g. by {@link #findOrCreateDai}, or directly in the SCL) are indexed on next lookup,
+ * and nodes are rebuilt when their list has been replaced or has shrunk.
+ * Other changes (renaming a child, replacing a child by another one at the same position) must be signaled with
+ * {@link #invalidate(TAnyLN)}.
+ * </p>
+ * <p>
+ * An index keeps the nodes of every LN it has seen : it is meant to be created for a single operation on an SCD (for
+ * example one call of ExtRefEditorService.epfPostProcessing) and dropped afterwards, not kept by a long-lived service.
+ * </p>
+ * Lookups and invalidations are synchronized : an index can be shared by threads working on different LNs.
+ */
+public class LnInstanceIndex {
+
+    private final Map<TAnyLN, Node> nodesByLn = new IdentityHashMap<>();
+
+    /**
+     * Finds the DAI at the end of a name path
+     * @param tAnyLN LN where to look for the DAI
+     * @param doName name of the DOI
+     * @param sdiNames names of the SDI between the DOI and the DAI, from the DOI to the DAI
+     * @param daiName name of the DAI
+     * @return DAI when found or else empty Optional
+     */
+    public synchronized Optional<TDAI> findDai(TAnyLN tAnyLN, String doName, List<String> sdiNames, String daiName) {
+        Node node = nodeOf(tAnyLN).findChild(doName);
+        for (int i = 0; node != null && i < sdiNames.size(); i++) {
+            node = node.findChild(sdiNames.get(i));
+        }
+        return node == null ? Optional.empty() : Optional.ofNullable(node.findDai(daiName));
+    }
+
+    /**
+     * Finds the DAI at the end of a name path, creating the DOI, SDI and DAI of the path which do not exist yet
+     * @param tAnyLN LN where to look for the DAI
+     * @param doName name of the DOI
+     * @param sdiNames names of the SDI between the DOI and the DAI, from the DOI to the DAI
+     * @param daiName name of the DAI
+     * @return existing or created DAI
+     */
+    public synchronized TDAI findOrCreateDai(TAnyLN tAnyLN, String doName, List<String> sdiNames, String daiName) {
+        Node node = nodeOf(tAnyLN).findOrCreateChild(doName);
+        for (String sdiName : sdiNames) {
+            node = node.findOrCreateChild(sdiName);
+        }
+        return node.findOrCreateDai(daiName);
+    }
+
+    /**
+     * Forgets the index of given LN
+     * @param tAnyLN LN whose DOI/SDI/DAI have changed
+     */
+    public synchronized void invalidate(TAnyLN tAnyLN) {
+        nodesByLn.remove(tAnyLN);
+    }
+
+    /**
+     * Forgets the index of all LNs
+     */
+    public synchronized void invalidate() {
+        nodesByLn.clear();
+    }
+
+    private Node nodeOf(TAnyLN tAnyLN) {
+        return nodesByLn.computeIfAbsent(tAnyLN, Node::new);
+    }
+
+    /**
+     * LN, DOI or SDI, with its DOI/SDI children by name and its DAI children by name
+     */
+    private static final class Node {
+
+        private final Object element;
+        private final Map<String, Node> childNodesByName = new HashMap<>();
+        private final Map<String, TDAI> daisByName = new HashMap<>();
+        private List<?> indexedChildren;
+        private int indexedCount;
+
+        private Node(Object element) {
+            this.element = element;
+        }
+
+        private Node findChild(String name) {
+            refresh();
+            return childNodesByName.get(name);
+        }
+
+        private TDAI findDai(String name) {
+            refresh();
+            return daisByName.get(name);
+        }
+
+        private Node findOrCreateChild(String name) {
+            Node child = findChild(name);
+            if (child != null) {
+                return child;
+            }
+            if (element instanceof TAnyLN tAnyLN) {
+                TDOI tdoi = new TDOI();
+                tdoi.setName(name);
+                tAnyLN.getDOI().add(tdoi);
+            } else {
+                TSDI tsdi = new TSDI();
+                tsdi.setName(name);
+                sdiOrDai().add(tsdi);
+            }
+            return findChild(name);
+        }
+
+        private TDAI findOrCreateDai(String name) {
+            TDAI tdai = findDai(name);
+            if (tdai != null) {
+                return tdai;
+            }
+            tdai = new TDAI();
+            tdai.setName(name);
+            sdiOrDai().add(tdai);
+            return findDai(name);
+        }
+
+        private List<?> children() {
+            return element instanceof TAnyLN tAnyLN ? tAnyLN.getDOI() : sdiOrDai();
+        }
+
+        private List<TUnNaming> sdiOrDai() {
+            return element instanceof TDOI tdoi ? tdoi.getSDIOrDAI() : ((TSDI) element).getSDIOrDAI();
+        }
+
+        private void refresh() {
+            List<?> children = children();
+            if (children != indexedChildren || children.size() < indexedCount) {
+                childNodesByName.clear();
+                daisByName.clear();
+                indexedChildren = children;
+                indexedCount = 0;
+            }
+            for (; indexedCount < children.size(); indexedCount++) {
+                Object child = children.get(indexedCount);
+                if (child instanceof TDOI tdoi) {
+                    childNodesByName.putIfAbsent(tdoi.getName(), new Node(tdoi));
+                } else if (child instanceof TSDI tsdi) {
+                    childNodesByName.putIfAbsent(tsdi.getName(), new Node(tsdi));
+                } else if (child instanceof TDAI tdai) {
+                    daisByName.putIfAbsent(tdai.getName(), tdai);
+                }
+            }
+        }
+    }
+}
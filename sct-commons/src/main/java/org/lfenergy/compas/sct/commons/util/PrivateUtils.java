@@ -91,7 +91,11 @@ public final class PrivateUtils {
 
     private static <T> T toOneCompasICDHeader(PrivateEnum privateEnum) {
         //Check same type elements inside the private content
-        throw new ScdException("Expecting maximum 1 element of type " + privateEnum.getCompasClass() + " in private " + privateEnum.getPrivateType() + ", but got more");
+        throw moreThanOneCompasPrivateException(privateEnum);
+    }
+
+    static ScdException moreThanOneCompasPrivateException(PrivateEnum privateEnum) {
+        return new ScdException("Expecting maximum 1 element of type " + privateEnum.getCompasClass() + " in private " + privateEnum.getPrivateType() + ", but got more");
     }
 
     /**
@@ -0,0 +1,162 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlTransient;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.w3c.dom.Node;
+
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Deep copy of objects of the SCL model (classes generated by xjc in package {@value #SCL_MODEL_PACKAGE}).
+ * <p>
+ * The copy is done field by field, by reflection, and gives the same result as marshalling then unmarshalling the
+ * object with JAXB, without building any XML : all fields mapped by JAXB are copied, including fields of superclasses,
+ * lists, {@link JAXBElement} and DOM elements of mixed or any content (for example the content of Privates).
+ * Immutable values (String, numbers, enums, QName...) are shared between the object and its copy. Fields which are
+ * not mapped by JAXB (transient) are left to the value given by the no-arg constructor.
+ * </p>
+ * The fields of each class are looked up once, then cached. This class is thread safe.
+ */
+public final class SclElementCopier {
+
+    private static final String SCL_MODEL_PACKAGE = "org.lfenergy.compas.scl2007b4.model";
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+            QName.class, UUID.class);
+
+    private static final ClassValue<ClassCopier> CLASS_COPIERS = new ClassValue<>() {
+        @Override
+        protected ClassCopier computeValue(Class<?> type) {
+            return new ClassCopier(type);
+        }
+    };
+
+    /**
+     * Private Constructor, should not be instanced
+     */
+    private SclElementCopier() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Creates a deep copy of an object of the SCL model
+     *
+     * @param object object to copy
+     * @param <T>    type of the object
+     * @return copy of the object, or null when object is null
+     * @throws ScdException when object is not an object of the SCL model or contains values which cannot be copied
+     */
+    public static <T> T copy(T object) {
+        if (object == null) {
+            return null;
+        }
+        if (!isSclModelClass(object.getClass())) {
+            throw new ScdException(object.getClass().getName() + " is not known to this context");
+        }
+        return copyValue(object);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copyValue(T value) {
+        if (value == null || value instanceof Enum<?> || value instanceof Duration || IMMUTABLE_TYPES.contains(value.getClass())) {
+            return value;
+        }
+        Object copy = switch (value) {
+            case List<?> list -> copyList(list);
+            case JAXBElement<?> jaxbElement -> copyJaxbElement(jaxbElement);
+            case Map<?, ?> map -> copyMap(map);
+            case Node node -> node.cloneNode(true);
+            case XMLGregorianCalendar calendar -> calendar.clone();
+            case byte[] bytes -> bytes.clone();
+            default -> {
+                if (!isSclModelClass(value.getClass())) {
+                    throw new ScdException("Cannot copy value of type " + value.getClass().getName());
+                }
+                yield CLASS_COPIERS.get(value.getClass()).copy(value);
+            }
+        };
+        return (T) copy;
+    }
+
+    private static List<Object> copyList(List<?> list) {
+        List<Object> copy = new ArrayList<>(list.size());
+        for (Object element : list) {
+            copy.add(copyValue(element));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static JAXBElement<?> copyJaxbElement(JAXBElement<?> jaxbElement) {
+        JAXBElement copy = new JAXBElement(jaxbElement.getName(), jaxbElement.getDeclaredType(), jaxbElement.getScope(),
+                copyValue(jaxbElement.getValue()));
+        copy.setNil(jaxbElement.isNil());
+        return copy;
+    }
+
+    private static Map<Object, Object> copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy = new HashMap<>(map.size() * 2);
+        map.forEach((key, value) -> copy.put(copyValue(key), copyValue(value)));
+        return copy;
+    }
+
+    private static boolean isSclModelClass(Class<?> type) {
+        return SCL_MODEL_PACKAGE.equals(type.getPackageName());
+    }
+
+    /**
+     * Copier of the objects of one class of the SCL model : no-arg constructor and fields mapped by JAXB,
+     * including the ones declared in superclasses
+     */
+    private static final class ClassCopier {
+
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+
+        private ClassCopier(Class<?> type) {
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new ScdException("Cannot copy " + type.getName() + " : no constructor without arguments", e);
+            }
+            List<Field> copiedFields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+                            && !field.isAnnotationPresent(XmlTransient.class)) {
+                        field.setAccessible(true);
+                        copiedFields.add(field);
+                    }
+                }
+            }
+            fields = copiedFields.toArray(Field[]::new);
+        }
+
+        private Object copy(Object object) {
+            try {
+                Object copy = constructor.newInstance();
+                for (Field field : fields) {
+                    field.set(copy, copyValue(field.get(object)));
+                }
+                return copy;
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new ScdException("Cannot copy " + object.getClass().getName() + " : " + e.getMessage(), e);
+            }
+        }
+    }
+}
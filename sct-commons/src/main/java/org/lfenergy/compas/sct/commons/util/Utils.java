@@ -4,16 +4,9 @@
 
 package org.lfenergy.compas.sct.commons.util;
 
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBElement;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
-import jakarta.xml.bind.util.JAXBSource;
 import org.apache.commons.lang3.StringUtils;
 import org.lfenergy.compas.scl2007b4.model.TP;
-import org.lfenergy.compas.sct.commons.exception.ScdException;
 
-import javax.xml.namespace.QName;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -30,8 +23,6 @@ public final class Utils {
     private static final long MAC_ADDRESS_MAX_VALUE = 0xFFFFFFFFFFFFL;
     private static final Pattern MAC_ADDRESS_PATTERN = Pattern.compile("[0-9A-F]{2}([-:][0-9A-F]{2}){5}", Pattern.CASE_INSENSITIVE);
 
-    private static JAXBContext jaxbContext = null;
-
     /**
      * Private Constructor, should not be instanced
      */
@@ -239,11 +230,20 @@ public final class Utils {
             return StringUtils.isBlank(lnClass2);
         }
         if (lnClass1.size() > 1){
-            throw new IllegalArgumentException("lnClass can only have a single value but got : [%s] " + String.join(",", lnClass1));
+            throw multipleLnClassException(lnClass1);
         }
         return equalsOrBothBlank(lnClass1.getFirst(), lnClass2);
     }
 
+    /**
+     * Creates the exception thrown by {@link #lnClassEquals(List, String)} when an element has several lnClass values
+     * @param lnClass lnClass attribute value with more than one element
+     * @return exception to throw
+     */
+    public static IllegalArgumentException multipleLnClassException(List<String> lnClass) {
+        return new IllegalArgumentException("lnClass can only have a single value but got : [%s] " + String.join(",", lnClass));
+    }
+
     /**
      * Converts long representation of a MAC-Address, by converting it to hexadecimal and separating every 2 characters by a hyphen(-).
      * See macAddressToLong for the reversing method.
@@ -311,20 +311,10 @@ public final class Utils {
      * @param clazz  class type of the object
      * @param <T>    type of the object
      * @return copy of the object
+     * @see SclElementCopier#copy(Object)
      */
     public static <T> T copySclElement(T object, Class<T> clazz) {
-        Unmarshaller unmarshaller;
-        try {
-            if (jaxbContext == null) {
-                jaxbContext = JAXBContext.newInstance("org.lfenergy.compas.scl2007b4.model");
-            }
-            unmarshaller = jaxbContext.createUnmarshaller();
-            JAXBElement<T> contentObject = new JAXBElement<>(new QName(clazz.getSimpleName()), clazz, object);
-            JAXBSource source = new JAXBSource(jaxbContext, contentObject);
-            return unmarshaller.unmarshal(source, clazz).getValue();
-        } catch (JAXBException e) {
-            throw new ScdException(e.getMessage(), e);
-        }
+        return clazz.cast(SclElementCopier.copy(object));
     }
 
     /**
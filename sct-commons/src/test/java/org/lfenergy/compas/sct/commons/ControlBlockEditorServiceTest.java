@@ -11,8 +11,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
 import org.lfenergy.compas.sct.commons.dto.ControlBlockTarget;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.ServiceCapacity;
 import org.lfenergy.compas.sct.commons.model.cbcom.*;
 import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
 import org.lfenergy.compas.sct.commons.scl.ControlService;
@@ -27,12 +29,15 @@ import org.lfenergy.compas.sct.commons.testhelpers.DaComTestMarshallerHelper;
 import org.lfenergy.compas.sct.commons.testhelpers.FCDARecord;
 import org.lfenergy.compas.sct.commons.testhelpers.MarshallerWrapper;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+import org.lfenergy.compas.sct.commons.util.IedTaskExecutor;
 import org.lfenergy.compas.sct.commons.util.PrivateEnum;
 import org.lfenergy.compas.sct.commons.util.PrivateUtils;
 import org.lfenergy.compas.sct.commons.util.SclConstructorHelper;
+import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -100,6 +105,48 @@ class ControlBlockEditorServiceTest {
                         "There are too much SMV Control Blocks for the IED IED_NAME2: 3 > 1 max");
     }
 
+    @Test
+    void analyzeDataGroups_when_parallel_should_return_same_errors_in_same_order() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        IEDAdapter iedAdapter = new SclRootAdapter(scd).getIEDAdapterByName("IED_NAME2");
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getConfDataSet().setMaxAttributes(1L);
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getGOOSE().setMax(2L);
+        List<SclReportItem> sequentialSclReportItems = controlBlockEditorService.analyzeDataGroups(scd);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        ControlBlockEditorService parallelControlBlockEditorService = new ControlBlockEditorService(new ControlService(), new LdeviceService(),
+                IedTaskExecutor.parallel(forkJoinPool));
+        // When
+        List<SclReportItem> sclReportItems = parallelControlBlockEditorService.analyzeDataGroups(scd);
+        forkJoinPool.shutdown();
+        // Then
+        assertThat(sclReportItems).isNotEmpty().containsExactlyElementsOf(sequentialSclReportItems);
+    }
+
+    @Test
+    void analyzeDataGroupCapacities_should_return_capacities_of_each_AccessPoint_with_errors_of_analyzeDataGroups() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        IEDAdapter iedAdapter = new SclRootAdapter(scd).getIEDAdapterByName("IED_NAME2");
+        iedAdapter.getCurrentElem().getAccessPoint().getFirst().getServices().getConfDataSet().setMaxAttributes(1L);
+        List<SclReportItem> expectedSclReportItems = controlBlockEditorService.analyzeDataGroups(scd);
+        // When
+        List<AccessPointCapacity> accessPointCapacities = controlBlockEditorService.analyzeDataGroupCapacities(scd);
+        // Then
+        assertThat(accessPointCapacities)
+                .extracting(AccessPointCapacity::iedName)
+                .containsExactly("IED_NAME1", "IED_NAME2", "IED_NAME3");
+        assertThat(accessPointCapacities.stream()
+                .flatMap(accessPointCapacity -> Stream.concat(accessPointCapacity.dataGroupReportItems().stream(),
+                        accessPointCapacity.bindingReportItems().stream())))
+                .extracting(SclReportItem::message)
+                .containsExactlyInAnyOrderElementsOf(expectedSclReportItems.stream().map(SclReportItem::message).toList());
+        assertThat(accessPointCapacities.get(1).serverCapacities())
+                .filteredOn(serviceCapacity -> serviceCapacity.service() == ServicesConfigEnum.FCDA)
+                .extracting(ServiceCapacity::count, ServiceCapacity::max, ServiceCapacity::isExceeded)
+                .containsExactly(Tuple.tuple(2L, 1L, true));
+    }
+
     @Test
     void removeControlBlocksAndDatasetAndExtRefSrc_should_remove_srcXXX_attributes_on_ExtRef() {
         // Given
@@ -240,6 +287,25 @@ class ControlBlockEditorServiceTest {
                 );
     }
 
+    @Test
+    void createDataSetAndControlBlocks_when_FCDA_limit_reached_should_not_create_more_FCDA_and_return_error() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-extref-create-dataset-and-controlblocks/scd_create_dataset_and_controlblocks_fcda_limit.xml");
+        DACOMM allowedFcdas = DaComTestMarshallerHelper.getDACOMMFromFile("/cb_comm/Template_DA_COMM_v1.xml");
+        // When
+        List<SclReportItem> sclReportItems = controlBlockEditorService.createDataSetAndControlBlocks(scd, allowedFcdas);
+        // Then
+        assertThat(sclReportItems)
+                .extracting(SclReportItem::message)
+                .contains("Could not create DataSet or ControlBlock for this ExtRef : There are too much FCDA for the DataSet DS_LD_INST21_GSI: cannot add more than 3 FCDA");
+        assertThat(findDataSet(scd, "IED_NAME2", "LD_INST21", "DS_LD_INST21_GSI").getCurrentElem().getFCDA()).hasSize(3);
+        assertThat(streamAllDataSets(scd)).allSatisfy(tDataSet -> assertThat(tDataSet.getFCDA()).hasSizeLessThanOrEqualTo(3));
+        assertThat(streamAllExtRef(scd)
+                .filter(tExtRef -> sclReportItems.stream().anyMatch(sclReportItem -> sclReportItem.xpath().endsWith("/ExtRef[@desc=\"" + tExtRef.getDesc() + "\"]"))))
+                .isNotEmpty()
+                .allSatisfy(tExtRef -> assertThat(tExtRef.getSrcCBName()).isNull());
+    }
+
     @ParameterizedTest
     @MethodSource("provideSubnetworksToReuse")
     void configureNetworkForAllControlBlocks_should_create_GSE_elements(List<TSubNetwork> subnetworksToReuse) {
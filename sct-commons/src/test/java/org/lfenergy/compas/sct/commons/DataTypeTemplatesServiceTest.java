@@ -529,4 +529,101 @@ class DataTypeTemplatesServiceTest {
                 );
     }
 
+    @Test
+    void getFilteredDoLinkedToDa_should_return_copies_when_called_twice() {
+        //Given
+        TDataTypeTemplates dtt = initDttFromFile("/dtt-test-schema-conf/scd_dtt_do_sdo_da_bda_test.xml");
+        DataTypeTemplatesService dataTypeTemplatesService = new DataTypeTemplatesService();
+        DoLinkedToDa firstResult = dataTypeTemplatesService.getFilteredDoLinkedToDa(dtt, "LNodeType0", new DoLinkedToDaFilter()).findFirst().orElseThrow();
+        firstResult.getDataObject().setDoName("modifiedDoName");
+        firstResult.getDataAttribute().getBdaNames().add("modifiedBdaName");
+        //When
+        DoLinkedToDa secondResult = dataTypeTemplatesService.getFilteredDoLinkedToDa(dtt, "LNodeType0", new DoLinkedToDaFilter()).findFirst().orElseThrow();
+        //Then
+        assertThat(secondResult).isNotSameAs(firstResult);
+        assertThat(secondResult.getDataObject().getDoName()).isEqualTo("FirstDoName");
+        assertThat(secondResult.getDataAttribute().getBdaNames()).isEmpty();
+    }
+
+    @Test
+    void getAllDoLinkedToDa_should_see_types_added_after_first_call() {
+        //Given
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        TLNodeType tlNodeType = new TLNodeType();
+        tlNodeType.setId("lnodeTypeId");
+        TDO tdo = new TDO();
+        tdo.setType("doTypeId");
+        tdo.setName("doName");
+        tlNodeType.getDO().add(tdo);
+        dtt.getLNodeType().add(tlNodeType);
+        DataTypeTemplatesService dataTypeTemplatesService = new DataTypeTemplatesService();
+        assertThat(dataTypeTemplatesService.getAllDoLinkedToDa(dtt)).isEmpty();
+        TDOType tdoType = new TDOType();
+        tdoType.setId("doTypeId");
+        TDA tda = new TDA();
+        tda.setName("daName");
+        tdoType.getSDOOrDA().add(tda);
+        dtt.getDOType().add(tdoType);
+        //When
+        List<DoLinkedToDa> result = dataTypeTemplatesService.getAllDoLinkedToDa(dtt).toList();
+        //Then
+        assertThat(result).hasSize(1)
+                .extracting(doLinkedToDa1 -> doLinkedToDa1.getDataObject().getDoName(),
+                        doLinkedToDa1 -> doLinkedToDa1.getDataAttribute().getDaName())
+                .containsExactly(tuple("doName", "daName"));
+    }
+
+    @Test
+    void getAllDoLinkedToDa_should_see_types_modified_in_place_after_first_call() {
+        //Given
+        TDataTypeTemplates dtt = new TDataTypeTemplates();
+        TLNodeType tlNodeType = new TLNodeType();
+        tlNodeType.setId("lnodeTypeId");
+        TDO tdo = new TDO();
+        tdo.setType("doTypeId");
+        tdo.setName("doName");
+        tlNodeType.getDO().add(tdo);
+        dtt.getLNodeType().add(tlNodeType);
+        TDOType tdoType = new TDOType();
+        tdoType.setId("doTypeId");
+        TDA tda = new TDA();
+        tda.setName("daName");
+        tdoType.getSDOOrDA().add(tda);
+        dtt.getDOType().add(tdoType);
+        DataTypeTemplatesService dataTypeTemplatesService = new DataTypeTemplatesService();
+        assertThat(dataTypeTemplatesService.getAllDoLinkedToDa(dtt)).hasSize(1);
+        TDA newTda = new TDA();
+        newTda.setName("newDaName");
+        tdoType.getSDOOrDA().add(newTda);
+        tdo.setName("renamedDoName");
+        //When
+        List<DoLinkedToDa> result = dataTypeTemplatesService.getAllDoLinkedToDa(dtt).toList();
+        //Then
+        assertThat(result)
+                .extracting(doLinkedToDa1 -> doLinkedToDa1.getDataObject().getDoName(),
+                        doLinkedToDa1 -> doLinkedToDa1.getDataAttribute().getDaName())
+                .containsExactly(tuple("renamedDoName", "daName"), tuple("renamedDoName", "newDaName"));
+    }
+
+    @Test
+    void getFilteredDoLinkedToDa_and_findDoLinkedToDa_with_graph_should_return_same_items_as_with_DataTypeTemplates() {
+        //Given
+        TDataTypeTemplates dtt = initDttFromFile("/dtt-test-schema-conf/scd_dtt_do_sdo_da_bda_test.xml");
+        DataTypeTemplatesService dataTypeTemplatesService = new DataTypeTemplatesService();
+        List<DoLinkedToDa> expected = dataTypeTemplatesService.getFilteredDoLinkedToDa(dtt, "LNodeType0", new DoLinkedToDaFilter()).toList();
+        DataTypeTemplatesGraph graph = dataTypeTemplatesService.buildDataTypeTemplatesGraph(dtt);
+        //When
+        List<DoLinkedToDa> result = dataTypeTemplatesService.getFilteredDoLinkedToDa(graph, "LNodeType0", new DoLinkedToDaFilter()).toList();
+        //Then
+        assertThat(expected).isNotEmpty();
+        assertThat(result)
+                .extracting(DoLinkedToDa::getDoRef, DoLinkedToDa::getDaRef, doLinkedToDa -> doLinkedToDa.getDataObject().getCdc())
+                .containsExactlyElementsOf(expected.stream()
+                        .map(doLinkedToDa -> tuple(doLinkedToDa.getDoRef(), doLinkedToDa.getDaRef(), doLinkedToDa.getDataObject().getCdc()))
+                        .toList());
+        assertThat(result).allSatisfy(doLinkedToDa ->
+                assertThat(dataTypeTemplatesService.findDoLinkedToDa(graph, "LNodeType0", doLinkedToDa))
+                        .isEqualTo(dataTypeTemplatesService.findDoLinkedToDa(dtt, "LNodeType0", doLinkedToDa)));
+    }
+
 }
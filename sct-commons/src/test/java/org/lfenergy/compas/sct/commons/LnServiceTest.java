@@ -13,6 +13,7 @@ import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.domain.*;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 import org.lfenergy.compas.sct.commons.util.ActiveStatus;
+import org.lfenergy.compas.sct.commons.util.LnInstanceIndex;
 
 import java.util.*;
 
@@ -194,6 +195,55 @@ class LnServiceTest {
         assertThat(optionalTDAI).isEmpty();
     }
 
+    @Test
+    void getDOAndDAInstance_when_ln_instance_index_should_return_same_instances_as_without_index() {
+        //Given
+        TAnyLN tAnyLN = initDOAndDAInstances(
+                new LinkedList<>(List.of("Do","sdo1", "d")),
+                new LinkedList<>(List.of("antRef","bda1", "bda2", "bda3")),
+                "new value",null
+        );
+        LnInstanceIndex lnInstanceIndex = new LnInstanceIndex();
+        DoLinkedToDaFilter existingDai = DoLinkedToDaFilter.from("Do.sdo1.d", "antRef.bda1.bda2.bda3");
+        DoLinkedToDaFilter unknownDai = DoLinkedToDaFilter.from("Do.sdo1.d", "antRef.unknown.bda2.bda3");
+        //When
+        Optional<TDAI> foundTDAI = lnService.getDOAndDAInstances(lnInstanceIndex, tAnyLN, existingDai);
+        Optional<TDAI> notFoundTDAI = lnService.getDOAndDAInstances(lnInstanceIndex, tAnyLN, unknownDai);
+        //Then
+        assertThat(foundTDAI).isPresent();
+        assertThat(foundTDAI.get()).isSameAs(lnService.getDOAndDAInstances(tAnyLN, existingDai).orElseThrow());
+        assertThat(notFoundTDAI).isEmpty();
+    }
+
+    @Test
+    void updateOrCreateDOAndDAInstance_when_ln_instance_index_should_find_created_instances() {
+        //Given
+        TAnyLN tAnyLN = new LN0();
+        DataObject dataObject = new DataObject();
+        dataObject.setDoName("Do");
+        dataObject.setSdoNames(List.of("sdo1"));
+        DataAttribute dataAttribute = new DataAttribute();
+        dataAttribute.setDaName("antRef");
+        dataAttribute.setBdaNames(List.of("bda1"));
+        dataAttribute.getDaiValues().add(new DaVal(null, "new value"));
+        DoLinkedToDa doLinkedToDa = new DoLinkedToDa();
+        doLinkedToDa.setDataObject(dataObject);
+        doLinkedToDa.setDataAttribute(dataAttribute);
+        LnInstanceIndex lnInstanceIndex = new LnInstanceIndex();
+        DoLinkedToDaFilter doLinkedToDaFilter = DoLinkedToDaFilter.from("Do.sdo1", "antRef.bda1");
+        assertThat(lnService.getDOAndDAInstances(lnInstanceIndex, tAnyLN, doLinkedToDaFilter)).isEmpty();
+        //When
+        lnService.updateOrCreateDOAndDAInstances(lnInstanceIndex, tAnyLN, doLinkedToDa);
+        lnService.updateOrCreateDOAndDAInstances(lnInstanceIndex, tAnyLN, doLinkedToDa);
+        //Then
+        assertThat(tAnyLN.getDOI()).hasSize(1);
+        assertThat(tAnyLN.getDOI().getFirst().getSDIOrDAI()).hasSize(1);
+        Optional<TDAI> optionalTDAI = lnService.getDOAndDAInstances(lnInstanceIndex, tAnyLN, doLinkedToDaFilter);
+        assertThat(optionalTDAI).containsSame(lnService.getDOAndDAInstances(tAnyLN, doLinkedToDaFilter).orElseThrow());
+        assertThat(optionalTDAI.get().getName()).isEqualTo("bda1");
+        assertThat(optionalTDAI.get().getVal()).hasSize(1);
+    }
+
     @ParameterizedTest
     @CsvSource(value = {"null:false", "false:false", "true:true"}, delimiter = ':')
     void completeFromDataAttributeInstance_should_complete_when_valImport_set_or_not(Boolean existingValImportSet,
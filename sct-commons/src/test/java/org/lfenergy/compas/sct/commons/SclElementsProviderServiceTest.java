@@ -5,12 +5,14 @@
 package org.lfenergy.compas.sct.commons;
 
 import org.apache.commons.lang3.StringUtils;
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.ExtRefBinderIndex;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.*;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
@@ -76,6 +78,123 @@ class SclElementsProviderServiceTest {
                 .containsExactly("1", "1", "2", "3");
     }
 
+    @Test
+    void getExtRefBinders_whenOffsetAndLimit_shouldReturnPageOfSortedListBindingInfo() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-srv-scd-extref-cb/scd_get_binders_test.xml");
+        ExtRefSignalInfo signalInfo = createSignalInfo("Do11.sdo11", "da11.bda111.bda112.bda113", "INT_ADDR11");
+        signalInfo.setPLN("ANCR");
+        List<ExtRefBindingInfo> allBinders = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo);
+
+        // When
+        List<ExtRefBindingInfo> firstPage = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo, 0, 2);
+        List<ExtRefBindingInfo> middlePage = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo, 1, 2);
+        List<ExtRefBindingInfo> lastPage = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo, 3, 10);
+        List<ExtRefBindingInfo> pageAfterEnd = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo, 4, 10);
+
+        // Then
+        assertThat(firstPage).containsExactlyElementsOf(allBinders.subList(0, 2));
+        assertThat(middlePage).containsExactlyElementsOf(allBinders.subList(1, 3));
+        assertThat(lastPage).containsExactlyElementsOf(allBinders.subList(3, 4));
+        assertThat(pageAfterEnd).isEmpty();
+    }
+
+    @Test
+    void getExtRefBinders_whenIedRemovedBetweenCalls_shouldNotReturnBindingInfoOfRemovedIed() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-srv-scd-extref-cb/scd_get_binders_test.xml");
+        ExtRefSignalInfo signalInfo = createSignalInfo("Do11.sdo11", "da11.bda111.bda112.bda113", "INT_ADDR11");
+        signalInfo.setPLN("ANCR");
+        assertThat(sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo)).hasSize(4);
+        scd.getIED().removeIf(tied -> tied.getName().equals("IED_NAME3"));
+
+        // When
+        List<ExtRefBindingInfo> potentialBinders = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo);
+
+        // Then
+        assertThat(potentialBinders)
+                .extracting(ExtRefBindingInfo::getIedName, ExtRefBindingInfo::getLdInst)
+                .containsExactly(Tuple.tuple("IED_NAME1", "LD_INST11"),
+                        Tuple.tuple("IED_NAME1", "LD_INST12"),
+                        Tuple.tuple("IED_NAME2", "LD_INST22"));
+    }
+
+    @Test
+    void getExtRefBinders_whenLnClassChangedBetweenCalls_shouldNotReturnBindingInfoOfChangedLn() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-srv-scd-extref-cb/scd_get_binders_test.xml");
+        ExtRefSignalInfo signalInfo = createSignalInfo("Do11.sdo11", "da11.bda111.bda112.bda113", "INT_ADDR11");
+        signalInfo.setPLN("ANCR");
+        assertThat(sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo)).hasSize(4);
+        scd.getIED().stream()
+                .filter(tied -> tied.getName().equals("IED_NAME3"))
+                .flatMap(tied -> tied.getAccessPoint().stream())
+                .flatMap(tAccessPoint -> tAccessPoint.getServer().getLDevice().stream())
+                .flatMap(tlDevice -> tlDevice.getLN().stream())
+                .filter(tln -> tln.getLnClass().contains("ANCR"))
+                .forEach(tln -> tln.getLnClass().replaceAll(lnClass -> "PTOC"));
+
+        // When
+        List<ExtRefBindingInfo> potentialBinders = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo);
+
+        // Then
+        assertThat(potentialBinders)
+                .extracting(ExtRefBindingInfo::getIedName, ExtRefBindingInfo::getLdInst)
+                .containsExactly(Tuple.tuple("IED_NAME1", "LD_INST11"),
+                        Tuple.tuple("IED_NAME1", "LD_INST12"),
+                        Tuple.tuple("IED_NAME2", "LD_INST22"));
+    }
+
+    @Test
+    void getExtRefBinderIndex_whenScdNotChangedBetweenCalls_shouldReuseIndex() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-srv-scd-extref-cb/scd_get_binders_test.xml");
+        ExtRefBinderIndex firstIndex = sclElementsProviderService.getExtRefBinderIndex(new SclRootAdapter(scd));
+
+        // When
+        ExtRefBinderIndex secondIndex = sclElementsProviderService.getExtRefBinderIndex(new SclRootAdapter(scd));
+
+        // Then
+        assertThat(secondIndex).isSameAs(firstIndex);
+        assertThat(sclElementsProviderService.getExtRefBinderIndex(new SclRootAdapter(SclTestMarshaller.getSCLFromFile("/scl-srv-scd-extref-cb/scd_get_binders_test.xml"))))
+                .isNotSameAs(firstIndex);
+    }
+
+    @Test
+    void getExtRefBinders_whenLnAddedBetweenCalls_shouldBuildIndexAgainAndReturnBindingInfoOfAddedLn() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-srv-scd-extref-cb/scd_get_binders_test.xml");
+        ExtRefSignalInfo signalInfo = createSignalInfo("Do11.sdo11", "da11.bda111.bda112.bda113", "INT_ADDR11");
+        signalInfo.setPLN("ANCR");
+        assertThat(sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo)).hasSize(4);
+        ExtRefBinderIndex firstIndex = sclElementsProviderService.getExtRefBinderIndex(new SclRootAdapter(scd));
+        TLDevice tlDevice = scd.getIED().stream()
+                .filter(tied -> tied.getName().equals("IED_NAME3"))
+                .flatMap(tied -> tied.getAccessPoint().stream())
+                .flatMap(tAccessPoint -> tAccessPoint.getServer().getLDevice().stream())
+                .filter(lDevice -> lDevice.getInst().equals("LD_INST31"))
+                .findFirst().orElseThrow();
+        TLN existingLn = tlDevice.getLN().stream().filter(tln -> tln.getLnClass().contains("ANCR")).findFirst().orElseThrow();
+        TLN addedLn = new TLN();
+        addedLn.getLnClass().add("ANCR");
+        addedLn.setInst("9");
+        addedLn.setLnType(existingLn.getLnType());
+        tlDevice.getLN().add(addedLn);
+
+        // When
+        List<ExtRefBindingInfo> potentialBinders = sclElementsProviderService.getExtRefBinders(scd, "IED_NAME1", "LD_INST11", "LLN0", "", "", signalInfo);
+
+        // Then
+        assertThat(sclElementsProviderService.getExtRefBinderIndex(new SclRootAdapter(scd))).isNotSameAs(firstIndex);
+        assertThat(potentialBinders)
+                .extracting(ExtRefBindingInfo::getIedName, ExtRefBindingInfo::getLdInst, ExtRefBindingInfo::getLnInst)
+                .containsExactly(Tuple.tuple("IED_NAME1", "LD_INST11", "1"),
+                        Tuple.tuple("IED_NAME1", "LD_INST12", "1"),
+                        Tuple.tuple("IED_NAME2", "LD_INST22", "2"),
+                        Tuple.tuple("IED_NAME3", "LD_INST31", "3"),
+                        Tuple.tuple("IED_NAME3", "LD_INST31", "9"));
+    }
+
     @Test
     @Tag("issue-321")
     void getExtRefSourceInfo_whenExtRefMatchNoFCDA_shouldReturnEmptyList() {
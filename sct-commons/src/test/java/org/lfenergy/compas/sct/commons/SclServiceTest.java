@@ -15,20 +15,28 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.dto.*;
 import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.report.CappedReportSink;
+import org.lfenergy.compas.sct.commons.report.FailFastReportSink;
+import org.lfenergy.compas.sct.commons.report.ListReportSink;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.DOIAdapter;
 import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
 import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.scl.ln.AbstractLNAdapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LN0Adapter;
 import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
 import org.lfenergy.compas.sct.commons.testhelpers.MarshallerWrapper;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+import org.lfenergy.compas.sct.commons.util.IedTaskExecutor;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -317,6 +325,88 @@ class SclServiceTest {
         assertIsMarshallable(scd);
     }
 
+    @Test
+    void updateDAIs_should_update_valid_DAIs_and_return_errors_of_others() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/ied-test-schema-conf/ied_unit_test.xml");
+        DataAttributeRef unknownLnType = new DataAttributeRef();
+        unknownLnType.setLnType("unknownID");
+        DataAttributeRef validDataAttributeRef = new DataAttributeRef();
+        validDataAttributeRef.setLnType("LNO1");
+        validDataAttributeRef.setLnClass(TLLN0Enum.LLN_0.value());
+        validDataAttributeRef.setDoName(new DoTypeName("Do.sdo1.d"));
+        validDataAttributeRef.setDaName(new DaTypeName("antRef.bda1.bda2.bda3"));
+        TVal tVal = new TVal();
+        tVal.setValue("newValue");
+        validDataAttributeRef.setDaiValues(List.of(tVal));
+        DaiUpdate unknownLnTypeUpdate = new DaiUpdate("IED_NAME", "LD_INS1", unknownLnType);
+        DaiUpdate validUpdate = new DaiUpdate("IED_NAME", "LD_INS1", validDataAttributeRef);
+        DaiUpdate unknownLDeviceUpdate = new DaiUpdate("IED_NAME", "UNKNOWN_LD", validDataAttributeRef);
+        //When
+        List<DaiUpdateResult> daiUpdateResults = sclService.updateDAIs(scd, List.of(unknownLnTypeUpdate, validUpdate, unknownLDeviceUpdate));
+        //Then
+        assertThat(daiUpdateResults)
+                .extracting(DaiUpdateResult::daiUpdate, DaiUpdateResult::errorMessage)
+                .containsExactly(
+                        Tuple.tuple(unknownLnTypeUpdate, "Unknown LNodeType : unknownID"),
+                        Tuple.tuple(validUpdate, null),
+                        Tuple.tuple(unknownLDeviceUpdate, "Unknown LDevice (UNKNOWN_LD) in IED (IED_NAME)"));
+        LN0Adapter ln0Adapter = new SclRootAdapter(scd).getIEDAdapterByName("IED_NAME")
+                .getLDeviceAdapterByLdInst("LD_INS1").getLN0Adapter();
+        assertThat(ln0Adapter.getDAIValues(validDataAttributeRef)).containsValue("newValue");
+        assertIsMarshallable(scd);
+    }
+
+    @Test
+    void updateDAIs_when_updates_share_name_path_should_check_and_complete_each_of_them() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/ied-test-schema-conf/ied_unit_test.xml");
+        DataAttributeRef firstDataAttributeRef = newLn0DataAttributeRef("firstValue");
+        DataAttributeRef secondDataAttributeRef = newLn0DataAttributeRef("secondValue");
+        //When
+        List<DaiUpdateResult> daiUpdateResults = sclService.updateDAIs(scd, List.of(
+                new DaiUpdate("IED_NAME", "LD_INS1", firstDataAttributeRef),
+                new DaiUpdate("IED_NAME", "LD_INS1", secondDataAttributeRef)));
+        //Then
+        assertThat(daiUpdateResults).allMatch(DaiUpdateResult::isSuccess);
+        assertThat(secondDataAttributeRef.getBType()).isNotNull().isEqualTo(firstDataAttributeRef.getBType());
+        assertThat(secondDataAttributeRef.getFc()).isNotNull().isEqualTo(firstDataAttributeRef.getFc());
+        LN0Adapter ln0Adapter = new SclRootAdapter(scd).getIEDAdapterByName("IED_NAME")
+                .getLDeviceAdapterByLdInst("LD_INS1").getLN0Adapter();
+        assertThat(ln0Adapter.getDAIValues(secondDataAttributeRef)).containsValue("secondValue");
+    }
+
+    @Test
+    void updateDAIs_when_unexpected_exception_should_keep_previous_updates_applied_and_skip_next_ones() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/ied-test-schema-conf/ied_unit_test.xml");
+        DataAttributeRef firstDataAttributeRef = newLn0DataAttributeRef("firstValue");
+        DataAttributeRef missingSdoNames = newLn0DataAttributeRef("missingSdoNamesValue");
+        missingSdoNames.getDoName().setStructNames(null);
+        DataAttributeRef lastDataAttributeRef = newLn0DataAttributeRef("lastValue");
+        List<DaiUpdate> daiUpdates = List.of(
+                new DaiUpdate("IED_NAME", "LD_INS1", firstDataAttributeRef),
+                new DaiUpdate("IED_NAME", "LD_INS1", missingSdoNames),
+                new DaiUpdate("IED_NAME", "LD_INS1", lastDataAttributeRef));
+        //When Then
+        assertThatThrownBy(() -> sclService.updateDAIs(scd, daiUpdates)).isInstanceOf(NullPointerException.class);
+        LN0Adapter ln0Adapter = new SclRootAdapter(scd).getIEDAdapterByName("IED_NAME")
+                .getLDeviceAdapterByLdInst("LD_INS1").getLN0Adapter();
+        assertThat(ln0Adapter.getDAIValues(firstDataAttributeRef)).containsValue("firstValue");
+    }
+
+    private static DataAttributeRef newLn0DataAttributeRef(String value) {
+        DataAttributeRef dataAttributeRef = new DataAttributeRef();
+        dataAttributeRef.setLnType("LNO1");
+        dataAttributeRef.setLnClass(TLLN0Enum.LLN_0.value());
+        dataAttributeRef.setDoName(new DoTypeName("Do.sdo1.d"));
+        dataAttributeRef.setDaName(new DaTypeName("antRef.bda1.bda2.bda3"));
+        TVal tVal = new TVal();
+        tVal.setValue(value);
+        dataAttributeRef.setDaiValues(List.of(tVal));
+        return dataAttributeRef;
+    }
+
     @Test
     void testImportSTDElementsInSCD_whenCalledWithOneSTD_shouldNotThrowException() {
         //Given
@@ -349,6 +439,67 @@ class SclServiceTest {
         assertIsMarshallable(scd);
     }
 
+    @Test
+    void importSTDElementsInSCD_whenCalledWithMultipleSTD_shouldGiveSameScdWhateverParallelism() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        List<SCL> stds = List.of(SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml"));
+        SCL sequentialScd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        List<SCL> sequentialStds = List.of(SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml"));
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        SclService parallelSclService = new SclService(IedTaskExecutor.parallel(forkJoinPool));
+        //When
+        parallelSclService.importSTDElementsInSCD(scd, stds);
+        sclService.importSTDElementsInSCD(sequentialScd, sequentialStds);
+        forkJoinPool.shutdown();
+        //Then
+        assertThat(assertIsMarshallable(scd)).isEqualTo(assertIsMarshallable(sequentialScd));
+    }
+
+    @Test
+    void importSTDElementsInSCD_whenCalledWithIedNames_shouldImportOnlyGivenIeds() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        List<SCL> stds = List.of(SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml"));
+        //When
+        sclService.importSTDElementsInSCD(scd, stds, Set.of("SITESITE1SCU1"));
+        //Then
+        assertThat(scd.getIED()).extracting(TIED::getName).containsExactly("SITESITE1SCU1");
+        assertIsMarshallable(scd);
+    }
+
+    @Test
+    void importIEDsFromPreviousSCD_shouldCopyIedWithUsedTypesAndConnectedAPs() {
+        //Given
+        SCL previousScd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        List<SCL> stds = List.of(SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU1.xml"),
+                SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std_SITESITE1SCU2.xml"));
+        sclService.importSTDElementsInSCD(previousScd, stds);
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/scd_lnode_with_many_compas_icdheader.xml");
+        //When
+        sclService.importIEDsFromPreviousSCD(scd, previousScd, List.of("SITESITE1SCU1"));
+        //Then
+        assertThat(scd.getIED()).extracting(TIED::getName).containsExactly("SITESITE1SCU1");
+        assertThat(scd.getCommunication().getSubNetwork())
+                .flatExtracting(TSubNetwork::getConnectedAP)
+                .extracting(TConnectedAP::getIedName)
+                .isNotEmpty()
+                .containsOnly("SITESITE1SCU1");
+        Set<String> lnTypes = new SclRootAdapter(scd).getIEDAdapterByName("SITESITE1SCU1").streamLDeviceAdapters()
+                .flatMap(lDeviceAdapter -> lDeviceAdapter.getLNAdaptersIncludingLN0().stream())
+                .map(AbstractLNAdapter::getLnType)
+                .collect(Collectors.toSet());
+        assertThat(scd.getDataTypeTemplates().getLNodeType()).extracting(TLNodeType::getId).containsAll(lnTypes);
+        assertIsMarshallable(scd);
+    }
+
     @Test
     void importSTDElementsInSCD_whenManySTDMatchCompasICDHeader_shouldThrowException() {
         //Given
@@ -463,6 +614,56 @@ class SclServiceTest {
         assertThat(getLDeviceStatusValue(scl, "IedName3", "LDSUIED").get().getValue()).isEqualTo("off");
     }
 
+    @Test
+    void updateLDeviceStatus_withSclRootAdapterAndIedAdapters_shouldOnlyUpdateGivenIeds() {
+        // Given
+        SCL scl = SclTestMarshaller.getSCLFromFile("/scd-refresh-lnode/issue68_Test2_LD_STATUS_INACTIVE.scd");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
+        List<IEDAdapter> iedAdapters = sclRootAdapter.streamIEDAdapters()
+                .filter(iedAdapter -> !iedAdapter.getName().equals("IedName1"))
+                .toList();
+        // When
+        List<SclReportItem> sclReportItems = sclService.updateLDeviceStatus(sclRootAdapter, iedAdapters);
+        // Then
+        assertThat(sclReportItems)
+                .extracting(SclReportItem::xpath)
+                .containsExactly("/SCL/IED[@name=\"IedName2\"]/AccessPoint/Server/LDevice[@inst=\"LDSUIED\"]/LN0");
+        assertThat(getLDeviceStatusValue(scl, "IedName3", "LDSUIED").get().getValue()).isEqualTo("off");
+    }
+
+    @Test
+    void updateLDeviceStatus_whenFailFastReportSink_shouldStopAfterFirstError() {
+        // Given
+        SCL scl = SclTestMarshaller.getSCLFromFile("/scd-refresh-lnode/issue68_Test2_LD_STATUS_INACTIVE.scd");
+        ListReportSink listReportSink = new ListReportSink();
+        FailFastReportSink failFastReportSink = new FailFastReportSink(listReportSink);
+        // When
+        sclService.updateLDeviceStatus(scl, failFastReportSink);
+        // Then
+        assertThat(failFastReportSink.shouldAbort()).isTrue();
+        assertThat(listReportSink.getSclReportItems())
+                .extracting(SclReportItem::message, SclReportItem::xpath)
+                .containsExactly(Tuple.tuple("The LDevice cannot be set to 'off' but has not been selected into SSD.",
+                        "/SCL/IED[@name=\"IedName1\"]/AccessPoint/Server/LDevice[@inst=\"LDSUIED\"]/LN0"));
+    }
+
+    @Test
+    void updateLDeviceStatus_whenCappedReportSink_shouldUpdateEveryIed() {
+        // Given
+        SCL scl = SclTestMarshaller.getSCLFromFile("/scd-refresh-lnode/issue68_Test2_LD_STATUS_INACTIVE.scd");
+        ListReportSink listReportSink = new ListReportSink();
+        CappedReportSink cappedReportSink = new CappedReportSink(listReportSink, 0);
+        // When
+        sclService.updateLDeviceStatus(scl, cappedReportSink);
+        // Then
+        assertThat(listReportSink.getSclReportItems()).isEmpty();
+        assertThat(cappedReportSink.getDroppedCount()).isEqualTo(2);
+        assertThat(getLDeviceStatusValue(scl, "IedName1", "LDSUIED").get().getValue()).isEqualTo("off");
+        assertThat(getLDeviceStatusValue(scl, "IedName2", "LDSUIED").get().getValue()).isEqualTo("on");
+        assertThat(getLDeviceStatusValue(scl, "IedName3", "LDSUIED")).isPresent();
+        assertThat(getLDeviceStatusValue(scl, "IedName3", "LDSUIED").get().getValue()).isEqualTo("off");
+    }
+
     @Test
     void updateLDeviceStatus_shouldReturnUpdatedFile() {
         // Given
@@ -581,6 +782,22 @@ class SclServiceTest {
         assertThat(sclReportItems).hasSize(4);
     }
 
+    @Test
+    void updateDoInRef_whenParallel_shouldGiveSameResultAsSequential() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-test-update-inref/scd_update_inref_issue_231_test_ko.xml");
+        SCL sequentialScd = SclTestMarshaller.getSCLFromFile("/scd-test-update-inref/scd_update_inref_issue_231_test_ko.xml");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        SclService parallelSclService = new SclService(IedTaskExecutor.parallel(forkJoinPool));
+        // When
+        List<SclReportItem> sclReportItems = parallelSclService.updateDoInRef(scd);
+        List<SclReportItem> sequentialSclReportItems = sclService.updateDoInRef(sequentialScd);
+        forkJoinPool.shutdown();
+        // Then
+        assertThat(sclReportItems).containsExactlyElementsOf(sequentialSclReportItems);
+        assertThat(assertIsMarshallable(scd)).isEqualTo(assertIsMarshallable(sequentialScd));
+    }
+
     private Optional<TVal> getValFromDaiName(SCL scl, String iedName, String ldInst, String doiName, String daiName) {
         SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
         IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName(iedName);
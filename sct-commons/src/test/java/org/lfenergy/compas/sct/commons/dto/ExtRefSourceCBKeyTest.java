@@ -0,0 +1,51 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TExtRef;
+import org.lfenergy.compas.scl2007b4.model.TLLN0Enum;
+import org.lfenergy.compas.scl2007b4.model.TServiceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.lfenergy.compas.sct.commons.testhelpers.SclHelper.createExtRefExample;
+
+class ExtRefSourceCBKeyTest {
+
+    @Test
+    void from_should_normalize_blank_values_to_null() {
+        // Given
+        TExtRef tExtRef = createExtRefExample(" ", TServiceType.GOOSE);
+        tExtRef.setSrcPrefix("");
+        // When
+        ExtRefSourceCBKey result = ExtRefSourceCBKey.from(tExtRef);
+        // Then
+        assertThat(result).isEqualTo(new ExtRefSourceCBKey("IED_NAME_2", "Inst_2", TLLN0Enum.LLN_0.value(), "LN", null, null, TServiceType.GOOSE));
+    }
+
+    @Test
+    void from_when_same_control_block_should_give_equal_keys() {
+        // Given
+        TExtRef tExtRef1 = createExtRefExample("CB_1", TServiceType.SMV);
+        tExtRef1.getSrcLNClass().add(TLLN0Enum.LLN_0.value());
+        tExtRef1.setSrcPrefix(null);
+        TExtRef tExtRef2 = createExtRefExample("CB_1", TServiceType.SMV);
+        tExtRef2.setSrcPrefix("  ");
+        // When
+        ExtRefSourceCBKey key1 = ExtRefSourceCBKey.from(tExtRef1);
+        ExtRefSourceCBKey key2 = ExtRefSourceCBKey.from(tExtRef2);
+        // Then
+        assertThat(key1).isEqualTo(key2).hasSameHashCodeAs(key2);
+    }
+
+    @Test
+    void from_when_other_service_type_should_give_different_keys() {
+        // Given
+        TExtRef tExtRef1 = createExtRefExample("CB_1", TServiceType.SMV);
+        TExtRef tExtRef2 = createExtRefExample("CB_1", TServiceType.GOOSE);
+        // When Then
+        assertThat(ExtRefSourceCBKey.from(tExtRef1)).isNotEqualTo(ExtRefSourceCBKey.from(tExtRef2));
+    }
+}
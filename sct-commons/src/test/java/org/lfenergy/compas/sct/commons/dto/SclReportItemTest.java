@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SclReportItemTest {
+
+    @Test
+    void xpath_when_given_as_supplier_should_be_built_once_on_first_read() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        SclReportItem sclReportItem = SclReportItem.warning(() -> {
+            calls.incrementAndGet();
+            return "/SCL/IED[@name=\"IED_NAME\"]";
+        }, "message");
+        // When
+        int callsBeforeRead = calls.get();
+        String xpath1 = sclReportItem.xpath();
+        String xpath2 = sclReportItem.xpath();
+        // Then
+        assertThat(callsBeforeRead).isZero();
+        assertThat(xpath1).isEqualTo("/SCL/IED[@name=\"IED_NAME\"]").isSameAs(xpath2);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sclReportItem.isError()).isFalse();
+    }
+
+    @Test
+    void message_when_given_as_supplier_should_be_built_once_on_first_read() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        SclReportItem sclReportItem = SclReportItem.error(() -> "/SCL", () -> {
+            calls.incrementAndGet();
+            return "The DOI /SCL can't be bound with an ExtRef";
+        });
+        // When
+        int callsBeforeRead = calls.get();
+        String message1 = sclReportItem.message();
+        String message2 = sclReportItem.message();
+        // Then
+        assertThat(callsBeforeRead).isZero();
+        assertThat(message1).isEqualTo("The DOI /SCL can't be bound with an ExtRef").isSameAs(message2);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sclReportItem).isEqualTo(SclReportItem.error("/SCL", "The DOI /SCL can't be bound with an ExtRef"));
+    }
+
+    @Test
+    void equals_should_compare_built_xpath() {
+        // Given
+        SclReportItem lazySclReportItem = SclReportItem.error(() -> "/SCL", "message");
+        SclReportItem sclReportItem = SclReportItem.error("/SCL", "message");
+        // When Then
+        assertThat(lazySclReportItem).isEqualTo(sclReportItem)
+                .hasSameHashCodeAs(sclReportItem)
+                .hasToString("SclReportItem[xpath=/SCL, message=message, isError=true]")
+                .isNotEqualTo(SclReportItem.warning("/SCL", "message"));
+    }
+}
@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class InMemorySctMetricsTest {
+
+    @Test
+    void recordTimer_should_keep_count_total_and_max() {
+        // Given
+        InMemorySctMetrics sctMetrics = new InMemorySctMetrics();
+        // When
+        sctMetrics.recordTimer("timer", Duration.ofMillis(10));
+        sctMetrics.recordTimer("timer", Duration.ofMillis(30));
+        // Then
+        assertThat(sctMetrics.getTimer("timer")).hasValueSatisfying(timerStatistics -> {
+            assertThat(timerStatistics.count()).isEqualTo(2);
+            assertThat(timerStatistics.total()).isEqualTo(Duration.ofMillis(40));
+            assertThat(timerStatistics.max()).isEqualTo(Duration.ofMillis(30));
+            assertThat(timerStatistics.mean()).isEqualTo(Duration.ofMillis(20));
+        });
+        assertThat(sctMetrics.getTimer("unknown")).isEmpty();
+    }
+
+    @Test
+    void incrementCounter_should_sum_amounts() {
+        // Given
+        InMemorySctMetrics sctMetrics = new InMemorySctMetrics();
+        // When
+        sctMetrics.incrementCounter("b", 2);
+        sctMetrics.incrementCounter("b", 3);
+        sctMetrics.incrementCounter("a", 0);
+        // Then
+        assertThat(sctMetrics.getCounter("b")).isEqualTo(5);
+        assertThat(sctMetrics.getCounter("unknown")).isZero();
+        assertThat(sctMetrics.getCounters()).containsExactly(entry("a", 0L), entry("b", 5L));
+    }
+
+    @Test
+    void reset_should_remove_all_timers_and_counters() {
+        // Given
+        InMemorySctMetrics sctMetrics = new InMemorySctMetrics();
+        sctMetrics.incrementCounter("counter", 1);
+        sctMetrics.recordTimer("timer", Duration.ofMillis(1));
+        // When
+        sctMetrics.reset();
+        // Then
+        assertThat(sctMetrics.getCounters()).isEmpty();
+        assertThat(sctMetrics.getTimers()).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.api.ControlBlockEditor;
+import org.lfenergy.compas.sct.commons.api.SclEditor;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class MeteredEditorsTest {
+
+    @Test
+    void constructor_should_throw_exception() {
+        // When & Then
+        assertThatThrownBy(() -> ReflectionSupport.newInstance(MeteredEditors.class))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void sclEditor_when_metrics_not_enabled_should_return_same_editor() {
+        // Given
+        SclEditor sclEditor = mock(SclEditor.class);
+        // When
+        SclEditor result = MeteredEditors.sclEditor(sclEditor, NoOpSctMetrics.INSTANCE);
+        // Then
+        assertThat(result).isSameAs(sclEditor);
+    }
+
+    @Test
+    void sclEditor_should_record_timer_processed_elements_and_report_items() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-ldepf/scd_ldepf_manyIedSources_in_same_bay.xml");
+        SclEditor sclEditor = mock(SclEditor.class);
+        when(sclEditor.updateLDeviceStatus(scd)).thenReturn(List.of(SclReportItem.error("xpath", "error"),
+                SclReportItem.warning("xpath", "warning 1"), SclReportItem.warning("xpath", "warning 2")));
+        InMemorySctMetrics sctMetrics = new InMemorySctMetrics();
+        SclEditor meteredSclEditor = MeteredEditors.sclEditor(sclEditor, sctMetrics);
+        // When
+        List<SclReportItem> result = meteredSclEditor.updateLDeviceStatus(scd);
+        // Then
+        assertThat(result).hasSize(3);
+        verify(sclEditor).updateLDeviceStatus(scd);
+        assertThat(sctMetrics.getTimer("sct.SclEditor.updateLDeviceStatus")).hasValueSatisfying(timerStatistics ->
+                assertThat(timerStatistics.count()).isEqualTo(1));
+        assertThat(sctMetrics.getCounter("sct.SclEditor.updateLDeviceStatus.ieds")).isEqualTo(4);
+        assertThat(sctMetrics.getCounters()).doesNotContainKey("sct.SclEditor.updateLDeviceStatus.extrefs");
+        assertThat(sctMetrics.getCounter("sct.SclEditor.updateLDeviceStatus.report.errors")).isEqualTo(1);
+        assertThat(sctMetrics.getCounter("sct.SclEditor.updateLDeviceStatus.report.warnings")).isEqualTo(2);
+    }
+
+    @Test
+    void recordScdSize_should_record_size_of_scd_once() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-ldepf/scd_ldepf_manyIedSources_in_same_bay.xml");
+        InMemorySctMetrics sctMetrics = new InMemorySctMetrics();
+        // When
+        MeteredEditors.recordScdSize(scd, sctMetrics);
+        // Then
+        assertThat(sctMetrics.getCounter("sct.scd.count")).isEqualTo(1);
+        assertThat(sctMetrics.getCounter("sct.scd.ieds")).isEqualTo(4);
+        assertThat(sctMetrics.getCounter("sct.scd.extrefs")).isEqualTo(3);
+    }
+
+    @Test
+    void recordScdSize_when_metrics_not_enabled_should_not_walk_scd() {
+        // Given
+        SCL scd = mock(SCL.class);
+        // When
+        MeteredEditors.recordScdSize(scd, NoOpSctMetrics.INSTANCE);
+        // Then
+        verifyNoInteractions(scd);
+    }
+
+    @Test
+    void controlBlockEditor_when_operation_fails_should_record_failure_and_rethrow() {
+        // Given
+        SCL scd = new SCL();
+        ControlBlockEditor controlBlockEditor = mock(ControlBlockEditor.class);
+        doThrow(new ScdException("failure")).when(controlBlockEditor).removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd);
+        InMemorySctMetrics sctMetrics = new InMemorySctMetrics();
+        ControlBlockEditor meteredControlBlockEditor = MeteredEditors.controlBlockEditor(controlBlockEditor, sctMetrics);
+        // When & Then
+        assertThatThrownBy(() -> meteredControlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings(scd))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("failure");
+        assertThat(sctMetrics.getCounter("sct.ControlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings.failures")).isEqualTo(1);
+        assertThat(sctMetrics.getTimer("sct.ControlBlockEditor.removeAllControlBlocksAndDatasetsAndExtRefSrcBindings")).isPresent();
+    }
+}
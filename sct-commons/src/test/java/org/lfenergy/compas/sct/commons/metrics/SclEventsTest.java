@@ -0,0 +1,123 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TLDevice;
+import org.lfenergy.compas.sct.commons.LdeviceService;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SclEventsTest {
+
+    private static final SCL SCD = SclTestMarshaller.getSCLFromFile("/scd-ldepf/scd_ldepf_manyIedSources_in_same_bay.xml");
+
+    @Test
+    void events_when_enabled_should_be_recorded_with_element_counts(@TempDir Path tempDir) throws IOException {
+        // Given
+        TIED tied = SCD.getIED().getFirst();
+        TLDevice tlDevice = new LdeviceService().getLdevices(tied).findFirst().orElseThrow();
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("org.lfenergy.compas.sct.Step");
+            recording.enable("org.lfenergy.compas.sct.Ied");
+            recording.enable("org.lfenergy.compas.sct.LDevice");
+            recording.start();
+            SclStepEvent stepEvent = SclStepEvent.begin("step");
+            SclIedEvent iedEvent = SclIedEvent.begin("step", tied.getName());
+            SclLDeviceEvent lDeviceEvent = SclLDeviceEvent.begin("step", tied.getName(), tlDevice.getInst());
+            lDeviceEvent.end(tlDevice);
+            iedEvent.end(tied);
+            stepEvent.end(SCD);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(events).extracting(recordedEvent -> recordedEvent.getEventType().getName())
+                .containsExactlyInAnyOrder("org.lfenergy.compas.sct.LDevice", "org.lfenergy.compas.sct.Ied", "org.lfenergy.compas.sct.Step");
+        assertThat(events).allSatisfy(recordedEvent -> assertThat(recordedEvent.getString("step")).isEqualTo("step"));
+        RecordedEvent recordedStepEvent = findEvent(events, "org.lfenergy.compas.sct.Step");
+        assertThat(recordedStepEvent.getInt("iedCount")).isEqualTo(SCD.getIED().size());
+        RecordedEvent recordedIedEvent = findEvent(events, "org.lfenergy.compas.sct.Ied");
+        assertThat(recordedIedEvent.getString("iedName")).isEqualTo(tied.getName());
+        assertThat(recordedIedEvent.getInt("lDeviceCount")).isEqualTo(ElementCounter.countLDevices(tied));
+        RecordedEvent recordedLDeviceEvent = findEvent(events, "org.lfenergy.compas.sct.LDevice");
+        assertThat(recordedLDeviceEvent.getString("ldInst")).isEqualTo(tlDevice.getInst());
+        assertThat(recordedLDeviceEvent.getInt("lnCount")).isEqualTo(ElementCounter.countLNs(tlDevice));
+    }
+
+    @Test
+    void sclEvents_should_record_events_around_processing_and_not_commit_failed_one(@TempDir Path tempDir) throws IOException {
+        // Given
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(SCD);
+        IEDAdapter iedAdapter = sclRootAdapter.streamIEDAdapters().findFirst().orElseThrow();
+        LDeviceAdapter lDeviceAdapter = iedAdapter.streamLDeviceAdapters().findFirst().orElseThrow();
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        // When
+        String result;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.lfenergy.compas.sct.Step");
+            recording.enable("org.lfenergy.compas.sct.Ied");
+            recording.enable("org.lfenergy.compas.sct.LDevice");
+            recording.start();
+            result = SclEvents.step("step", SCD, () -> SclEvents.ied("step", iedAdapter,
+                    () -> SclEvents.lDevice("step", lDeviceAdapter, lDeviceAdapter::getInst)));
+            assertThatThrownBy(() -> SclEvents.step("failedStep", SCD, () -> {
+                throw new ScdException("step failed");
+            })).isInstanceOf(ScdException.class);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        // Then
+        assertThat(result).isEqualTo(lDeviceAdapter.getInst());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(events).extracting(recordedEvent -> recordedEvent.getEventType().getName())
+                .containsExactlyInAnyOrder("org.lfenergy.compas.sct.LDevice", "org.lfenergy.compas.sct.Ied", "org.lfenergy.compas.sct.Step");
+        assertThat(events).allSatisfy(recordedEvent -> assertThat(recordedEvent.getString("step")).isEqualTo("step"));
+        assertThat(findEvent(events, "org.lfenergy.compas.sct.Ied").getString("iedName")).isEqualTo(iedAdapter.getName());
+        assertThat(findEvent(events, "org.lfenergy.compas.sct.LDevice").getString("ldInst")).isEqualTo(lDeviceAdapter.getInst());
+    }
+
+    @Test
+    void events_when_not_enabled_should_not_be_recorded(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        // When
+        try (Recording recording = new Recording()) {
+            recording.start();
+            SclStepEvent.begin("step").end(SCD);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        // Then
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+                .noneMatch(recordedEvent -> recordedEvent.getEventType().getName().startsWith("org.lfenergy.compas.sct"));
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+                .filter(recordedEvent -> recordedEvent.getEventType().getName().equals(eventName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CappedReportSinkTest {
+
+    @Test
+    void report_should_forward_at_most_max_items_per_category() {
+        // Given
+        ListReportSink listReportSink = new ListReportSink();
+        CappedReportSink cappedReportSink = new CappedReportSink(listReportSink, 1);
+        // When
+        cappedReportSink.report(SclReportItem.error("/SCL/IED[1]", "error 1"));
+        cappedReportSink.report(SclReportItem.error("/SCL/IED[2]", "error 2"));
+        boolean wantsMoreItemsWhenErrorsFull = cappedReportSink.wantsMoreItems();
+        cappedReportSink.report(SclReportItem.warning("/SCL/IED[3]", "warning 1"));
+        cappedReportSink.report(SclReportItem.warning("/SCL/IED[4]", "warning 2"));
+        // Then
+        assertThat(wantsMoreItemsWhenErrorsFull).isTrue();
+        assertThat(cappedReportSink.wantsMoreItems()).isFalse();
+        assertThat(cappedReportSink.shouldAbort()).isFalse();
+        assertThat(cappedReportSink.getDroppedCount()).isEqualTo(2);
+        assertThat(listReportSink.getSclReportItems())
+                .extracting(SclReportItem::message)
+                .containsExactly("error 1", "warning 1");
+    }
+
+    @Test
+    void shouldAbort_should_only_follow_delegate() {
+        // Given
+        ListReportSink listReportSink = new ListReportSink();
+        CappedReportSink cappedReportSink = new CappedReportSink(new FailFastReportSink(listReportSink), 0);
+        // When
+        boolean abortBeforeError = cappedReportSink.shouldAbort();
+        cappedReportSink.report(SclReportItem.error("/SCL/IED[1]", "error 1"));
+        // Then
+        assertThat(abortBeforeError).isFalse();
+        assertThat(cappedReportSink.shouldAbort()).isFalse();
+        assertThat(cappedReportSink.wantsMoreItems()).isFalse();
+        assertThat(listReportSink.getSclReportItems()).isEmpty();
+    }
+
+    @Test
+    void constructor_when_max_is_negative_should_throw_exception() {
+        // Given
+        ListReportSink listReportSink = new ListReportSink();
+        // When Then
+        assertThatThrownBy(() -> new CappedReportSink(listReportSink, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
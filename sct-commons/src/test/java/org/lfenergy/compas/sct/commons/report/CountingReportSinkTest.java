@@ -0,0 +1,42 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingReportSinkTest {
+
+    @Test
+    void report_should_count_items_by_severity_without_keeping_them() {
+        // Given
+        CountingReportSink countingReportSink = new CountingReportSink();
+        // When
+        countingReportSink.report(SclReportItem.error("/SCL/IED[1]", "error 1"));
+        countingReportSink.report(SclReportItem.warning("/SCL/IED[2]", "warning 1"));
+        countingReportSink.report(SclReportItem.warning("/SCL/IED[3]", "warning 2"));
+        // Then
+        assertThat(countingReportSink.getErrorCount()).isEqualTo(1);
+        assertThat(countingReportSink.getWarningCount()).isEqualTo(2);
+        assertThat(countingReportSink.getCount()).isEqualTo(3);
+        assertThat(countingReportSink.wantsMoreItems()).isTrue();
+        assertThat(countingReportSink.shouldAbort()).isFalse();
+    }
+
+    @Test
+    void report_should_forward_items_and_stop_with_delegate() {
+        // Given
+        ListReportSink listReportSink = new ListReportSink();
+        CountingReportSink countingReportSink = new CountingReportSink(new FailFastReportSink(listReportSink));
+        // When
+        countingReportSink.report(SclReportItem.error("/SCL/IED[1]", "error 1"));
+        // Then
+        assertThat(countingReportSink.getErrorCount()).isEqualTo(1);
+        assertThat(countingReportSink.shouldAbort()).isTrue();
+        assertThat(listReportSink.getSclReportItems()).hasSize(1);
+    }
+}
@@ -0,0 +1,32 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FailFastReportSinkTest {
+
+    @Test
+    void report_should_forward_items_until_first_error() {
+        // Given
+        ListReportSink listReportSink = new ListReportSink();
+        FailFastReportSink failFastReportSink = new FailFastReportSink(listReportSink);
+        // When
+        failFastReportSink.report(SclReportItem.warning("/SCL/IED[1]", "warning 1"));
+        boolean abortAfterWarning = failFastReportSink.shouldAbort();
+        failFastReportSink.report(SclReportItem.error("/SCL/IED[2]", "error 1"));
+        failFastReportSink.report(SclReportItem.error("/SCL/IED[3]", "error 2"));
+        // Then
+        assertThat(abortAfterWarning).isFalse();
+        assertThat(failFastReportSink.shouldAbort()).isTrue();
+        assertThat(failFastReportSink.wantsMoreItems()).isFalse();
+        assertThat(listReportSink.getSclReportItems())
+                .extracting(SclReportItem::message)
+                .containsExactly("warning 1", "error 1");
+    }
+}
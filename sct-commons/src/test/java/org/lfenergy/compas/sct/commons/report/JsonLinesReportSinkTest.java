@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.report;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLinesReportSinkTest {
+
+    @Test
+    void report_should_write_one_json_object_per_line() throws IOException {
+        // Given
+        StringWriter writer = new StringWriter();
+        JsonLinesReportSink jsonLinesReportSink = new JsonLinesReportSink(writer);
+        // When
+        jsonLinesReportSink.report(SclReportItem.error("/SCL/IED[@name=\"IED_NAME\"]", "error 1"));
+        jsonLinesReportSink.report(SclReportItem.warning("/SCL", "warning 1"));
+        jsonLinesReportSink.close();
+        // Then
+        assertThat(writer.toString()).isEqualTo("""
+                {"severity":"ERROR","xpath":"/SCL/IED[@name=\\"IED_NAME\\"]","message":"error 1"}
+                {"severity":"WARNING","xpath":"/SCL","message":"warning 1"}
+                """);
+    }
+
+    @Test
+    void toFile_should_write_report_items_to_file(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path reportFile = tempDir.resolve("report.jsonl");
+        // When
+        try (JsonLinesReportSink jsonLinesReportSink = JsonLinesReportSink.toFile(reportFile)) {
+            jsonLinesReportSink.report(SclReportItem.warning("/SCL", "warning 1"));
+        }
+        // Then
+        assertThat(Files.readAllLines(reportFile))
+                .containsExactly("{\"severity\":\"WARNING\",\"xpath\":\"/SCL\",\"message\":\"warning 1\"}");
+    }
+}
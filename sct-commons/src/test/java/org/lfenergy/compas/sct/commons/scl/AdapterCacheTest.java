@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.sct.commons.scl.ied.IEDAdapter;
+import org.lfenergy.compas.sct.commons.scl.ldevice.LDeviceAdapter;
+import org.lfenergy.compas.sct.commons.scl.ln.LNAdapter;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdapterCacheTest {
+
+    @Test
+    void streamIEDAdapters_should_give_same_adapters_on_each_call() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        List<IEDAdapter> iedAdapters = sclRootAdapter.streamIEDAdapters().toList();
+        // When
+        List<IEDAdapter> result = sclRootAdapter.streamIEDAdapters().toList();
+        // Then
+        assertThat(result).hasSize(2);
+        for (int i = 0; i < result.size(); i++) {
+            assertThat(result.get(i)).isSameAs(iedAdapters.get(i));
+        }
+        assertThat(sclRootAdapter.findIedAdapterByName("IED_NAME2")).containsSame(iedAdapters.get(1));
+    }
+
+    @Test
+    void streamLDeviceAdapters_and_getLNAdapters_should_give_same_adapters_on_each_call() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME2");
+        LDeviceAdapter lDeviceAdapter = iedAdapter.streamLDeviceAdapters().findFirst().orElseThrow();
+        List<LNAdapter> lnAdapters = lDeviceAdapter.getLNAdapters();
+        // When
+        LDeviceAdapter result = iedAdapter.streamLDeviceAdapters().findFirst().orElseThrow();
+        // Then
+        assertThat(result).isSameAs(lDeviceAdapter);
+        assertThat(iedAdapter.findLDeviceAdapterByLdInst("LD_INST21")).containsSame(lDeviceAdapter);
+        assertThat(result.getLN0Adapter()).isSameAs(lDeviceAdapter.getLN0Adapter());
+        assertThat(lnAdapters).isNotEmpty();
+        assertThat(result.getLNAdapters().getFirst()).isSameAs(lnAdapters.getFirst());
+    }
+
+    @Test
+    void getOrCreate_when_parent_adapter_differs_should_create_new_adapter() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        AdapterCache adapterCache = new AdapterCache();
+        TIED tied = scd.getIED().getFirst();
+        IEDAdapter iedAdapter = adapterCache.getOrCreate(sclRootAdapter, tied, IEDAdapter::new);
+        // When
+        IEDAdapter result = adapterCache.getOrCreate(new SclRootAdapter(scd), tied, IEDAdapter::new);
+        // Then
+        assertThat(result).isNotSameAs(iedAdapter);
+        assertThat(adapterCache.getOrCreate(result.getParentAdapter(), tied, IEDAdapter::new)).isSameAs(result);
+    }
+
+    @Test
+    void getOrCreate_after_invalidate_should_create_new_adapter() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME1");
+        // When
+        sclRootAdapter.getAdapterCache().invalidate();
+        // Then
+        assertThat(sclRootAdapter.getIEDAdapterByName("IED_NAME1")).isNotSameAs(iedAdapter);
+    }
+
+    @Test
+    void getOrCreate_after_invalidate_of_element_should_only_create_new_adapter_for_this_element() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter1 = sclRootAdapter.getIEDAdapterByName("IED_NAME1");
+        IEDAdapter iedAdapter2 = sclRootAdapter.getIEDAdapterByName("IED_NAME2");
+        // When
+        sclRootAdapter.getAdapterCache().invalidate(iedAdapter1.getCurrentElem());
+        // Then
+        assertThat(sclRootAdapter.getIEDAdapterByName("IED_NAME1")).isNotSameAs(iedAdapter1);
+        assertThat(sclRootAdapter.getIEDAdapterByName("IED_NAME2")).isSameAs(iedAdapter2);
+    }
+
+    @Test
+    void getIEDAdapter_getLDeviceAdapter_and_getAccessPointAdapter_should_give_cached_adapters() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME2");
+        LDeviceAdapter lDeviceAdapter = iedAdapter.streamLDeviceAdapters().findFirst().orElseThrow();
+        // When
+        IEDAdapter resultIedAdapter = sclRootAdapter.getIEDAdapter(iedAdapter.getCurrentElem());
+        LDeviceAdapter resultLDeviceAdapter = resultIedAdapter.getLDeviceAdapter(lDeviceAdapter.getCurrentElem());
+        // Then
+        assertThat(resultIedAdapter).isSameAs(iedAdapter);
+        assertThat(resultLDeviceAdapter).isSameAs(lDeviceAdapter);
+        assertThat(lDeviceAdapter.getAccessPointAdapter()).isSameAs(resultLDeviceAdapter.getAccessPointAdapter());
+        assertThat(lDeviceAdapter.getAccessPointAdapter().getParentAdapter()).isSameAs(iedAdapter);
+    }
+
+    @Test
+    void streamLDeviceAdapters_when_parent_is_not_attached_to_a_cache_should_create_new_adapters() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scl-ln-adapter/scd_with_ln.xml");
+        SclRootAdapter sclRootAdapter = mock(SclRootAdapter.class);
+        when(sclRootAdapter.getCurrentElem()).thenReturn(scd);
+        IEDAdapter iedAdapter = new IEDAdapter(sclRootAdapter, scd.getIED().getLast());
+        LDeviceAdapter lDeviceAdapter = iedAdapter.streamLDeviceAdapters().findFirst().orElseThrow();
+        // When
+        LDeviceAdapter result = iedAdapter.streamLDeviceAdapters().findFirst().orElseThrow();
+        // Then
+        assertThat(result).isNotSameAs(lDeviceAdapter);
+        assertThat(result.getCurrentElem()).isSameAs(lDeviceAdapter.getCurrentElem());
+    }
+}
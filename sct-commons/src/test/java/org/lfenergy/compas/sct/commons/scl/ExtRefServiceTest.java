@@ -13,6 +13,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.util.CompasPrivateCache;
 import org.lfenergy.compas.sct.commons.util.PrivateEnum;
 
 import java.util.List;
@@ -102,6 +103,28 @@ class ExtRefServiceTest {
                 .containsExactly(Tuple.tuple("Desc_1", "IED_Name_1"));
     }
 
+    @Test
+    void getMatchingCompasFlows_with_cache_should_extract_compasFlows_once_per_inputs() {
+        //Given
+        TInputs tInputs = new TInputs();
+        TExtRef tExtRef1 = createExtRef("Desc_1", "IED_Name_1", "LD_INST_1");
+        TExtRef tExtRef2 = createExtRef("Desc_2", "IED_Name_2", "LD_INST_2");
+        tInputs.getExtRef().addAll(List.of(tExtRef1, tExtRef2));
+        TCompasFlow tCompasFlow1 = createCompasFlow("Desc_1", "IED_Name_1", "LD_INST_1");
+        TCompasFlow tCompasFlow2 = createCompasFlow("Desc_2", "IED_Name_2", "LD_INST_2");
+        tInputs.getPrivate().add(createPrivateCompasFlow(List.of(tCompasFlow1, tCompasFlow2)));
+        CompasPrivateCache compasPrivateCache = new CompasPrivateCache();
+        //When
+        List<TCompasFlow> matchingCompasFlows1 = extRefService.getMatchingCompasFlows(compasPrivateCache, tInputs, tExtRef1).toList();
+        List<TCompasFlow> matchingCompasFlows2 = extRefService.getMatchingCompasFlows(compasPrivateCache, tInputs, tExtRef2).toList();
+        //Then
+        assertThat(matchingCompasFlows1).containsExactly(tCompasFlow1);
+        assertThat(matchingCompasFlows2).containsExactly(tCompasFlow2);
+        assertThat(compasPrivateCache.getCompasPrivates(tInputs, TCompasFlow.class))
+                .isSameAs(compasPrivateCache.getCompasPrivates(tInputs, TCompasFlow.class))
+                .containsExactly(tCompasFlow1, tCompasFlow2);
+    }
+
     @Test
     void getMatchingExtRefs_should_succeed() {
         //Given
@@ -244,6 +267,21 @@ class ExtRefServiceTest {
                 .hasSize(6);
     }
 
+    @Test
+    void filterDuplicatedExtRefs_should_keep_first_extref_of_each_control_block_when_blank_values() {
+        // Given
+        TExtRef tExtRef1 = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRef1.setSrcPrefix(null);
+        TExtRef tExtRef2 = createExtRefExample("CB_2", TServiceType.GOOSE);
+        TExtRef tExtRef3 = createExtRefExample("CB_1", TServiceType.GOOSE);
+        tExtRef3.setSrcPrefix(" ");
+        List<TExtRef> tExtRefList = List.of(tExtRef1, tExtRef2, tExtRef3);
+        // When
+        List<TExtRef> result = extRefService.filterDuplicatedExtRefs(tExtRefList);
+        // Then
+        assertThat(result).containsExactly(tExtRef1, tExtRef2);
+    }
+
     private static TPrivate createPrivateCompasFlow(List<TCompasFlow> compasFlows) {
         TPrivate tPrivate = new TPrivate();
         tPrivate.setType(PrivateEnum.COMPAS_FLOW.getPrivateType());
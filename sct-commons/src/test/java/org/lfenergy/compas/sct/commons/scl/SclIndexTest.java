@@ -0,0 +1,285 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SclIndexTest {
+
+    @Test
+    void findIed_should_return_first_ied_with_given_name() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = createIed("IED_NAME_1");
+        TIED ied2 = createIed("IED_NAME_2");
+        TIED ied2Duplicate = createIed("IED_NAME_2");
+        scl.getIED().addAll(List.of(ied1, ied2, ied2Duplicate));
+        SclIndex sclIndex = new SclIndex(scl);
+        // When
+        Optional<TIED> result = sclIndex.findIed("IED_NAME_2");
+        // Then
+        assertThat(result).containsSame(ied2);
+        assertThat(sclIndex.findIed("UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    void findIed_should_see_ied_added_or_renamed_after_first_lookup() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = createIed("IED_NAME_1");
+        scl.getIED().add(ied1);
+        SclIndex sclIndex = new SclIndex(scl);
+        assertThat(sclIndex.findIed("IED_NAME_1")).containsSame(ied1);
+        TIED ied2 = createIed("IED_NAME_2");
+        // When
+        scl.getIED().add(ied2);
+        ied1.setName("IED_NAME_3");
+        // Then
+        assertThat(sclIndex.findIed("IED_NAME_2")).containsSame(ied2);
+        assertThat(sclIndex.findIed("IED_NAME_1")).isEmpty();
+        assertThat(sclIndex.findIed("IED_NAME_3")).containsSame(ied1);
+    }
+
+    @Test
+    void onIedAdded_should_register_added_ied() {
+        // Given
+        SCL scl = new SCL();
+        scl.getIED().add(createIed("IED_NAME_1"));
+        SclIndex sclIndex = new SclIndex(scl);
+        assertThat(sclIndex.findIed("IED_NAME_2")).isEmpty();
+        TIED ied2 = createIed("IED_NAME_2");
+        scl.getIED().add(ied2);
+        // When
+        sclIndex.onIedAdded(ied2);
+        // Then
+        assertThat(sclIndex.findIed("IED_NAME_2")).containsSame(ied2);
+        assertThat(sclIndex.isIndexedIed(ied2)).isTrue();
+    }
+
+    @Test
+    void findLDevice_should_return_ldevice_of_given_ied() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = createIed("IED_NAME_1");
+        TLDevice ld1 = addLDevice(ied1, "LD_INST");
+        TIED ied2 = createIed("IED_NAME_2");
+        TLDevice ld2 = addLDevice(ied2, "LD_INST");
+        scl.getIED().add(ied1);
+        scl.getIED().add(ied2);
+        SclIndex sclIndex = new SclIndex(scl);
+        // When
+        Optional<TLDevice> result = sclIndex.findLDevice("IED_NAME_2", "LD_INST");
+        // Then
+        assertThat(result).containsSame(ld2);
+        assertThat(sclIndex.findLDevice(ied1, "LD_INST")).containsSame(ld1);
+        assertThat(sclIndex.findLDevice("IED_NAME_2", "UNKNOWN")).isEmpty();
+        assertThat(sclIndex.findLDevice("UNKNOWN", "LD_INST")).isEmpty();
+    }
+
+    @Test
+    void findLDevice_should_see_ldevice_added_after_first_lookup() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied = createIed("IED_NAME");
+        addLDevice(ied, "LD_INST_1");
+        scl.getIED().add(ied);
+        SclIndex sclIndex = new SclIndex(scl);
+        assertThat(sclIndex.findLDevice(ied, "LD_INST_2")).isEmpty();
+        // When
+        TLDevice ld2 = addLDevice(ied, "LD_INST_2");
+        // Then
+        assertThat(sclIndex.findLDevice(ied, "LD_INST_2")).containsSame(ld2);
+    }
+
+    @Test
+    void findLn_should_consider_blank_prefix_as_equal() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN ln1 = createLn("LGOS", "1", null);
+        TLN ln2 = createLn("LGOS", "1", "PREFIX");
+        tlDevice.getLN().add(ln1);
+        tlDevice.getLN().add(ln2);
+        SclIndex sclIndex = new SclIndex(new SCL());
+        // When Then
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", "")).containsSame(ln1);
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", null)).containsSame(ln1);
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", "PREFIX")).containsSame(ln2);
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "2", null)).isEmpty();
+    }
+
+    @Test
+    void findLn_should_see_ln_removed_or_added_after_first_lookup() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN ln1 = createLn("LGOS", "1", null);
+        tlDevice.getLN().add(ln1);
+        SclIndex sclIndex = new SclIndex(new SCL());
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", null)).containsSame(ln1);
+        // When
+        tlDevice.unsetLN();
+        TLN ln2 = createLn("LSVS", "1", null);
+        tlDevice.getLN().add(ln2);
+        // Then
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", null)).isEmpty();
+        assertThat(sclIndex.findLn(tlDevice, "LSVS", "1", null)).containsSame(ln2);
+    }
+
+    @Test
+    void findIed_when_ied_renamed_without_list_change_should_find_new_name_after_onIedRenamed() {
+        // Given
+        SCL scl = new SCL();
+        TIED ied1 = createIed("IED_NAME_1");
+        scl.getIED().add(ied1);
+        SclIndex sclIndex = new SclIndex(scl);
+        assertThat(sclIndex.findIed("IED_NAME_1")).containsSame(ied1);
+        // When
+        ied1.setName("IED_NAME_2");
+        sclIndex.onIedRenamed(ied1);
+        // Then
+        assertThat(sclIndex.findIed("IED_NAME_2")).containsSame(ied1);
+        assertThat(sclIndex.findIed("IED_NAME_1")).isEmpty();
+    }
+
+    @Test
+    void setIEDName_should_make_ied_found_by_its_new_name() {
+        // Given
+        SCL scl = new SCL();
+        scl.setHeader(new THeader());
+        TIED ied1 = createIed("IED_NAME_1");
+        scl.getIED().add(ied1);
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scl);
+        assertThat(sclRootAdapter.findIedAdapterByName("IED_NAME_1")).isPresent();
+        // When
+        sclRootAdapter.getIEDAdapterByName("IED_NAME_1").setIEDName("IED_NAME_2");
+        // Then
+        assertThat(sclRootAdapter.findIedAdapterByName("IED_NAME_2")).isPresent();
+        assertThat(sclRootAdapter.findIedAdapterByName("IED_NAME_1")).isEmpty();
+    }
+
+    @Test
+    void findLn_should_match_blank_lnClass_and_never_match_null_inst_like_linear_search() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN lnWithoutLnClass = new TLN();
+        lnWithoutLnClass.setInst("1");
+        TLN lnWithBlankLnClass = createLn(" ", "2", null);
+        TLN lnWithNullInst = createLn("LGOS", null, null);
+        tlDevice.getLN().addAll(List.of(lnWithoutLnClass, lnWithBlankLnClass, lnWithNullInst));
+        SclIndex sclIndex = new SclIndex(new SCL());
+        // When Then
+        assertThat(sclIndex.findLn(tlDevice, null, "1", null)).containsSame(lnWithoutLnClass);
+        assertThat(sclIndex.findLn(tlDevice, "", "1", "")).containsSame(lnWithoutLnClass);
+        assertThat(sclIndex.findLn(tlDevice, null, "2", null)).containsSame(lnWithBlankLnClass);
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", null, null)).isEmpty();
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "", null)).isEmpty();
+    }
+
+    @Test
+    void findLn_when_ln_with_several_lnClass_is_before_searched_ln_should_throw_exception_like_linear_search() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN ln1 = createLn("LGOS", "1", null);
+        TLN lnWithSeveralLnClass = createLn("LGOS", "2", null);
+        lnWithSeveralLnClass.getLnClass().add("LSVS");
+        TLN ln3 = createLn("LSVS", "3", null);
+        tlDevice.getLN().addAll(List.of(ln1, lnWithSeveralLnClass, ln3));
+        SclIndex sclIndex = new SclIndex(new SCL());
+        // When Then
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", null)).containsSame(ln1);
+        assertThatThrownBy(() -> sclIndex.findLn(tlDevice, "LSVS", "3", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("lnClass can only have a single value");
+        assertThatThrownBy(() -> sclIndex.findLn(tlDevice, "LGOS", "4", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findLn_when_ln_renamed_should_find_new_inst_after_onLnsChanged() {
+        // Given
+        TLDevice tlDevice = new TLDevice();
+        TLN ln1 = createLn("LGOS", "1", null);
+        tlDevice.getLN().add(ln1);
+        SclIndex sclIndex = new SclIndex(new SCL());
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", null)).containsSame(ln1);
+        // When
+        ln1.setInst("2");
+        sclIndex.onLnsChanged(tlDevice);
+        // Then
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "2", null)).containsSame(ln1);
+        assertThat(sclIndex.findLn(tlDevice, "LGOS", "1", null)).isEmpty();
+    }
+
+    @Test
+    void findConnectedAP_should_return_connectedAp_with_its_subNetwork() {
+        // Given
+        SCL scl = new SCL();
+        TSubNetwork tSubNetwork1 = createSubNetwork("IED_NAME_1", "AP_NAME");
+        TSubNetwork tSubNetwork2 = createSubNetwork("IED_NAME_2", "AP_NAME");
+        scl.setCommunication(new TCommunication());
+        scl.getCommunication().getSubNetwork().add(tSubNetwork1);
+        scl.getCommunication().getSubNetwork().add(tSubNetwork2);
+        SclIndex sclIndex = new SclIndex(scl);
+        // When
+        Optional<SclIndex.IndexedConnectedAP> result = sclIndex.findConnectedAP("IED_NAME_2", "AP_NAME");
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().subNetwork()).isSameAs(tSubNetwork2);
+        assertThat(result.get().connectedAP()).isSameAs(tSubNetwork2.getConnectedAP().getFirst());
+        assertThat(sclIndex.findConnectedAP("IED_NAME_2", "UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    void findConnectedAP_should_return_empty_when_no_communication() {
+        // Given
+        SclIndex sclIndex = new SclIndex(new SCL());
+        // When
+        Optional<SclIndex.IndexedConnectedAP> result = sclIndex.findConnectedAP("IED_NAME", "AP_NAME");
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    private static TIED createIed(String iedName) {
+        TIED tied = new TIED();
+        tied.setName(iedName);
+        return tied;
+    }
+
+    private static TLDevice addLDevice(TIED tied, String ldInst) {
+        if (tied.getAccessPoint().isEmpty()) {
+            TAccessPoint tAccessPoint = new TAccessPoint();
+            tAccessPoint.setName("AP_NAME");
+            tAccessPoint.setServer(new TServer());
+            tied.getAccessPoint().add(tAccessPoint);
+        }
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst(ldInst);
+        tied.getAccessPoint().getFirst().getServer().getLDevice().add(tlDevice);
+        return tlDevice;
+    }
+
+    private static TLN createLn(String lnClass, String lnInst, String prefix) {
+        TLN tln = new TLN();
+        tln.getLnClass().add(lnClass);
+        tln.setInst(lnInst);
+        tln.setPrefix(prefix);
+        return tln;
+    }
+
+    private static TSubNetwork createSubNetwork(String iedName, String apName) {
+        TSubNetwork tSubNetwork = new TSubNetwork();
+        TConnectedAP tConnectedAP = new TConnectedAP();
+        tConnectedAP.setIedName(iedName);
+        tConnectedAP.setApName(apName);
+        tSubNetwork.getConnectedAP().add(tConnectedAP);
+        return tSubNetwork;
+    }
+}
@@ -16,6 +16,7 @@ import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -512,6 +513,115 @@ class DataTypeTemplateAdapterTest {
         assertThat(rcvDttAdapter.getDATypeAdapters()).hasSizeGreaterThan(nbDAType);
     }
 
+    @Test
+    void importDTT_whenSameContentWithOtherIds_shouldReuseExistingTypes() {
+        // Given
+        DataTypeTemplateAdapter rcvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "value"));
+        DataTypeTemplateAdapter prvDttAdapter = initDttAdapter(createDttWithNestedTypes("_2", "value"));
+        // When
+        Map<String, String> mapOldNewId = rcvDttAdapter.importDTT("IEDName", prvDttAdapter);
+        // Then
+        TDataTypeTemplates rcvDtt = rcvDttAdapter.getCurrentElem();
+        assertThat(rcvDtt.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM_1");
+        assertThat(rcvDtt.getDAType()).extracting(TDAType::getId).containsExactly("DA_1");
+        assertThat(rcvDtt.getDOType()).extracting(TDOType::getId).containsExactly("DO_1");
+        assertThat(rcvDtt.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN_1");
+        assertThat(mapOldNewId).containsExactly(entry("LN_2", "LN_1"));
+    }
+
+    @Test
+    void importDTT_whenSameIdsAndDifferentNestedContent_shouldRenameAllReferencingTypes() {
+        // Given
+        DataTypeTemplateAdapter rcvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "value"));
+        DataTypeTemplateAdapter prvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "otherValue"));
+        // When
+        Map<String, String> mapOldNewId = rcvDttAdapter.importDTT("IEDName", prvDttAdapter);
+        // Then
+        TDataTypeTemplates rcvDtt = rcvDttAdapter.getCurrentElem();
+        assertThat(rcvDtt.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM_1", "IEDName_ENUM_1");
+        assertThat(rcvDtt.getDAType()).extracting(TDAType::getId).containsExactly("DA_1", "IEDName_DA_1");
+        assertThat(rcvDtt.getDOType()).extracting(TDOType::getId).containsExactly("DO_1", "IEDName_DO_1");
+        assertThat(rcvDtt.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN_1", "IEDName_LN_1");
+        assertThat(rcvDtt.getDAType().get(1).getBDA().getFirst().getType()).isEqualTo("IEDName_ENUM_1");
+        assertThat(((TDA) rcvDtt.getDOType().get(1).getSDOOrDA().getFirst()).getType()).isEqualTo("IEDName_DA_1");
+        assertThat(rcvDtt.getLNodeType().get(1).getDO().getFirst().getType()).isEqualTo("IEDName_DO_1");
+        assertThat(mapOldNewId).containsExactly(entry("LN_1", "IEDName_LN_1"));
+    }
+
+    @Test
+    void importDTT_withPreparedDtt_shouldRenameAllReferencingTypes() {
+        // Given
+        DataTypeTemplateAdapter rcvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "value"));
+        PreparedDataTypeTemplate preparedDtt = initDttAdapter(createDttWithNestedTypes("_1", "otherValue")).prepareImport();
+        // When
+        Map<String, String> mapOldNewId = rcvDttAdapter.importDTT("IEDName", preparedDtt);
+        // Then
+        TDataTypeTemplates rcvDtt = rcvDttAdapter.getCurrentElem();
+        assertThat(rcvDtt.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM_1", "IEDName_ENUM_1");
+        assertThat(rcvDtt.getLNodeType().get(1).getDO().getFirst().getType()).isEqualTo("IEDName_DO_1");
+        assertThat(mapOldNewId).containsExactly(entry("LN_1", "IEDName_LN_1"));
+    }
+
+    @Test
+    void importDTT_whenPreparedDttAlreadyImported_shouldThrowException() {
+        // Given
+        DataTypeTemplateAdapter rcvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "value"));
+        PreparedDataTypeTemplate preparedDtt = initDttAdapter(createDttWithNestedTypes("_1", "otherValue")).prepareImport();
+        rcvDttAdapter.importDTT("IEDName", preparedDtt);
+        // When Then
+        assertThatThrownBy(() -> rcvDttAdapter.importDTT("IEDName", preparedDtt))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void importDTT_withSameReceivingDtt_shouldReuseTypesAddedByPreviousImport() {
+        // Given
+        DataTypeTemplateAdapter rcvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "value"));
+        ReceivingDataTypeTemplate receivingDtt = rcvDttAdapter.prepareReceiving();
+        rcvDttAdapter.importDTT("IEDName", initDttAdapter(createDttWithNestedTypes("_1", "otherValue")).prepareImport(), receivingDtt);
+        PreparedDataTypeTemplate otherPreparedDtt = initDttAdapter(createDttWithNestedTypes("_2", "otherValue")).prepareImport();
+        // When
+        Map<String, String> mapOldNewId = rcvDttAdapter.importDTT("OtherIEDName", otherPreparedDtt, receivingDtt);
+        // Then
+        TDataTypeTemplates rcvDtt = rcvDttAdapter.getCurrentElem();
+        assertThat(rcvDtt.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM_1", "IEDName_ENUM_1");
+        assertThat(rcvDtt.getDAType()).extracting(TDAType::getId).containsExactly("DA_1", "IEDName_DA_1");
+        assertThat(rcvDtt.getDOType()).extracting(TDOType::getId).containsExactly("DO_1", "IEDName_DO_1");
+        assertThat(rcvDtt.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN_1", "IEDName_LN_1");
+        assertThat(mapOldNewId).containsExactly(entry("LN_2", "IEDName_LN_1"));
+    }
+
+    @Test
+    void importDTT_whenReceivingDttPreparedForAnotherDtt_shouldThrowException() {
+        // Given
+        DataTypeTemplateAdapter rcvDttAdapter = initDttAdapter(createDttWithNestedTypes("_1", "value"));
+        ReceivingDataTypeTemplate otherReceivingDtt = initDttAdapter(createDttWithNestedTypes("_1", "value")).prepareReceiving();
+        PreparedDataTypeTemplate preparedDtt = initDttAdapter(createDttWithNestedTypes("_1", "otherValue")).prepareImport();
+        // When Then
+        assertThatThrownBy(() -> rcvDttAdapter.importDTT("IEDName", preparedDtt, otherReceivingDtt))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void copyTypesUsedBy_shouldCopyOnlyTypesReachableFromGivenLNodeTypes() {
+        // Given
+        TDataTypeTemplates tDataTypeTemplates = createDttWithNestedTypes("_1", "value");
+        TDataTypeTemplates otherTypes = createDttWithNestedTypes("_2", "value");
+        tDataTypeTemplates.getEnumType().addAll(otherTypes.getEnumType());
+        tDataTypeTemplates.getDAType().addAll(otherTypes.getDAType());
+        tDataTypeTemplates.getDOType().addAll(otherTypes.getDOType());
+        tDataTypeTemplates.getLNodeType().addAll(otherTypes.getLNodeType());
+        DataTypeTemplateAdapter dttAdapter = initDttAdapter(tDataTypeTemplates);
+        // When
+        TDataTypeTemplates result = dttAdapter.copyTypesUsedBy(List.of("LN_1", "UNKNOWN"));
+        // Then
+        assertThat(result.getLNodeType()).extracting(TLNodeType::getId).containsExactly("LN_1");
+        assertThat(result.getDOType()).extracting(TDOType::getId).containsExactly("DO_1");
+        assertThat(result.getDAType()).extracting(TDAType::getId).containsExactly("DA_1");
+        assertThat(result.getEnumType()).extracting(TEnumType::getId).containsExactly("ENUM_1");
+        assertThat(result.getLNodeType().getFirst()).isNotSameAs(tDataTypeTemplates.getLNodeType().getFirst());
+    }
+
     @ParameterizedTest
     @CsvSource({"A,LN1,No coherence or path between DOType(DO2) and DA(A)",
             "antRef,LN1,Invalid ExtRef signal: no coherence between pDO(Op.origin) and pDA(antRef)",
@@ -0,0 +1,78 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.dtt;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+import org.lfenergy.compas.scl2007b4.model.TEnumType;
+import org.lfenergy.compas.scl2007b4.model.TEnumVal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.lfenergy.compas.sct.commons.scl.dtt.DataTypeTemplateTestUtils.*;
+
+class DataTypeTemplateFingerprintsTest {
+
+    @Test
+    void of_whenSameContentWithOtherIds_shouldReturnSameFingerprints() {
+        // Given
+        TDataTypeTemplates dtt1 = createDttWithNestedTypes("_1", "value");
+        TDataTypeTemplates dtt2 = createDttWithNestedTypes("_2", "value");
+        DataTypeTemplateFingerprints fingerprints1 = new DataTypeTemplateFingerprints(dtt1);
+        DataTypeTemplateFingerprints fingerprints2 = new DataTypeTemplateFingerprints(dtt2);
+        // When Then
+        assertThat(fingerprints1.of(dtt1.getEnumType().getFirst())).isEqualTo(fingerprints2.of(dtt2.getEnumType().getFirst()));
+        assertThat(fingerprints1.of(dtt1.getDAType().getFirst())).isEqualTo(fingerprints2.of(dtt2.getDAType().getFirst()));
+        assertThat(fingerprints1.of(dtt1.getDOType().getFirst())).isEqualTo(fingerprints2.of(dtt2.getDOType().getFirst()));
+        assertThat(fingerprints1.of(dtt1.getLNodeType().getFirst())).isEqualTo(fingerprints2.of(dtt2.getLNodeType().getFirst()));
+    }
+
+    @Test
+    void of_whenReferencedTypeDiffers_shouldReturnDifferentFingerprintsUpToLNodeType() {
+        // Given
+        TDataTypeTemplates dtt1 = createDttWithNestedTypes("_1", "value");
+        TDataTypeTemplates dtt2 = createDttWithNestedTypes("_1", "otherValue");
+        DataTypeTemplateFingerprints fingerprints1 = new DataTypeTemplateFingerprints(dtt1);
+        DataTypeTemplateFingerprints fingerprints2 = new DataTypeTemplateFingerprints(dtt2);
+        // When Then
+        assertThat(fingerprints1.of(dtt1.getDAType().getFirst())).isNotEqualTo(fingerprints2.of(dtt2.getDAType().getFirst()));
+        assertThat(fingerprints1.of(dtt1.getDOType().getFirst())).isNotEqualTo(fingerprints2.of(dtt2.getDOType().getFirst()));
+        assertThat(fingerprints1.of(dtt1.getLNodeType().getFirst())).isNotEqualTo(fingerprints2.of(dtt2.getLNodeType().getFirst()));
+    }
+
+    @Test
+    void of_whenEnumValsInOtherOrder_shouldReturnSameFingerprint() {
+        // Given
+        TDataTypeTemplates dtt1 = createDttWithNestedTypes("_1", "value");
+        TDataTypeTemplates dtt2 = createDttWithNestedTypes("_1", "value");
+        dtt1.getEnumType().getFirst().getEnumVal().add(createEnumVal(1, "value1"));
+        dtt2.getEnumType().getFirst().getEnumVal().addFirst(createEnumVal(1, "value1"));
+        // When
+        String fingerprint1 = new DataTypeTemplateFingerprints(dtt1).of(dtt1.getEnumType().getFirst());
+        String fingerprint2 = new DataTypeTemplateFingerprints(dtt2).of(dtt2.getEnumType().getFirst());
+        // Then
+        assertThat(fingerprint1).isEqualTo(fingerprint2);
+    }
+
+    @Test
+    void register_shouldResolveReferencesToRegisteredTypeAsIfItWasThereFromTheStart() {
+        // Given
+        TDataTypeTemplates dtt = createDttWithNestedTypes("_1", "value");
+        TEnumType tEnumType = dtt.getEnumType().removeFirst();
+        DataTypeTemplateFingerprints fingerprints = new DataTypeTemplateFingerprints(dtt);
+        dtt.getEnumType().add(tEnumType);
+        DataTypeTemplateFingerprints expectedFingerprints = new DataTypeTemplateFingerprints(dtt);
+        // When
+        fingerprints.register(tEnumType, expectedFingerprints.of(tEnumType));
+        // Then
+        assertThat(fingerprints.of(dtt.getDAType().getFirst())).isEqualTo(expectedFingerprints.of(dtt.getDAType().getFirst()));
+    }
+
+    private static TEnumVal createEnumVal(int ord, String value) {
+        TEnumVal tEnumVal = new TEnumVal();
+        tEnumVal.setOrd(ord);
+        tEnumVal.setValue(value);
+        return tEnumVal;
+    }
+}
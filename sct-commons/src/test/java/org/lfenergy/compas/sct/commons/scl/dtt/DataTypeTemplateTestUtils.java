@@ -5,8 +5,7 @@
 package org.lfenergy.compas.sct.commons.scl.dtt;
 
 import lombok.experimental.UtilityClass;
-import org.lfenergy.compas.scl2007b4.model.SCL;
-import org.lfenergy.compas.scl2007b4.model.TDataTypeTemplates;
+import org.lfenergy.compas.scl2007b4.model.*;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 
@@ -29,4 +28,59 @@ public class DataTypeTemplateTestUtils {
         return SclTestMarshaller.getSCLFromFile(fileName).getDataTypeTemplates();
     }
 
+    /**
+     * Creates a DataTypeTemplates with one type of each kind, each type referencing the next one :
+     * LNodeType LN{idSuffix} -> DOType DO{idSuffix} -> DAType DA{idSuffix} -> EnumType ENUM{idSuffix}
+     * @param idSuffix suffix of the id of the types
+     * @param enumValue value of the only EnumVal of the EnumType
+     * @return created DataTypeTemplates
+     */
+    public static TDataTypeTemplates createDttWithNestedTypes(String idSuffix, String enumValue) {
+        TEnumVal tEnumVal = new TEnumVal();
+        tEnumVal.setOrd(0);
+        tEnumVal.setValue(enumValue);
+        TEnumType tEnumType = new TEnumType();
+        tEnumType.setId("ENUM" + idSuffix);
+        tEnumType.getEnumVal().add(tEnumVal);
+
+        TBDA tbda = new TBDA();
+        tbda.setName("bdaName");
+        tbda.setBType(TPredefinedBasicTypeEnum.ENUM);
+        tbda.setType(tEnumType.getId());
+        TDAType tdaType = new TDAType();
+        tdaType.setId("DA" + idSuffix);
+        tdaType.getBDA().add(tbda);
+
+        TDA tda = new TDA();
+        tda.setName("daName");
+        tda.setFc(TFCEnum.ST);
+        tda.setBType(TPredefinedBasicTypeEnum.STRUCT);
+        tda.setType(tdaType.getId());
+        TDOType tdoType = new TDOType();
+        tdoType.setId("DO" + idSuffix);
+        tdoType.setCdc(TPredefinedCDCEnum.SPS);
+        tdoType.getSDOOrDA().add(tda);
+
+        TDO tdo = new TDO();
+        tdo.setName("doName");
+        tdo.setType(tdoType.getId());
+        TLNodeType tlNodeType = new TLNodeType();
+        tlNodeType.setId("LN" + idSuffix);
+        tlNodeType.getLnClass().add("GGIO");
+        tlNodeType.getDO().add(tdo);
+
+        TDataTypeTemplates tDataTypeTemplates = new TDataTypeTemplates();
+        tDataTypeTemplates.getEnumType().add(tEnumType);
+        tDataTypeTemplates.getDAType().add(tdaType);
+        tDataTypeTemplates.getDOType().add(tdoType);
+        tDataTypeTemplates.getLNodeType().add(tlNodeType);
+        return tDataTypeTemplates;
+    }
+
+    public static DataTypeTemplateAdapter initDttAdapter(TDataTypeTemplates tDataTypeTemplates) {
+        SCL scd = new SCL();
+        scd.setDataTypeTemplates(tDataTypeTemplates);
+        return new SclRootAdapter(scd).getDataTypeTemplateAdapter();
+    }
+
 }
@@ -6,11 +6,14 @@
 
 package org.lfenergy.compas.sct.commons.scl.ied;
 
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.AccessPointCapacity;
 import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.dto.ServiceCapacity;
 import org.lfenergy.compas.sct.commons.scl.SclRootAdapter;
 import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
 import org.lfenergy.compas.sct.commons.util.ServicesConfigEnum;
@@ -310,5 +313,65 @@ class AccessPointAdapterTest {
                 .extracting(AccessPointAdapter.ExtRefAnalyzeRecord::sclReportItems)
                 .asList().hasSize(1);
     }
-}
 
+    @Test
+    void analyzeCapacity_should_return_same_errors_as_separate_checks() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME1");
+        iedAdapter.getCurrentElem().getAccessPoint().get(0).getServices().getClientServices().setMaxAttributes(4L);
+        AccessPointAdapter accessPointAdapter = new AccessPointAdapter(iedAdapter, iedAdapter.getCurrentElem().getAccessPoint().get(0));
+        List<String> expectedDataGroupMessages = iedAdapter.checkDataGroupCoherence().stream().map(SclReportItem::message).toList();
+        List<String> expectedBindingMessages = iedAdapter.checkBindingDataGroupCoherence().stream().map(SclReportItem::message).toList();
+        //When
+        AccessPointCapacity accessPointCapacity = accessPointAdapter.analyzeCapacity();
+        //Then
+        assertThat(accessPointCapacity.dataGroupReportItems())
+                .extracting(SclReportItem::message)
+                .containsExactlyElementsOf(expectedDataGroupMessages);
+        assertThat(accessPointCapacity.bindingReportItems())
+                .extracting(SclReportItem::message)
+                .containsExactlyInAnyOrderElementsOf(expectedBindingMessages)
+                .contains("The Client IED IED_NAME1 subscribes to too much FCDA: 9 > 4 max");
+        assertThat(accessPointCapacity.clientDemands())
+                .extracting(ServiceCapacity::service, ServiceCapacity::count, ServiceCapacity::max, ServiceCapacity::isExceeded)
+                .containsExactly(
+                        Tuple.tuple(ServicesConfigEnum.FCDA, 9L, 4L, true),
+                        Tuple.tuple(ServicesConfigEnum.REPORT, 1L, 0L, true),
+                        Tuple.tuple(ServicesConfigEnum.GSE, 3L, 2L, true),
+                        Tuple.tuple(ServicesConfigEnum.SMV, 2L, 1L, true));
+    }
+
+    @Test
+    void analyzeCapacity_should_count_DataSets_FCDA_and_ControlBlocks_of_AccessPoint() {
+        //Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        SclRootAdapter sclRootAdapter = new SclRootAdapter(scd);
+        IEDAdapter iedAdapter = sclRootAdapter.getIEDAdapterByName("IED_NAME3");
+        AccessPointAdapter accessPointAdapter = new AccessPointAdapter(iedAdapter, iedAdapter.getCurrentElem().getAccessPoint().get(0));
+        //When
+        AccessPointCapacity accessPointCapacity = accessPointAdapter.analyzeCapacity();
+        //Then
+        assertThat(accessPointCapacity)
+                .extracting(AccessPointCapacity::iedName, AccessPointCapacity::accessPointName)
+                .containsExactly("IED_NAME3", "AP_NAME");
+        assertThat(accessPointCapacity.serverCapacities())
+                .extracting(ServiceCapacity::service, ServiceCapacity::count, ServiceCapacity::max)
+                .containsExactly(
+                        Tuple.tuple(ServicesConfigEnum.DATASET, 3L, 3L),
+                        Tuple.tuple(ServicesConfigEnum.FCDA, 2L, 2L),
+                        Tuple.tuple(ServicesConfigEnum.REPORT, 0L, 0L),
+                        Tuple.tuple(ServicesConfigEnum.GSE, 1L, 1L),
+                        Tuple.tuple(ServicesConfigEnum.SMV, 1L, 1L));
+        assertThat(accessPointCapacity.clientDemands())
+                .extracting(ServiceCapacity::service, ServiceCapacity::count, ServiceCapacity::isLimited)
+                .containsExactly(
+                        Tuple.tuple(ServicesConfigEnum.FCDA, ServiceCapacity.NOT_COUNTED, false),
+                        Tuple.tuple(ServicesConfigEnum.REPORT, 0L, false),
+                        Tuple.tuple(ServicesConfigEnum.GSE, 0L, false),
+                        Tuple.tuple(ServicesConfigEnum.SMV, 0L, false));
+        assertThat(accessPointCapacity.dataGroupReportItems()).isEmpty();
+        assertThat(accessPointCapacity.bindingReportItems()).isEmpty();
+    }
+}
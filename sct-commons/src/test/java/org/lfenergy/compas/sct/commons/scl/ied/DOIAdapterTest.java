@@ -246,6 +246,28 @@ class DOIAdapterTest {
         assertThat(pair.getLeft()).isInstanceOf(SDIAdapter.DAIAdapter.class);
     }
 
+    @Test
+    void findDeepestMatch_when_names_partially_or_not_found_should_return_deepest_found_adapter() {
+        // Given
+        TDOI tdoi = new TDOI();
+        tdoi.setName("Do");
+        TSDI tsdi = new TSDI();
+        tsdi.setName("sdo1");
+        tdoi.getSDIOrDAI().add(tsdi);
+        DOIAdapter doiAdapter = new DOIAdapter(null, tdoi);
+        // When
+        Pair<IDataAdapter, Integer> notFound = doiAdapter.findDeepestMatch(List.of("unknown", "sdo1"), 0, false);
+        Pair<IDataAdapter, Integer> partialMatch = doiAdapter.findDeepestMatch(List.of("sdo1", "unknown"), 0, true);
+        // Then
+        assertThat(notFound.getLeft()).isNull();
+        assertThat(notFound.getRight()).isEqualTo(-1);
+        assertThat(partialMatch.getLeft()).isInstanceOf(RootSDIAdapter.class);
+        assertThat(((RootSDIAdapter) partialMatch.getLeft()).getCurrentElem()).isSameAs(tsdi);
+        assertThat(partialMatch.getRight()).isZero();
+        assertThat(doiAdapter.findStructuredDataAdapterByName("unknown")).isEmpty();
+        assertThat(doiAdapter.findDataAdapterByName("sdo1")).isEmpty();
+    }
+
     private DOIAdapter.DAIAdapter initInnerDAIAdapter(String doName, String daName) {
         TDOI tdoi = new TDOI();
         tdoi.setName(doName);
@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.scl.ied;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TDataSet;
+import org.lfenergy.compas.scl2007b4.model.TFCDA;
+import org.lfenergy.compas.scl2007b4.model.TFCEnum;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.lfenergy.compas.sct.commons.scl.ied.AccessPointAdapter.MAX_OCCURRENCE_NO_LIMIT_VALUE;
+import static org.lfenergy.compas.sct.commons.util.SclConstructorHelper.newFcda;
+
+class FcdaIndexTest {
+
+    private final FcdaIndex fcdaIndex = new FcdaIndex();
+
+    @Test
+    void createFcdaIfNotExists_should_sort_existing_FCDA_then_insert_new_FCDA_in_order() {
+        // Given
+        TDataSet tDataSet = new TDataSet();
+        tDataSet.getFCDA().add(newFcda("LDINST", "LLN0", null, null, "Do2", null, TFCEnum.ST));
+        tDataSet.getFCDA().add(newFcda("LDINST", "LLN0", null, null, "Do4", null, TFCEnum.ST));
+        tDataSet.getFCDA().add(newFcda("LDINST", "LLN0", null, null, "Do1", null, TFCEnum.ST));
+        // When
+        fcdaIndex.createFcdaIfNotExists(tDataSet, () -> MAX_OCCURRENCE_NO_LIMIT_VALUE, "LDINST", "", "LLN0", "", "Do3", null, TFCEnum.ST);
+        fcdaIndex.createFcdaIfNotExists(tDataSet, () -> MAX_OCCURRENCE_NO_LIMIT_VALUE, "LDINST", null, "LLN0", null, "Do0", null, TFCEnum.ST);
+        fcdaIndex.createFcdaIfNotExists(tDataSet, () -> MAX_OCCURRENCE_NO_LIMIT_VALUE, "LDINST", null, "LLN0", null, "Do5", null, TFCEnum.ST);
+        // Then
+        assertThat(tDataSet.getFCDA())
+                .extracting(TFCDA::getDoName)
+                .containsExactly("Do0", "Do1", "Do2", "Do3", "Do4", "Do5");
+    }
+
+    @Test
+    void findFcda_should_match_blank_and_null_attributes_and_see_FCDA_added_outside_of_index() {
+        // Given
+        TDataSet tDataSet = new TDataSet();
+        TFCDA created = fcdaIndex.createFcdaIfNotExists(tDataSet, () -> MAX_OCCURRENCE_NO_LIMIT_VALUE, "LDINST", null, "LLN0", null, "Do1", "da", TFCEnum.ST);
+        TFCDA addedOutsideOfIndex = newFcda("LDINST", "LLN0", null, null, "Do2", null, TFCEnum.MX);
+        tDataSet.getFCDA().add(addedOutsideOfIndex);
+        // When & Then
+        assertThat(fcdaIndex.findFcda(tDataSet, "LDINST", " ", "LLN0", "", "Do1", "da", TFCEnum.ST)).containsSame(created);
+        assertThat(fcdaIndex.findFcda(tDataSet, "LDINST", null, "LLN0", null, "Do2", "", TFCEnum.MX)).containsSame(addedOutsideOfIndex);
+        assertThat(fcdaIndex.findFcda(tDataSet, "LDINST", null, "LLN0", null, "Do2", null, TFCEnum.ST)).isEmpty();
+    }
+
+    @Test
+    void createFcdaIfNotExists_when_max_FCDA_reached_should_throw_exception_and_still_find_existing_FCDA() {
+        // Given
+        TDataSet tDataSet = new TDataSet();
+        tDataSet.setName("DS");
+        TFCDA existingFcda = fcdaIndex.createFcdaIfNotExists(tDataSet, () -> 1L, "LDINST", null, "LLN0", null, "Do1", null, TFCEnum.ST);
+        // When
+        TFCDA result = fcdaIndex.createFcdaIfNotExists(tDataSet, () -> 1L, "LDINST", null, "LLN0", null, "Do1", null, TFCEnum.ST);
+        // Then
+        assertThat(result).isSameAs(existingFcda);
+        assertThatThrownBy(() -> fcdaIndex.createFcdaIfNotExists(tDataSet, () -> 1L, "LDINST", null, "LLN0", null, "Do2", null, TFCEnum.ST))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("There are too much FCDA for the DataSet DS: cannot add more than 1 FCDA");
+        assertThat(tDataSet.getFCDA())
+                .extracting(TFCDA::getDoName, TFCDA::getFc)
+                .containsExactly(Tuple.tuple("Do1", TFCEnum.ST));
+    }
+
+    @Test
+    void findFcda_when_FCDA_has_several_lnClass_should_only_throw_exception_when_looking_for_this_FCDA() {
+        // Given
+        TDataSet tDataSet = new TDataSet();
+        TFCDA multipleLnClassFcda = newFcda("LDINST", "LLN0", null, null, "Do1", null, TFCEnum.ST);
+        multipleLnClassFcda.getLnClass().add("LPHD");
+        tDataSet.getFCDA().add(multipleLnClassFcda);
+        TFCDA otherFcda = newFcda("LDINST", "LLN0", null, null, "Do2", null, TFCEnum.ST);
+        tDataSet.getFCDA().add(otherFcda);
+        // When & Then
+        assertThat(fcdaIndex.findFcda(tDataSet, "LDINST", null, "LLN0", null, "Do2", null, TFCEnum.ST)).containsSame(otherFcda);
+        assertThatThrownBy(() -> fcdaIndex.findFcda(tDataSet, "LDINST", null, "LPHD", null, "Do1", null, TFCEnum.ST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fcdaIndex.createFcdaIfNotExists(tDataSet, () -> MAX_OCCURRENCE_NO_LIMIT_VALUE, "LDINST", null, "LLN0", null, "Do1", null, TFCEnum.ST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tDataSet.getFCDA()).containsExactly(multipleLnClassFcda, otherFcda);
+    }
+
+    @Test
+    void checkLimit_should_only_count_FCDA_not_in_DataSet_yet_and_not_duplicated() {
+        // Given
+        TDataSet tDataSet = new TDataSet();
+        fcdaIndex.createFcdaIfNotExists(tDataSet, () -> MAX_OCCURRENCE_NO_LIMIT_VALUE, "LDINST", null, "LLN0", null, "Do1", null, TFCEnum.ST);
+        List<FcdaIndex.FcdaKey> fcdaKeys = List.of(
+                new FcdaIndex.FcdaKey("LDINST", "", "LLN0", "", "Do1", null, TFCEnum.ST),
+                new FcdaIndex.FcdaKey("LDINST", null, "LLN0", null, "Do2", "", TFCEnum.ST),
+                new FcdaIndex.FcdaKey("LDINST", null, "LLN0", null, "Do2", null, TFCEnum.ST));
+        // When & Then
+        assertThatCode(() -> fcdaIndex.checkLimit(tDataSet, "DS", () -> 2L, fcdaKeys)).doesNotThrowAnyException();
+        assertThatCode(() -> fcdaIndex.checkLimit(null, "DS", () -> 1L, fcdaKeys.subList(1, 3))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> fcdaIndex.checkLimit(tDataSet, "DS", () -> 1L, fcdaKeys))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("There are too much FCDA for the DataSet DS: cannot add more than 1 FCDA");
+        assertThatThrownBy(() -> fcdaIndex.checkLimit(null, "DS", () -> 1L, fcdaKeys))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("There are too much FCDA for the DataSet DS: cannot add more than 1 FCDA");
+        assertThat(tDataSet.getFCDA()).hasSize(1);
+    }
+}
@@ -189,6 +189,23 @@ class LDeviceAdapterTest {
         assertThat(elementXPathResult).isEqualTo(message);
     }
 
+    @Test
+    void getXPath_of_child_element_should_contain_AccessPoint_and_Server() {
+        // Given
+        TIED tied = new TIED();
+        tied.setName("IED_NAME");
+        TLDevice tlDevice = new TLDevice();
+        tlDevice.setInst("LDINST");
+        tlDevice.setLN0(new LN0());
+        LDeviceAdapter lDeviceAdapter = new LDeviceAdapter(new IEDAdapter(null, tied), tlDevice);
+        LN0Adapter ln0Adapter = lDeviceAdapter.getLN0Adapter();
+        // When
+        String xPathResult = ln0Adapter.getXPath();
+        // Then
+        assertThat(lDeviceAdapter.getXPath()).isEqualTo("/IED[@name=\"IED_NAME\"]/AccessPoint/Server/LDevice[@inst=\"LDINST\"]");
+        assertThat(xPathResult).isEqualTo("/IED[@name=\"IED_NAME\"]/AccessPoint/Server/LDevice[@inst=\"LDINST\"]/LN0");
+    }
+
     @Test
     void getLDeviceStatus_should_succeed() {
         // Given
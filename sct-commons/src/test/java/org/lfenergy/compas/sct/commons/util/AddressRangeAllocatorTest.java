@@ -0,0 +1,87 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AddressRangeAllocatorTest {
+
+    @Test
+    void next_should_allocate_values_in_ascending_order_skipping_reserved_values() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(0x3000, 0x3005);
+        allocator.reserve(0x3000);
+        allocator.reserve(0x3002);
+        allocator.reserve(0x4000);
+        // When
+        long first = allocator.next();
+        long second = allocator.next();
+        long third = allocator.next();
+        // Then
+        assertThat(first).isEqualTo(0x3001);
+        assertThat(second).isEqualTo(0x3003);
+        assertThat(third).isEqualTo(0x3004);
+        assertThat(allocator.getReservedCount()).isEqualTo(2);
+        assertThat(allocator.getAllocatedCount()).isEqualTo(3);
+        assertThat(allocator.getUsedCount()).isEqualTo(5);
+        assertThat(allocator.size()).isEqualTo(6);
+        assertThat(allocator).hasToString("5/6 used (2 reserved, 3 allocated)");
+    }
+
+    @Test
+    void next_when_range_exhausted_should_throw_exception() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(10, 11);
+        allocator.reserve(11);
+        allocator.next();
+        // When Then
+        assertThat(allocator.hasNext()).isFalse();
+        assertThat(allocator.getUsageRatio()).isEqualTo(1);
+        assertThatThrownBy(allocator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void constructor_when_end_lower_than_start_should_give_empty_range() {
+        // When
+        AddressRangeAllocator allocator = new AddressRangeAllocator(10, 9);
+        // Then
+        assertThat(allocator.size()).isZero();
+        assertThat(allocator.hasNext()).isFalse();
+    }
+
+    @Test
+    void next_when_range_is_a_full_mac_address_range_should_allocate_values_after_reserved_ones() {
+        // Given
+        AddressRangeAllocator allocator = new AddressRangeAllocator(0, 0xFFFFFFFFFFFFL);
+        allocator.reserve(0);
+        allocator.reserve(0xFFFFFFFFFFFFL);
+        // When
+        long result = allocator.next();
+        // Then
+        assertThat(result).isEqualTo(1);
+        assertThat(allocator.size()).isEqualTo(0x1000000000000L);
+        assertThat(allocator.getUsedCount()).isEqualTo(3);
+        assertThat(allocator.hasNext()).isTrue();
+    }
+
+    @Test
+    void reserve_when_value_is_beyond_bitmap_should_count_it_once() {
+        // Given
+        long start = 0x010CCD000000L;
+        AddressRangeAllocator allocator = new AddressRangeAllocator(start, start + Integer.MAX_VALUE + 2L);
+        // When
+        allocator.reserve(start + Integer.MAX_VALUE + 1L);
+        allocator.reserve(start + Integer.MAX_VALUE + 1L);
+        // Then
+        assertThat(allocator.getReservedCount()).isEqualTo(1);
+        assertThat(allocator.size()).isEqualTo(Integer.MAX_VALUE + 3L);
+        assertThat(allocator.next()).isEqualTo(start);
+    }
+}
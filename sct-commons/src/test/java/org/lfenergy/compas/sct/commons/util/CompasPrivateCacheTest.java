@@ -0,0 +1,116 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TCompasBay;
+import org.lfenergy.compas.scl2007b4.model.TCompasICDHeader;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TPrivate;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompasPrivateCacheTest {
+
+    private final CompasPrivateCache compasPrivateCache = new CompasPrivateCache();
+
+    @Test
+    void getCompasPrivates_should_return_same_privates_as_PrivateUtils_and_reuse_them() {
+        // Given
+        TIED tied = new TIED();
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_1")));
+        tied.getPrivate().add(PrivateUtils.createPrivate(new TCompasICDHeader()));
+        // When
+        List<TCompasBay> result = compasPrivateCache.getCompasPrivates(tied, TCompasBay.class);
+        // Then
+        assertThat(result).containsExactlyElementsOf(PrivateUtils.extractCompasPrivates(tied, TCompasBay.class).toList());
+        assertThat(compasPrivateCache.getCompasPrivates(tied, TCompasBay.class)).isSameAs(result);
+        assertThat(compasPrivateCache.getCompasPrivates(tied, TCompasICDHeader.class)).hasSize(1);
+    }
+
+    @Test
+    void getCompasPrivate_when_privates_removed_or_added_should_extract_them_again() {
+        // Given
+        TIED tied = new TIED();
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_1")));
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).isPresent();
+        // When
+        PrivateUtils.removePrivates(tied, PrivateEnum.COMPAS_BAY);
+        boolean presentAfterRemove = compasPrivateCache.getCompasPrivate(tied, TCompasBay.class).isPresent();
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_2")));
+        // Then
+        assertThat(presentAfterRemove).isFalse();
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class))
+                .map(TCompasBay::getUUID)
+                .hasValue("UUID_2");
+    }
+
+    @Test
+    void getCompasPrivate_when_private_replaced_by_remove_and_add_should_extract_them_again() {
+        // Given
+        TIED tied = new TIED();
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_1")));
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).map(TCompasBay::getUUID).hasValue("UUID_1");
+        // When
+        tied.getPrivate().removeFirst();
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_2")));
+        // Then
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).map(TCompasBay::getUUID).hasValue("UUID_2");
+    }
+
+    @Test
+    void getCompasPrivate_when_private_or_content_replaced_by_set_should_extract_them_again() {
+        // Given
+        TIED tied = new TIED();
+        TPrivate tPrivate = PrivateUtils.createPrivate(newCompasBay("UUID_1"));
+        tied.getPrivate().add(tPrivate);
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).map(TCompasBay::getUUID).hasValue("UUID_1");
+        // When
+        tied.getPrivate().set(0, PrivateUtils.createPrivate(newCompasBay("UUID_2")));
+        String uuidAfterPrivateSet = compasPrivateCache.getCompasPrivate(tied, TCompasBay.class).map(TCompasBay::getUUID).orElseThrow();
+        tied.getPrivate().getFirst().getContent().set(0, PrivateUtils.createPrivate(newCompasBay("UUID_3")).getContent().getFirst());
+        // Then
+        assertThat(uuidAfterPrivateSet).isEqualTo("UUID_2");
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).map(TCompasBay::getUUID).hasValue("UUID_3");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidate_should_extract_privates_again_after_content_value_replacement() {
+        // Given
+        TIED tied = new TIED();
+        TPrivate tPrivate = PrivateUtils.createPrivate(newCompasBay("UUID_1"));
+        tied.getPrivate().add(tPrivate);
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).map(TCompasBay::getUUID).hasValue("UUID_1");
+        ((JAXBElement<TCompasBay>) tPrivate.getContent().getFirst()).setValue(newCompasBay("UUID_2"));
+        // When
+        compasPrivateCache.invalidate(tied);
+        // Then
+        assertThat(compasPrivateCache.getCompasPrivate(tied, TCompasBay.class)).map(TCompasBay::getUUID).hasValue("UUID_2");
+    }
+
+    @Test
+    void getCompasPrivate_when_more_than_one_private_should_throw_exception() {
+        // Given
+        TIED tied = new TIED();
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_1")));
+        tied.getPrivate().add(PrivateUtils.createPrivate(newCompasBay("UUID_2")));
+        // When Then
+        assertThatThrownBy(() -> compasPrivateCache.getCompasPrivate(tied, TCompasBay.class))
+                .isInstanceOf(ScdException.class)
+                .hasMessageContaining("Expecting maximum 1 element of type");
+    }
+
+    private static TCompasBay newCompasBay(String uuid) {
+        TCompasBay compasBay = new TCompasBay();
+        compasBay.setUUID(uuid);
+        return compasBay;
+    }
+}
@@ -0,0 +1,155 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.sct.commons.ControlBlockEditorService;
+import org.lfenergy.compas.sct.commons.LdeviceService;
+import org.lfenergy.compas.sct.commons.SclService;
+import org.lfenergy.compas.sct.commons.dto.SclReportItem;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.scl.ControlService;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller.assertIsMarshallable;
+
+class IedTaskExecutorTest {
+
+    private static final int IED_COPIES = 8;
+
+    private ForkJoinPool forkJoinPool;
+
+    @BeforeEach
+    void setUp() {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    void flatMap_when_parallel_should_keep_order_of_items() {
+        // Given
+        IedTaskExecutor iedTaskExecutor = IedTaskExecutor.parallel(forkJoinPool);
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        // When
+        List<String> result = iedTaskExecutor.flatMap(items, item -> List.of(item + "a", item + "b"));
+        // Then
+        assertThat(iedTaskExecutor.isParallel()).isTrue();
+        assertThat(result).hasSize(200)
+                .startsWith("0a", "0b", "1a", "1b")
+                .endsWith("99a", "99b")
+                .isEqualTo(IedTaskExecutor.SEQUENTIAL.flatMap(items, item -> List.of(item + "a", item + "b")));
+    }
+
+    @Test
+    void map_when_parallel_should_keep_order_of_items_and_null_results() {
+        // Given
+        IedTaskExecutor iedTaskExecutor = IedTaskExecutor.parallel(forkJoinPool);
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        // When
+        List<String> result = iedTaskExecutor.map(items, item -> item % 2 == 0 ? item + "a" : null);
+        // Then
+        assertThat(result).hasSize(100)
+                .startsWith("0a", null, "2a")
+                .endsWith("98a", null)
+                .isEqualTo(IedTaskExecutor.SEQUENTIAL.map(items, item -> item % 2 == 0 ? item + "a" : null));
+    }
+
+    @Test
+    void flatMap_when_task_fails_should_throw_exception() {
+        // Given
+        IedTaskExecutor iedTaskExecutor = IedTaskExecutor.parallel(forkJoinPool);
+        // When Then
+        assertThatThrownBy(() -> iedTaskExecutor.flatMap(List.of(1, 2, 3), item -> {
+            if (item == 2) {
+                throw new ScdException("task failed");
+            }
+            return List.of(item);
+        }))
+                .isInstanceOf(ScdException.class)
+                .hasMessageContaining("task failed");
+    }
+
+    @Test
+    void sequential_should_not_be_parallel() {
+        // When Then
+        assertThat(IedTaskExecutor.SEQUENTIAL.isParallel()).isFalse();
+        assertThat(IedTaskExecutor.SEQUENTIAL.flatMap(List.of(1, 2), List::of)).containsExactly(1, 2);
+    }
+
+    @RepeatedTest(5)
+    void updateLDeviceStatus_when_parallel_on_many_ieds_should_give_same_scd_and_report_as_sequential() {
+        // Given
+        SCL scd = getSclWithCopiedIeds("/scd-refresh-lnode/issue68_Test2_LD_STATUS_INACTIVE.scd");
+        SCL sequentialScd = getSclWithCopiedIeds("/scd-refresh-lnode/issue68_Test2_LD_STATUS_INACTIVE.scd");
+        SclService parallelSclService = new SclService(IedTaskExecutor.parallel(forkJoinPool));
+        // When
+        List<SclReportItem> sclReportItems = parallelSclService.updateLDeviceStatus(scd);
+        List<SclReportItem> sequentialSclReportItems = new SclService().updateLDeviceStatus(sequentialScd);
+        // Then
+        assertThat(sclReportItems).isNotEmpty().containsExactlyElementsOf(sequentialSclReportItems);
+        assertThat(assertIsMarshallable(scd)).isEqualTo(assertIsMarshallable(sequentialScd));
+    }
+
+    @RepeatedTest(5)
+    void updateDoInRef_when_parallel_on_many_ieds_should_give_same_scd_and_report_as_sequential() {
+        // Given
+        SCL scd = getSclWithCopiedIeds("/scd-test-update-inref/scd_update_inref_issue_231_test_ko.xml");
+        SCL sequentialScd = getSclWithCopiedIeds("/scd-test-update-inref/scd_update_inref_issue_231_test_ko.xml");
+        SclService parallelSclService = new SclService(IedTaskExecutor.parallel(forkJoinPool));
+        // When
+        List<SclReportItem> sclReportItems = parallelSclService.updateDoInRef(scd);
+        List<SclReportItem> sequentialSclReportItems = new SclService().updateDoInRef(sequentialScd);
+        // Then
+        assertThat(sclReportItems).isNotEmpty().containsExactlyElementsOf(sequentialSclReportItems);
+        assertThat(assertIsMarshallable(scd)).isEqualTo(assertIsMarshallable(sequentialScd));
+    }
+
+    @RepeatedTest(5)
+    void analyzeDataGroups_when_parallel_on_many_ieds_should_give_same_report_as_sequential() {
+        // Given
+        SCL scd = getSclWithCopiedIeds("/limitation_cb_dataset_fcda/scd_check_limitation_bound_ied_controls_fcda.xml");
+        scd.getIED().stream()
+                .filter(tied -> tied.getName().startsWith("IED_NAME2"))
+                .forEach(tied -> tied.getAccessPoint().getFirst().getServices().getConfDataSet().setMaxAttributes(1L));
+        ControlBlockEditorService parallelControlBlockEditorService = new ControlBlockEditorService(new ControlService(), new LdeviceService(),
+                IedTaskExecutor.parallel(forkJoinPool));
+        // When
+        List<SclReportItem> sclReportItems = parallelControlBlockEditorService.analyzeDataGroups(scd);
+        List<SclReportItem> sequentialSclReportItems = new ControlBlockEditorService(new ControlService(), new LdeviceService()).analyzeDataGroups(scd);
+        // Then
+        assertThat(sclReportItems).isNotEmpty().containsExactlyElementsOf(sequentialSclReportItems);
+    }
+
+    /**
+     * Adds to the SCL of the file IED_COPIES copies of its IEDs, renamed with a suffix. ExtRefs of the copies still
+     * refer to the original IEDs, so that concurrent tasks read the same source IEDs and the same per-SCL caches.
+     */
+    private static SCL getSclWithCopiedIeds(String filename) {
+        SCL scd = SclTestMarshaller.getSCLFromFile(filename);
+        for (int copy = 1; copy <= IED_COPIES; copy++) {
+            List<TIED> copiedIeds = SclTestMarshaller.getSCLFromFile(filename).getIED();
+            for (TIED tied : copiedIeds) {
+                tied.setName(tied.getName() + "_" + copy);
+            }
+            scd.getIED().addAll(copiedIeds);
+        }
+        return scd;
+    }
+}
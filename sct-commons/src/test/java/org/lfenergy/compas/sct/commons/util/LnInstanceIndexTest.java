@@ -0,0 +1,95 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LnInstanceIndexTest {
+
+    private final LnInstanceIndex lnInstanceIndex = new LnInstanceIndex();
+
+    @Test
+    void findOrCreateDai_should_create_missing_instances_once() {
+        // Given
+        TLN tln = new TLN();
+        // When
+        TDAI created = lnInstanceIndex.findOrCreateDai(tln, "Do", List.of("sdo1", "da1"), "bda1");
+        TDAI found = lnInstanceIndex.findOrCreateDai(tln, "Do", List.of("sdo1", "da1"), "bda1");
+        // Then
+        assertThat(found).isSameAs(created);
+        assertThat(tln.getDOI()).hasSize(1);
+        TSDI sdo1 = (TSDI) tln.getDOI().getFirst().getSDIOrDAI().getFirst();
+        TSDI da1 = (TSDI) sdo1.getSDIOrDAI().getFirst();
+        assertThat(da1.getName()).isEqualTo("da1");
+        assertThat(da1.getSDIOrDAI()).containsExactly(created);
+        assertThat(created.getName()).isEqualTo("bda1");
+    }
+
+    @Test
+    void findDai_should_find_children_appended_after_indexing_and_keep_first_of_same_name() {
+        // Given
+        TLN tln = new TLN();
+        TDOI tdoi = newDoi("Mod");
+        tln.getDOI().add(tdoi);
+        assertThat(lnInstanceIndex.findDai(tln, "Mod", List.of(), "stVal")).isEmpty();
+        TDAI stVal = newDai("stVal");
+        tdoi.getSDIOrDAI().add(stVal);
+        tdoi.getSDIOrDAI().add(newDai("stVal"));
+        // When
+        Optional<TDAI> result = lnInstanceIndex.findDai(tln, "Mod", List.of(), "stVal");
+        // Then
+        assertThat(result).containsSame(stVal);
+    }
+
+    @Test
+    void findDai_should_rebuild_index_when_children_removed() {
+        // Given
+        TLN tln = new TLN();
+        TDOI tdoi = newDoi("Mod");
+        TDAI stVal = newDai("stVal");
+        tdoi.getSDIOrDAI().add(stVal);
+        tln.getDOI().add(tdoi);
+        assertThat(lnInstanceIndex.findDai(tln, "Mod", List.of(), "stVal")).containsSame(stVal);
+        // When
+        tdoi.getSDIOrDAI().clear();
+        // Then
+        assertThat(lnInstanceIndex.findDai(tln, "Mod", List.of(), "stVal")).isEmpty();
+    }
+
+    @Test
+    void invalidate_should_take_renamed_instances_into_account() {
+        // Given
+        TLN tln = new TLN();
+        TDOI tdoi = newDoi("Mod");
+        TDAI stVal = newDai("stVal");
+        tdoi.getSDIOrDAI().add(stVal);
+        tln.getDOI().add(tdoi);
+        assertThat(lnInstanceIndex.findDai(tln, "Mod", List.of(), "stVal")).containsSame(stVal);
+        stVal.setName("q");
+        // When
+        lnInstanceIndex.invalidate(tln);
+        // Then
+        assertThat(lnInstanceIndex.findDai(tln, "Mod", List.of(), "stVal")).isEmpty();
+        assertThat(lnInstanceIndex.findDai(tln, "Mod", List.of(), "q")).containsSame(stVal);
+    }
+
+    private static TDOI newDoi(String name) {
+        TDOI tdoi = new TDOI();
+        tdoi.setName(name);
+        return tdoi;
+    }
+
+    private static TDAI newDai(String name) {
+        TDAI tdai = new TDAI();
+        tdai.setName(name);
+        return tdai;
+    }
+}
@@ -0,0 +1,86 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.commons.util;
+
+import jakarta.xml.bind.JAXBElement;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.lfenergy.compas.scl2007b4.model.*;
+import org.lfenergy.compas.sct.commons.dto.FCDAInfo;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+import org.lfenergy.compas.sct.commons.testhelpers.SclTestMarshaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SclElementCopierTest {
+
+    @Test
+    void constructor_should_throw_exception() {
+        // When & Then
+        assertThatThrownBy(() -> ReflectionSupport.newInstance(SclElementCopier.class))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void copy_should_copy_lists_and_superclass_fields_by_value() {
+        // Given
+        TLN tln = new TLN();
+        tln.setLnType("T1");
+        tln.setInst("1");
+        tln.getLnClass().add(TLLN0Enum.LLN_0.value());
+        TDOI tdoi = new TDOI();
+        tdoi.setName("Beh");
+        tln.getDOI().add(tdoi);
+        // When
+        TLN result = SclElementCopier.copy(tln);
+        // Then
+        assertThat(result).isNotSameAs(tln)
+                .usingRecursiveComparison().isEqualTo(tln);
+        assertThat(result.getDOI()).isNotSameAs(tln.getDOI());
+        assertThat(result.getDOI().getFirst()).isNotSameAs(tdoi);
+        result.getDOI().getFirst().setName("Mod");
+        assertThat(tdoi.getName()).isEqualTo("Beh");
+    }
+
+    @Test
+    void copy_should_copy_private_content_by_value() {
+        // Given
+        TCompasBay compasBay = new TCompasBay();
+        compasBay.setUUID("UUID");
+        TPrivate tPrivate = PrivateUtils.createPrivate(compasBay);
+        // When
+        TPrivate result = SclElementCopier.copy(tPrivate);
+        // Then
+        assertThat(result.getType()).isEqualTo(tPrivate.getType());
+        assertThat(result.getContent()).hasSize(1).first().isInstanceOf(JAXBElement.class);
+        JAXBElement<?> jaxbElement = (JAXBElement<?>) result.getContent().getFirst();
+        assertThat(jaxbElement).isNotSameAs(tPrivate.getContent().getFirst());
+        assertThat(jaxbElement.getName()).isEqualTo(((JAXBElement<?>) tPrivate.getContent().getFirst()).getName());
+        assertThat(jaxbElement.getValue()).isNotSameAs(compasBay)
+                .usingRecursiveComparison().isEqualTo(compasBay);
+    }
+
+    @Test
+    void copy_should_give_same_result_as_marshalling() {
+        // Given
+        SCL scd = SclTestMarshaller.getSCLFromFile("/scd-ied-dtt-com-import-stds/std.xml");
+        // When
+        SCL result = SclElementCopier.copy(scd);
+        // Then
+        assertThat(result).isNotSameAs(scd);
+        assertThat(SclTestMarshaller.assertIsMarshallable(result)).isEqualTo(SclTestMarshaller.assertIsMarshallable(scd));
+    }
+
+    @Test
+    void copy_when_not_scl_element_should_throw_exception() {
+        // Given
+        FCDAInfo fcdaInfo = new FCDAInfo();
+        // When & Then
+        assertThatThrownBy(() -> SclElementCopier.copy(fcdaInfo))
+                .isInstanceOf(ScdException.class)
+                .hasMessage("org.lfenergy.compas.sct.commons.dto.FCDAInfo is not known to this context");
+    }
+}
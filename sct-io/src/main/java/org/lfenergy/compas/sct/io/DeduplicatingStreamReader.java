@@ -0,0 +1,37 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+/**
+ * XMLStreamReader giving the same String instance for equal attribute values, so that the unmarshalled objects share
+ * them instead of keeping one copy per attribute.
+ */
+class DeduplicatingStreamReader extends StreamReaderDelegate {
+
+    private final StringDeduplicator stringDeduplicator;
+
+    /**
+     * Constructor
+     * @param xmlStreamReader reader to wrap
+     * @param stringDeduplicator table of the attribute values already read
+     */
+    DeduplicatingStreamReader(XMLStreamReader xmlStreamReader, StringDeduplicator stringDeduplicator) {
+        super(xmlStreamReader);
+        this.stringDeduplicator = stringDeduplicator;
+    }
+
+    @Override
+    public String getAttributeValue(int index) {
+        return stringDeduplicator.deduplicate(super.getAttributeValue(index));
+    }
+
+    @Override
+    public String getAttributeValue(String namespaceURI, String localName) {
+        return stringDeduplicator.deduplicate(super.getAttributeValue(namespaceURI, localName));
+    }
+}
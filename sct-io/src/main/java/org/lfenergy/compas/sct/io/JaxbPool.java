@@ -0,0 +1,87 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Thread safe JAXBContext with pools of Marshaller and Unmarshaller.
+ * <p>
+ * JAXBContext is thread safe but costly to create, Marshaller and Unmarshaller are cheaper but not thread safe :
+ * a Marshaller (resp. Unmarshaller) is borrowed for the duration of one call, then given back to the pool.
+ * When the pool is empty, a new one is created ; when the pool is full, the given back one is dropped.
+ * </p>
+ */
+final class JaxbPool {
+
+    private static final int MAX_IDLE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final JAXBContext jaxbContext;
+    private final BlockingQueue<Unmarshaller> unmarshallers = new ArrayBlockingQueue<>(MAX_IDLE);
+    private final BlockingQueue<Marshaller> marshallers = new ArrayBlockingQueue<>(MAX_IDLE);
+
+    /**
+     * Constructor
+     * @param contextPath package(s) of the JAXB generated classes, separated by ':'
+     */
+    JaxbPool(String contextPath) {
+        try {
+            this.jaxbContext = JAXBContext.newInstance(contextPath);
+        } catch (JAXBException e) {
+            throw new ScdException("Error creating JAXB context for " + contextPath + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies given function with an Unmarshaller of the pool
+     * @param function function to apply
+     * @return result of the function
+     * @param <R> type of the result
+     * @throws JAXBException when thrown by function
+     */
+    <R> R withUnmarshaller(JaxbFunction<Unmarshaller, R> function) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.poll();
+        if (unmarshaller == null) {
+            unmarshaller = jaxbContext.createUnmarshaller();
+        }
+        R result = function.apply(unmarshaller);
+        unmarshallers.offer(unmarshaller);
+        return result;
+    }
+
+    /**
+     * Applies given function with a Marshaller of the pool
+     * @param function function to apply
+     * @return result of the function
+     * @param <R> type of the result
+     * @throws JAXBException when thrown by function
+     */
+    <R> R withMarshaller(JaxbFunction<Marshaller, R> function) throws JAXBException {
+        Marshaller marshaller = marshallers.poll();
+        if (marshaller == null) {
+            marshaller = jaxbContext.createMarshaller();
+        }
+        R result = function.apply(marshaller);
+        marshallers.offer(marshaller);
+        return result;
+    }
+
+    /**
+     * Function which can throw JAXBException
+     * @param <T> type of the input
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    interface JaxbFunction<T, R> {
+        R apply(T t) throws JAXBException;
+    }
+}
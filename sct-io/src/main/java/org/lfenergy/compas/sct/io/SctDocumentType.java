@@ -0,0 +1,69 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import lombok.Getter;
+import org.lfenergy.compas.sct.commons.model.cbcom.CBCom;
+import org.lfenergy.compas.sct.commons.model.da_comm.DACOMM;
+import org.lfenergy.compas.sct.commons.model.epf.EPF;
+
+/**
+ * Kind of document which can be read by {@link SctReader} and written by {@link SctWriter}.
+ * <p>
+ * Each document type owns a single JAXBContext, created on first use and shared by all readers and writers,
+ * with a pool of Marshaller and Unmarshaller (see {@link JaxbPool}).
+ * </p>
+ * @param <T> class of the root element of the document
+ */
+public final class SctDocumentType<T> {
+
+    /**
+     * SCL file : SSD, STD, ICD, SCD...
+     */
+    public static final SctDocumentType<org.lfenergy.compas.scl2007b4.model.SCL> SCL = new SctDocumentType<>(org.lfenergy.compas.scl2007b4.model.SCL.class);
+    /**
+     * LDEPF channels configuration
+     */
+    public static final SctDocumentType<EPF> EPF = new SctDocumentType<>(org.lfenergy.compas.sct.commons.model.epf.EPF.class);
+    /**
+     * GSE and SMV Control Blocks communication settings
+     */
+    public static final SctDocumentType<CBCom> CB_COM = new SctDocumentType<>(CBCom.class);
+    /**
+     * Data Attributes and Control Blocks communication parameters
+     */
+    public static final SctDocumentType<DACOMM> DA_COMM = new SctDocumentType<>(DACOMM.class);
+
+    @Getter
+    private final Class<T> rootClass;
+    private volatile JaxbPool jaxbPool;
+
+    private SctDocumentType(Class<T> rootClass) {
+        this.rootClass = rootClass;
+    }
+
+    /**
+     * Gets the pool of Marshaller and Unmarshaller of this document type, creating the JAXBContext on first call
+     * @return JaxbPool of this document type
+     */
+    JaxbPool getJaxbPool() {
+        JaxbPool result = jaxbPool;
+        if (result == null) {
+            synchronized (this) {
+                result = jaxbPool;
+                if (result == null) {
+                    result = new JaxbPool(rootClass.getPackageName());
+                    jaxbPool = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return rootClass.getSimpleName();
+    }
+}
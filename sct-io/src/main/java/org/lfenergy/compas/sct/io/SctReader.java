@@ -0,0 +1,190 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import jakarta.xml.bind.JAXBException;
+import lombok.extern.slf4j.Slf4j;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads SCL, EPF, CBCom and DACOMM documents.
+ * <p>
+ * Documents are unmarshalled directly from a StAX stream : the file is never loaded as a whole in a byte array or a
+ * String, so the peak heap used is the one of the resulting object tree.
+ * Input can be plain XML, gzip compressed, or a zip archive (the first file of the archive is read) :
+ * the format is detected from the first bytes of the input, whatever the file name.
+ * DTD and external entities are not supported.
+ * </p>
+ * <p>
+ * When enabled, equal short attribute values (lnClass, fc, doName, ldInst, type ids...) share one String instance
+ * in the result, through a bounded table used for the whole document : this reduces the heap retained by large SCDs.
+ * </p>
+ * This class is thread safe.
+ */
+@Slf4j
+public class SctReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+
+    /**
+     * XMLInputFactory implementations are not guaranteed to be thread safe
+     */
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newDefaultFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    });
+
+    private final boolean deduplicateAttributeValues;
+
+    /**
+     * Constructor of a reader keeping attribute values as unmarshalled
+     */
+    public SctReader() {
+        this(false);
+    }
+
+    /**
+     * Constructor
+     * @param deduplicateAttributeValues true to make equal attribute values of a document share one String instance
+     */
+    public SctReader(boolean deduplicateAttributeValues) {
+        this.deduplicateAttributeValues = deduplicateAttributeValues;
+    }
+
+    /**
+     * Reads an SCL file
+     * @param path path of the file, plain XML, gzip or zip
+     * @return SCL read
+     * @throws ScdException when content is not a valid SCL
+     * @throws UncheckedIOException when file cannot be read
+     */
+    public SCL readScl(Path path) {
+        return read(path, SctDocumentType.SCL);
+    }
+
+    /**
+     * Reads an SCL document from a stream
+     * @param inputStream stream of plain XML, gzip or zip content. It is not closed by this method.
+     * @return SCL read
+     * @throws ScdException when content is not a valid SCL
+     * @throws UncheckedIOException when stream cannot be read
+     */
+    public SCL readScl(InputStream inputStream) {
+        return read(inputStream, SctDocumentType.SCL);
+    }
+
+    /**
+     * Reads a document from a file
+     * @param path path of the file, plain XML, gzip or zip
+     * @param documentType type of the document to read
+     * @return document read
+     * @param <T> class of the root element of the document
+     * @throws ScdException when content is not a valid document of the given type
+     * @throws UncheckedIOException when file cannot be read
+     */
+    public <T> T read(Path path, SctDocumentType<T> documentType) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return read(inputStream, documentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading " + documentType + " file " + path, e);
+        }
+    }
+
+    /**
+     * Reads a document from a stream
+     * @param inputStream stream of plain XML, gzip or zip content. It is not closed by this method.
+     * @param documentType type of the document to read
+     * @return document read
+     * @param <T> class of the root element of the document
+     * @throws ScdException when content is not a valid document of the given type
+     * @throws UncheckedIOException when stream cannot be read
+     */
+    public <T> T read(InputStream inputStream, SctDocumentType<T> documentType) {
+        try {
+            return unmarshal(decompress(inputStream), documentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading " + documentType + " stream", e);
+        }
+    }
+
+    private <T> T unmarshal(InputStream inputStream, SctDocumentType<T> documentType) {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = XML_INPUT_FACTORY.get().createXMLStreamReader(inputStream);
+            if (deduplicateAttributeValues) {
+                xmlStreamReader = new DeduplicatingStreamReader(xmlStreamReader, new StringDeduplicator());
+            }
+            XMLStreamReader finalXmlStreamReader = xmlStreamReader;
+            return documentType.getJaxbPool().withUnmarshaller(unmarshaller ->
+                    unmarshaller.unmarshal(finalXmlStreamReader, documentType.getRootClass()).getValue());
+        } catch (XMLStreamException | JAXBException e) {
+            throw new ScdException("Error unmarshalling " + documentType + " : " + e.getMessage(), e);
+        } finally {
+            closeQuietly(xmlStreamReader);
+        }
+    }
+
+    /**
+     * Wraps the stream in a decompressing stream depending on the first bytes of the content
+     */
+    private static InputStream decompress(InputStream inputStream) throws IOException {
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        if (startsWith(bufferedInputStream, GZIP_MAGIC)) {
+            return new BufferedInputStream(new GZIPInputStream(bufferedInputStream, BUFFER_SIZE), BUFFER_SIZE);
+        }
+        if (startsWith(bufferedInputStream, ZIP_MAGIC)) {
+            ZipInputStream zipInputStream = new ZipInputStream(bufferedInputStream);
+            ZipEntry zipEntry = zipInputStream.getNextEntry();
+            while (zipEntry != null && zipEntry.isDirectory()) {
+                zipEntry = zipInputStream.getNextEntry();
+            }
+            if (zipEntry == null) {
+                throw new ScdException("No file found in zip archive");
+            }
+            return new BufferedInputStream(zipInputStream, BUFFER_SIZE);
+        }
+        return bufferedInputStream;
+    }
+
+    private static boolean startsWith(BufferedInputStream inputStream, byte[] magic) throws IOException {
+        inputStream.mark(magic.length);
+        try {
+            byte[] header = inputStream.readNBytes(magic.length);
+            return Arrays.equals(header, magic);
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    private static void closeQuietly(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader == null) {
+            return;
+        }
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            log.warn("Error closing XML stream reader", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import jakarta.xml.bind.JAXBException;
+import lombok.extern.slf4j.Slf4j;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes SCL, EPF, CBCom and DACOMM documents.
+ * <p>
+ * Documents are marshalled in UTF-8 through a buffered StAX writer, without building the whole XML in memory.
+ * The output is not indented. Files with a name ending with ".gz" are gzip compressed.
+ * </p>
+ * This class is thread safe.
+ */
+@Slf4j
+public class SctWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP_EXTENSION = ".gz";
+
+    /**
+     * XMLOutputFactory implementations are not guaranteed to be thread safe
+     */
+    private static final ThreadLocal<XMLOutputFactory> XML_OUTPUT_FACTORY = ThreadLocal.withInitial(XMLOutputFactory::newDefaultFactory);
+
+    /**
+     * Writes an SCL file
+     * @param scl SCL to write
+     * @param path path of the file to create or replace
+     * @throws ScdException when SCL cannot be marshalled
+     * @throws UncheckedIOException when file cannot be written
+     */
+    public void writeScl(SCL scl, Path path) {
+        write(scl, SctDocumentType.SCL, path);
+    }
+
+    /**
+     * Writes an SCL document to a stream
+     * @param scl SCL to write
+     * @param outputStream stream to write to. It is flushed but not closed by this method.
+     * @throws ScdException when SCL cannot be marshalled
+     * @throws UncheckedIOException when stream cannot be written
+     */
+    public void writeScl(SCL scl, OutputStream outputStream) {
+        write(scl, SctDocumentType.SCL, outputStream);
+    }
+
+    /**
+     * Writes a document to a file
+     * @param document document to write
+     * @param documentType type of the document
+     * @param path path of the file to create or replace, gzip compressed when its name ends with ".gz"
+     * @param <T> class of the root element of the document
+     * @throws ScdException when document cannot be marshalled
+     * @throws UncheckedIOException when file cannot be written
+     */
+    public <T> void write(T document, SctDocumentType<T> documentType, Path path) {
+        boolean gzip = path.getFileName() != null && path.getFileName().toString().endsWith(GZIP_EXTENSION);
+        try (OutputStream fileOutputStream = Files.newOutputStream(path);
+             OutputStream outputStream = gzip ? new GZIPOutputStream(fileOutputStream, BUFFER_SIZE) : fileOutputStream) {
+            write(document, documentType, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing " + documentType + " file " + path, e);
+        }
+    }
+
+    /**
+     * Writes a document to a stream
+     * @param document document to write
+     * @param documentType type of the document
+     * @param outputStream stream to write to. It is flushed but not closed by this method.
+     * @param <T> class of the root element of the document
+     * @throws ScdException when document cannot be marshalled
+     * @throws UncheckedIOException when stream cannot be written
+     */
+    public <T> void write(T document, SctDocumentType<T> documentType, OutputStream outputStream) {
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        XMLStreamWriter xmlStreamWriter = null;
+        try {
+            xmlStreamWriter = XML_OUTPUT_FACTORY.get().createXMLStreamWriter(bufferedOutputStream, StandardCharsets.UTF_8.name());
+            XMLStreamWriter finalXmlStreamWriter = xmlStreamWriter;
+            documentType.getJaxbPool().withMarshaller(marshaller -> {
+                marshaller.marshal(document, finalXmlStreamWriter);
+                return null;
+            });
+            xmlStreamWriter.flush();
+            bufferedOutputStream.flush();
+        } catch (XMLStreamException | JAXBException e) {
+            throw new ScdException("Error marshalling " + documentType + " : " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing " + documentType + " stream", e);
+        } finally {
+            closeQuietly(xmlStreamWriter);
+        }
+    }
+
+    private static void closeQuietly(XMLStreamWriter xmlStreamWriter) {
+        if (xmlStreamWriter == null) {
+            return;
+        }
+        try {
+            xmlStreamWriter.close();
+        } catch (XMLStreamException e) {
+            log.warn("Error closing XML stream writer", e);
+        }
+    }
+}
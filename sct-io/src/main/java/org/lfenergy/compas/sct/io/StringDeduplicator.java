@@ -0,0 +1,70 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+/**
+ * Bounded table giving the same instance for equal short strings.
+ * <p>
+ * The table has a fixed number of slots : a string goes to the slot given by its hash, and replaces the string
+ * already there when they are not equal. Memory used stays bounded whatever the number of distinct strings, while
+ * the values repeated in a document (lnClass, fc, doName, ldInst, type ids...) end up sharing one instance.
+ * Strings longer than the max length are returned as is.
+ * </p>
+ * This class is not thread safe : a table is used by a single unmarshalling.
+ */
+final class StringDeduplicator {
+
+    static final int DEFAULT_SIZE = 4096;
+    static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final String[] table;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Constructor
+     * @param size number of slots of the table, rounded up to a power of two
+     * @param maxLength max length of the strings to deduplicate
+     */
+    StringDeduplicator(int size, int maxLength) {
+        if (size <= 0 || maxLength < 0) {
+            throw new IllegalArgumentException("size must be positive and maxLength must not be negative");
+        }
+        int tableSize = Integer.highestOneBit(size);
+        if (tableSize < size) {
+            tableSize <<= 1;
+        }
+        this.table = new String[tableSize];
+        this.mask = tableSize - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Constructor with {@link #DEFAULT_SIZE} slots and {@link #DEFAULT_MAX_LENGTH} max length
+     */
+    StringDeduplicator() {
+        this(DEFAULT_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Gets the instance of the table equal to given string, or puts given string in the table
+     * @param value string to deduplicate
+     * @return an instance equal to value, the one of the table when found
+     */
+    String deduplicate(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        int hash = value.hashCode();
+        // spread high bits, as slots are chosen by the low bits only
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String cached = table[slot];
+        if (value.equals(cached)) {
+            return cached;
+        }
+        table[slot] = value;
+        return value;
+    }
+}
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+import org.lfenergy.compas.scl2007b4.model.TLDevice;
+import org.lfenergy.compas.sct.commons.exception.ScdException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SctReaderTest {
+
+    private static final String SCL_MINIMAL = "/scl-io/scl_minimal.scd";
+
+    private final SctReader sctReader = new SctReader();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void readScl_from_stream_should_return_scl() throws IOException {
+        // Given
+        try (InputStream inputStream = getClass().getResourceAsStream(SCL_MINIMAL)) {
+            // When
+            SCL scl = sctReader.readScl(inputStream);
+            // Then
+            assertMinimalScl(scl);
+        }
+    }
+
+    @Test
+    void readScl_from_plain_file_should_return_scl() throws IOException {
+        // Given
+        Path path = tempDir.resolve("scl_minimal.scd");
+        copyResource(Files.newOutputStream(path));
+        // When
+        SCL scl = sctReader.readScl(path);
+        // Then
+        assertMinimalScl(scl);
+    }
+
+    @Test
+    void readScl_from_gzip_file_should_return_scl() throws IOException {
+        // Given
+        Path path = tempDir.resolve("scl_minimal.scd.gz");
+        copyResource(new GZIPOutputStream(Files.newOutputStream(path)));
+        // When
+        SCL scl = sctReader.readScl(path);
+        // Then
+        assertMinimalScl(scl);
+    }
+
+    @Test
+    void readScl_from_zip_file_should_return_first_file_of_archive() throws IOException {
+        // Given
+        Path path = tempDir.resolve("scl_minimal.zip");
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(path))) {
+            zipOutputStream.putNextEntry(new ZipEntry("folder/"));
+            zipOutputStream.closeEntry();
+            zipOutputStream.putNextEntry(new ZipEntry("folder/scl_minimal.scd"));
+            try (InputStream inputStream = getClass().getResourceAsStream(SCL_MINIMAL)) {
+                inputStream.transferTo(zipOutputStream);
+            }
+            zipOutputStream.closeEntry();
+        }
+        // When
+        SCL scl = sctReader.readScl(path);
+        // Then
+        assertMinimalScl(scl);
+    }
+
+    @Test
+    void readScl_when_content_is_not_well_formed_should_throw_exception() {
+        // Given
+        InputStream inputStream = new ByteArrayInputStream("<SCL><Header>".getBytes(StandardCharsets.UTF_8));
+        // When Then
+        assertThatThrownBy(() -> sctReader.readScl(inputStream))
+                .isInstanceOf(ScdException.class)
+                .hasMessageStartingWith("Error unmarshalling SCL");
+    }
+
+    @Test
+    void readScl_when_file_does_not_exist_should_throw_exception() {
+        // Given
+        Path path = tempDir.resolve("unknown.scd");
+        // When Then
+        assertThatThrownBy(() -> sctReader.readScl(path))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("unknown.scd");
+    }
+
+    @Test
+    void readScl_when_deduplicating_attribute_values_should_share_equal_values() {
+        // Given
+        String xml = """
+                <SCL xmlns="http://www.iec.ch/61850/2003/SCL" version="2007" revision="B" release="4">
+                    <Header id="HeaderID"/>
+                    <IED name="IED_NAME1"><AccessPoint name="AP_NAME"><Server><Authentication/>
+                        <LDevice inst="LD_INST"><LN0 lnClass="LLN0" inst="" lnType="LN0_TYPE"/></LDevice>
+                    </Server></AccessPoint></IED>
+                    <IED name="IED_NAME2"><AccessPoint name="AP_NAME"><Server><Authentication/>
+                        <LDevice inst="LD_INST"><LN0 lnClass="LLN0" inst="" lnType="LN0_TYPE"/></LDevice>
+                    </Server></AccessPoint></IED>
+                </SCL>
+                """;
+        InputStream inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+        // When
+        SCL scl = new SctReader(true).readScl(inputStream);
+        // Then
+        TLDevice lDevice1 = scl.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice().getFirst();
+        TLDevice lDevice2 = scl.getIED().getLast().getAccessPoint().getFirst().getServer().getLDevice().getFirst();
+        assertThat(scl.getIED()).extracting(TIED::getName).containsExactly("IED_NAME1", "IED_NAME2");
+        assertThat(lDevice2.getInst()).isSameAs(lDevice1.getInst());
+        assertThat(lDevice2.getLN0().getLnType()).isSameAs(lDevice1.getLN0().getLnType());
+        assertThat(scl.getIED().getLast().getAccessPoint().getFirst().getName())
+                .isSameAs(scl.getIED().getFirst().getAccessPoint().getFirst().getName());
+    }
+
+    private void copyResource(OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(SCL_MINIMAL); outputStream) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    private static void assertMinimalScl(SCL scl) {
+        assertThat(scl.getHeader().getId()).isEqualTo("HeaderID");
+        assertThat(scl.getIED()).hasSize(1);
+        assertThat(scl.getIED().getFirst().getName()).isEqualTo("IED_NAME1");
+        assertThat(scl.getIED().getFirst().getAccessPoint().getFirst().getServer().getLDevice().getFirst().getInst()).isEqualTo("LD_INST11");
+    }
+}
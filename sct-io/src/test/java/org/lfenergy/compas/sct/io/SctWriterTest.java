@@ -0,0 +1,75 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.THeader;
+import org.lfenergy.compas.scl2007b4.model.TIED;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SctWriterTest {
+
+    private final SctWriter sctWriter = new SctWriter();
+    private final SctReader sctReader = new SctReader();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void writeScl_to_stream_should_write_xml_readable_by_reader() {
+        // Given
+        SCL scl = createScl();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // When
+        sctWriter.writeScl(scl, outputStream);
+        // Then
+        String xml = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(xml).startsWith("<?xml").contains("IED_NAME1");
+        SCL result = sctReader.readScl(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(result.getHeader().getId()).isEqualTo("HeaderID");
+        assertThat(result.getIED()).extracting(TIED::getName).containsExactly("IED_NAME1");
+    }
+
+    @Test
+    void writeScl_to_gz_file_should_compress_content() throws IOException {
+        // Given
+        SCL scl = createScl();
+        Path path = tempDir.resolve("scl.scd.gz");
+        // When
+        sctWriter.writeScl(scl, path);
+        // Then
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] header = inputStream.readNBytes(2);
+            assertThat(header).containsExactly(0x1f, 0x8b);
+        }
+        SCL result = sctReader.readScl(path);
+        assertThat(result.getIED()).extracting(TIED::getName).containsExactly("IED_NAME1");
+    }
+
+    private static SCL createScl() {
+        SCL scl = new SCL();
+        scl.setVersion("2007");
+        scl.setRevision("B");
+        scl.setRelease((short) 4);
+        THeader tHeader = new THeader();
+        tHeader.setId("HeaderID");
+        scl.setHeader(tHeader);
+        TIED tied = new TIED();
+        tied.setName("IED_NAME1");
+        scl.getIED().add(tied);
+        return scl;
+    }
+}
@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: 2024 RTE FRANCE
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.lfenergy.compas.sct.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StringDeduplicatorTest {
+
+    @Test
+    void deduplicate_should_return_first_instance_of_equal_strings() {
+        // Given
+        StringDeduplicator stringDeduplicator = new StringDeduplicator();
+        String first = new String("LLN0");
+        stringDeduplicator.deduplicate(first);
+        // When
+        String result = stringDeduplicator.deduplicate(new String("LLN0"));
+        // Then
+        assertThat(result).isSameAs(first);
+    }
+
+    @Test
+    void deduplicate_when_string_is_longer_than_max_length_should_return_it_as_is() {
+        // Given
+        StringDeduplicator stringDeduplicator = new StringDeduplicator(16, 3);
+        stringDeduplicator.deduplicate(new String("LLN0"));
+        String value = new String("LLN0");
+        // When
+        String result = stringDeduplicator.deduplicate(value);
+        // Then
+        assertThat(result).isSameAs(value);
+        assertThat(stringDeduplicator.deduplicate(null)).isNull();
+    }
+
+    @Test
+    void deduplicate_when_slot_is_taken_by_another_string_should_replace_it() {
+        // Given
+        StringDeduplicator stringDeduplicator = new StringDeduplicator(1, 64);
+        String first = new String("LLN0");
+        stringDeduplicator.deduplicate(first);
+        String other = stringDeduplicator.deduplicate("GGIO");
+        // When
+        String result = stringDeduplicator.deduplicate(new String("LLN0"));
+        // Then
+        assertThat(other).isEqualTo("GGIO");
+        assertThat(result).isNotSameAs(first).isEqualTo("LLN0");
+    }
+
+    @Test
+    void constructor_when_size_is_not_positive_should_throw_exception() {
+        // When Then
+        assertThatThrownBy(() -> new StringDeduplicator(0, 64))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}